@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Hashes per second of the {@link Hashes} functions for the usual input sizes. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HashesBenchmark {
+
+  @Param({"32", "256", "4096"})
+  private int inputSize;
+
+  private byte[] input;
+
+  @Setup
+  public void setup() {
+    input = new byte[inputSize];
+    new Random(inputSize).nextBytes(input);
+  }
+
+  @Benchmark
+  public byte[] sha3_256() {
+    return Hashes.sha3_256(input);
+  }
+
+  @Benchmark
+  public byte[] sha3_512() {
+    return Hashes.sha3_512(input);
+  }
+
+  @Benchmark
+  public byte[] sha512() {
+    return Hashes.sha512(input);
+  }
+
+  @Benchmark
+  public byte[] keccak256() {
+    return Hashes.keccak256(input);
+  }
+
+  @Benchmark
+  public byte[] ripemd160() {
+    return Hashes.ripemd160(input);
+  }
+
+  @Benchmark
+  public byte[] hash160() {
+    return Hashes.hash160(input);
+  }
+
+  @Benchmark
+  public byte[] hash256() {
+    return Hashes.hash256(input);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Microseconds to calculate the merkle root of a number of hashes, like the aggregate transactions
+ * hash or a block transactions hash.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MerkleHashBuilderBenchmark {
+
+  @Param({"1", "16", "256", "4096"})
+  private int hashCount;
+
+  private byte[][] hashes;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(hashCount);
+    hashes = new byte[hashCount][32];
+    for (byte[] hash : hashes) {
+      random.nextBytes(hash);
+    }
+  }
+
+  @Benchmark
+  public byte[] rootHash() {
+    MerkleHashBuilder builder = new MerkleHashBuilder();
+    for (byte[] hash : hashes) {
+      builder.update(hash);
+    }
+    return builder.getRootHash();
+  }
+}
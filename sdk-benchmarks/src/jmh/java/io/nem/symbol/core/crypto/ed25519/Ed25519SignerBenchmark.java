@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.DsaSigner;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.Signature;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Signatures per second of one core (one benchmark thread) using the different signing strategies:
+ * a new {@link Ed25519DsaSigner} per signature (the key is expanded on every call), a reused {@link
+ * Ed25519DsaSigner} and a {@link Ed25519PreparedSigner} signing heap and direct buffers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class Ed25519SignerBenchmark {
+
+  @Param({"32", "256", "4096"})
+  private int messageSize;
+
+  private KeyPair keyPair;
+
+  private byte[] message;
+
+  private ByteBuffer directMessage;
+
+  private DsaSigner dsaSigner;
+
+  private Ed25519PreparedSigner preparedSigner;
+
+  @Setup
+  public void setup() {
+    keyPair = KeyPair.random(CryptoEngines.ed25519Engine());
+    message = new byte[messageSize];
+    new Random(messageSize).nextBytes(message);
+    directMessage = ByteBuffer.allocateDirect(messageSize);
+    directMessage.put(message);
+    directMessage.flip();
+    dsaSigner = new Ed25519DsaSigner(keyPair);
+    preparedSigner = new Ed25519PreparedSigner(keyPair);
+  }
+
+  @TearDown
+  public void tearDown() {
+    preparedSigner.close();
+  }
+
+  @Benchmark
+  public Signature signWithNewDsaSigner() {
+    return new Ed25519DsaSigner(keyPair).sign(message);
+  }
+
+  @Benchmark
+  public Signature signWithReusedDsaSigner() {
+    return dsaSigner.sign(message);
+  }
+
+  @Benchmark
+  public Signature signWithPreparedSigner() {
+    return preparedSigner.sign(message);
+  }
+
+  @Benchmark
+  public Signature signDirectBufferWithPreparedSigner() {
+    return preparedSigner.sign(directMessage);
+  }
+}
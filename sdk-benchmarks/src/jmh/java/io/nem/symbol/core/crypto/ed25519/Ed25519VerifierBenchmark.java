@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.DsaSigner;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.Signature;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Signature verifications per second of one core, with a reused {@link Ed25519DsaSigner} and with a
+ * new public key only signer per verification, the way the cosignature checks run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class Ed25519VerifierBenchmark {
+
+  @Param({"32", "256", "4096"})
+  private int messageSize;
+
+  private final CryptoEngine engine = CryptoEngines.ed25519Engine();
+
+  private KeyPair publicKeyPair;
+
+  private DsaSigner verifier;
+
+  private byte[] message;
+
+  private Signature signature;
+
+  @Setup
+  public void setup() {
+    KeyPair keyPair = KeyPair.random(engine);
+    message = new byte[messageSize];
+    new Random(messageSize).nextBytes(message);
+    signature = new Ed25519DsaSigner(keyPair).sign(message);
+    publicKeyPair = KeyPair.onlyPublic(keyPair.getPublicKey(), engine);
+    verifier = new Ed25519DsaSigner(publicKeyPair);
+  }
+
+  @Benchmark
+  public boolean verifyWithReusedDsaSigner() {
+    return verifier.verify(message, signature);
+  }
+
+  @Benchmark
+  public boolean verifyWithNewDsaSigner() {
+    return new Ed25519DsaSigner(publicKeyPair).verify(message, signature);
+  }
+}
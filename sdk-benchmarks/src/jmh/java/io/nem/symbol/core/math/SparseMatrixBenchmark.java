@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.math;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time of the matrix kernels of {@link SparseMatrix} and {@link CsrMatrix} for a random 10^6 x 10^6
+ * matrix with a given number of entries per row, the sparsity level.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SparseMatrixBenchmark {
+
+  private static final int SIZE = 1_000_000;
+
+  @Param({"1", "10", "50"})
+  private int entriesPerRow;
+
+  private SparseMatrix matrix;
+
+  private CsrMatrix csrMatrix;
+
+  private ColumnVector vector;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(entriesPerRow);
+    matrix = new SparseMatrix(SIZE, SIZE, entriesPerRow);
+    for (int row = 0; row < SIZE; row++) {
+      for (int i = 0; i < entriesPerRow; i++) {
+        matrix.setAt(row, random.nextInt(SIZE), random.nextDouble());
+      }
+    }
+    csrMatrix = new CsrMatrix(matrix);
+    double[] rawVector = new double[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      rawVector[i] = random.nextDouble();
+    }
+    vector = new ColumnVector(rawVector);
+  }
+
+  @Benchmark
+  public ColumnVector multiply() {
+    return matrix.multiply(vector);
+  }
+
+  @Benchmark
+  public ColumnVector csrMultiply() {
+    return csrMatrix.multiply(vector);
+  }
+
+  @Benchmark
+  public ColumnVector csrForkJoinMultiply() {
+    return csrMatrix.multiply(vector, ForkJoinPool.commonPool());
+  }
+
+  @Benchmark
+  public ColumnVector rowSums() {
+    return matrix.getRowSumVector();
+  }
+
+  @Benchmark
+  public ColumnVector csrRowSums() {
+    return csrMatrix.getRowSumVector();
+  }
+
+  @Benchmark
+  public ColumnVector columnSums() {
+    return matrix.getColumnSumVector();
+  }
+
+  @Benchmark
+  public ColumnVector csrColumnSums() {
+    return csrMatrix.getColumnSumVector();
+  }
+
+  @Benchmark
+  public CsrMatrix toCsr() {
+    return new CsrMatrix(matrix);
+  }
+}
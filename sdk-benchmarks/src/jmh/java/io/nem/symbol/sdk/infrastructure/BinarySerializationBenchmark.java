@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.BinarySerialization;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Catbuffer serialization and deserialization of each {@link TransactionFixture}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BinarySerializationBenchmark {
+
+  @Param private TransactionFixture transactionType;
+
+  private final BinarySerialization binarySerialization = BinarySerializationImpl.INSTANCE;
+
+  private Transaction transaction;
+
+  private byte[] payload;
+
+  @Setup
+  public void setup() {
+    transaction = transactionType.create();
+    payload = binarySerialization.serialize(transaction);
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    return binarySerialization.serialize(transaction);
+  }
+
+  @Benchmark
+  public Transaction deserialize() {
+    return binarySerialization.deserialize(payload);
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds and signs a batch of transfers through {@link TransferTransactionFactory} and through
+ * {@link BulkTransferTransactionBuilder}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BulkTransferTransactionBuilderBenchmark {
+
+  private static final long FEE_MULTIPLIER = 100;
+
+  @Param({"1000"})
+  private int batchSize;
+
+  private final Account signer = Account.generateNewAccount(TransactionFixture.NETWORK_TYPE);
+
+  private final Deadline deadline = new Deadline(BigInteger.valueOf(3_600_000));
+
+  private final List<Address> recipients = new ArrayList<>();
+
+  private final List<Mosaic> mosaics =
+      Collections.singletonList(
+          new Mosaic(new MosaicId(BigInteger.valueOf(1234)), BigInteger.valueOf(1_000_000)));
+
+  private final PlainMessage message = new PlainMessage("payout");
+
+  @Setup
+  public void setup() {
+    recipients.clear();
+    for (int i = 0; i < batchSize; i++) {
+      recipients.add(Account.generateNewAccount(TransactionFixture.NETWORK_TYPE).getAddress());
+    }
+  }
+
+  @Benchmark
+  public List<SignedTransaction> factories() {
+    List<SignedTransaction> signedTransactions = new ArrayList<>(batchSize);
+    for (Address recipient : recipients) {
+      signedTransactions.add(
+          TransferTransactionFactory.create(
+                  TransactionFixture.NETWORK_TYPE, deadline, recipient, mosaics)
+              .message(message)
+              .calculateMaxFeeFromMultiplier(FEE_MULTIPLIER)
+              .build()
+              .signWith(signer, TransactionFixture.GENERATION_HASH));
+    }
+    return signedTransactions;
+  }
+
+  @Benchmark
+  public BulkTransferTransactionBuilder bulkBuilder() {
+    BulkTransferTransactionBuilder builder =
+        new BulkTransferTransactionBuilder(
+            TransactionFixture.NETWORK_TYPE,
+            deadline,
+            FEE_MULTIPLIER,
+            signer,
+            TransactionFixture.GENERATION_HASH);
+    for (Address recipient : recipients) {
+      builder.add(recipient, mosaics, message);
+    }
+    return builder;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.infrastructure.okhttp.JsonHelperGson;
+import io.nem.symbol.sdk.infrastructure.okhttp.ListenerOkHttp;
+import io.nem.symbol.sdk.infrastructure.vertx.JsonHelperJackson2;
+import io.nem.symbol.sdk.infrastructure.vertx.ListenerVertx;
+import io.nem.symbol.sdk.infrastructure.vertx.mappers.GeneralTransactionMapper;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Web socket messages per second handled by {@link ListenerBase#handle} of both clients, from the
+ * already parsed json payload to the {@link ListenerMessage} pushed to the subscribers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ListenerHandleBenchmark {
+
+  /** The client implementations. */
+  public enum Client {
+    VERTX,
+    OKHTTP
+  }
+
+  @Param private Client client;
+
+  @Param({"BLOCK", "FINALIZED_BLOCK", "CONFIRMED_ADDED", "STATUS"})
+  private ListenerChannel channel;
+
+  private ListenerBase listener;
+
+  private Object payload;
+
+  private Disposable subscription;
+
+  private ListenerMessage<?> lastMessage;
+
+  @Setup
+  public void setup() throws IOException {
+    String url = "http://localhost:3000";
+    Observable<NetworkType> networkType = Observable.just(TransactionFixture.NETWORK_TYPE);
+    listener =
+        client == Client.VERTX
+            ? new ListenerVertx(null, url, null, null, networkType)
+            : new ListenerOkHttp(
+                null, url, JsonHelperGson.creatGson(false), null, null, networkType);
+    payload = listener.getJsonHelper().parse(createPayload());
+    subscription = listener.getMessageSubject().subscribe(message -> lastMessage = message);
+  }
+
+  @TearDown
+  public void tearDown() {
+    subscription.dispose();
+  }
+
+  @Benchmark
+  public ListenerMessage<?> handle() {
+    listener.handle(payload, null);
+    return lastMessage;
+  }
+
+  private String createPayload() throws IOException {
+    Transaction transaction = TransactionFixture.TRANSFER.create();
+    Address address = (Address) ((TransferTransaction) transaction).getRecipient();
+    switch (channel) {
+      case BLOCK:
+        try (InputStream stream = getClass().getResourceAsStream("/listener-block.json")) {
+          return IOUtils.toString(stream, StandardCharsets.UTF_8);
+        }
+      case FINALIZED_BLOCK:
+        return "{\"topic\":\"finalizedBlock\",\"data\":{\"height\":\"1000\",\"hash\":\""
+            + TransactionFixture.GENERATION_HASH
+            + "\",\"finalizationEpoch\":10,\"finalizationPoint\":2}}";
+      case CONFIRMED_ADDED:
+        JsonHelperJackson2 jsonHelper = new JsonHelperJackson2();
+        return "{\"topic\":\"confirmedAdded/"
+            + address.plain()
+            + "\",\"data\":"
+            + jsonHelper.print(
+                new GeneralTransactionMapper(jsonHelper).mapToDto(transaction, false))
+            + "}";
+      case STATUS:
+        return "{\"topic\":\"status/"
+            + address.plain()
+            + "\",\"data\":{\"hash\":\""
+            + transaction.getTransactionInfo().get().getHash().get()
+            + "\",\"code\":\"Failure_Core_Insufficient_Balance\",\"deadline\":\"1000000000\"}}";
+      default:
+        throw new IllegalStateException("Unsupported channel " + channel);
+    }
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.blockchain.BlockDuration;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Currency;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicFlags;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.mosaic.MosaicNonce;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AccountMetadataTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.HashLockTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.LockHashAlgorithm;
+import io.nem.symbol.sdk.model.transaction.MosaicDefinitionTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.MultisigAccountModificationTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.NamespaceRegistrationTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.SecretLockTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The transaction types the serialization and mapping benchmarks are parameterized with. Each
+ * constant creates a signed transaction with its confirmed {@link TransactionInfo}, like the ones
+ * the rest clients return.
+ */
+public enum TransactionFixture {
+  TRANSFER,
+  MOSAIC_DEFINITION,
+  NAMESPACE_REGISTRATION,
+  MULTISIG_ACCOUNT_MODIFICATION,
+  HASH_LOCK,
+  SECRET_LOCK,
+  ACCOUNT_METADATA,
+  AGGREGATE_COMPLETE;
+
+  /** The network type of the fixtures. */
+  public static final NetworkType NETWORK_TYPE = NetworkType.TEST_NET;
+
+  /** The generation hash the fixtures are signed with. */
+  public static final String GENERATION_HASH =
+      "7FCCD304802016BEBBCD342A332F91FF1F3BB5E902988B352697BE245F48E836";
+
+  /** A fixed signer so the fixtures are the same between runs. */
+  private static final Account SIGNER =
+      Account.createFromPrivateKey(
+          "26B64CB10F005E5988A36744CA19E20D835CCC7C105AAA5F3B212DA593180930", NETWORK_TYPE);
+
+  /** A fixed recipient and cosignatory. */
+  private static final Address RECIPIENT =
+      Address.createFromRawAddress("TAHNZXQBC57AA7KJTMGS3PJPZBXN7DV5JHJU42A");
+
+  /**
+   * Creates the signed transaction of this type.
+   *
+   * @return the transaction with its signer, signature and transaction info.
+   */
+  public Transaction create() {
+    SignedTransaction signedTransaction = SIGNER.sign(createUnsigned(), GENERATION_HASH);
+    return BinarySerializationImpl.INSTANCE
+        .deserializeToFactory(ConvertUtils.fromHexToBytes(signedTransaction.getPayload()))
+        .transactionInfo(
+            TransactionInfo.create(
+                BigInteger.valueOf(1000),
+                0,
+                "5A0069D83F17CF0001777E55",
+                signedTransaction.getHash(),
+                signedTransaction.getHash()))
+        .build();
+  }
+
+  private Transaction createUnsigned() {
+    Deadline deadline = new Deadline(BigInteger.valueOf(1_000_000_000L));
+    Mosaic currency =
+        new Mosaic(Currency.SYMBOL_XYM.getUnresolvedMosaicId(), BigInteger.valueOf(10_000_000));
+    switch (this) {
+      case TRANSFER:
+        return createTransfer(deadline, currency);
+      case MOSAIC_DEFINITION:
+        MosaicNonce nonce = MosaicNonce.createFromInteger(42);
+        return MosaicDefinitionTransactionFactory.create(
+                NETWORK_TYPE,
+                deadline,
+                nonce,
+                new MosaicId(nonce, SIGNER.getPublicAccount()),
+                MosaicFlags.create(true, true),
+                6,
+                new BlockDuration(1000))
+            .maxFee(BigInteger.valueOf(1_000_000))
+            .build();
+      case NAMESPACE_REGISTRATION:
+        return NamespaceRegistrationTransactionFactory.createRootNamespace(
+                NETWORK_TYPE, deadline, "benchmark", BigInteger.valueOf(1000))
+            .maxFee(BigInteger.valueOf(1_000_000))
+            .build();
+      case MULTISIG_ACCOUNT_MODIFICATION:
+        List<UnresolvedAddress> additions = Collections.singletonList(RECIPIENT);
+        return MultisigAccountModificationTransactionFactory.create(
+                NETWORK_TYPE, deadline, (byte) 1, (byte) 1, additions, Collections.emptyList())
+            .maxFee(BigInteger.valueOf(1_000_000))
+            .build();
+      case HASH_LOCK:
+        return HashLockTransactionFactory.create(
+                NETWORK_TYPE, deadline, currency, BigInteger.valueOf(480), GENERATION_HASH)
+            .maxFee(BigInteger.valueOf(1_000_000))
+            .build();
+      case SECRET_LOCK:
+        return SecretLockTransactionFactory.create(
+                NETWORK_TYPE,
+                deadline,
+                currency,
+                BigInteger.valueOf(480),
+                LockHashAlgorithm.SHA3_256,
+                GENERATION_HASH,
+                RECIPIENT)
+            .maxFee(BigInteger.valueOf(1_000_000))
+            .build();
+      case ACCOUNT_METADATA:
+        return AccountMetadataTransactionFactory.create(
+                NETWORK_TYPE,
+                deadline,
+                RECIPIENT,
+                BigInteger.TEN,
+                "benchmark metadata value".getBytes())
+            .maxFee(BigInteger.valueOf(1_000_000))
+            .build();
+      case AGGREGATE_COMPLETE:
+        return AggregateTransactionFactory.createComplete(
+                NETWORK_TYPE,
+                deadline,
+                Arrays.asList(
+                    createTransfer(deadline, currency).toAggregate(SIGNER.getPublicAccount()),
+                    createTransfer(deadline, currency).toAggregate(SIGNER.getPublicAccount())))
+            .maxFee(BigInteger.valueOf(1_000_000))
+            .build();
+      default:
+        throw new IllegalStateException("Unknown fixture " + this);
+    }
+  }
+
+  private static Transaction createTransfer(Deadline deadline, Mosaic currency) {
+    return TransferTransactionFactory.create(
+            NETWORK_TYPE, deadline, RECIPIENT, Collections.singletonList(currency))
+        .message(PlainMessage.create("benchmark message"))
+        .maxFee(BigInteger.valueOf(1_000_000))
+        .build();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure.vertx.mappers;
+
+import io.nem.symbol.sdk.infrastructure.TransactionFixture;
+import io.nem.symbol.sdk.infrastructure.vertx.JsonHelperJackson2;
+import io.nem.symbol.sdk.model.transaction.JsonHelper;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.openapi.vertx.model.TransactionInfoDTO;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The Vert.x {@link GeneralTransactionMapper} mapping each {@link TransactionFixture} to and from
+ * its DTO, and from the rest json text like a search page entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VertxTransactionMapperBenchmark {
+
+  @Param private TransactionFixture transactionType;
+
+  private final JsonHelper jsonHelper = new JsonHelperJackson2();
+
+  private final GeneralTransactionMapper mapper = new GeneralTransactionMapper(jsonHelper);
+
+  private Transaction transaction;
+
+  private Object transactionInfoDTO;
+
+  private String json;
+
+  @Setup
+  public void setup() {
+    transaction = transactionType.create();
+    transactionInfoDTO = mapper.mapToDto(transaction, false);
+    json = jsonHelper.print(transactionInfoDTO);
+  }
+
+  @Benchmark
+  public Object mapToDto() {
+    return mapper.mapToDto(transaction, false);
+  }
+
+  @Benchmark
+  public Transaction mapFromDto() {
+    return mapper.mapFromDto(transactionInfoDTO);
+  }
+
+  @Benchmark
+  public Transaction parseAndMapFromDto() {
+    return mapper.mapFromDto(jsonHelper.parse(json, TransactionInfoDTO.class));
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** {@link Address} creations, validations and conversions per second. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AddressBenchmark {
+
+  private String publicKey;
+
+  private Address address;
+
+  private String plainAddress;
+
+  private String encodedAddress;
+
+  @Setup
+  public void setup() {
+    Account account =
+        Account.createFromPrivateKey(PrivateKey.generateRandom().toHex(), NetworkType.TEST_NET);
+    publicKey = account.getPublicKey();
+    address = account.getAddress();
+    plainAddress = address.plain();
+    encodedAddress = address.encoded();
+  }
+
+  @Benchmark
+  public Address createFromPublicKey() {
+    return Address.createFromPublicKey(publicKey, NetworkType.TEST_NET);
+  }
+
+  @Benchmark
+  public Address createFromRawAddress() {
+    return Address.createFromRawAddress(plainAddress);
+  }
+
+  @Benchmark
+  public Address createFromEncoded() {
+    return Address.createFromEncoded(encodedAddress);
+  }
+
+  @Benchmark
+  public boolean isValidPlainAddress() {
+    return Address.isValidPlainAddress(plainAddress);
+  }
+
+  @Benchmark
+  public boolean isValidEncodedAddress() {
+    return Address.isValidEncodedAddress(encodedAddress);
+  }
+
+  @Benchmark
+  public String plain() {
+    return address.plain();
+  }
+
+  @Benchmark
+  public String encoded() {
+    return address.encoded();
+  }
+}
@@ -49,6 +49,22 @@ public interface CryptoEngine {
    */
   BlockCipher createBlockCipher(final KeyPair senderKeyPair, final KeyPair recipientKeyPair);
 
+  /**
+   * Creates a block cipher that resolves the shared keys through the provided cache.
+   *
+   * @param senderKeyPair The sender KeyPair. The sender's private key is required for encryption.
+   * @param recipientKeyPair The recipient KeyPair. The recipient's private key is required for
+   *     decryption.
+   * @param sharedKeyCache the cache of shared keys.
+   * @return The IES cipher.
+   */
+  default BlockCipher createBlockCipher(
+      final KeyPair senderKeyPair,
+      final KeyPair recipientKeyPair,
+      final SharedKeyCache sharedKeyCache) {
+    return createBlockCipher(senderKeyPair, recipientKeyPair);
+  }
+
   /**
    * Creates a key analyzer.
    *
@@ -16,6 +16,7 @@
 package io.nem.symbol.core.crypto;
 
 import io.nem.symbol.core.utils.ExceptionUtils;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.Security;
 import org.bouncycastle.crypto.Digest;
@@ -124,6 +125,30 @@ public class Hashes {
     return hash(SHA_512, inputs);
   }
 
+  /**
+   * Performs a SHA_512 hash of the concatenated inputs followed by the remaining bytes of the
+   * buffer. The buffer content is not copied and its position is not modified.
+   *
+   * @param data The buffer to hash after the inputs.
+   * @param inputs The byte arrays to concatenate and hash before the buffer.
+   * @return The hash of the concatenated inputs and buffer.
+   * @throws CryptoException if the hash operation failed.
+   */
+  public static byte[] sha512(final ByteBuffer data, final byte[]... inputs) {
+    return ExceptionUtils.propagate(
+        () -> {
+          final MessageDigest digest = MessageDigest.getInstance(SHA_512, BC);
+
+          for (final byte[] input : inputs) {
+            digest.update(input);
+          }
+          digest.update(data.duplicate());
+
+          return digest.digest();
+        },
+        e -> new CryptoException(e.getMessage(), e));
+  }
+
   /**
    * Performs a SHA_256 hash of the concatenated inputs.
    *
@@ -26,6 +26,9 @@ public class RawAddress {
 
   public static final int NUM_CHECKSUM_BYTES = 3;
 
+  /** The size of the raw, decoded, address. */
+  public static final int RAW_ADDRESS_SIZE = 24;
+
   /** Private utility class constructor. */
   private RawAddress() {
     // private utility class constructor.
@@ -40,16 +43,29 @@ public class RawAddress {
    * @return an encoded address that can be used to identify accounts.
    */
   public static String generateAddress(final String publicKey, final NetworkType networkType) {
-
-    byte networkTypeValue = (byte) networkType.getValue();
-    // step 1: sha3 hash of the public key
     byte[] publicKeyBytes;
     try {
       publicKeyBytes = ConvertUtils.fromHexToBytes(publicKey);
     } catch (Exception e) {
       throw new IllegalArgumentException("Public key is not valid");
     }
-    final byte[] publicKeyHash = Hashes.sha3_256(publicKeyBytes);
+    return toPlainAddress(generateAddressBytes(publicKeyBytes, networkType));
+  }
+
+  /**
+   * This method generates the raw, decoded, address bytes based on the public key and the Symbol
+   * configuration network type. Useful when the address is not required in its string form, like
+   * when generating accounts in bulk.
+   *
+   * @param publicKey the public key bytes
+   * @param networkType the network type
+   * @return the {@link #RAW_ADDRESS_SIZE} bytes of the address.
+   */
+  public static byte[] generateAddressBytes(final byte[] publicKey, final NetworkType networkType) {
+
+    byte networkTypeValue = (byte) networkType.getValue();
+    // step 1: sha3 hash of the public key
+    final byte[] publicKeyHash = Hashes.sha3_256(publicKey);
 
     // step 2: ripemd160 hash of (1)
     final byte[] ripemd160StepOneHash = Hashes.ripemd160(publicKeyHash);
@@ -62,11 +78,17 @@ public class RawAddress {
     final byte[] stepThreeChecksum = generateChecksum(versionPrefixedRipemd160Hash);
 
     // step 5: concatenate (3) and (4)
-    final byte[] concatStepThreeAndStepSix =
-        ArrayUtils.concat(versionPrefixedRipemd160Hash, stepThreeChecksum);
+    return ArrayUtils.concat(versionPrefixedRipemd160Hash, stepThreeChecksum);
+  }
 
-    // step 6: base32 encode (5)
-    String base32 = Base32Encoder.getString(concatStepThreeAndStepSix);
+  /**
+   * It base32 encodes the raw address bytes into the plain address.
+   *
+   * @param rawAddress the {@link #RAW_ADDRESS_SIZE} bytes of the address.
+   * @return the plain address
+   */
+  public static String toPlainAddress(final byte[] rawAddress) {
+    String base32 = Base32Encoder.getString(rawAddress);
     return base32.substring(0, base32.length() - 1);
   }
 
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A bounded, least recently used, cache of the shared keys derived for (private key, public key)
+ * pairs. Deriving a shared key requires a full scalar multiplication plus a key derivation
+ * function, the cache avoids recalculating it for a counterpart we message again and again.
+ *
+ * <p>The entries are indexed by a hash of the key pair, the private key itself is not stored. The
+ * cached shared keys are wiped from memory when they are evicted or when the cache is cleared.
+ * Callers get copies of the cached values.
+ *
+ * <p>This object is thread safe.
+ */
+public class SharedKeyCache {
+
+  /** The default max number of cached shared keys. */
+  public static final int DEFAULT_MAX_SIZE = 1000;
+
+  private final LruMap cache;
+
+  /** Creates a cache of {@link #DEFAULT_MAX_SIZE} entries. */
+  public SharedKeyCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Creates a cache.
+   *
+   * @param maxSize the max number of cached shared keys.
+   */
+  public SharedKeyCache(int maxSize) {
+    Validate.isTrue(maxSize > 0, "maxSize must be greater than 0");
+    this.cache = new LruMap(maxSize);
+  }
+
+  /**
+   * Returns the cached shared key of the pair or derives and caches it using the provided function.
+   *
+   * @param privateKey the private key.
+   * @param publicKey the counterpart public key.
+   * @param sharedKeyFunction the function that derives the shared key when it's not cached.
+   * @return a copy of the shared key.
+   */
+  public byte[] getSharedKey(
+      PrivateKey privateKey,
+      PublicKey publicKey,
+      BiFunction<PrivateKey, PublicKey, byte[]> sharedKeyFunction) {
+    String key = ConvertUtils.toHex(Hashes.sha3_256(privateKey.getBytes(), publicKey.getBytes()));
+    synchronized (this.cache) {
+      byte[] sharedKey = this.cache.get(key);
+      if (sharedKey != null) {
+        return sharedKey.clone();
+      }
+    }
+    // The derivation is done outside the lock so different pairs are resolved concurrently.
+    byte[] sharedKey = sharedKeyFunction.apply(privateKey, publicKey);
+    synchronized (this.cache) {
+      byte[] previous = this.cache.put(key, sharedKey.clone());
+      if (previous != null) {
+        wipe(previous);
+      }
+    }
+    return sharedKey;
+  }
+
+  /** @return the number of cached shared keys. */
+  public int size() {
+    synchronized (this.cache) {
+      return this.cache.size();
+    }
+  }
+
+  /** It wipes and removes all the cached shared keys. */
+  public void clear() {
+    synchronized (this.cache) {
+      this.cache.values().forEach(SharedKeyCache::wipe);
+      this.cache.clear();
+    }
+  }
+
+  private static void wipe(byte[] sharedKey) {
+    Arrays.fill(sharedKey, (byte) 0);
+  }
+
+  /** A map in access order that wipes and removes its eldest entry once it's full. */
+  private static final class LruMap extends LinkedHashMap<String, byte[]> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int maxSize;
+
+    private LruMap(int maxSize) {
+      super(16, 0.75f, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+      if (size() > maxSize) {
+        wipe(eldest.getValue());
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -41,6 +41,15 @@ public class AESGCM {
   /** The standard authentication tag length (16 bytes). */
   public static final int TAG_LENGTH = AUTH_TAG_BIT_LENGTH / 8;
 
+  /**
+   * The per thread decryption cipher. Decrypting re-initialises the cipher with the new key and IV,
+   * reusing it avoids allocating the AES engine and the GCM tables for each decrypted message.
+   * Encryption ciphers are not reused as GCM forbids reinitialising an encryption cipher with the
+   * same key and IV.
+   */
+  private static final ThreadLocal<GCMBlockCipher> DECRYPTION_CIPHER =
+      ThreadLocal.withInitial(() -> new GCMBlockCipher(new AESEngine()));
+
   /**
    * Generates a random 96 bit (12 byte) Initialisation Vector(IV) for use in AES-GCM encryption.
    *
@@ -147,8 +156,9 @@ public class AESGCM {
       final byte[] secretKey, final byte[] iv, final byte[] cipherText, final byte[] authTag)
       throws RuntimeException {
 
-    // Initialise AES/GCM cipher for decryption
-    GCMBlockCipher cipher = createAESGCMCipher(secretKey, false, iv);
+    // Initialise the reused AES/GCM cipher for decryption
+    GCMBlockCipher cipher = DECRYPTION_CIPHER.get();
+    cipher.init(false, new ParametersWithIV(new KeyParameter(secretKey), iv));
 
     // Join cipher text and authentication tag to produce cipher input
     byte[] input = new byte[cipherText.length + authTag.length];
@@ -24,10 +24,12 @@ import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.PrivateKey;
 import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.SharedKeyCache;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
 import io.nem.symbol.core.utils.ArrayUtils;
 import java.util.Arrays;
+import java.util.function.BiFunction;
 
 /** Implementation of the block cipher for Ed25519. */
 public class Ed25519BlockCipher implements BlockCipher {
@@ -36,9 +38,30 @@ public class Ed25519BlockCipher implements BlockCipher {
 
   private final KeyPair recipientKeyPair;
 
+  private final BiFunction<PrivateKey, PublicKey, byte[]> sharedKeyFunction;
+
   public Ed25519BlockCipher(final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
     this.senderKeyPair = senderKeyPair;
     this.recipientKeyPair = recipientKeyPair;
+    this.sharedKeyFunction = Ed25519BlockCipher::getSharedKey;
+  }
+
+  /**
+   * Creates a block cipher that resolves the shared keys through the provided cache.
+   *
+   * @param senderKeyPair the sender key pair.
+   * @param recipientKeyPair the recipient key pair.
+   * @param sharedKeyCache the cache of shared keys.
+   */
+  public Ed25519BlockCipher(
+      final KeyPair senderKeyPair,
+      final KeyPair recipientKeyPair,
+      final SharedKeyCache sharedKeyCache) {
+    this.senderKeyPair = senderKeyPair;
+    this.recipientKeyPair = recipientKeyPair;
+    this.sharedKeyFunction =
+        (privateKey, publicKey) ->
+            sharedKeyCache.getSharedKey(privateKey, publicKey, Ed25519BlockCipher::getSharedKey);
   }
 
   @Override
@@ -56,7 +79,8 @@ public class Ed25519BlockCipher implements BlockCipher {
   public AuthenticatedCipherText encode(final byte[] plainText, final byte[] ivData) {
     // Derive shared key.
     final byte[] sharedKey =
-        getSharedKey(this.senderKeyPair.getPrivateKey(), this.recipientKeyPair.getPublicKey());
+        this.sharedKeyFunction.apply(
+            this.senderKeyPair.getPrivateKey(), this.recipientKeyPair.getPublicKey());
     return AESGCM.encrypt(sharedKey, ivData, plainText);
   }
 
@@ -82,7 +106,8 @@ public class Ed25519BlockCipher implements BlockCipher {
 
   public byte[] decode(byte[] authTag, byte[] ivData, byte[] cypherText) {
     final byte[] sharedKey =
-        getSharedKey(this.recipientKeyPair.getPrivateKey(), this.senderKeyPair.getPublicKey());
+        this.sharedKeyFunction.apply(
+            this.recipientKeyPair.getPrivateKey(), this.senderKeyPair.getPublicKey());
     return AESGCM.decrypt(sharedKey, ivData, cypherText, authTag);
   }
 
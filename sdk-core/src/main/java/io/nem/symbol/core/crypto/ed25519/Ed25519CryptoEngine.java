@@ -22,6 +22,7 @@ import io.nem.symbol.core.crypto.DsaSigner;
 import io.nem.symbol.core.crypto.KeyAnalyzer;
 import io.nem.symbol.core.crypto.KeyGenerator;
 import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.SharedKeyCache;
 
 /** Class that wraps the Ed25519 specific implementation. */
 public class Ed25519CryptoEngine implements CryptoEngine {
@@ -47,6 +48,14 @@ public class Ed25519CryptoEngine implements CryptoEngine {
     return new Ed25519BlockCipher(senderKeyPair, recipientKeyPair);
   }
 
+  @Override
+  public BlockCipher createBlockCipher(
+      final KeyPair senderKeyPair,
+      final KeyPair recipientKeyPair,
+      final SharedKeyCache sharedKeyCache) {
+    return new Ed25519BlockCipher(senderKeyPair, recipientKeyPair, sharedKeyCache);
+  }
+
   @Override
   public KeyAnalyzer createKeyAnalyzer() {
     return new Ed25519KeyAnalyzer();
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoException;
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A long-lived Ed25519 signer that keeps the expanded private key (the clamped scalar and the
+ * prefix used to derive the nonce) in memory, so they are not recalculated on every signature.
+ *
+ * <p>The expanded secret is wiped from memory when the signer is closed. A closed signer cannot be
+ * used to sign anymore. This object is thread safe while it's not closed.
+ */
+public class Ed25519PreparedSigner implements AutoCloseable {
+
+  /** The encoded public key. */
+  private final byte[] publicKey;
+
+  /** The clamped scalar derived from the lower 32 bytes of the private key hash. */
+  private final Ed25519EncodedFieldElement scalar;
+
+  /** The upper 32 bytes of the private key hash. */
+  private final byte[] prefix;
+
+  /** If the expanded secret has been wiped. */
+  private volatile boolean closed;
+
+  /**
+   * Creates a prepared signer.
+   *
+   * @param keyPair The key pair to use. The private key is required.
+   */
+  public Ed25519PreparedSigner(final KeyPair keyPair) {
+    if (!keyPair.hasPrivateKey()) {
+      throw new CryptoException("cannot sign without private key");
+    }
+    final byte[] hash = Hashes.sha512(keyPair.getPrivateKey().getBytes());
+    this.publicKey = keyPair.getPublicKey().getBytes();
+    this.scalar = Ed25519Utils.prepareForScalarMultiply(hash);
+    this.prefix = Arrays.copyOfRange(hash, 32, 64);
+    Arrays.fill(hash, (byte) 0);
+  }
+
+  /**
+   * Signs an arbitrarily sized message.
+   *
+   * @param data The message to sign.
+   * @return The generated signature.
+   */
+  public Signature sign(final byte[] data) {
+    return sign(ByteBuffer.wrap(data));
+  }
+
+  /**
+   * Signs the remaining bytes of the buffer. The message is not copied and the buffer's position is
+   * not modified, direct buffers are supported.
+   *
+   * @param data The message to sign.
+   * @return The generated signature.
+   */
+  @SuppressWarnings("squid:S00117")
+  public Signature sign(final ByteBuffer data) {
+    if (this.closed) {
+      throw new CryptoException("cannot sign with a closed signer");
+    }
+
+    // r = H(hash_b,...,hash_2b-1, data) where b=256.
+    final Ed25519EncodedFieldElement r =
+        new Ed25519EncodedFieldElement(Hashes.sha512(data, this.prefix));
+
+    // Reduce size of r since we are calculating mod group order anyway
+    final Ed25519EncodedFieldElement rModQ = r.modQ();
+
+    // R = rModQ * base point.
+    final Ed25519GroupElement R = Ed25519Group.BASE_POINT.scalarMultiply(rModQ);
+    final Ed25519EncodedGroupElement encodedR = R.encode();
+
+    // S = (r + H(encodedR, encodedA, data) * a) mod group order
+    final Ed25519EncodedFieldElement h =
+        new Ed25519EncodedFieldElement(Hashes.sha512(data, encodedR.getRaw(), this.publicKey));
+    final Ed25519EncodedFieldElement hModQ = h.modQ();
+    final Ed25519EncodedFieldElement encodedS = hModQ.multiplyAndAddModQ(this.scalar, rModQ);
+
+    if (this.closed) {
+      // The secret may have been wiped while signing.
+      throw new CryptoException("cannot sign with a closed signer");
+    }
+
+    // Signature is (encodedR, encodedS)
+    final Signature signature = new Signature(encodedR.getRaw(), encodedS.getRaw());
+    if (!isCanonical(signature)) {
+      throw new CryptoException("Generated signature is not canonical");
+    }
+    return signature;
+  }
+
+  /** @return if the signer has been closed and its secret wiped. */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /** Wipes the expanded secret from memory. */
+  @Override
+  public void close() {
+    this.closed = true;
+    Arrays.fill(this.scalar.getRaw(), (byte) 0);
+    Arrays.fill(this.prefix, (byte) 0);
+  }
+
+  private static boolean isCanonical(final Signature signature) {
+    return 0 > signature.getS().compareTo(Ed25519Group.GROUP_ORDER)
+        && 0 < signature.getS().compareTo(BigInteger.ZERO);
+  }
+}
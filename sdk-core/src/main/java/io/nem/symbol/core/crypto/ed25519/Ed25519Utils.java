@@ -34,8 +34,18 @@ public class Ed25519Utils {
    * @return The prepared encoded field element.
    */
   public static Ed25519EncodedFieldElement prepareForScalarMultiply(final PrivateKey key) {
-    final byte[] hash = Hashes.sha512(key.getBytes());
-    final byte[] a = Arrays.copyOfRange(hash, 0, 32);
+    return prepareForScalarMultiply(Hashes.sha512(key.getBytes()));
+  }
+
+  /**
+   * Prepares an already hashed private key for scalar multiplication. Useful when the same private
+   * key hash is reused for many operations, like signing many messages with the same key.
+   *
+   * @param privateKeyHash The SHA-512 hash of the private key.
+   * @return The prepared encoded field element.
+   */
+  public static Ed25519EncodedFieldElement prepareForScalarMultiply(final byte[] privateKeyHash) {
+    final byte[] a = Arrays.copyOfRange(privateKeyHash, 0, 32);
     a[31] &= 0x7F;
     a[31] |= 0x40;
     a[0] &= 0xF8;
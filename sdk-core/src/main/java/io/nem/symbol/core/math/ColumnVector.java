@@ -18,11 +18,13 @@ package io.nem.symbol.core.math;
 import io.nem.symbol.core.utils.FormatUtils;
 import java.text.DecimalFormat;
 import java.util.Arrays;
-import java.util.function.DoubleFunction;
 import java.util.function.Supplier;
 import org.apache.commons.math3.stat.descriptive.rank.Median;
 
-/** Represents a linear algebra vector. */
+/**
+ * Represents a linear algebra vector. The element-wise operations and aggregations are plain loops
+ * over the raw array, which the JIT can unroll and vectorize.
+ */
 public class ColumnVector {
 
   private final int size;
@@ -118,7 +120,12 @@ public class ColumnVector {
    * This method has the side effect of modifying the implicit context object, so be careful.
    */
   public void normalize() {
-    this.matrix.normalizeColumns();
+    final double sum = this.absSum();
+    if (0 == sum) {
+      return;
+    }
+
+    this.scale(sum);
   }
 
   /**
@@ -127,7 +134,10 @@ public class ColumnVector {
    * @param scale The scale factor.
    */
   public void scale(final double scale) {
-    this.matrix.scale(scale);
+    final double[] raw = this.vector;
+    for (int i = 0; i < raw.length; ++i) {
+      raw[i] /= scale;
+    }
   }
 
   // endregion
@@ -141,7 +151,14 @@ public class ColumnVector {
    * @return The new vector.
    */
   public ColumnVector multiplyElementWise(final ColumnVector vector) {
-    return this.transform(() -> ColumnVector.this.matrix.multiplyElementWise(vector.matrix));
+    final double[] other = this.checkSameSize(vector);
+    final double[] raw = this.vector;
+    final double[] result = new double[raw.length];
+    for (int i = 0; i < raw.length; ++i) {
+      result[i] = raw[i] * other[i];
+    }
+
+    return new ColumnVector(result);
   }
 
   /**
@@ -151,7 +168,22 @@ public class ColumnVector {
    * @return The new vector.
    */
   public ColumnVector addElementWise(final ColumnVector vector) {
-    return this.transform(() -> ColumnVector.this.matrix.addElementWise(vector.matrix));
+    final double[] other = this.checkSameSize(vector);
+    final double[] raw = this.vector;
+    final double[] result = new double[raw.length];
+    for (int i = 0; i < raw.length; ++i) {
+      result[i] = raw[i] + other[i];
+    }
+
+    return new ColumnVector(result);
+  }
+
+  private double[] checkSameSize(final ColumnVector vector) {
+    if (this.size != vector.size) {
+      throw new IllegalArgumentException("vector sizes must be equal");
+    }
+
+    return vector.vector;
   }
 
   // endregion
@@ -164,7 +196,12 @@ public class ColumnVector {
    * @return The sum of the absolute value of all the vector's elements.
    */
   public double absSum() {
-    return this.matrix.absSum();
+    double sum = 0.0;
+    for (final double val : this.vector) {
+      sum += Math.abs(val);
+    }
+
+    return sum;
   }
 
   /**
@@ -173,7 +210,12 @@ public class ColumnVector {
    * @return The sum of all the vectors elements.
    */
   public double sum() {
-    return this.matrix.sum();
+    double sum = 0.0;
+    for (final double val : this.vector) {
+      sum += val;
+    }
+
+    return sum;
   }
 
   // endregion
@@ -197,7 +239,13 @@ public class ColumnVector {
    * @return The new vector.
    */
   public ColumnVector add(final double scalar) {
-    return this.transform(() -> ColumnVector.this.matrix.add(scalar));
+    final double[] raw = this.vector;
+    final double[] result = new double[raw.length];
+    for (int i = 0; i < raw.length; ++i) {
+      result[i] = raw[i] + scalar;
+    }
+
+    return new ColumnVector(result);
   }
 
   /**
@@ -207,7 +255,13 @@ public class ColumnVector {
    * @return The new vector.
    */
   public ColumnVector multiply(final double scalar) {
-    return this.transform(() -> ColumnVector.this.matrix.multiply(scalar));
+    final double[] raw = this.vector;
+    final double[] result = new double[raw.length];
+    for (int i = 0; i < raw.length; ++i) {
+      result[i] = raw[i] * scalar;
+    }
+
+    return new ColumnVector(result);
   }
 
   /**
@@ -243,7 +297,13 @@ public class ColumnVector {
    * @return true if this vector is a zero vector.
    */
   public final boolean isZeroVector() {
-    return this.matrix.isZeroMatrix();
+    for (final double val : this.vector) {
+      if (0.0 != val) {
+        return false;
+      }
+    }
+
+    return true;
   }
 
   // endregion
@@ -329,8 +389,12 @@ public class ColumnVector {
    * @return The magnitude of this vector.
    */
   public double getMagnitude() {
-    final ColumnVector nullVector = new ColumnVector(this.size);
-    return this.l2Distance(nullVector);
+    double magnitude = 0;
+    for (final double val : this.vector) {
+      magnitude += val * val;
+    }
+
+    return Math.sqrt(magnitude);
   }
 
   /**
@@ -340,7 +404,13 @@ public class ColumnVector {
    * @return The Manhattan distance (L1-norm).
    */
   public double l1Distance(final ColumnVector vector) {
-    return this.distance(vector, Math::abs);
+    final double[] other = this.checkDistanceSize(vector);
+    double distance = 0;
+    for (int i = 0; i < this.size; ++i) {
+      distance += Math.abs(this.vector[i] - other[i]);
+    }
+
+    return distance;
   }
 
   /**
@@ -350,23 +420,23 @@ public class ColumnVector {
    * @return The Euclidean distance.
    */
   public double l2Distance(final ColumnVector vector) {
-    final double distance = this.distance(vector, d -> d * d);
+    final double[] other = this.checkDistanceSize(vector);
+    double distance = 0;
+    for (int i = 0; i < this.size; ++i) {
+      final double difference = this.vector[i] - other[i];
+      distance += difference * difference;
+    }
+
     return Math.sqrt(distance);
   }
 
-  private double distance(final ColumnVector vector, final DoubleFunction<Double> aggregate) {
+  private double[] checkDistanceSize(final ColumnVector vector) {
     if (this.size != vector.size) {
       throw new IllegalArgumentException(
           "cannot determine the distance between vectors with different sizes");
     }
 
-    double distance = 0;
-    for (int i = 0; i < this.size; ++i) {
-      final double difference = this.vector[i] - vector.vector[i];
-      distance += aggregate.apply(difference);
-    }
-
-    return distance;
+    return vector.vector;
   }
 
   /**
@@ -421,7 +491,12 @@ public class ColumnVector {
 
   /** Sets all negative values to zero. */
   public void removeNegatives() {
-    this.matrix.removeNegatives();
+    final double[] raw = this.vector;
+    for (int i = 0; i < raw.length; ++i) {
+      if (raw[i] < 0) {
+        raw[i] = 0;
+      }
+    }
   }
 
   // endregion
@@ -0,0 +1,463 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.math;
+
+import io.nem.symbol.core.utils.FormatUtils;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleConsumer;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Represents a sparse matrix in compressed sparse row (CSR) layout: the columns and values of all
+ * the rows are stored back to back in two primitive arrays and a third array keeps where each row
+ * starts. Compared to {@link SparseMatrix} there is no array per row, the entries are contiguous in
+ * memory and the kernels (vector multiplication, row and column sums, normalization) are plain
+ * loops over the arrays.
+ *
+ * <p>Reading and updating existing entries is as cheap as in {@link SparseMatrix}. Adding or
+ * removing entries shifts the following entries, it's only cheap when the matrix is populated row
+ * by row in ascending column order. Build the matrix from a populated {@link SparseMatrix} when the
+ * entries come in any order.
+ */
+public final class CsrMatrix extends Matrix {
+
+  private static final double REALLOC_MULTIPLIER = 1.6;
+
+  /** The minimum number of entries multiplied by a fork join task before it's split. */
+  private static final int MIN_ENTRIES_PER_TASK = 1 << 14;
+
+  private final int numRows;
+
+  /**
+   * Where each row starts in cols and values. Only the offsets up to lastRow + 1 are valid, the
+   * rows after lastRow are empty. This keeps populating the matrix row by row cheap.
+   */
+  private final int[] rowOffsets;
+
+  private int[] cols;
+  private double[] values;
+  private int numEntries;
+  private int lastRow;
+
+  /**
+   * Creates a new empty matrix of the specified size.
+   *
+   * @param numRows The desired number of rows to represent.
+   * @param numCols The desired number of columns to represent.
+   */
+  public CsrMatrix(final int numRows, final int numCols) {
+    super(numRows, numCols);
+    this.numRows = numRows;
+    this.rowOffsets = new int[numRows + 1];
+    this.cols = new int[Math.max(1, numRows)];
+    this.values = new double[this.cols.length];
+    this.numEntries = 0;
+    this.lastRow = -1;
+  }
+
+  /**
+   * Creates a new matrix with the non-zero elements of another matrix, usually a {@link
+   * SparseMatrix}.
+   *
+   * @param matrix The matrix to copy.
+   */
+  public CsrMatrix(final Matrix matrix) {
+    super(matrix.getRowCount(), matrix.getColumnCount());
+    this.numRows = matrix.getRowCount();
+    this.rowOffsets = new int[this.numRows + 1];
+    matrix.forEach(
+        (row, col, value) -> {
+          if (0.0 != value) {
+            this.rowOffsets[row + 1]++;
+          }
+        });
+    for (int i = 0; i < this.numRows; ++i) {
+      this.rowOffsets[i + 1] += this.rowOffsets[i];
+    }
+
+    this.numEntries = this.rowOffsets[this.numRows];
+    this.cols = new int[Math.max(1, this.numEntries)];
+    this.values = new double[this.cols.length];
+    this.lastRow = this.numRows - 1;
+    final int[] next = Arrays.copyOf(this.rowOffsets, this.numRows);
+    matrix.forEach(
+        (row, col, value) -> {
+          if (0.0 != value) {
+            final int index = next[row]++;
+            this.cols[index] = col;
+            this.values[index] = value;
+          }
+        });
+  }
+
+  /**
+   * Creates a new matrix around raw CSR arrays. The arrays are not copied.
+   *
+   * @param numRows The desired number of rows to represent.
+   * @param numCols The desired number of columns to represent.
+   * @param rowOffsets The offset of each row in cols and values followed by the number of entries.
+   * @param cols The columns of the entries, ascending within each row.
+   * @param values The non-zero values of the entries.
+   */
+  public CsrMatrix(
+      final int numRows,
+      final int numCols,
+      final int[] rowOffsets,
+      final int[] cols,
+      final double[] values) {
+    super(numRows, numCols);
+    Validate.isTrue(rowOffsets.length == numRows + 1, "rowOffsets size must be row count + 1");
+    Validate.isTrue(
+        0 == rowOffsets[0] && rowOffsets[numRows] <= Math.min(cols.length, values.length),
+        "rowOffsets are not compatible with cols and values");
+    this.numRows = numRows;
+    this.rowOffsets = rowOffsets;
+    this.numEntries = rowOffsets[numRows];
+    this.cols = cols.length == 0 ? new int[1] : cols;
+    this.values = values.length == 0 ? new double[1] : values;
+    this.lastRow = numRows - 1;
+  }
+
+  // region Matrix abstract functions
+
+  private static String formatEntry(final int row, final int col, final double value) {
+    final DecimalFormat format = FormatUtils.getDefaultDecimalFormat();
+    return String.format(
+        "%s(%d, %d) -> %s", System.lineSeparator(), row, col, format.format(value));
+  }
+
+  @Override
+  protected Matrix create(final int numRows, final int numCols) {
+    return new CsrMatrix(numRows, numCols);
+  }
+
+  @Override
+  protected double getAtUnchecked(final int row, final int col) {
+    final int i = Arrays.binarySearch(this.cols, this.rowStart(row), this.rowEnd(row), col);
+    return i < 0 ? 0.0 : this.values[i];
+  }
+
+  @Override
+  protected void setAtUnchecked(final int row, final int col, final double val) {
+    final int i = Arrays.binarySearch(this.cols, this.rowStart(row), this.rowEnd(row), col);
+    if (i >= 0) {
+      if (0.0 == val) {
+        this.remove(row, i);
+      } else {
+        this.values[i] = val;
+      }
+      return;
+    }
+
+    if (0.0 != val) {
+      this.insert(row, -i - 1, col, val);
+    }
+  }
+
+  @Override
+  protected void forEach(final ElementVisitorFunction func) {
+    final IndexSetter setter = new IndexSetter();
+    for (int i = 0; i <= this.lastRow; ++i) {
+      final int end = this.rowOffsets[i + 1];
+      for (int j = this.rowOffsets[i]; j < end; ++j) {
+        setter.index = j;
+        func.visit(i, this.cols[j], this.values[j], setter);
+      }
+    }
+
+    if (setter.hasZeros) {
+      this.removeZeros();
+    }
+  }
+
+  @Override
+  public void forEach(final ReadOnlyElementVisitorFunction func) {
+    for (int i = 0; i <= this.lastRow; ++i) {
+      final int end = this.rowOffsets[i + 1];
+      for (int j = this.rowOffsets[i]; j < end; ++j) {
+        func.visit(i, this.cols[j], this.values[j]);
+      }
+    }
+  }
+
+  @Override
+  public MatrixNonZeroElementRowIterator getNonZeroElementRowIterator(final int row) {
+    final int start = this.rowStart(row);
+    final int end = this.rowEnd(row);
+    return new MatrixNonZeroElementRowIterator() {
+      private int index = start;
+
+      @Override
+      public boolean hasNext() {
+        return this.index < end;
+      }
+
+      @Override
+      public MatrixElement next() {
+        if (!this.hasNext()) {
+          throw new IndexOutOfBoundsException("index out of range");
+        }
+
+        final int current = this.index++;
+        return new MatrixElement(row, CsrMatrix.this.cols[current], CsrMatrix.this.values[current]);
+      }
+    };
+  }
+
+  // endregion
+
+  // region kernels
+
+  @Override
+  public ColumnVector getRowSumVector() {
+    final double[] sums = new double[this.numRows];
+    for (int i = 0; i <= this.lastRow; ++i) {
+      double sum = 0.0;
+      final int end = this.rowOffsets[i + 1];
+      for (int j = this.rowOffsets[i]; j < end; ++j) {
+        sum += this.values[j];
+      }
+      sums[i] = sum;
+    }
+
+    return new ColumnVector(sums);
+  }
+
+  @Override
+  public ColumnVector getColumnSumVector() {
+    final double[] sums = new double[this.getColumnCount()];
+    for (int j = 0; j < this.numEntries; ++j) {
+      sums[this.cols[j]] += this.values[j];
+    }
+
+    return new ColumnVector(sums);
+  }
+
+  @Override
+  public Collection<Integer> normalizeColumns() {
+    final double[] sums = new double[this.getColumnCount()];
+    for (int j = 0; j < this.numEntries; ++j) {
+      sums[this.cols[j]] += Math.abs(this.values[j]);
+    }
+
+    final List<Integer> zeroColumns = new ArrayList<>();
+    for (int i = 0; i < sums.length; ++i) {
+      if (0 == sums[i]) {
+        zeroColumns.add(i);
+      }
+    }
+
+    for (int j = 0; j < this.numEntries; ++j) {
+      this.values[j] /= sums[this.cols[j]];
+    }
+
+    return zeroColumns;
+  }
+
+  @Override
+  public ColumnVector multiply(final ColumnVector vector) {
+    final double[] rawResult = new double[this.numRows];
+    this.multiplyRows(this.checkMultiplyVector(vector), rawResult, 0, this.lastRow + 1);
+    return new ColumnVector(rawResult);
+  }
+
+  /**
+   * Multiplies this matrix by a vector in a fork join pool. The rows are split recursively in two
+   * halves with the same number of entries until a half has few enough entries. Every task writes
+   * its own range of the result, no synchronization is needed.
+   *
+   * @param vector The vector.
+   * @param pool The pool running the tasks.
+   * @return The resulting vector.
+   */
+  public ColumnVector multiply(final ColumnVector vector, final ForkJoinPool pool) {
+    Validate.notNull(pool, "pool is required");
+    final double[] rawVector = this.checkMultiplyVector(vector);
+    final double[] rawResult = new double[this.numRows];
+    pool.invoke(new MultiplyTask(rawVector, rawResult, 0, this.lastRow + 1));
+    return new ColumnVector(rawResult);
+  }
+
+  private double[] checkMultiplyVector(final ColumnVector vector) {
+    if (this.getColumnCount() != vector.size()) {
+      throw new IllegalArgumentException("vector size and matrix column count must be equal");
+    }
+
+    return vector.getRaw();
+  }
+
+  private void multiplyRows(
+      final double[] rawVector, final double[] rawResult, final int from, final int to) {
+    final int[] offsets = this.rowOffsets;
+    final int[] entryCols = this.cols;
+    final double[] entryValues = this.values;
+    for (int i = from; i < to; ++i) {
+      double sum = 0.0;
+      final int end = offsets[i + 1];
+      for (int j = offsets[i]; j < end; ++j) {
+        sum += entryValues[j] * rawVector[entryCols[j]];
+      }
+      rawResult[i] = sum;
+    }
+  }
+
+  // endregion
+
+  /**
+   * Gets the number of non zero columns of a row.
+   *
+   * @param row The row.
+   * @return The number of non zero columns.
+   */
+  public int getNonZeroColumnCount(final int row) {
+    return this.rowEnd(row) - this.rowStart(row);
+  }
+
+  /**
+   * Returns the number of entries (values that have been set) in this sparse matrix.
+   *
+   * @return number of entries in this sparse matrix.
+   */
+  public int getNumEntries() {
+    return this.numEntries;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append(String.format("[%d x %d]", this.getRowCount(), this.getColumnCount()));
+
+    this.forEach((r, c, v) -> builder.append(formatEntry(r, c, v)));
+    return builder.toString();
+  }
+
+  private int rowStart(final int row) {
+    return row > this.lastRow ? this.numEntries : this.rowOffsets[row];
+  }
+
+  private int rowEnd(final int row) {
+    return row > this.lastRow ? this.numEntries : this.rowOffsets[row + 1];
+  }
+
+  private void insert(final int row, final int index, final int col, final double val) {
+    if (row > this.lastRow) {
+      // the rows in between are empty
+      Arrays.fill(this.rowOffsets, this.lastRow + 2, row + 1, this.numEntries);
+      this.lastRow = row;
+      this.rowOffsets[row + 1] = this.numEntries;
+    }
+
+    if (this.numEntries == this.cols.length) {
+      final int newSize = (int) Math.ceil(REALLOC_MULTIPLIER * this.cols.length);
+      this.cols = Arrays.copyOf(this.cols, newSize);
+      this.values = Arrays.copyOf(this.values, newSize);
+    }
+
+    System.arraycopy(this.cols, index, this.cols, index + 1, this.numEntries - index);
+    System.arraycopy(this.values, index, this.values, index + 1, this.numEntries - index);
+    this.cols[index] = col;
+    this.values[index] = val;
+    ++this.numEntries;
+    for (int i = row + 1; i <= this.lastRow + 1; ++i) {
+      ++this.rowOffsets[i];
+    }
+  }
+
+  private void remove(final int row, final int index) {
+    System.arraycopy(this.cols, index + 1, this.cols, index, this.numEntries - index - 1);
+    System.arraycopy(this.values, index + 1, this.values, index, this.numEntries - index - 1);
+    --this.numEntries;
+    for (int i = row + 1; i <= this.lastRow + 1; ++i) {
+      --this.rowOffsets[i];
+    }
+  }
+
+  /** Removes all the entries set to zero in a single pass. */
+  private void removeZeros() {
+    int target = 0;
+    for (int i = 0; i <= this.lastRow; ++i) {
+      final int start = this.rowOffsets[i];
+      final int end = this.rowOffsets[i + 1];
+      this.rowOffsets[i] = target;
+      for (int j = start; j < end; ++j) {
+        if (0.0 != this.values[j]) {
+          this.cols[target] = this.cols[j];
+          this.values[target] = this.values[j];
+          ++target;
+        }
+      }
+    }
+
+    this.numEntries = target;
+    this.rowOffsets[this.lastRow + 1] = target;
+  }
+
+  /** Setter of the entry being visited, one instance is reused for the whole iteration. */
+  private final class IndexSetter implements DoubleConsumer {
+
+    private int index;
+    private boolean hasZeros;
+
+    @Override
+    public void accept(final double value) {
+      CsrMatrix.this.values[this.index] = value;
+      this.hasZeros |= 0.0 == value;
+    }
+  }
+
+  /** Multiplies a range of rows, splitting it while it has too many entries. */
+  private final class MultiplyTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final double[] rawVector;
+    private final double[] rawResult;
+    private final int from;
+    private final int to;
+
+    MultiplyTask(final double[] rawVector, final double[] rawResult, final int from, final int to) {
+      this.rawVector = rawVector;
+      this.rawResult = rawResult;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      final int[] offsets = CsrMatrix.this.rowOffsets;
+      if (this.to - this.from < 2
+          || offsets[this.to] - offsets[this.from] <= MIN_ENTRIES_PER_TASK) {
+        CsrMatrix.this.multiplyRows(this.rawVector, this.rawResult, this.from, this.to);
+        return;
+      }
+
+      // split where half of the entries are, a few dense rows don't unbalance the tasks
+      final int middleEntry = (offsets[this.from] + offsets[this.to]) >>> 1;
+      int middle = Arrays.binarySearch(offsets, this.from, this.to, middleEntry);
+      middle = middle < 0 ? -middle - 1 : middle;
+      middle = Math.max(this.from + 1, Math.min(this.to - 1, middle));
+      invokeAll(
+          new MultiplyTask(this.rawVector, this.rawResult, this.from, middle),
+          new MultiplyTask(this.rawVector, this.rawResult, middle, this.to));
+    }
+  }
+}
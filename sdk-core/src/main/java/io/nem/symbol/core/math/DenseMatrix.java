@@ -91,6 +91,17 @@ public final class DenseMatrix extends Matrix {
     }
   }
 
+  @Override
+  public void forEach(final ReadOnlyElementVisitorFunction func) {
+    final int numCols = this.numCols;
+    for (int i = 0; i < this.getRowCount(); ++i) {
+      final int offset = i * numCols;
+      for (int j = 0; j < numCols; ++j) {
+        func.visit(i, j, this.values[offset + j]);
+      }
+    }
+  }
+
   @Override
   public MatrixNonZeroElementRowIterator getNonZeroElementRowIterator(final int row) {
     return new MatrixNonZeroElementRowIterator() {
@@ -117,7 +117,7 @@ public abstract class Matrix {
    *
    * @return A vector containing the sums of each matrix row.
    */
-  public final ColumnVector getRowSumVector() {
+  public ColumnVector getRowSumVector() {
     final double[] sums = new double[this.numRows];
     this.forEach((r, c, v) -> sums[r] += v);
     return new ColumnVector(sums);
@@ -128,7 +128,7 @@ public abstract class Matrix {
    *
    * @return A vector containing the sums of each matrix column.
    */
-  public final ColumnVector getColumnSumVector() {
+  public ColumnVector getColumnSumVector() {
     return new ColumnVector(this.getColumnSums(v -> v));
   }
 
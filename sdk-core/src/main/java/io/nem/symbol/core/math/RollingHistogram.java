@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.math;
+
+import java.util.Arrays;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A histogram of the latest non negative values recorded, used to calculate percentiles over a
+ * rolling window. It's not thread safe.
+ *
+ * <p>Values below 128 are counted exactly. Larger values share log-linear buckets of 64 sub buckets
+ * per power of two, so a percentile is at most 1.6% above the recorded value. The memory used is
+ * independent of the recorded values and a percentile is resolved without sorting.
+ */
+public class RollingHistogram {
+
+  /** The number of significant bits kept per value. */
+  private static final int PRECISION_BITS = 7;
+
+  /** Values below this one have their own bucket. */
+  private static final int EXACT_LIMIT = 1 << PRECISION_BITS;
+
+  /** The number of sub buckets per power of two above the exact limit. */
+  private static final int SUB_BUCKETS = EXACT_LIMIT >> 1;
+
+  private static final int BUCKET_COUNT = (Long.SIZE - PRECISION_BITS + 1) * SUB_BUCKETS;
+
+  /** The latest values, used as a ring buffer. */
+  private final long[] window;
+
+  private final int[] counts = new int[BUCKET_COUNT];
+
+  private long recorded;
+
+  /**
+   * Constructor.
+   *
+   * @param windowSize the number of latest values kept.
+   */
+  public RollingHistogram(int windowSize) {
+    Validate.isTrue(windowSize > 0, "windowSize must be positive");
+    this.window = new long[windowSize];
+  }
+
+  /**
+   * Records a value. Once the window is full, the oldest value is dropped.
+   *
+   * @param value the value, not negative.
+   */
+  public void record(long value) {
+    Validate.isTrue(value >= 0, "value must not be negative");
+    int position = (int) (recorded % window.length);
+    if (recorded >= window.length) {
+      counts[getBucket(window[position])]--;
+    }
+    window[position] = value;
+    counts[getBucket(value)]++;
+    recorded++;
+  }
+
+  /** @return the number of values in the window. */
+  public int size() {
+    return (int) Math.min(recorded, window.length);
+  }
+
+  /** @return if no value has been recorded. */
+  public boolean isEmpty() {
+    return recorded == 0;
+  }
+
+  /** Removes all the values. */
+  public void clear() {
+    Arrays.fill(counts, 0);
+    recorded = 0;
+  }
+
+  /**
+   * Returns the given percentile of the values in the window using the nearest rank method.
+   *
+   * @param percentile the percentile between 0 and 1.
+   * @return the highest value of the bucket holding the percentile.
+   */
+  public long getValueAtPercentile(double percentile) {
+    Validate.isTrue(percentile >= 0 && percentile <= 1, "percentile must be between 0 and 1");
+    Validate.validState(!isEmpty(), "The histogram is empty");
+    long rank = Math.max(1, (long) Math.ceil(percentile * size()));
+    long cumulative = 0;
+    for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+      cumulative += counts[bucket];
+      if (cumulative >= rank) {
+        return getHighestValue(bucket);
+      }
+    }
+    throw new IllegalStateException("The bucket counts don't match the window size");
+  }
+
+  private static int getBucket(long value) {
+    if (value < EXACT_LIMIT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int mantissa = (int) (value >>> (exponent - PRECISION_BITS + 1));
+    return (exponent - PRECISION_BITS + 2) * SUB_BUCKETS + mantissa - SUB_BUCKETS;
+  }
+
+  private static long getHighestValue(int bucket) {
+    if (bucket < EXACT_LIMIT) {
+      return bucket;
+    }
+    int exponent = bucket / SUB_BUCKETS + PRECISION_BITS - 2;
+    long mantissa = SUB_BUCKETS + bucket % SUB_BUCKETS;
+    // The top bucket overflows to Long.MIN_VALUE, so the result is Long.MAX_VALUE.
+    return ((mantissa + 1) << (exponent - PRECISION_BITS + 1)) - 1;
+  }
+}
@@ -16,9 +16,12 @@
 package io.nem.symbol.core.math;
 
 import com.googlecode.javaewah.EWAHCompressedBitmap;
+import com.googlecode.javaewah.IntIterator;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 
 /** This is a wrapper for the EWAHCompressedBitmap. */
 public class SparseBitmap implements Iterable<Integer> {
@@ -92,6 +95,31 @@ public class SparseBitmap implements Iterable<Integer> {
     return new SparseBitmap(firstMap);
   }
 
+  /**
+   * Creates a new SparseBitmap that is the logical <code>and</code> of all the given bitmaps. The
+   * bitmaps are combined in a single pass instead of creating an intermediate bitmap per pair.
+   *
+   * @param bitmaps Bitmaps to compute the logical <code>and</code> for
+   * @return SparseBitmap that has the values set according to the <code>and</code> of the given
+   *     bitmaps.
+   */
+  public static SparseBitmap batchAnd(final SparseBitmap... bitmaps) {
+    if (bitmaps.length < 1) {
+      return SparseBitmap.createEmpty();
+    }
+
+    if (bitmaps.length < 2) {
+      return bitmaps[0];
+    }
+
+    final EWAHCompressedBitmap[] ewahBitmaps = new EWAHCompressedBitmap[bitmaps.length];
+    for (int index = 0; index < bitmaps.length; ++index) {
+      ewahBitmaps[index] = bitmaps[index].bitmap;
+    }
+
+    return new SparseBitmap(EWAHCompressedBitmap.and(ewahBitmaps));
+  }
+
   /**
    * Gets the value of the bit at the given index.
    *
@@ -230,6 +258,15 @@ public class SparseBitmap implements Iterable<Integer> {
     return this.bitmap.iterator();
   }
 
+  /**
+   * Iterates the set bits in ascending order without boxing them.
+   *
+   * @return The iterator.
+   */
+  public PrimitiveIterator.OfInt intIterator() {
+    return new IntIteratorAdapter(this.bitmap.intIterator());
+  }
+
   // endregion
 
   // region hashCode / equals
@@ -255,4 +292,27 @@ public class SparseBitmap implements Iterable<Integer> {
   }
 
   // endregion
+
+  private static class IntIteratorAdapter implements PrimitiveIterator.OfInt {
+
+    private final IntIterator iterator;
+
+    IntIteratorAdapter(final IntIterator iterator) {
+      this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.iterator.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+      if (!this.iterator.hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      return this.iterator.next();
+    }
+  }
 }
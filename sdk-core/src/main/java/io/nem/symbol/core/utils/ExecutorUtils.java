@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/** Utility methods to create the executors the blocking rest calls can be executed on. */
+public class ExecutorUtils {
+
+  /** Executors.newVirtualThreadPerTaskExecutor, null if the running JDK is older than 21. */
+  private static final Method VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadFactory();
+
+  /** Private constructor for this utility class. */
+  private ExecutorUtils() {}
+
+  /** @return if the running JDK supports virtual threads (JDK 21+). */
+  public static boolean isVirtualThreadSupported() {
+    return VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * It creates an executor that starts a new virtual thread for each task. Blocked virtual threads
+   * don't hold a platform thread, so thousands of blocking calls can be in flight with just a few
+   * carrier threads.
+   *
+   * <p>The sdk is compiled for Java 8, the executor is resolved reflectively.
+   *
+   * @return the virtual thread per task executor.
+   * @throws UnsupportedOperationException if the running JDK is older than 21.
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    if (!isVirtualThreadSupported()) {
+      throw new UnsupportedOperationException(
+          "Virtual threads are not supported by Java " + System.getProperty("java.version"));
+    }
+    try {
+      return (ExecutorService) VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Virtual thread executor could not be created", e);
+    }
+  }
+
+  /**
+   * It creates a virtual thread per task executor when the running JDK supports it or a cached
+   * thread pool otherwise.
+   *
+   * @return the executor.
+   */
+  public static ExecutorService newVirtualThreadOrCachedExecutor() {
+    return isVirtualThreadSupported()
+        ? newVirtualThreadPerTaskExecutor()
+        : Executors.newCachedThreadPool();
+  }
+
+  private static Method findVirtualThreadFactory() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
@@ -15,7 +15,9 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.nem.symbol.sdk.model.Stored;
 import io.nem.symbol.sdk.model.account.AccountInfo;
+import org.apache.commons.lang3.Validate;
 
 /** A helper object that streams {@link AccountInfo} using the search. */
 public class AccountPaginationStreamer
@@ -27,6 +29,18 @@ public class AccountPaginationStreamer
    * @param searcher the Account repository that will perform the searches
    */
   public AccountPaginationStreamer(Searcher<AccountInfo, AccountSearchCriteria> searcher) {
-    super(searcher);
+    super(searcher, Stored::getRecordId);
+  }
+
+  /**
+   * Cursor searches are only possible when the accounts are sorted by id.
+   *
+   * @param criteria the criteria
+   */
+  @Override
+  protected void validateCursorCriteria(AccountSearchCriteria criteria) {
+    Validate.isTrue(
+        criteria.getOrderBy() == null || criteria.getOrderBy() == AccountOrderBy.ID,
+        "Cursor search requires the results to be ordered by " + AccountOrderBy.ID);
   }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import io.nem.symbol.sdk.model.blockchain.BlockHeaderRecord;
+import java.io.Closeable;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Local storage of the verified block headers of a {@link LightClient}. The headers are stored in
+ * height order without gaps, starting from height 1.
+ */
+public interface BlockHeaderStore extends Closeable {
+
+  /**
+   * @param height the block height.
+   * @return the stored header at the given height if any.
+   */
+  Optional<BlockHeaderRecord> getHeader(BigInteger height);
+
+  /** @return the header with the highest height if any. */
+  Optional<BlockHeaderRecord> getLastHeader();
+
+  /**
+   * Appends the given headers. The first header must be the next height of the last stored header.
+   *
+   * @param headers the consecutive headers.
+   */
+  void append(List<BlockHeaderRecord> headers);
+
+  /** @return the height of the last stored header known to be finalized, 0 if none. */
+  BigInteger getFinalizedHeight();
+
+  /**
+   * Sets the height of the last stored header known to be finalized.
+   *
+   * @param height the finalized height.
+   */
+  void setFinalizedHeight(BigInteger height);
+}
@@ -15,7 +15,9 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.nem.symbol.sdk.model.Stored;
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import org.apache.commons.lang3.Validate;
 
 /** A helper object that streams {@link BlockInfo} using the search. */
 public class BlockPaginationStreamer extends PaginationStreamer<BlockInfo, BlockSearchCriteria> {
@@ -26,6 +28,18 @@ public class BlockPaginationStreamer extends PaginationStreamer<BlockInfo, Block
    * @param searcher the block repository that will perform the searches
    */
   public BlockPaginationStreamer(Searcher<BlockInfo, BlockSearchCriteria> searcher) {
-    super(searcher);
+    super(searcher, Stored::getRecordId);
+  }
+
+  /**
+   * Cursor searches are only possible when the blocks are sorted by id.
+   *
+   * @param criteria the criteria
+   */
+  @Override
+  protected void validateCursorCriteria(BlockSearchCriteria criteria) {
+    Validate.isTrue(
+        criteria.getOrderBy() == null || criteria.getOrderBy() == BlockOrderBy.ID,
+        "Cursor search requires the results to be ordered by " + BlockOrderBy.ID);
   }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import java.util.Optional;
+
+/**
+ * Estimates fee multipliers from the latest blocks and unconfirmed transactions, so many
+ * transactions can be priced with {@link
+ * io.nem.symbol.sdk.model.transaction.TransactionFactory#calculateMaxFeeFromMultiplier(long)}
+ * without a REST call for each one.
+ *
+ * <p>The fee multipliers are kept in rolling windows. Percentiles are between 0 and 1 and are empty
+ * until a value has been recorded.
+ */
+public interface FeeEstimator {
+
+  /**
+   * Suggests the fee multiplier that gets a transaction included within the target number of blocks
+   * with the given confidence.
+   *
+   * <p>A transaction is accepted by a block when its fee multiplier is not lower than the block's.
+   * If a fraction q of the recent blocks accepted a multiplier, the chance it's included within n
+   * blocks is 1 - (1 - q)^n, so the suggestion is the block fee multiplier percentile that solves q
+   * for the confidence.
+   *
+   * @param targetBlocks the number of blocks the transaction may wait, at least 1.
+   * @param confidence the chance of being included within the target blocks, between 0 and 1.
+   * @return the suggested fee multiplier.
+   */
+  Optional<Long> suggestFeeMultiplier(int targetBlocks, double confidence);
+
+  /**
+   * @param percentile the percentile between 0 and 1.
+   * @return the percentile of the fee multipliers of the latest blocks.
+   */
+  Optional<Long> getBlockFeeMultiplier(double percentile);
+
+  /**
+   * @param percentile the percentile between 0 and 1.
+   * @return the percentile of the fee multipliers offered by the latest unconfirmed transactions.
+   */
+  Optional<Long> getUnconfirmedFeeMultiplier(double percentile);
+
+  /**
+   * Records the fee multiplier of a block. New blocks are recorded from the listener; this method
+   * lets callers seed the window with past blocks.
+   *
+   * @param blockInfo the block.
+   */
+  void recordBlock(BlockInfo blockInfo);
+
+  /**
+   * Records the fee multiplier offered by an unconfirmed transaction, its max fee divided by its
+   * size.
+   *
+   * @param transaction the transaction.
+   */
+  void recordUnconfirmed(Transaction transaction);
+
+  /**
+   * Records the unconfirmed transactions of an address from the listener. Watching an address twice
+   * has no effect.
+   *
+   * @param address the address.
+   */
+  void watch(Address address);
+
+  /**
+   * The errors of the listener subscriptions. Once the new block subscription fails, the block
+   * window only changes through {@link #recordBlock(BlockInfo)}. An address whose subscription
+   * fails is no longer watched and can be watched again once the listener has been reopened.
+   *
+   * @return an {@link Observable} of the listener errors that completes when the estimator is
+   *     closed.
+   */
+  Observable<Throwable> failures();
+
+  /** @return the number of blocks in the window. */
+  int getBlockCount();
+
+  /** @return the number of unconfirmed transactions in the window. */
+  int getUnconfirmedCount();
+
+  /** Stops following the listener. */
+  void close();
+}
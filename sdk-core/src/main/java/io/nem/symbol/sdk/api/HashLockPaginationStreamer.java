@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.nem.symbol.sdk.model.Stored;
 import io.nem.symbol.sdk.model.transaction.HashLockInfo;
 
 /** A helper object that streams {@link HashLockInfo} using the search. */
@@ -27,6 +28,6 @@ public class HashLockPaginationStreamer
    * @param searcher the HashLockInfo repository that will perform the searches
    */
   public HashLockPaginationStreamer(Searcher<HashLockInfo, HashLockSearchCriteria> searcher) {
-    super(searcher);
+    super(searcher, Stored::getRecordId);
   }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import io.nem.symbol.sdk.model.blockchain.BlockHeaderRecord;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+
+/**
+ * Light client that keeps a local chain of verified block headers so transaction finality and
+ * inclusion can be checked without trusting the chain info of a single node.
+ *
+ * <p>Headers are downloaded from the node, their hashes and signatures are verified locally and
+ * each header must link to the previous one. The chain is anchored on verified finalization proofs:
+ * a header is only considered final once a verified proof finalizes it or a later header.
+ */
+public interface LightClient {
+
+  /**
+   * Downloads and verifies the headers up to the latest finalized block of the node. The
+   * finalization proof of that block is verified before any header is stored.
+   *
+   * @return the new verified headers, in height order.
+   */
+  Observable<BlockHeaderRecord> sync();
+
+  /** @return the highest locally verified finalized height, 0 if none. */
+  BigInteger getFinalizedHeight();
+
+  /**
+   * @param height the block height.
+   * @return if the block at the given height is locally known to be final.
+   */
+  boolean isFinal(BigInteger height);
+
+  /**
+   * Validates a transaction merkle proof against the locally stored header. Only the merkle path is
+   * requested to the node.
+   *
+   * @param height the block height, it must have been synced.
+   * @param transactionHash the transaction hash.
+   * @return if the transaction is included in the block.
+   */
+  Observable<Boolean> isValidTransactionInBlock(BigInteger height, String transactionHash);
+
+  /**
+   * Validates a statement merkle proof against the locally stored header. Only the merkle path is
+   * requested to the node.
+   *
+   * @param height the block height, it must have been synced.
+   * @param statementHash the statement hash.
+   * @return if the statement is included in the block.
+   */
+  Observable<Boolean> isValidStatementInBlock(BigInteger height, String statementHash);
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A local copy of the {@link TransactionGroup#UNCONFIRMED} and {@link TransactionGroup#PARTIAL}
+ * transactions of the watched addresses.
+ *
+ * <p>The mirror is seeded with a search and then kept current by the listener, so queries are
+ * answered from memory without REST calls. Transactions are evicted once their deadline passes.
+ */
+public interface MempoolMirror {
+
+  /**
+   * Starts mirroring the unconfirmed and partial transactions of an address. Watching an address
+   * twice has no effect.
+   *
+   * @param address the address.
+   * @return a {@link Completable} that completes once the current transactions of the address have
+   *     been loaded.
+   */
+  Completable watch(Address address);
+
+  /**
+   * Stops mirroring an address. The mirrored transactions that no other watched address follows are
+   * removed. Unwatching an address that isn't watched has no effect.
+   *
+   * @param address the address.
+   */
+  void unwatch(Address address);
+
+  /**
+   * The addresses whose seeding or listener subscriptions failed. A failed address is unwatched, as
+   * its transactions can't be kept current, and can be watched again once the listener has been
+   * reopened. If the epoch adjustment can't be resolved, the expired transactions can't be evicted,
+   * so all the watched addresses fail.
+   *
+   * @return an {@link Observable} of the failed addresses that completes when the mirror is closed.
+   */
+  Observable<Address> failures();
+
+  /**
+   * @param transactionHash the transaction hash.
+   * @return the mirrored transaction, if any.
+   */
+  Optional<Transaction> getTransaction(String transactionHash);
+
+  /**
+   * @param transactionHash the transaction hash.
+   * @return the group of the mirrored transaction, if any.
+   */
+  Optional<TransactionGroup> getGroup(String transactionHash);
+
+  /**
+   * @param signer the signer public key.
+   * @return the mirrored transactions signed by the public key.
+   */
+  List<Transaction> getTransactions(PublicKey signer);
+
+  /**
+   * @param group the group, {@link TransactionGroup#UNCONFIRMED} or {@link
+   *     TransactionGroup#PARTIAL}.
+   * @return the mirrored transactions of the group.
+   */
+  List<Transaction> getTransactions(TransactionGroup group);
+
+  /** @return the number of mirrored transactions. */
+  int size();
+
+  /**
+   * Removes the transactions whose deadline has passed. It's called periodically once an address is
+   * watched.
+   *
+   * @return the number of removed transactions.
+   */
+  int evictExpired();
+
+  /** Stops mirroring. The listener subscriptions are disposed and the transactions removed. */
+  void close();
+}
@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.nem.symbol.sdk.model.Stored;
 import io.nem.symbol.sdk.model.metadata.Metadata;
 
 /** A helper object that streams {@link Metadata} objects using the search. */
@@ -27,6 +28,6 @@ public class MetadataPaginationStreamer
    * @param searcher the Account repository that will perform the searches
    */
   public MetadataPaginationStreamer(Searcher<Metadata, MetadataSearchCriteria> searcher) {
-    super(searcher);
+    super(searcher, Stored::getRecordId);
   }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+/**
+ * Service provider interface the sdk uses to report its metrics.
+ *
+ * <p>Repositories, listeners, streamers and services report through the recorder registered in
+ * {@link SdkMetrics}. The default recorder is a no-op one. Implementations are registered with
+ * {@link SdkMetrics#setRecorder(MetricsRecorder)} or discovered with the {@link
+ * java.util.ServiceLoader} mechanism, like the recorder of the symbol-sdk-micrometer module.
+ *
+ * <p>Tags are provided as key value pairs, for example {@code "repository",
+ * "BlockRepositoryOkHttpImpl"}. Implementations must be thread safe.
+ */
+public interface MetricsRecorder {
+
+  /**
+   * It starts timing an operation. The recorder should account the operation as in flight until the
+   * returned sample is stopped.
+   *
+   * @param name the name of the operation's metric.
+   * @param tags the key value pairs tags.
+   * @return the sample to be stopped when the operation finishes.
+   */
+  Sample start(String name, String... tags);
+
+  /**
+   * It increments a counter.
+   *
+   * @param name the name of the counter.
+   * @param tags the key value pairs tags.
+   */
+  void increment(String name, String... tags);
+
+  /** A running operation. The sdk calls exactly one of its methods. */
+  interface Sample {
+
+    /** The operation has completed successfully. */
+    void success();
+
+    /**
+     * The operation has failed.
+     *
+     * @param statusCode the http status code of the failure, 0 when the failure is not an http
+     *     error.
+     */
+    void error(int statusCode);
+
+    /** The operation has been cancelled by the subscriber before completing. */
+    void cancel();
+  }
+}
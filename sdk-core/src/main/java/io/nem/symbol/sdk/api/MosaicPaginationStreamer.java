@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.nem.symbol.sdk.model.Stored;
 import io.nem.symbol.sdk.model.mosaic.MosaicInfo;
 
 /** A helper object that streams {@link MosaicInfo} using the search. */
@@ -26,6 +27,6 @@ public class MosaicPaginationStreamer extends PaginationStreamer<MosaicInfo, Mos
    * @param searcher the Mosaic repository that will perform the searches
    */
   public MosaicPaginationStreamer(Searcher<MosaicInfo, MosaicSearchCriteria> searcher) {
-    super(searcher);
+    super(searcher, Stored::getRecordId);
   }
 }
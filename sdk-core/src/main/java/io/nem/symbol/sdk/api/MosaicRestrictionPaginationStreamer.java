@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.nem.symbol.sdk.model.Stored;
 import io.nem.symbol.sdk.model.restriction.MosaicAddressRestriction;
 import io.nem.symbol.sdk.model.restriction.MosaicGlobalRestriction;
 import io.nem.symbol.sdk.model.restriction.MosaicRestriction;
@@ -32,7 +33,7 @@ public class MosaicRestrictionPaginationStreamer
    */
   public MosaicRestrictionPaginationStreamer(
       Searcher<MosaicRestriction<?>, MosaicRestrictionSearchCriteria> searcher) {
-    super(searcher);
+    super(searcher, Stored::getRecordId);
   }
 
   /**
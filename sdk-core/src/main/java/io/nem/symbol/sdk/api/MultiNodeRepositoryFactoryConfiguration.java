@@ -0,0 +1,329 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * This bean configures a multi node {@link RepositoryFactory}, see {@link
+ * io.nem.symbol.sdk.infrastructure.MultiNodeRepositoryFactory}.
+ *
+ * <p>The only required attribute is the list of seed node urls. More nodes are discovered from the
+ * peers of the known nodes. Each node is probed in the background and every call is sent to the
+ * node with the best latency and chain height.
+ */
+public class MultiNodeRepositoryFactoryConfiguration {
+
+  /** The required urls of the first known nodes. */
+  private final List<String> seedUrls;
+
+  /** If more nodes are discovered from the peers of the known nodes. */
+  private boolean peerDiscovery = true;
+
+  /** The maximum number of known nodes, including the seeds. */
+  private int maxNodes = 10;
+
+  /** The scheme of the rest url of a discovered peer. */
+  private String peerScheme = "http";
+
+  /** The port of the rest url of a discovered peer. */
+  private int peerPort = 3000;
+
+  /** How often the nodes are probed and the peers discovered. */
+  private Duration probeInterval = Duration.ofSeconds(30);
+
+  /** How long a probe waits for a node before counting it as a failure. */
+  private Duration probeTimeout = Duration.ofSeconds(10);
+
+  /** The weight of the latest latency in the exponentially weighted moving average. */
+  private double latencyEwmaAlpha = 0.3;
+
+  /** The latency penalty applied for each block a node lags behind the highest known node. */
+  private Duration heightLagPenalty = Duration.ofMillis(500);
+
+  /** If slow reads are sent to a second node. */
+  private boolean hedgeReads = true;
+
+  /** The latency percentile of the selected node after which a read is sent to a second node. */
+  private double hedgePercentile = 0.95;
+
+  /** The maximum ratio of extra requests sent by hedging. */
+  private double hedgeBudgetRatio = 0.1;
+
+  /** The number of hedged requests that can be sent before the budget ratio applies. */
+  private int hedgeBudgetBurst = 10;
+
+  /** The number of consecutive failures after which a node is ejected. */
+  private int failureThreshold = 3;
+
+  /** For how long an ejected node doesn't receive calls. */
+  private Duration ejectionDuration = Duration.ofMinutes(1);
+
+  /**
+   * It creates a basic configuration with the required seed urls.
+   *
+   * @param seedUrls the urls of the first known nodes.
+   */
+  public MultiNodeRepositoryFactoryConfiguration(List<String> seedUrls) {
+    Validate.notEmpty(seedUrls, "seedUrls is required");
+    this.seedUrls = new ArrayList<>(seedUrls);
+  }
+
+  /**
+   * Helper method to enable or disable the discovery of nodes from the peers of the known nodes.
+   *
+   * @param peerDiscovery if the peers are discovered.
+   * @return this configuration.
+   */
+  public MultiNodeRepositoryFactoryConfiguration withPeerDiscovery(boolean peerDiscovery) {
+    this.peerDiscovery = peerDiscovery;
+    return this;
+  }
+
+  /**
+   * Helper method to setup the maximum number of known nodes.
+   *
+   * @param maxNodes the maximum number of nodes.
+   * @return this configuration.
+   */
+  public MultiNodeRepositoryFactoryConfiguration withMaxNodes(int maxNodes) {
+    this.maxNodes = maxNodes;
+    return this;
+  }
+
+  /**
+   * Helper method to setup how the rest url of a discovered peer is built from its host.
+   *
+   * @param peerScheme the scheme, http by default.
+   * @param peerPort the port, 3000 by default.
+   * @return this configuration.
+   */
+  public MultiNodeRepositoryFactoryConfiguration withPeerUrl(String peerScheme, int peerPort) {
+    this.peerScheme = peerScheme;
+    this.peerPort = peerPort;
+    return this;
+  }
+
+  /**
+   * Helper method to setup how often the nodes are probed.
+   *
+   * @param probeInterval the probe interval.
+   * @return this configuration.
+   */
+  public MultiNodeRepositoryFactoryConfiguration withProbeInterval(Duration probeInterval) {
+    this.probeInterval = probeInterval;
+    return this;
+  }
+
+  /**
+   * Helper method to setup how long a probe waits for a node. A probe that times out counts as a
+   * failure of the node.
+   *
+   * @param probeTimeout the probe timeout.
+   * @return this configuration.
+   */
+  public MultiNodeRepositoryFactoryConfiguration withProbeTimeout(Duration probeTimeout) {
+    this.probeTimeout = probeTimeout;
+    return this;
+  }
+
+  /**
+   * Helper method to setup the weight of the latest latency in the moving average, between 0 and 1.
+   * Higher values react faster to latency changes.
+   *
+   * @param latencyEwmaAlpha the weight.
+   * @return this configuration.
+   */
+  public MultiNodeRepositoryFactoryConfiguration withLatencyEwmaAlpha(double latencyEwmaAlpha) {
+    this.latencyEwmaAlpha = latencyEwmaAlpha;
+    return this;
+  }
+
+  /**
+   * Helper method to setup the latency penalty of each block a node lags behind.
+   *
+   * @param heightLagPenalty the penalty per block.
+   * @return this configuration.
+   */
+  public MultiNodeRepositoryFactoryConfiguration withHeightLagPenalty(Duration heightLagPenalty) {
+    this.heightLagPenalty = heightLagPenalty;
+    return this;
+  }
+
+  /**
+   * Helper method to setup the hedging of slow reads. A read that hasn't been answered within the
+   * given latency percentile of the selected node is also sent to the next best node, the first
+   * response wins.
+   *
+   * @param hedgeReads if slow reads are hedged.
+   * @param hedgePercentile the latency percentile, between 0 and 1.
+   * @return this configuration.
+   */
+  public MultiNodeRepositoryFactoryConfiguration withHedgeReads(
+      boolean hedgeReads, double hedgePercentile) {
+    this.hedgeReads = hedgeReads;
+    this.hedgePercentile = hedgePercentile;
+    return this;
+  }
+
+  /**
+   * Helper method to setup the budget of the hedged reads, so hedging can't double the load when
+   * all the nodes are slow.
+   *
+   * @param hedgeBudgetRatio the maximum ratio of extra requests, between 0 and 1.
+   * @param hedgeBudgetBurst the hedged requests that can be sent before the ratio applies.
+   * @return this configuration.
+   */
+  public MultiNodeRepositoryFactoryConfiguration withHedgeBudget(
+      double hedgeBudgetRatio, int hedgeBudgetBurst) {
+    this.hedgeBudgetRatio = hedgeBudgetRatio;
+    this.hedgeBudgetBurst = hedgeBudgetBurst;
+    return this;
+  }
+
+  /**
+   * Helper method to setup when a failing node is ejected.
+   *
+   * @param failureThreshold the number of consecutive failures.
+   * @param ejectionDuration for how long the node is ejected.
+   * @return this configuration.
+   */
+  public MultiNodeRepositoryFactoryConfiguration withEjection(
+      int failureThreshold, Duration ejectionDuration) {
+    this.failureThreshold = failureThreshold;
+    this.ejectionDuration = ejectionDuration;
+    return this;
+  }
+
+  public List<String> getSeedUrls() {
+    return seedUrls;
+  }
+
+  public boolean isPeerDiscovery() {
+    return peerDiscovery;
+  }
+
+  public void setPeerDiscovery(boolean peerDiscovery) {
+    this.peerDiscovery = peerDiscovery;
+  }
+
+  public int getMaxNodes() {
+    return maxNodes;
+  }
+
+  public void setMaxNodes(int maxNodes) {
+    this.maxNodes = maxNodes;
+  }
+
+  public String getPeerScheme() {
+    return peerScheme;
+  }
+
+  public void setPeerScheme(String peerScheme) {
+    this.peerScheme = peerScheme;
+  }
+
+  public int getPeerPort() {
+    return peerPort;
+  }
+
+  public void setPeerPort(int peerPort) {
+    this.peerPort = peerPort;
+  }
+
+  public Duration getProbeInterval() {
+    return probeInterval;
+  }
+
+  public void setProbeInterval(Duration probeInterval) {
+    this.probeInterval = probeInterval;
+  }
+
+  public Duration getProbeTimeout() {
+    return probeTimeout;
+  }
+
+  public void setProbeTimeout(Duration probeTimeout) {
+    this.probeTimeout = probeTimeout;
+  }
+
+  public double getLatencyEwmaAlpha() {
+    return latencyEwmaAlpha;
+  }
+
+  public void setLatencyEwmaAlpha(double latencyEwmaAlpha) {
+    this.latencyEwmaAlpha = latencyEwmaAlpha;
+  }
+
+  public Duration getHeightLagPenalty() {
+    return heightLagPenalty;
+  }
+
+  public void setHeightLagPenalty(Duration heightLagPenalty) {
+    this.heightLagPenalty = heightLagPenalty;
+  }
+
+  public boolean isHedgeReads() {
+    return hedgeReads;
+  }
+
+  public void setHedgeReads(boolean hedgeReads) {
+    this.hedgeReads = hedgeReads;
+  }
+
+  public double getHedgePercentile() {
+    return hedgePercentile;
+  }
+
+  public void setHedgePercentile(double hedgePercentile) {
+    this.hedgePercentile = hedgePercentile;
+  }
+
+  public double getHedgeBudgetRatio() {
+    return hedgeBudgetRatio;
+  }
+
+  public void setHedgeBudgetRatio(double hedgeBudgetRatio) {
+    this.hedgeBudgetRatio = hedgeBudgetRatio;
+  }
+
+  public int getHedgeBudgetBurst() {
+    return hedgeBudgetBurst;
+  }
+
+  public void setHedgeBudgetBurst(int hedgeBudgetBurst) {
+    this.hedgeBudgetBurst = hedgeBudgetBurst;
+  }
+
+  public int getFailureThreshold() {
+    return failureThreshold;
+  }
+
+  public void setFailureThreshold(int failureThreshold) {
+    this.failureThreshold = failureThreshold;
+  }
+
+  public Duration getEjectionDuration() {
+    return ejectionDuration;
+  }
+
+  public void setEjectionDuration(Duration ejectionDuration) {
+    this.ejectionDuration = ejectionDuration;
+  }
+}
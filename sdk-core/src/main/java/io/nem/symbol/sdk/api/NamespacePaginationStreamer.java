@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.nem.symbol.sdk.model.Stored;
 import io.nem.symbol.sdk.model.namespace.NamespaceInfo;
 
 /** A helper object that streams {@link NamespaceInfo} using the search. */
@@ -27,6 +28,6 @@ public class NamespacePaginationStreamer
    * @param searcher the Namespace repository that will perform the searches
    */
   public NamespacePaginationStreamer(Searcher<NamespaceInfo, NamespaceSearchCriteria> searcher) {
-    super(searcher);
+    super(searcher, Stored::getRecordId);
   }
 }
@@ -15,26 +15,84 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.nem.symbol.sdk.model.Stored;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Utility helper that stream pages of searches into an Observable.
  *
  * <p>A streamer will help users to walk through searches without knowing the underlying pagination
  * implementation.
+ *
+ * <p>Streamers of {@link Stored} entities also support cursor searches. A cursor search uses the
+ * record id of the last entity of a page as the offset of the next page instead of increasing the
+ * page number. The server can then seek to the next page directly instead of skipping all the
+ * previous entries, so every page costs the same no matter how deep the search goes.
+ *
+ * <p>The {@link Observable} searches push the entities as fast as the pages arrive. The {@link
+ * Flowable} variants, {@link #searchFlowable(SearchCriteria)} and {@link
+ * #cursorSearchFlowable(SearchCriteria)}, honour the downstream demand instead: a new page is only
+ * requested when the consumer has gone through the previous one, so a slow consumer never holds
+ * more than two pages in memory. Flowables are Reactive Streams publishers, so they can be consumed
+ * by Reactor, Mutiny or any other Reactive Streams library.
+ *
+ * <p>Every pulled page is counted in {@link SdkMetrics#PAGINATION_PAGE}.
  */
 public class PaginationStreamer<E, C extends SearchCriteria<C>> {
 
   /** The search method, likely to be the search method of entity's repository */
   private final Searcher<E, C> searcher;
 
+  /** It resolves the offset of the next page from an entity, null if cursor is not supported. */
+  private final Function<E, Optional<String>> offsetResolver;
+
   /**
    * Constructor
    *
    * @param searcher the searcher repository
    */
   public PaginationStreamer(Searcher<E, C> searcher) {
+    this(searcher, null);
+  }
+
+  /**
+   * Constructor of streamers that support cursor searches.
+   *
+   * @param searcher the searcher repository
+   * @param offsetResolver it resolves the offset of the next page from the last entity of a page,
+   *     likely to be {@link Stored#getRecordId()}.
+   */
+  public PaginationStreamer(Searcher<E, C> searcher, Function<E, Optional<String>> offsetResolver) {
     this.searcher = searcher;
+    this.offsetResolver = offsetResolver;
+  }
+
+  /**
+   * It creates a streamer of {@link Stored} entities that supports cursor searches.
+   *
+   * @param searcher the searcher repository
+   * @param <E> The entity model type
+   * @param <C> The type of the criteria with the search filter
+   * @return the streamer.
+   */
+  public static <E extends Stored, C extends SearchCriteria<C>> PaginationStreamer<E, C> stored(
+      Searcher<E, C> searcher) {
+    return new PaginationStreamer<>(searcher, Stored::getRecordId);
+  }
+
+  /** @return if this streamer supports {@link #cursorSearch(SearchCriteria)}. */
+  public boolean isCursorSupported() {
+    return offsetResolver != null;
   }
 
   /**
@@ -53,6 +111,7 @@ public class PaginationStreamer<E, C extends SearchCriteria<C>> {
     return Observable.defer(() -> searcher.search(criteria))
         .flatMap(
             page -> {
+              countPage(criteria, "page");
               if (page.isLast()) {
                 return Observable.fromIterable(page.getData());
               } else {
@@ -61,4 +120,150 @@ public class PaginationStreamer<E, C extends SearchCriteria<C>> {
               }
             });
   }
+
+  /**
+   * It streams the results like {@link #search(SearchCriteria)} but it walks the pages using the
+   * record id of the last entity of each page as the offset of the next one. The first page starts
+   * from the criteria's offset, if provided.
+   *
+   * <p>Cursor searches require the results to be sorted by id, the default sort.
+   *
+   * @param criteria the criteria
+   * @return the observable of entities.
+   */
+  public Observable<E> cursorSearch(C criteria) {
+    validateCursorSearch(criteria);
+    return this.cursorSearch(criteria, criteria.getOffset());
+  }
+
+  private Observable<E> cursorSearch(C criteria, String offset) {
+    return Observable.defer(
+            () -> {
+              criteria.pageNumber(1);
+              criteria.offset(offset);
+              return searcher.search(criteria);
+            })
+        .flatMap(
+            page -> {
+              countPage(criteria, "cursor");
+              List<E> data = page.getData();
+              if (page.isLast() || data.isEmpty()) {
+                return Observable.fromIterable(data);
+              }
+              E last = data.get(data.size() - 1);
+              String nextOffset =
+                  offsetResolver
+                      .apply(last)
+                      .orElseThrow(
+                          () ->
+                              new IllegalStateException(
+                                  "Cannot resolve the offset of the next page from " + last));
+              return Observable.fromIterable(data)
+                  .concatWith(this.cursorSearch(criteria, nextOffset));
+            });
+  }
+
+  /**
+   * It streams the results like {@link #search(SearchCriteria)} as a backpressure aware {@link
+   * Flowable}. Pages are requested based on the downstream demand.
+   *
+   * @param criteria the criteria
+   * @return the flowable of entities.
+   */
+  public Flowable<E> searchFlowable(C criteria) {
+    return Flowable.defer(
+        () -> {
+          AtomicInteger pageNumber = new AtomicInteger(1);
+          return requestPages(
+              criteria, "page", c -> c.pageNumber(pageNumber.getAndIncrement()), Page::isLast);
+        });
+  }
+
+  /**
+   * It streams the results like {@link #cursorSearch(SearchCriteria)} as a backpressure aware
+   * {@link Flowable}. Pages are requested based on the downstream demand.
+   *
+   * @param criteria the criteria
+   * @return the flowable of entities.
+   */
+  public Flowable<E> cursorSearchFlowable(C criteria) {
+    validateCursorSearch(criteria);
+    return Flowable.defer(
+        () -> {
+          AtomicReference<String> offset = new AtomicReference<>(criteria.getOffset());
+          return requestPages(
+              criteria,
+              "cursor",
+              c -> {
+                c.pageNumber(1);
+                c.offset(offset.get());
+              },
+              page -> {
+                List<E> data = page.getData();
+                if (page.isLast() || data.isEmpty()) {
+                  return true;
+                }
+                E last = data.get(data.size() - 1);
+                offset.set(
+                    offsetResolver
+                        .apply(last)
+                        .orElseThrow(
+                            () ->
+                                new IllegalStateException(
+                                    "Cannot resolve the offset of the next page from " + last)));
+                return false;
+              });
+        });
+  }
+
+  private void validateCursorSearch(C criteria) {
+    if (!isCursorSupported()) {
+      throw new IllegalStateException(
+          "Cursor search is not supported by " + getClass().getSimpleName());
+    }
+    validateCursorCriteria(criteria);
+  }
+
+  /**
+   * It validates the criteria of {@link #cursorSearch(SearchCriteria)} and {@link
+   * #cursorSearchFlowable(SearchCriteria)} before any page is requested. Streamers whose criteria
+   * can sort by something other than the id reject those sorts here, as the record ids would not be
+   * valid offsets.
+   *
+   * @param criteria the criteria
+   */
+  protected void validateCursorCriteria(C criteria) {}
+
+  /**
+   * It requests one page at the time. A page is requested when the previous one completes, and a
+   * page completes once it has been emitted, that is, once the downstream has gone through the page
+   * before it.
+   *
+   * @param criteria the criteria
+   * @param mode the mode the pages are counted with.
+   * @param prepareCriteria it moves the criteria to the next page.
+   * @param isLast if there are no more pages after the given one.
+   * @return the flowable of entities.
+   */
+  private Flowable<E> requestPages(
+      C criteria, String mode, Consumer<C> prepareCriteria, Predicate<Page<E>> isLast) {
+    AtomicBoolean finished = new AtomicBoolean();
+    return Flowable.defer(
+            () -> {
+              prepareCriteria.accept(criteria);
+              return searcher.search(criteria).toFlowable(BackpressureStrategy.BUFFER);
+            })
+        .doOnNext(
+            page -> {
+              countPage(criteria, mode);
+              finished.set(isLast.test(page));
+            })
+        .repeatUntil(finished::get)
+        .concatMapIterable(Page::getData, 1);
+  }
+
+  private static void countPage(SearchCriteria<?> criteria, String mode) {
+    SdkMetrics.increment(
+        SdkMetrics.PAGINATION_PAGE, "criteria", criteria.getClass().getSimpleName(), "mode", mode);
+  }
 }
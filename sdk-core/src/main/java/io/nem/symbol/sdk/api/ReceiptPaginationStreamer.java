@@ -30,7 +30,7 @@ public class ReceiptPaginationStreamer {
    */
   public static PaginationStreamer<TransactionStatement, TransactionStatementSearchCriteria>
       transactions(ReceiptRepository repository) {
-    return new PaginationStreamer<>(repository::searchReceipts);
+    return PaginationStreamer.stored(repository::searchReceipts);
   }
 
   /**
@@ -41,7 +41,7 @@ public class ReceiptPaginationStreamer {
    */
   public static PaginationStreamer<AddressResolutionStatement, ResolutionStatementSearchCriteria>
       addresses(ReceiptRepository repository) {
-    return new PaginationStreamer<>(repository::searchAddressResolutionStatements);
+    return PaginationStreamer.stored(repository::searchAddressResolutionStatements);
   }
 
   /**
@@ -52,6 +52,6 @@ public class ReceiptPaginationStreamer {
    */
   public static PaginationStreamer<MosaicResolutionStatement, ResolutionStatementSearchCriteria>
       mosaics(ReceiptRepository repository) {
-    return new PaginationStreamer<>(repository::searchMosaicResolutionStatements);
+    return PaginationStreamer.stored(repository::searchMosaicResolutionStatements);
   }
 }
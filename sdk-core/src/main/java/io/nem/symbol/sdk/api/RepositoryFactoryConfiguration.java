@@ -19,6 +19,7 @@ import io.nem.symbol.sdk.infrastructure.RepositoryFactoryBase;
 import io.nem.symbol.sdk.model.mosaic.NetworkCurrencies;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 /**
  * This bean helps the user to create {@link RepositoryFactory}.
@@ -47,6 +48,12 @@ public class RepositoryFactoryConfiguration {
   /** The known network currencies. If not provided, the value will be retrieved from rest. */
   private NetworkCurrencies networkCurrencies;
 
+  /**
+   * The executor the blocking rest calls are executed on, like the ones of the OkHttp
+   * implementation. If not provided, the calls are executed on the subscriber's thread.
+   */
+  private Executor executor;
+
   /**
    * It creates a basic configuration with the required base url.
    *
@@ -100,6 +107,20 @@ public class RepositoryFactoryConfiguration {
     return this;
   }
 
+  /**
+   * Helper method to setup the executor the blocking rest calls are executed on. A virtual thread
+   * per task executor (see {@link io.nem.symbol.core.utils.ExecutorUtils}) allows thousands of
+   * concurrent calls without a platform thread per call. Non-blocking implementations, like Vertx,
+   * ignore it.
+   *
+   * @param executor the executor
+   * @return this configuration.
+   */
+  public RepositoryFactoryConfiguration withExecutor(Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
   public String getBaseUrl() {
     return baseUrl;
   }
@@ -135,4 +156,12 @@ public class RepositoryFactoryConfiguration {
   public void setNetworkCurrencies(NetworkCurrencies networkCurrencies) {
     this.networkCurrencies = networkCurrencies;
   }
+
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  public void setExecutor(Executor executor) {
+    this.executor = executor;
+  }
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import io.reactivex.Observable;
+import io.reactivex.ObservableTransformer;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Holder of the {@link MetricsRecorder} the sdk reports to and the names of the reported metrics.
+ *
+ * <p>If no recorder has been set, the first {@link MetricsRecorder} found by the {@link
+ * ServiceLoader} is used. If there is none, metrics are not recorded and the instrumented
+ * observables are not wrapped at all.
+ */
+public class SdkMetrics {
+
+  /** Latency of the rest calls, tagged with the repository and the status of failed calls. */
+  public static final String REPOSITORY_CALL = "symbol.sdk.repository.call";
+
+  /** Latency of the service operations, tagged with the service and the operation. */
+  public static final String SERVICE_CALL = "symbol.sdk.service.call";
+
+  /** Decoding time of the web socket messages, tagged with the channel. */
+  public static final String LISTENER_MESSAGE = "symbol.sdk.listener.message";
+
+  /** Web socket messages that could not be decoded, tagged with the channel. */
+  public static final String LISTENER_DROPPED = "symbol.sdk.listener.dropped";
+
+  /** Pages pulled by the pagination streamers, tagged with the search criteria. */
+  public static final String PAGINATION_PAGE = "symbol.sdk.pagination.page";
+
+  /** The recorder used when metrics are not enabled. */
+  public static final MetricsRecorder NO_OP =
+      new MetricsRecorder() {
+        @Override
+        public Sample start(String name, String... tags) {
+          return NO_OP_SAMPLE;
+        }
+
+        @Override
+        public void increment(String name, String... tags) {
+          // Metrics are not enabled.
+        }
+      };
+
+  private static final MetricsRecorder.Sample NO_OP_SAMPLE =
+      new MetricsRecorder.Sample() {
+        @Override
+        public void success() {
+          // Metrics are not enabled.
+        }
+
+        @Override
+        public void error(int statusCode) {
+          // Metrics are not enabled.
+        }
+
+        @Override
+        public void cancel() {
+          // Metrics are not enabled.
+        }
+      };
+
+  private static volatile MetricsRecorder recorder;
+
+  /** Private constructor of this utility class. */
+  private SdkMetrics() {}
+
+  /**
+   * @return the recorder the sdk reports to. It's the registered or discovered recorder or {@link
+   *     #NO_OP}.
+   */
+  public static MetricsRecorder getRecorder() {
+    MetricsRecorder current = recorder;
+    if (current == null) {
+      synchronized (SdkMetrics.class) {
+        if (recorder == null) {
+          recorder = loadRecorder();
+        }
+        current = recorder;
+      }
+    }
+    return current;
+  }
+
+  /**
+   * It sets the recorder the sdk reports to. Use {@link #NO_OP} to disable the metrics.
+   *
+   * @param recorder the recorder.
+   */
+  public static void setRecorder(MetricsRecorder recorder) {
+    Validate.notNull(recorder, "recorder must not be null");
+    SdkMetrics.recorder = recorder;
+  }
+
+  /** @return if the sdk is reporting metrics to a recorder other than {@link #NO_OP}. */
+  public static boolean isEnabled() {
+    return getRecorder() != NO_OP;
+  }
+
+  /**
+   * It increments a counter in the current recorder.
+   *
+   * @param name the name of the counter.
+   * @param tags the key value pairs tags.
+   */
+  public static void increment(String name, String... tags) {
+    getRecorder().increment(name, tags);
+  }
+
+  /**
+   * It creates a transformer that times every subscription of an observable with the current
+   * recorder. A sample is started on subscription and stopped when the observable emits its first
+   * item, completes, fails or it's disposed. Most of the sdk observables emit one item, like the
+   * response of a rest call, and users tend to dispose them right after it with operators like
+   * blockingFirst. The transformer returns the same observable when the metrics are not enabled.
+   *
+   * @param name the name of the operation's metric.
+   * @param tags the key value pairs tags.
+   * @param <T> the observable type.
+   * @return the transformer.
+   */
+  public static <T> ObservableTransformer<T, T> timed(String name, String... tags) {
+    MetricsRecorder current = getRecorder();
+    if (current == NO_OP) {
+      return upstream -> upstream;
+    }
+    return upstream ->
+        Observable.defer(
+            () -> {
+              OnceSample sample = new OnceSample(current.start(name, tags));
+              return upstream
+                  .doOnNext(t -> sample.success())
+                  .doOnComplete(sample::success)
+                  .doOnError(e -> sample.error(getStatusCode(e)))
+                  .doOnDispose(sample::cancel);
+            });
+  }
+
+  /**
+   * It creates a transformer that times a service operation in {@link #SERVICE_CALL}.
+   *
+   * @param service the name of the service, like TransactionService.
+   * @param operation the name of the operation, likely to be the method name.
+   * @param <T> the observable type.
+   * @return the transformer.
+   */
+  public static <T> ObservableTransformer<T, T> timedService(String service, String operation) {
+    return timed(SERVICE_CALL, "service", service, "operation", operation);
+  }
+
+  /**
+   * It resolves the http status code of a failure.
+   *
+   * @param e the failure.
+   * @return the status code of a {@link RepositoryCallException} or 0 for other errors.
+   */
+  public static int getStatusCode(Throwable e) {
+    return e instanceof RepositoryCallException ? ((RepositoryCallException) e).getStatusCode() : 0;
+  }
+
+  private static MetricsRecorder loadRecorder() {
+    try {
+      Iterator<MetricsRecorder> recorders = ServiceLoader.load(MetricsRecorder.class).iterator();
+      return recorders.hasNext() ? recorders.next() : NO_OP;
+    } catch (ServiceConfigurationError e) {
+      return NO_OP;
+    }
+  }
+
+  /** It makes sure the recorder's sample is stopped once. */
+  private static class OnceSample implements MetricsRecorder.Sample {
+
+    private final MetricsRecorder.Sample sample;
+
+    private final AtomicBoolean stopped = new AtomicBoolean();
+
+    private OnceSample(MetricsRecorder.Sample sample) {
+      this.sample = sample;
+    }
+
+    @Override
+    public void success() {
+      if (stopped.compareAndSet(false, true)) {
+        sample.success();
+      }
+    }
+
+    @Override
+    public void error(int statusCode) {
+      if (stopped.compareAndSet(false, true)) {
+        sample.error(statusCode);
+      }
+    }
+
+    @Override
+    public void cancel() {
+      if (stopped.compareAndSet(false, true)) {
+        sample.cancel();
+      }
+    }
+  }
+}
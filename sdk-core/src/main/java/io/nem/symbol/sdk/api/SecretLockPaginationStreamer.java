@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.nem.symbol.sdk.model.Stored;
 import io.nem.symbol.sdk.model.transaction.SecretLockInfo;
 
 /** A helper object that streams {@link SecretLockInfo} using the search. */
@@ -27,6 +28,6 @@ public class SecretLockPaginationStreamer
    * @param searcher the SecretLockInfo repository that will perform the searches
    */
   public SecretLockPaginationStreamer(Searcher<SecretLockInfo, SecretLockSearchCriteria> searcher) {
-    super(searcher);
+    super(searcher, Stored::getRecordId);
   }
 }
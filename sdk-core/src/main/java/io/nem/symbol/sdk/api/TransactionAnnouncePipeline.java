@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import io.nem.symbol.sdk.model.transaction.AnnounceResult;
+import io.nem.symbol.sdk.model.transaction.AnnounceStatistics;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.reactivex.Flowable;
+
+/**
+ * Announces large amounts of transactions and waits for their confirmation.
+ *
+ * <p>Unlike {@link TransactionService#announce(Listener, SignedTransaction)}, the announce requests
+ * are throttled to a bounded number of in flight requests, transient errors are retried and the
+ * confirmations are tracked with one listener subscription per signer instead of one per
+ * transaction. Transactions are requested from the source based on the available capacity.
+ */
+public interface TransactionAnnouncePipeline {
+
+  /**
+   * Announces the transactions and waits for their confirmation or status error.
+   *
+   * <p>A failed transaction doesn't stop the pipeline. It's reported as a failed {@link
+   * AnnounceResult}.
+   *
+   * @param signedTransactions the transactions to be announced. They are requested based on the
+   *     pipeline capacity.
+   * @return one result per transaction, in confirmation order.
+   */
+  Flowable<AnnounceResult> announce(Flowable<SignedTransaction> signedTransactions);
+
+  /** @return the statistics of the transactions announced by this pipeline so far. */
+  AnnounceStatistics getStatistics();
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.TransactionLifecycleEvent;
+import io.reactivex.Observable;
+
+/**
+ * Tracks the lifecycle of many announced transactions using one listener subscription per signer
+ * address, instead of one subscription per transaction.
+ *
+ * <p>Each tracked transaction starts as {@link
+ * io.nem.symbol.sdk.model.transaction.TransactionLifecycleState#ANNOUNCED} and ends as CONFIRMED,
+ * FAILED or EXPIRED once its deadline passes. If the listener fails, the transitions of the
+ * signer's transactions terminate with the listener error. If the epoch adjustment can't be
+ * resolved, the deadline can't be tracked and the transitions terminate with that error.
+ */
+public interface TransactionLifecycleTracker {
+
+  /**
+   * Starts tracking a signed transaction. Call it before announcing the transaction so no message
+   * is missed.
+   *
+   * @param signedTransaction the signed transaction.
+   * @param deadline the deadline the transaction was created with.
+   * @return the state transitions of the transaction. It completes after a terminal state or fails
+   *     with the listener or epoch adjustment error.
+   */
+  Observable<TransactionLifecycleEvent> track(
+      SignedTransaction signedTransaction, Deadline deadline);
+
+  /**
+   * Starts tracking a transaction. Call it before announcing the transaction so no message is
+   * missed.
+   *
+   * @param signer the address of the transaction signer.
+   * @param transactionHash the transaction hash.
+   * @param deadline the deadline the transaction was created with.
+   * @return the state transitions of the transaction. It completes after a terminal state or fails
+   *     with the listener or epoch adjustment error.
+   */
+  Observable<TransactionLifecycleEvent> track(
+      Address signer, String transactionHash, Deadline deadline);
+
+  /** @return the state transitions of all the tracked transactions. */
+  Observable<TransactionLifecycleEvent> events();
+
+  /** @return the number of transactions that haven't reached a terminal state yet. */
+  int getTrackedCount();
+
+  /** Stops tracking. The listener subscriptions are disposed and the transitions completed. */
+  void close();
+}
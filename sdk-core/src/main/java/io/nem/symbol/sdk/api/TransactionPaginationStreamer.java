@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.nem.symbol.sdk.model.Stored;
 import io.nem.symbol.sdk.model.transaction.Transaction;
 
 /** A helper object that streams {@link Transaction} using the search. */
@@ -27,6 +28,6 @@ public class TransactionPaginationStreamer
    * @param searcher the Transaction repository that will perform the searches
    */
   public TransactionPaginationStreamer(Searcher<Transaction, TransactionSearchCriteria> searcher) {
-    super(searcher);
+    super(searcher, Stored::getRecordId);
   }
 }
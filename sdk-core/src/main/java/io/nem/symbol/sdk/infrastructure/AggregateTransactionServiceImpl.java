@@ -20,9 +20,10 @@ import io.nem.symbol.sdk.api.AggregateTransactionService;
 import io.nem.symbol.sdk.api.MultisigRepository;
 import io.nem.symbol.sdk.api.NetworkRepository;
 import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.SdkMetrics;
 import io.nem.symbol.sdk.model.account.Address;
-import io.nem.symbol.sdk.model.account.MultisigAccountGraphInfo;
-import io.nem.symbol.sdk.model.account.MultisigAccountInfo;
+import io.nem.symbol.sdk.model.account.AddressMap;
+import io.nem.symbol.sdk.model.account.AddressSet;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
 import io.nem.symbol.sdk.model.transaction.AggregateTransactionCosignature;
@@ -31,24 +32,51 @@ import io.nem.symbol.sdk.model.transaction.SignedTransaction;
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.model.transaction.TransactionType;
 import io.reactivex.Observable;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
+import java.time.Duration;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.Validate;
 
-/** Implementation of the {@link AggregateTransactionService} */
+/**
+ * Implementation of the {@link AggregateTransactionService}
+ *
+ * <p>The multisig graph of each inner transaction signer is resolved once per {@link
+ * #isComplete(SignedTransaction)} call. Resolved graphs can also be shared across calls for a
+ * configurable time to live, useful when many partial aggregates of the same accounts are checked.
+ */
 public class AggregateTransactionServiceImpl implements AggregateTransactionService {
 
+  /** When the cross call cache reaches this size, expired graphs are purged. */
+  private static final int MAX_CACHED_GRAPHS = 10_000;
+
   private final MultisigRepository multisigRepository;
   private final NetworkRepository networkRepository;
 
+  /** How long, in nanoseconds, resolved graphs are reused across calls. 0 disables the cache. */
+  private final long graphCacheTtlNanos;
+
+  /** The resolved graphs shared across calls. Access is synchronized on the map. */
+  private final AddressMap<CachedGraph> graphCache = new AddressMap<>();
+
   public AggregateTransactionServiceImpl(RepositoryFactory repositoryFactory) {
+    this(repositoryFactory, Duration.ZERO);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param repositoryFactory the repository factory.
+   * @param graphCacheTtl how long resolved multisig graphs are reused across {@link
+   *     #isComplete(SignedTransaction)} calls. {@link Duration#ZERO} only reuses them within a
+   *     call.
+   */
+  public AggregateTransactionServiceImpl(
+      RepositoryFactory repositoryFactory, Duration graphCacheTtl) {
+    Validate.notNull(graphCacheTtl, "graphCacheTtl is required");
+    Validate.isTrue(!graphCacheTtl.isNegative(), "graphCacheTtl must not be negative");
     this.multisigRepository = repositoryFactory.createMultisigRepository();
     this.networkRepository = repositoryFactory.createNetworkRepository();
+    this.graphCacheTtlNanos = graphCacheTtl.toNanos();
   }
 
   @Override
@@ -67,42 +95,125 @@ public class AggregateTransactionServiceImpl implements AggregateTransactionServ
     /*
      * Include both initiator & cosigners
      */
-    Set<Address> signers =
-        transaction.getCosignatures().stream()
-            .map(AggregateTransactionCosignature::getSigner)
-            .map(PublicAccount::getAddress)
-            .collect(Collectors.toSet());
+    AddressSet signers = new AddressSet(transaction.getCosignatures().size() + 1);
+    transaction.getCosignatures().stream()
+        .map(AggregateTransactionCosignature::getSigner)
+        .map(PublicAccount::getAddress)
+        .forEach(signers::add);
 
     signers.add(signedTransaction.getSigner().getAddress());
 
-    return Observable.fromIterable(transaction.getInnerTransactions())
-        .flatMap(
-            innerTransaction ->
-                multisigRepository
-                    .getMultisigAccountInfo(
-                        innerTransaction
-                            .getSigner()
-                            .orElseThrow(IllegalArgumentException::new)
-                            .getAddress())
-                    .flatMap(
-                        multisigAccountInfo ->
-                            multisigAccountInfo.getMinRemoval() != 0
-                                    && multisigAccountInfo.getMinApproval() != 0
-                                ? multisigRepository
-                                    .getMultisigAccountGraphInfo(
-                                        multisigAccountInfo.getAccountAddress())
-                                    .map(
-                                        graphInfo ->
-                                            validateCosignatories(
-                                                graphInfo, signers, innerTransaction))
-                                : Observable.just(
-                                    signers.stream()
-                                        .anyMatch(
-                                            s ->
-                                                s.equals(
-                                                    multisigAccountInfo.getAccountAddress())))))
+    return Observable.defer(
+            () -> {
+              /*
+               * Inner transactions of the same signer share the same validation. Each distinct signer
+               * is resolved and validated once per min approval and min removal.
+               */
+              AddressSet approvalAccounts = new AddressSet();
+              AddressSet removalAccounts = new AddressSet();
+              for (Transaction innerTransaction : transaction.getInnerTransactions()) {
+                Address address =
+                    innerTransaction
+                        .getSigner()
+                        .orElseThrow(IllegalArgumentException::new)
+                        .getAddress();
+                if (isMultisigRemoval(innerTransaction)) {
+                  removalAccounts.add(address);
+                } else {
+                  approvalAccounts.add(address);
+                }
+              }
+              AddressSet accounts = new AddressSet(approvalAccounts);
+              accounts.addAll(removalAccounts);
+              return Observable.fromIterable(accounts)
+                  .flatMap(
+                      address ->
+                          getGraph(address)
+                              .map(
+                                  graph ->
+                                      (!approvalAccounts.contains(address)
+                                              || graph.isCosigned(signers, false))
+                                          && (!removalAccounts.contains(address)
+                                              || graph.isCosigned(signers, true))));
+            })
         .all(v -> v)
-        .toObservable();
+        .toObservable()
+        .compose(SdkMetrics.timedService("AggregateTransactionService", "isComplete"));
+  }
+
+  /**
+   * Check inner transaction. If remove cosigner from multisig account, use minRemoval instead of
+   * minApproval for cosignatories validation.
+   *
+   * @param innerTransaction the inner transaction of the aggregated transaction
+   * @return true if min removal should be used to validate the cosignatories.
+   */
+  private static boolean isMultisigRemoval(Transaction innerTransaction) {
+    return (innerTransaction.getType() == TransactionType.MULTISIG_ACCOUNT_MODIFICATION)
+        && !((MultisigAccountModificationTransaction) innerTransaction)
+            .getAddressDeletions()
+            .isEmpty();
+  }
+
+  /**
+   * Returns the multisig graph of an account, from the cross call cache when enabled and not
+   * expired.
+   *
+   * @param address the account address.
+   * @return the compact graph.
+   */
+  private Observable<MultisigCosignatoryGraph> getGraph(Address address) {
+    if (graphCacheTtlNanos == 0) {
+      return loadGraph(address);
+    }
+    return Observable.defer(
+        () -> {
+          long now = System.nanoTime();
+          synchronized (graphCache) {
+            CachedGraph cachedGraph = graphCache.get(address);
+            if (cachedGraph != null && cachedGraph.expiresAt - now > 0) {
+              return Observable.just(cachedGraph.graph);
+            }
+          }
+          return loadGraph(address).doOnNext(graph -> cacheGraph(address, graph));
+        });
+  }
+
+  private void cacheGraph(Address address, MultisigCosignatoryGraph graph) {
+    long now = System.nanoTime();
+    synchronized (graphCache) {
+      if (graphCache.size() >= MAX_CACHED_GRAPHS) {
+        AddressSet expired = new AddressSet();
+        graphCache.forEach(
+            (cachedAddress, cachedGraph) -> {
+              if (cachedGraph.expiresAt - now <= 0) {
+                expired.add(cachedAddress);
+              }
+            });
+        expired.forEach(graphCache::remove);
+        if (graphCache.size() >= MAX_CACHED_GRAPHS) {
+          graphCache.clear();
+        }
+      }
+      graphCache.put(address, new CachedGraph(graph, now + graphCacheTtlNanos));
+    }
+  }
+
+  private Observable<MultisigCosignatoryGraph> loadGraph(Address address) {
+    return multisigRepository
+        .getMultisigAccountInfo(address)
+        .flatMap(
+            multisigAccountInfo ->
+                multisigAccountInfo.getMinRemoval() != 0
+                        && multisigAccountInfo.getMinApproval() != 0
+                    ? multisigRepository
+                        .getMultisigAccountGraphInfo(multisigAccountInfo.getAccountAddress())
+                        .map(
+                            graphInfo ->
+                                MultisigCosignatoryGraph.of(
+                                    multisigAccountInfo.getAccountAddress(), graphInfo))
+                    : Observable.just(
+                        MultisigCosignatoryGraph.of(multisigAccountInfo.getAccountAddress())));
   }
 
   @Override
@@ -118,7 +229,8 @@ public class AggregateTransactionServiceImpl implements AggregateTransactionServ
                               accounts.stream()
                                   .flatMap(account -> account.getCosignatoryAddresses().stream()));
               return publicAccountStream.collect(Collectors.toSet()).size();
-            });
+            })
+        .compose(SdkMetrics.timedService("AggregateTransactionService", "getMaxCosignatures"));
   }
 
   @Override
@@ -140,65 +252,21 @@ public class AggregateTransactionServiceImpl implements AggregateTransactionServ
                       .getAggregate()
                       .getMaxCosignaturesPerAggregate()
                       .replace("'", ""));
-            });
+            })
+        .compose(
+            SdkMetrics.timedService(
+                "AggregateTransactionService", "getNetworkMaxCosignaturesPerAggregate"));
   }
 
-  /**
-   * Validate cosignatories against multisig Account(s)
-   *
-   * @param graphInfo - multisig account graph info
-   * @param cosignatories - array of cosignatories extracted from aggregated transaction
-   * @param innerTransaction - the inner transaction of the aggregated transaction
-   * @return true if the cosignatories are enough to sign.
-   */
-  private boolean validateCosignatories(
-      MultisigAccountGraphInfo graphInfo,
-      Set<Address> cosignatories,
-      Transaction innerTransaction) {
-    // Validate cosignatories from bottom level to top
-    Set<Address> cosignatoriesReceived = new HashSet<>(cosignatories);
-
-    // Check inner transaction. If remove cosigner from multisig account,
-    // use minRemoval instead of minApproval for cosignatories validation.
-
-    boolean isMultisigRemoval =
-        (innerTransaction.getType() == TransactionType.MULTISIG_ACCOUNT_MODIFICATION)
-            && !((MultisigAccountModificationTransaction) innerTransaction)
-                .getAddressDeletions()
-                .isEmpty();
-
-    Map<Integer, List<MultisigAccountInfo>> storedMap =
-        new TreeMap<>(graphInfo.getMultisigEntries());
-
-    return storedMap.values().stream()
-        .anyMatch(
-            entry ->
-                entry.stream()
-                    .allMatch(
-                        multisig -> {
-                          if (multisig.getMinApproval() > 0 && multisig.getMinRemoval() > 0) {
-                            // To make sure it is multisig account
-                            Set<Address> matchedCosignatories =
-                                multisig.getCosignatoryAddresses().stream()
-                                    .collect(Collectors.toSet());
-                            matchedCosignatories.retainAll(cosignatoriesReceived);
-                            /*
-                             * if minimal signature requirement met at current level, push the multisig account
-                             * into the received signatories array for next level validation. Otherwise return
-                             * validation failed.
-                             */
-                            if ((matchedCosignatories.size() >= multisig.getMinApproval()
-                                    && !isMultisigRemoval)
-                                || (matchedCosignatories.size() >= multisig.getMinRemoval()
-                                    && isMultisigRemoval)) {
-                              cosignatoriesReceived.add(multisig.getAccountAddress());
-                              return true;
-                            } else {
-                              return false;
-                            }
-                          } else {
-                            return false;
-                          }
-                        }));
+  /** A graph resolved by a previous call. */
+  private static final class CachedGraph {
+
+    private final MultisigCosignatoryGraph graph;
+    private final long expiresAt;
+
+    private CachedGraph(MultisigCosignatoryGraph graph, long expiresAt) {
+      this.graph = graph;
+      this.expiresAt = expiresAt;
+    }
   }
 }
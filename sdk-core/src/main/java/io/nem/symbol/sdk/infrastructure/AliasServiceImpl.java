@@ -18,6 +18,7 @@ package io.nem.symbol.sdk.infrastructure;
 import io.nem.symbol.sdk.api.AliasService;
 import io.nem.symbol.sdk.api.NamespaceRepository;
 import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.SdkMetrics;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.UnresolvedAddress;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
@@ -53,6 +54,7 @@ public class AliasServiceImpl implements AliasService {
                     namespaceInfo.getAlias().getType() == AliasType.MOSAIC, "Alias is not Mosaic");
                 return (MosaicId) namespaceInfo.getAlias().getAliasValue();
               })
+          .compose(SdkMetrics.timedService("AliasService", "resolveMosaicId"))
           .onErrorResumeNext(
               e -> {
                 return Observable.error(
@@ -77,6 +79,7 @@ public class AliasServiceImpl implements AliasService {
                     "Alias is not address");
                 return (Address) namespaceInfo.getAlias().getAliasValue();
               })
+          .compose(SdkMetrics.timedService("AliasService", "resolveAddress"))
           .onErrorResumeNext(
               e -> {
                 return Observable.error(
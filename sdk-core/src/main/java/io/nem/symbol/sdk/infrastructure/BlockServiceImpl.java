@@ -20,6 +20,7 @@ import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.api.BlockRepository;
 import io.nem.symbol.sdk.api.BlockService;
 import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.SdkMetrics;
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
 import io.nem.symbol.sdk.model.blockchain.MerklePathItem;
 import io.nem.symbol.sdk.model.blockchain.MerkleProofInfo;
@@ -46,9 +47,10 @@ public class BlockServiceImpl implements BlockService {
     Validate.notNull(height, "height is required");
     Validate.notNull(transactionHash, "transactionHash is required");
     return getBooleanObservable(
-        blockRepository.getBlockByHeight(height).map(BlockInfo::getBlockTransactionsHash),
-        transactionHash,
-        blockRepository.getMerkleTransaction(height, transactionHash));
+            blockRepository.getBlockByHeight(height).map(BlockInfo::getBlockTransactionsHash),
+            transactionHash,
+            blockRepository.getMerkleTransaction(height, transactionHash))
+        .compose(SdkMetrics.timedService("BlockService", "isValidTransactionInBlock"));
   }
 
   @Override
@@ -56,9 +58,10 @@ public class BlockServiceImpl implements BlockService {
     Validate.notNull(height, "height is required");
     Validate.notNull(statementHash, "statementHash is required");
     return getBooleanObservable(
-        blockRepository.getBlockByHeight(height).map(BlockInfo::getBlockReceiptsHash),
-        statementHash,
-        blockRepository.getMerkleReceipts(height, statementHash));
+            blockRepository.getBlockByHeight(height).map(BlockInfo::getBlockReceiptsHash),
+            statementHash,
+            blockRepository.getMerkleReceipts(height, statementHash))
+        .compose(SdkMetrics.timedService("BlockService", "isValidStatementInBlock"));
   }
 
   private Observable<Boolean> getBooleanObservable(
@@ -67,26 +70,7 @@ public class BlockServiceImpl implements BlockService {
       Observable<MerkleProofInfo> merkleTransactionObservable) {
 
     BiFunction<String, MerkleProofInfo, Boolean> zipper =
-        (root, merkleProofInfo) -> {
-          List<MerklePathItem> merklePath = merkleProofInfo.getMerklePath();
-          if (merklePath.isEmpty()) {
-            // Single item tree, so leaf = HRoot0
-            return leaf.equalsIgnoreCase(root);
-          }
-
-          // 1 is left
-          java.util.function.BiFunction<String, MerklePathItem, String> accumulator =
-              (proofHash, pathItem) ->
-                  ConvertUtils.toHex(
-                      Hashes.sha3_256(
-                          ConvertUtils.fromHexToBytes(
-                              pathItem.getPosition() == Position.LEFT
-                                  ? pathItem.getHash() + proofHash
-                                  : proofHash + pathItem.getHash())));
-
-          String hroot0 = merklePath.stream().reduce(leaf, accumulator, (s1, s2) -> s1);
-          return root.equalsIgnoreCase(hroot0);
-        };
+        (root, merkleProofInfo) -> isValidMerkleProof(root, leaf, merkleProofInfo);
     return Observable.zip(rootObservable, merkleTransactionObservable, zipper)
         .onErrorReturn(
             (e) -> {
@@ -94,4 +78,33 @@ public class BlockServiceImpl implements BlockService {
               return false;
             });
   }
+
+  /**
+   * Returns if the merkle path of the proof leads from the leaf to the root.
+   *
+   * @param root the expected merkle root.
+   * @param leaf the leaf hash.
+   * @param merkleProofInfo the merkle proof.
+   * @return if the leaf is part of the tree.
+   */
+  static boolean isValidMerkleProof(String root, String leaf, MerkleProofInfo merkleProofInfo) {
+    List<MerklePathItem> merklePath = merkleProofInfo.getMerklePath();
+    if (merklePath.isEmpty()) {
+      // Single item tree, so leaf = HRoot0
+      return leaf.equalsIgnoreCase(root);
+    }
+
+    // 1 is left
+    java.util.function.BiFunction<String, MerklePathItem, String> accumulator =
+        (proofHash, pathItem) ->
+            ConvertUtils.toHex(
+                Hashes.sha3_256(
+                    ConvertUtils.fromHexToBytes(
+                        pathItem.getPosition() == Position.LEFT
+                            ? pathItem.getHash() + proofHash
+                            : proofHash + pathItem.getHash())));
+
+    String hroot0 = merklePath.stream().reduce(leaf, accumulator, (s1, s2) -> s1);
+    return root.equalsIgnoreCase(hroot0);
+  }
 }
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.DsaSigner;
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.message.Message;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Serializes and signs a homogeneous batch of transfer transactions, sharing the network, deadline,
+ * fee multiplier and signer, into one buffer.
+ *
+ * <p>The shared header bytes are written once. Each added transfer only encodes its recipient,
+ * mosaics and message next to them, is signed and appended to the buffer, without creating a {@link
+ * io.nem.symbol.sdk.model.transaction.TransferTransaction} or going through the catbuffer builders.
+ * The payloads and hashes are the same {@link
+ * io.nem.symbol.sdk.model.transaction.Transaction#signWith(Account, String)} would produce for a
+ * transfer with a max fee calculated from the fee multiplier. It's not thread safe.
+ */
+public class BulkTransferTransactionBuilder {
+
+  /** The size of the transaction header. */
+  private static final int HEADER_SIZE = 128;
+
+  /** Where the signed data starts, after the signer and the reserved bytes. */
+  private static final int SIGNED_DATA_OFFSET = 108;
+
+  /** The size of the transfer body without mosaics and message. */
+  private static final int BODY_SIZE = 32;
+
+  /** The size of a mosaic, its id and amount. */
+  private static final int MOSAIC_SIZE = 16;
+
+  private static final int HASH_SIZE = 32;
+
+  private final NetworkType networkType;
+
+  private final long feeMultiplier;
+
+  private final DsaSigner dsaSigner;
+
+  private final Account signer;
+
+  private final byte[] signerPublicKey;
+
+  private final byte[] generationHash;
+
+  /** The version, network and type bytes, written before the fee. */
+  private final byte[] entityHeader;
+
+  private final long deadline;
+
+  /** The signed payloads, one after the other. */
+  private ByteBuffer payloads;
+
+  /** Where each payload starts, plus where the next one would start. */
+  private int[] offsets = new int[17];
+
+  /** The hash of each payload, one after the other. */
+  private byte[] hashes = new byte[16 * HASH_SIZE];
+
+  private int count;
+
+  /**
+   * Constructor.
+   *
+   * @param networkType the network type of the transfers.
+   * @param deadline the deadline of the transfers.
+   * @param feeMultiplier the fee multiplier used to calculate the max fee of each transfer.
+   * @param signer the account signing the transfers.
+   * @param generationHash the network generation hash.
+   */
+  public BulkTransferTransactionBuilder(
+      NetworkType networkType,
+      Deadline deadline,
+      long feeMultiplier,
+      Account signer,
+      String generationHash) {
+    Validate.notNull(networkType, "networkType is required");
+    Validate.notNull(deadline, "deadline is required");
+    Validate.isTrue(feeMultiplier >= 0, "feeMultiplier must not be negative");
+    Validate.notNull(signer, "signer is required");
+    Validate.notNull(generationHash, "generationHash is required");
+    this.networkType = networkType;
+    this.feeMultiplier = feeMultiplier;
+    this.signer = signer;
+    this.dsaSigner = signer.getDsaSigner();
+    this.signerPublicKey = signer.getPublicAccount().getPublicKey().getBytes();
+    this.generationHash = ConvertUtils.getBytes(generationHash);
+    this.entityHeader =
+        ByteBuffer.allocate(4)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .put((byte) TransactionType.TRANSFER.getCurrentVersion())
+            .put((byte) networkType.getValue())
+            .putShort((short) TransactionType.TRANSFER.getValue())
+            .array();
+    this.deadline = deadline.getValue();
+    this.payloads = ByteBuffer.allocate(16 * (HEADER_SIZE + BODY_SIZE + MOSAIC_SIZE));
+    this.payloads.order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Adds a transfer without message.
+   *
+   * @param recipient the recipient.
+   * @param mosaics the mosaics.
+   * @return the index of the transfer.
+   */
+  public int add(UnresolvedAddress recipient, List<Mosaic> mosaics) {
+    return add(recipient, mosaics, null);
+  }
+
+  /**
+   * Adds a transfer. It's serialized and signed straight away.
+   *
+   * @param recipient the recipient.
+   * @param mosaics the mosaics, up to 255.
+   * @param message the message, or null.
+   * @return the index of the transfer.
+   */
+  public int add(UnresolvedAddress recipient, List<Mosaic> mosaics, Message message) {
+    Validate.notNull(recipient, "recipient is required");
+    Validate.notNull(mosaics, "mosaics is required");
+    Validate.isTrue(mosaics.size() <= 0xFF, "A transfer can't have more than 255 mosaics");
+    byte[] messagePayload = message == null ? new byte[0] : message.getPayload();
+    Validate.isTrue(messagePayload.length <= 0xFFFF, "The message payload is too large");
+    int size = HEADER_SIZE + BODY_SIZE + mosaics.size() * MOSAIC_SIZE + messagePayload.length;
+
+    // The signed data is the generation hash followed by the payload after the signer.
+    byte[] signedData = new byte[generationHash.length + size - SIGNED_DATA_OFFSET];
+    ByteBuffer data = ByteBuffer.wrap(signedData).order(ByteOrder.LITTLE_ENDIAN);
+    data.put(generationHash);
+    data.put(entityHeader);
+    data.putLong(Math.multiplyExact(size, feeMultiplier));
+    data.putLong(deadline);
+    data.put(SerializationUtils.fromUnresolvedAddressToByteBuffer(recipient, networkType).array());
+    data.putShort((short) messagePayload.length);
+    data.put((byte) mosaics.size());
+    data.putInt(0);
+    data.put((byte) 0);
+    for (Mosaic mosaic : sortById(mosaics)) {
+      data.putLong(mosaic.getId().getIdAsLong());
+      data.putLong(SerializationUtils.toUnsignedLong(mosaic.getAmount()));
+    }
+    data.put(messagePayload);
+    byte[] signature = dsaSigner.sign(signedData).getBytes();
+
+    ensureCapacity(size);
+    payloads.putInt(size);
+    payloads.putInt(0);
+    payloads.put(signature);
+    payloads.put(signerPublicKey);
+    payloads.putInt(0);
+    payloads.put(signedData, generationHash.length, signedData.length - generationHash.length);
+    byte[] hash = Hashes.sha3_256(signature, signerPublicKey, signedData);
+    System.arraycopy(hash, 0, hashes, count * HASH_SIZE, HASH_SIZE);
+    offsets[count + 1] = payloads.position();
+    return count++;
+  }
+
+  private static List<Mosaic> sortById(List<Mosaic> mosaics) {
+    if (mosaics.size() < 2) {
+      return mosaics;
+    }
+    List<Mosaic> sorted = new ArrayList<>(mosaics);
+    sorted.sort(
+        (m1, m2) -> Long.compareUnsigned(m1.getId().getIdAsLong(), m2.getId().getIdAsLong()));
+    return sorted;
+  }
+
+  private void ensureCapacity(int size) {
+    if (payloads.remaining() < size) {
+      int capacity = Math.max(payloads.capacity() * 2, payloads.position() + size);
+      ByteBuffer grown = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+      payloads.flip();
+      grown.put(payloads);
+      payloads = grown;
+    }
+    if (count + 2 > offsets.length) {
+      offsets = Arrays.copyOf(offsets, offsets.length * 2);
+    }
+    if ((count + 1) * HASH_SIZE > hashes.length) {
+      hashes = Arrays.copyOf(hashes, hashes.length * 2);
+    }
+  }
+
+  /** @return the number of transfers added. */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * @return a read only view of the signed payloads, one after the other. Each payload starts with
+   *     its size as a little endian int.
+   */
+  public ByteBuffer getPayloads() {
+    ByteBuffer view = payloads.asReadOnlyBuffer();
+    view.flip();
+    return view.order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * @param index the index of the transfer.
+   * @return the signed payload of the transfer.
+   */
+  public byte[] getPayload(int index) {
+    validateIndex(index);
+    return Arrays.copyOfRange(payloads.array(), offsets[index], offsets[index + 1]);
+  }
+
+  /**
+   * @param index the index of the transfer.
+   * @return the hash of the transfer.
+   */
+  public String getHash(int index) {
+    validateIndex(index);
+    return ConvertUtils.toHex(
+        Arrays.copyOfRange(hashes, index * HASH_SIZE, (index + 1) * HASH_SIZE));
+  }
+
+  private void validateIndex(int index) {
+    Validate.isTrue(index >= 0 && index < count, "Invalid transfer index %s", index);
+  }
+
+  /**
+   * @param index the index of the transfer.
+   * @return the transfer as a {@link SignedTransaction} that can be announced.
+   */
+  public SignedTransaction getSignedTransaction(int index) {
+    return new SignedTransaction(
+        signer.getPublicAccount(),
+        ConvertUtils.toHex(getPayload(index)),
+        getHash(index),
+        TransactionType.TRANSFER);
+  }
+
+  /** @return all the transfers as {@link SignedTransaction}s that can be announced. */
+  public List<SignedTransaction> getSignedTransactions() {
+    List<SignedTransaction> signedTransactions = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      signedTransactions.add(getSignedTransaction(i));
+    }
+    return Collections.unmodifiableList(signedTransactions);
+  }
+}
@@ -21,6 +21,7 @@ import io.nem.symbol.sdk.api.MosaicRepository;
 import io.nem.symbol.sdk.api.NamespaceRepository;
 import io.nem.symbol.sdk.api.NetworkRepository;
 import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.SdkMetrics;
 import io.nem.symbol.sdk.model.mosaic.Currency;
 import io.nem.symbol.sdk.model.mosaic.CurrencyBuilder;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
@@ -121,7 +122,8 @@ public class CurrencyServiceImpl implements CurrencyService {
                                                 + harvestingMosaicId));
                         return new NetworkCurrencies(currency, harvest);
                       });
-            });
+            })
+        .compose(SdkMetrics.timedService("CurrencyService", "getNetworkCurrencies"));
   }
 
   @Override
@@ -134,7 +136,8 @@ public class CurrencyServiceImpl implements CurrencyService {
                     .orElseThrow(
                         () ->
                             new IllegalArgumentException(
-                                "There is no currency with id " + mosaicId.getIdAsHex())));
+                                "There is no currency with id " + mosaicId.getIdAsHex())))
+        .compose(SdkMetrics.timedService("CurrencyService", "getCurrency"));
   }
 
   @Override
@@ -151,7 +154,8 @@ public class CurrencyServiceImpl implements CurrencyService {
                         mosaicNames ->
                             mosaicInfos.stream()
                                 .map(mosaicInfo -> getCurrency(mosaicInfo, mosaicNames))
-                                .collect(Collectors.toList())));
+                                .collect(Collectors.toList())))
+        .compose(SdkMetrics.timedService("CurrencyService", "getCurrencies"));
   }
 
   @Override
@@ -168,7 +172,8 @@ public class CurrencyServiceImpl implements CurrencyService {
                             namespaceRepository
                                 .getMosaicsNames(Collections.singletonList(mosaicId))
                                 .onErrorReturnItem(Collections.emptyList())
-                                .map(mosaicNames -> getCurrency(info, mosaicNames))));
+                                .map(mosaicNames -> getCurrency(info, mosaicNames))))
+        .compose(SdkMetrics.timedService("CurrencyService", "getCurrencyFromNamespaceId"));
   }
 
   private CurrencyBuilder createCurrency(MosaicInfo mosaicInfo, Optional<NamespaceId> namespaceId) {
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.math.RollingHistogram;
+import io.nem.symbol.sdk.api.FeeEstimator;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.AddressMap;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.Subject;
+import java.math.BigInteger;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Implementation of {@link FeeEstimator}. It follows {@link Listener#newBlock()} from construction,
+ * so the listener must be open.
+ */
+public class FeeEstimatorImpl implements FeeEstimator {
+
+  /** The default number of latest blocks kept. */
+  public static final int DEFAULT_BLOCK_WINDOW = 360;
+
+  /** The default number of latest unconfirmed transactions kept. */
+  public static final int DEFAULT_UNCONFIRMED_WINDOW = 2048;
+
+  private final Listener listener;
+
+  /** The fee multipliers of the latest blocks. Access is synchronized on the histogram. */
+  private final RollingHistogram blockFeeMultipliers;
+
+  /** The fee multipliers of the latest unconfirmed transactions. Access is synchronized on it. */
+  private final RollingHistogram unconfirmedFeeMultipliers;
+
+  private final Disposable blockSubscription;
+
+  /** The errors of the listener subscriptions. */
+  private final Subject<Throwable> failures = PublishSubject.<Throwable>create().toSerialized();
+
+  /** The unconfirmed subscriptions per watched address. Access is synchronized on the map. */
+  private final AddressMap<Disposable> watchedAddresses = new AddressMap<>();
+
+  private volatile boolean closed;
+
+  /**
+   * Constructor using the default windows.
+   *
+   * @param listener the open listener.
+   */
+  public FeeEstimatorImpl(Listener listener) {
+    this(listener, DEFAULT_BLOCK_WINDOW, DEFAULT_UNCONFIRMED_WINDOW);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param listener the open listener.
+   * @param blockWindow the number of latest blocks kept.
+   * @param unconfirmedWindow the number of latest unconfirmed transactions kept.
+   */
+  public FeeEstimatorImpl(Listener listener, int blockWindow, int unconfirmedWindow) {
+    Validate.notNull(listener, "listener is required");
+    this.listener = listener;
+    this.blockFeeMultipliers = new RollingHistogram(blockWindow);
+    this.unconfirmedFeeMultipliers = new RollingHistogram(unconfirmedWindow);
+    this.blockSubscription = listener.newBlock().subscribe(this::recordBlock, failures::onNext);
+  }
+
+  @Override
+  public Optional<Long> suggestFeeMultiplier(int targetBlocks, double confidence) {
+    Validate.isTrue(targetBlocks >= 1, "targetBlocks must be at least 1");
+    Validate.isTrue(confidence >= 0 && confidence <= 1, "confidence must be between 0 and 1");
+    double blockAcceptance = 1 - Math.pow(1 - confidence, 1.0 / targetBlocks);
+    return getBlockFeeMultiplier(blockAcceptance);
+  }
+
+  @Override
+  public Optional<Long> getBlockFeeMultiplier(double percentile) {
+    return getPercentile(blockFeeMultipliers, percentile);
+  }
+
+  @Override
+  public Optional<Long> getUnconfirmedFeeMultiplier(double percentile) {
+    return getPercentile(unconfirmedFeeMultipliers, percentile);
+  }
+
+  private static Optional<Long> getPercentile(RollingHistogram histogram, double percentile) {
+    Validate.isTrue(percentile >= 0 && percentile <= 1, "percentile must be between 0 and 1");
+    synchronized (histogram) {
+      if (histogram.isEmpty()) {
+        return Optional.empty();
+      }
+      return Optional.of(histogram.getValueAtPercentile(percentile));
+    }
+  }
+
+  @Override
+  public void recordBlock(BlockInfo blockInfo) {
+    Validate.notNull(blockInfo, "blockInfo is required");
+    Long feeMultiplier = blockInfo.getFeeMultiplier();
+    if (feeMultiplier == null || feeMultiplier < 0) {
+      return;
+    }
+    synchronized (blockFeeMultipliers) {
+      blockFeeMultipliers.record(feeMultiplier);
+    }
+  }
+
+  @Override
+  public void recordUnconfirmed(Transaction transaction) {
+    Validate.notNull(transaction, "transaction is required");
+    long size = transaction.getSize();
+    if (transaction.getMaxFee() == null || size <= 0) {
+      return;
+    }
+    long feeMultiplier = transaction.getMaxFee().divide(BigInteger.valueOf(size)).longValue();
+    synchronized (unconfirmedFeeMultipliers) {
+      unconfirmedFeeMultipliers.record(feeMultiplier);
+    }
+  }
+
+  @Override
+  public void watch(Address address) {
+    Validate.notNull(address, "address is required");
+    synchronized (watchedAddresses) {
+      Validate.validState(!closed, "The estimator has been closed");
+      if (watchedAddresses.containsKey(address)) {
+        return;
+      }
+      Disposable[] subscription = {null};
+      subscription[0] =
+          listener
+              .unconfirmedAdded(address)
+              .subscribe(this::recordUnconfirmed, error -> fail(address, subscription[0], error));
+      // A listener that has already failed ends the subscription before it's returned.
+      if (!subscription[0].isDisposed()) {
+        watchedAddresses.put(address, subscription[0]);
+      }
+    }
+  }
+
+  /**
+   * Unwatches an address whose subscription failed, unless it has already been watched again.
+   *
+   * @param address the address.
+   * @param subscription the failed subscription, null if it failed while subscribing.
+   * @param error the listener error.
+   */
+  private void fail(Address address, Disposable subscription, Throwable error) {
+    synchronized (watchedAddresses) {
+      if (subscription != null && watchedAddresses.get(address) == subscription) {
+        watchedAddresses.remove(address);
+      }
+    }
+    failures.onNext(error);
+  }
+
+  @Override
+  public Observable<Throwable> failures() {
+    return failures;
+  }
+
+  @Override
+  public int getBlockCount() {
+    synchronized (blockFeeMultipliers) {
+      return blockFeeMultipliers.size();
+    }
+  }
+
+  @Override
+  public int getUnconfirmedCount() {
+    synchronized (unconfirmedFeeMultipliers) {
+      return unconfirmedFeeMultipliers.size();
+    }
+  }
+
+  @Override
+  public void close() {
+    synchronized (watchedAddresses) {
+      closed = true;
+      watchedAddresses.forEach((address, subscription) -> subscription.dispose());
+      watchedAddresses.clear();
+    }
+    blockSubscription.dispose();
+    failures.onComplete();
+  }
+}
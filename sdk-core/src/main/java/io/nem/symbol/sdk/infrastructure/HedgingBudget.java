@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Token bucket that limits how many extra requests hedging can send.
+ *
+ * <p>Every request adds a fraction of a token, up to a maximum, and every hedged request consumes a
+ * whole token. With a ratio of 0.1 hedging adds at most 10% extra load once the initial burst is
+ * spent, however slow the endpoints get. A budget can be shared between many {@link RequestHedger}s
+ * to limit the global extra load.
+ */
+public class HedgingBudget {
+
+  private final double ratio;
+
+  private final double maxTokens;
+
+  private double tokens;
+
+  /**
+   * Constructor.
+   *
+   * @param ratio the maximum ratio of hedged requests, between 0 and 1.
+   * @param burst the number of hedged requests that can be sent before the ratio applies.
+   */
+  public HedgingBudget(double ratio, int burst) {
+    Validate.isTrue(ratio >= 0 && ratio <= 1, "ratio must be between 0 and 1");
+    Validate.isTrue(burst >= 1, "burst must be at least 1");
+    this.ratio = ratio;
+    this.maxTokens = burst;
+    this.tokens = burst;
+  }
+
+  /** Records a request, it earns a fraction of a token. */
+  public synchronized void onRequest() {
+    tokens = Math.min(maxTokens, tokens + ratio);
+  }
+
+  /** @return true and consumes a token if a hedged request can be sent. */
+  public synchronized boolean tryAcquire() {
+    if (tokens < 1) {
+      return false;
+    }
+    tokens -= 1;
+    return true;
+  }
+
+  /** @return the available tokens. */
+  public synchronized double getTokens() {
+    return tokens;
+  }
+}
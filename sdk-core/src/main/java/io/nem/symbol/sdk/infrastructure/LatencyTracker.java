@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Tracks the latency of the calls to an endpoint as an exponentially weighted moving average and as
+ * a window of the latest samples to calculate percentiles. It's thread safe.
+ */
+public class LatencyTracker {
+
+  /** The default number of latest samples kept to calculate percentiles. */
+  public static final int DEFAULT_WINDOW = 128;
+
+  /** The minimum number of samples before a percentile is known. */
+  private static final int MIN_SAMPLES = 10;
+
+  private final double ewmaAlpha;
+
+  private final long[] samples;
+
+  private long count;
+
+  private double ewma = Double.NaN;
+
+  /**
+   * Constructor.
+   *
+   * @param ewmaAlpha the weight of the latest sample in the moving average, between 0 and 1.
+   * @param window the number of latest samples kept to calculate percentiles.
+   */
+  public LatencyTracker(double ewmaAlpha, int window) {
+    Validate.isTrue(ewmaAlpha > 0 && ewmaAlpha <= 1, "ewmaAlpha must be between 0 and 1");
+    Validate.isTrue(window >= MIN_SAMPLES, "window must be at least %s", MIN_SAMPLES);
+    this.ewmaAlpha = ewmaAlpha;
+    this.samples = new long[window];
+  }
+
+  /**
+   * Records a latency sample.
+   *
+   * @param latencyNanos the latency.
+   */
+  public synchronized void record(long latencyNanos) {
+    samples[(int) (count % samples.length)] = latencyNanos;
+    count++;
+    ewma = Double.isNaN(ewma) ? latencyNanos : ewmaAlpha * latencyNanos + (1 - ewmaAlpha) * ewma;
+  }
+
+  /** @return the moving average of the latency, empty if there are no samples yet. */
+  public synchronized Optional<Duration> getAverage() {
+    return Double.isNaN(ewma) ? Optional.empty() : Optional.of(Duration.ofNanos((long) ewma));
+  }
+
+  /**
+   * Returns the given percentile of the latest samples.
+   *
+   * @param percentile the percentile between 0 and 1.
+   * @return the latency, empty if there are not enough samples yet.
+   */
+  public synchronized Optional<Duration> getPercentile(double percentile) {
+    int size = (int) Math.min(count, samples.length);
+    if (size < MIN_SAMPLES) {
+      return Optional.empty();
+    }
+    long[] sorted = Arrays.copyOf(samples, size);
+    Arrays.sort(sorted);
+    int index = Math.min(size - 1, (int) Math.ceil(percentile * size) - 1);
+    return Optional.of(Duration.ofNanos(sorted[Math.max(0, index)]));
+  }
+}
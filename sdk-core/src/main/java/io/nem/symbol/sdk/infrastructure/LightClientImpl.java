@@ -0,0 +1,268 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.api.BlockHeaderStore;
+import io.nem.symbol.sdk.api.BlockOrderBy;
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.BlockSearchCriteria;
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.FinalizationRepository;
+import io.nem.symbol.sdk.api.LightClient;
+import io.nem.symbol.sdk.api.OrderBy;
+import io.nem.symbol.sdk.api.PaginationStreamer;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.model.blockchain.BlockHeaderRecord;
+import io.nem.symbol.sdk.model.blockchain.BlockHeaderVerifier;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.blockchain.MerkleProofInfo;
+import io.nem.symbol.sdk.model.finalization.FinalizationProof;
+import io.nem.symbol.sdk.model.finalization.FinalizationProofVerification;
+import io.nem.symbol.sdk.model.finalization.FinalizationProofVerifier;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Implementation of {@link LightClient}.
+ *
+ * <p>Headers are downloaded with a block search sorted by height, each page starting after the
+ * height of the last block of the previous one. Pages are only requested as the batches are
+ * verified. The hashes and signatures of a batch are verified in parallel in the provided executor,
+ * and the linkage of the headers is then checked sequentially before the batch is appended to the
+ * {@link BlockHeaderStore}.
+ */
+public class LightClientImpl implements LightClient {
+
+  /** The page size of the block searches, the maximum allowed by the REST gateway. */
+  static final int PAGE_SIZE = 100;
+
+  private final ChainRepository chainRepository;
+
+  private final BlockRepository blockRepository;
+
+  /** It walks the block search sorted by height using the last height as the next offset. */
+  private final PaginationStreamer<BlockInfo, BlockSearchCriteria> blockStreamer;
+
+  private final FinalizationRepository finalizationRepository;
+
+  private final BlockHeaderStore store;
+
+  private final FinalizationProofVerifier proofVerifier;
+
+  private final double finalizationThreshold;
+
+  private final Executor executor;
+
+  private final int batchSize;
+
+  /**
+   * Constructor.
+   *
+   * @param repositoryFactory the repository factory of the node the headers are downloaded from.
+   * @param store the local header store.
+   * @param proofVerifier the verifier of finalization proofs with the trusted voting set.
+   * @param finalizationThreshold the voting weight ratio a proof needs, for example 0.67.
+   * @param executor the executor used to verify the headers in parallel.
+   * @param batchSize the number of headers verified and appended together.
+   */
+  public LightClientImpl(
+      RepositoryFactory repositoryFactory,
+      BlockHeaderStore store,
+      FinalizationProofVerifier proofVerifier,
+      double finalizationThreshold,
+      Executor executor,
+      int batchSize) {
+    Validate.notNull(repositoryFactory, "repositoryFactory is required");
+    Validate.notNull(store, "store is required");
+    Validate.notNull(proofVerifier, "proofVerifier is required");
+    Validate.notNull(executor, "executor is required");
+    Validate.isTrue(
+        finalizationThreshold > 0 && finalizationThreshold <= 1,
+        "finalizationThreshold must be between 0 and 1");
+    Validate.isTrue(batchSize > 0, "batchSize must be positive");
+    this.chainRepository = repositoryFactory.createChainRepository();
+    this.blockRepository = repositoryFactory.createBlockRepository();
+    this.blockStreamer =
+        new PaginationStreamer<>(
+            blockRepository, block -> Optional.of(block.getHeight().toString()));
+    this.finalizationRepository = repositoryFactory.createFinalizationRepository();
+    this.store = store;
+    this.proofVerifier = proofVerifier;
+    this.finalizationThreshold = finalizationThreshold;
+    this.executor = executor;
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public Observable<BlockHeaderRecord> sync() {
+    return chainRepository
+        .getChainInfo()
+        .flatMap(
+            chainInfo ->
+                finalizationRepository.getFinalizationProofAtHeight(
+                    chainInfo.getLatestFinalizedBlock().getHeight()))
+        .map(this::verifyProof)
+        .concatMap(
+            proof ->
+                downloadHeaders(proof.getHeight())
+                    .concatWith(Observable.defer(() -> markFinalized(proof))));
+  }
+
+  private FinalizationProof verifyProof(FinalizationProof proof) {
+    FinalizationProofVerification verification = proofVerifier.verify(proof, executor);
+    if (!verification.isFinalized(finalizationThreshold)) {
+      throw new IllegalStateException(
+          "Finalization proof of epoch "
+              + proof.getFinalizationEpoch()
+              + " at height "
+              + proof.getHeight()
+              + " could not be verified");
+    }
+    return proof;
+  }
+
+  private Observable<BlockHeaderRecord> downloadHeaders(BigInteger toHeight) {
+    return Flowable.defer(
+            () -> {
+              Optional<BigInteger> lastHeight =
+                  store.getLastHeader().map(BlockHeaderRecord::getHeight);
+              if (lastHeight.isPresent() && lastHeight.get().compareTo(toHeight) >= 0) {
+                return Flowable.<BlockHeaderRecord>empty();
+              }
+              BlockSearchCriteria criteria =
+                  new BlockSearchCriteria()
+                      .orderBy(BlockOrderBy.HEIGHT)
+                      .order(OrderBy.ASC)
+                      .pageSize(PAGE_SIZE);
+              lastHeight.ifPresent(height -> criteria.offset(height.toString()));
+              return blockStreamer
+                  .cursorSearchFlowable(criteria)
+                  .takeWhile(block -> block.getHeight().compareTo(toHeight) <= 0)
+                  .buffer(batchSize)
+                  .concatMapIterable(this::verifyAndAppend);
+            })
+        .toObservable();
+  }
+
+  private List<BlockHeaderRecord> verifyAndAppend(List<BlockInfo> blocks) {
+    List<CompletableFuture<Boolean>> futures =
+        blocks.stream()
+            .map(
+                block ->
+                    CompletableFuture.supplyAsync(
+                        () -> BlockHeaderVerifier.isValid(block), executor))
+            .collect(Collectors.toList());
+    Optional<BlockHeaderRecord> previous = store.getLastHeader();
+    List<BlockHeaderRecord> headers = new ArrayList<>(blocks.size());
+    for (int i = 0; i < blocks.size(); i++) {
+      BlockInfo block = blocks.get(i);
+      if (!ExceptionUtils.propagate(futures.get(i)::get)) {
+        throw new IllegalStateException(
+            "Block at height " + block.getHeight() + " has an invalid hash or signature");
+      }
+      BigInteger expectedHeight =
+          previous.map(p -> p.getHeight().add(BigInteger.ONE)).orElse(BigInteger.ONE);
+      if (!expectedHeight.equals(block.getHeight())
+          || previous.isPresent()
+              && !previous.get().getHash().equalsIgnoreCase(block.getPreviousBlockHash())) {
+        throw new IllegalStateException(
+            "Block at height " + block.getHeight() + " does not link to the previous block");
+      }
+      BlockHeaderRecord header = BlockHeaderRecord.of(block);
+      headers.add(header);
+      previous = Optional.of(header);
+    }
+    store.append(headers);
+    return headers;
+  }
+
+  private Observable<BlockHeaderRecord> markFinalized(FinalizationProof proof) {
+    BlockHeaderRecord header =
+        store
+            .getHeader(proof.getHeight())
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "Block at height " + proof.getHeight() + " has not been synced"));
+    if (!header.getHash().equalsIgnoreCase(proof.getHash())) {
+      throw new IllegalStateException(
+          "Block at height "
+              + proof.getHeight()
+              + " does not match the hash of the finalization proof");
+    }
+    if (proof.getHeight().compareTo(store.getFinalizedHeight()) > 0) {
+      store.setFinalizedHeight(proof.getHeight());
+    }
+    return Observable.empty();
+  }
+
+  @Override
+  public BigInteger getFinalizedHeight() {
+    return store.getFinalizedHeight();
+  }
+
+  @Override
+  public boolean isFinal(BigInteger height) {
+    Validate.notNull(height, "height is required");
+    return height.signum() > 0 && height.compareTo(store.getFinalizedHeight()) <= 0;
+  }
+
+  @Override
+  public Observable<Boolean> isValidTransactionInBlock(BigInteger height, String transactionHash) {
+    Validate.notNull(height, "height is required");
+    Validate.notNull(transactionHash, "transactionHash is required");
+    return isValidInBlock(
+        height,
+        BlockHeaderRecord::getBlockTransactionsHash,
+        transactionHash,
+        blockRepository.getMerkleTransaction(height, transactionHash));
+  }
+
+  @Override
+  public Observable<Boolean> isValidStatementInBlock(BigInteger height, String statementHash) {
+    Validate.notNull(height, "height is required");
+    Validate.notNull(statementHash, "statementHash is required");
+    return isValidInBlock(
+        height,
+        BlockHeaderRecord::getBlockReceiptsHash,
+        statementHash,
+        blockRepository.getMerkleReceipts(height, statementHash));
+  }
+
+  private Observable<Boolean> isValidInBlock(
+      BigInteger height,
+      Function<BlockHeaderRecord, String> rootResolver,
+      String leaf,
+      Observable<MerkleProofInfo> merkleProof) {
+    Optional<BlockHeaderRecord> header = store.getHeader(height);
+    if (!header.isPresent()) {
+      return Observable.error(
+          new IllegalArgumentException("Block at height " + height + " has not been synced"));
+    }
+    String root = rootResolver.apply(header.get());
+    return merkleProof.map(proof -> BlockServiceImpl.isValidMerkleProof(root, leaf, proof));
+  }
+}
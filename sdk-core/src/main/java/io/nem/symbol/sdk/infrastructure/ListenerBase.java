@@ -17,8 +17,10 @@ package io.nem.symbol.sdk.infrastructure;
 
 import io.nem.symbol.core.utils.MapperUtils;
 import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.MetricsRecorder;
 import io.nem.symbol.sdk.api.MultisigRepository;
 import io.nem.symbol.sdk.api.NamespaceRepository;
+import io.nem.symbol.sdk.api.SdkMetrics;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.UnresolvedAddress;
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
@@ -35,6 +37,7 @@ import io.nem.symbol.sdk.model.transaction.TransactionGroup;
 import io.nem.symbol.sdk.model.transaction.TransactionStatusError;
 import io.nem.symbol.sdk.model.transaction.TransactionStatusException;
 import io.reactivex.Observable;
+import io.reactivex.plugins.RxJavaPlugins;
 import io.reactivex.subjects.PublishSubject;
 import io.reactivex.subjects.Subject;
 import java.math.BigInteger;
@@ -82,6 +85,9 @@ public abstract class ListenerBase implements Listener {
    * It knows how to handle a ws wsPayload coming from the server. Each subclass is responsible of
    * hooking the web socket implementation with this method.
    *
+   * <p>The decoding time and the messages that could not be decoded are reported to {@link
+   * SdkMetrics}. When the metrics are not enabled, messages are decoded without any metrics work.
+   *
    * @param wsPayload the generic json with the wsPayload.
    * @param future to tell the user that the connection to the ws has been stabilised.
    */
@@ -91,7 +97,43 @@ public abstract class ListenerBase implements Listener {
       future.complete(null);
       return;
     }
-    this.createListenerMessage(wsPayload).subscribe(getMessageSubject()::onNext);
+    MetricsRecorder recorder = SdkMetrics.getRecorder();
+    if (recorder == SdkMetrics.NO_OP) {
+      this.createListenerMessage(wsPayload).subscribe(getMessageSubject()::onNext);
+      return;
+    }
+    handleTimed(wsPayload, recorder);
+  }
+
+  /**
+   * It handles a message reporting its decoding time and its failures to the recorder.
+   *
+   * @param wsPayload the generic json with the wsPayload.
+   * @param recorder the enabled recorder.
+   */
+  private void handleTimed(Object wsPayload, MetricsRecorder recorder) {
+    String channel =
+        StringUtils.defaultIfEmpty(
+            StringUtils.substringBefore(jsonHelper.getString(wsPayload, "topic"), "/"), "unknown");
+    MetricsRecorder.Sample sample = recorder.start(SdkMetrics.LISTENER_MESSAGE, "channel", channel);
+    Observable<ListenerMessage<?>> message;
+    try {
+      message = this.createListenerMessage(wsPayload);
+    } catch (RuntimeException e) {
+      sample.error(0);
+      recorder.increment(SdkMetrics.LISTENER_DROPPED, "channel", channel);
+      throw e;
+    }
+    message.subscribe(
+        m -> {
+          sample.success();
+          getMessageSubject().onNext(m);
+        },
+        e -> {
+          sample.error(SdkMetrics.getStatusCode(e));
+          recorder.increment(SdkMetrics.LISTENER_DROPPED, "channel", channel);
+          RxJavaPlugins.onError(e);
+        });
   }
 
   /**
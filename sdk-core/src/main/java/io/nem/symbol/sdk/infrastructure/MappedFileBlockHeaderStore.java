@@ -0,0 +1,263 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.api.BlockHeaderStore;
+import io.nem.symbol.sdk.model.blockchain.BlockHeaderRecord;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * {@link BlockHeaderStore} backed by a memory mapped file of fixed size records.
+ *
+ * <p>The file starts with the number of stored headers and the finalized height, followed by one
+ * record per height: the height and the block, transactions, receipts and state hashes. A header is
+ * found by its offset, no index is needed.
+ *
+ * <p>A single mapping is limited to 2 GiB, so the records are mapped in segments of {@link
+ * #SEGMENT_RECORDS} records. The last segment grows by doubling its size when full, the file layout
+ * doesn't depend on the segments.
+ */
+public class MappedFileBlockHeaderStore implements BlockHeaderStore {
+
+  /** Size of the file preamble: the header count and the finalized height. */
+  private static final int PREAMBLE_SIZE = 2 * Long.BYTES;
+
+  /** Size of a hash. */
+  private static final int HASH_SIZE = 32;
+
+  /** Size of each header record. */
+  private static final int RECORD_SIZE = Long.BYTES + 4 * HASH_SIZE;
+
+  /** The initial number of records of the mapping. */
+  private static final int INITIAL_CAPACITY = 1024;
+
+  /** The default number of records of each mapped segment, 136 MiB. */
+  static final int SEGMENT_RECORDS = 1 << 20;
+
+  private final FileChannel channel;
+
+  /** The number of records of each mapped segment. */
+  private final int segmentRecords;
+
+  /** The mapping of the preamble. */
+  private final MappedByteBuffer preamble;
+
+  /** The mappings of the records. All but the last one have {@link #segmentRecords} records. */
+  private final List<MappedByteBuffer> segments = new ArrayList<>();
+
+  private long count;
+
+  /**
+   * Opens or creates the store at the given file.
+   *
+   * @param file the store file.
+   */
+  public MappedFileBlockHeaderStore(Path file) {
+    this(file, SEGMENT_RECORDS);
+  }
+
+  /**
+   * Opens or creates the store at the given file.
+   *
+   * @param file the store file.
+   * @param segmentRecords the number of records of each mapped segment.
+   */
+  MappedFileBlockHeaderStore(Path file, int segmentRecords) {
+    Validate.notNull(file, "file is required");
+    Validate.isTrue(
+        segmentRecords > 0 && (long) segmentRecords * RECORD_SIZE <= Integer.MAX_VALUE,
+        "segmentRecords must be positive and fit in a single mapping");
+    this.segmentRecords = segmentRecords;
+    this.channel =
+        ExceptionUtils.propagate(
+            () ->
+                FileChannel.open(
+                    file,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE));
+    long size = ExceptionUtils.propagate(channel::size);
+    this.preamble = map(0, PREAMBLE_SIZE);
+    ensureCapacity(
+        Math.max((size - PREAMBLE_SIZE) / RECORD_SIZE, Math.min(INITIAL_CAPACITY, segmentRecords)));
+    this.count = preamble.getLong(0);
+  }
+
+  @Override
+  public synchronized Optional<BlockHeaderRecord> getHeader(BigInteger height) {
+    Validate.notNull(height, "height is required");
+    if (height.signum() <= 0 || height.compareTo(BigInteger.valueOf(count)) > 0) {
+      return Optional.empty();
+    }
+    return Optional.of(read(height.longValue() - 1));
+  }
+
+  @Override
+  public synchronized Optional<BlockHeaderRecord> getLastHeader() {
+    return count == 0 ? Optional.empty() : Optional.of(read(count - 1));
+  }
+
+  @Override
+  public synchronized void append(List<BlockHeaderRecord> headers) {
+    Validate.notNull(headers, "headers is required");
+    long next = count;
+    for (BlockHeaderRecord header : headers) {
+      Validate.isTrue(
+          header.getHeight().equals(BigInteger.valueOf(next + 1)),
+          "Header at height %s cannot be appended, the next height is %s",
+          header.getHeight(),
+          next + 1);
+      next++;
+    }
+    ensureCapacity(next);
+    long first = count;
+    for (BlockHeaderRecord header : headers) {
+      write(count, header);
+      count++;
+    }
+    if (count > first) {
+      for (long segment = first / segmentRecords;
+          segment <= (count - 1) / segmentRecords;
+          segment++) {
+        segments.get((int) segment).force();
+      }
+    }
+    preamble.putLong(0, count);
+    preamble.force();
+  }
+
+  @Override
+  public synchronized BigInteger getFinalizedHeight() {
+    return BigInteger.valueOf(preamble.getLong(Long.BYTES));
+  }
+
+  @Override
+  public synchronized void setFinalizedHeight(BigInteger height) {
+    Validate.notNull(height, "height is required");
+    Validate.isTrue(
+        height.compareTo(BigInteger.valueOf(count)) <= 0,
+        "Finalized height %s has not been stored",
+        height);
+    preamble.putLong(Long.BYTES, height.longValue());
+    preamble.force();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    segments.forEach(MappedByteBuffer::force);
+    preamble.force();
+    channel.close();
+  }
+
+  private BlockHeaderRecord read(long index) {
+    MappedByteBuffer buffer = getSegment(index);
+    int offset = getOffset(index);
+    long height = buffer.getLong(offset);
+    offset += Long.BYTES;
+    String[] hashes = new String[4];
+    for (int i = 0; i < hashes.length; i++) {
+      byte[] hash = new byte[HASH_SIZE];
+      for (int j = 0; j < HASH_SIZE; j++) {
+        hash[j] = buffer.get(offset + j);
+      }
+      hashes[i] = ConvertUtils.toHex(hash);
+      offset += HASH_SIZE;
+    }
+    return new BlockHeaderRecord(
+        BigInteger.valueOf(height), hashes[0], hashes[1], hashes[2], hashes[3]);
+  }
+
+  private void write(long index, BlockHeaderRecord header) {
+    MappedByteBuffer buffer = getSegment(index);
+    int offset = getOffset(index);
+    buffer.putLong(offset, header.getHeight().longValue());
+    offset += Long.BYTES;
+    for (String hex :
+        new String[] {
+          header.getHash(),
+          header.getBlockTransactionsHash(),
+          header.getBlockReceiptsHash(),
+          header.getStateHash()
+        }) {
+      ConvertUtils.validateIsHexString(hex, HASH_SIZE * 2);
+      byte[] hash = ConvertUtils.fromHexToBytes(hex);
+      for (int j = 0; j < HASH_SIZE; j++) {
+        buffer.put(offset + j, hash[j]);
+      }
+      offset += HASH_SIZE;
+    }
+  }
+
+  private MappedByteBuffer getSegment(long index) {
+    return segments.get(Math.toIntExact(index / segmentRecords));
+  }
+
+  /** @return the offset of the record in its segment. */
+  private int getOffset(long index) {
+    return (int) (index % segmentRecords) * RECORD_SIZE;
+  }
+
+  /** @return the number of mapped records. */
+  private long getCapacity() {
+    if (segments.isEmpty()) {
+      return 0;
+    }
+    int last = segments.size() - 1;
+    return (long) last * segmentRecords + segments.get(last).capacity() / RECORD_SIZE;
+  }
+
+  /**
+   * Maps at least the given number of records. The mapping doubles its size, growing at most one
+   * segment at a time. Only the last segment is remapped, the full ones are kept.
+   *
+   * @param records the number of records.
+   */
+  private void ensureCapacity(long records) {
+    long capacity = getCapacity();
+    if (records <= capacity) {
+      return;
+    }
+    long target = Math.max(records, Math.min(2 * capacity, capacity + segmentRecords));
+    if (!segments.isEmpty()) {
+      segments.remove(segments.size() - 1);
+    }
+    for (long start = (long) segments.size() * segmentRecords;
+        start < target;
+        start += segmentRecords) {
+      long segmentSize = Math.min(segmentRecords, target - start) * RECORD_SIZE;
+      segments.add(map(PREAMBLE_SIZE + start * RECORD_SIZE, segmentSize));
+    }
+  }
+
+  private MappedByteBuffer map(long position, long size) {
+    MappedByteBuffer buffer =
+        ExceptionUtils.propagate(() -> channel.map(FileChannel.MapMode.READ_WRITE, position, size));
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    return buffer;
+  }
+}
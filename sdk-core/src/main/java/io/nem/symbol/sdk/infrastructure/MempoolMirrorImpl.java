@@ -0,0 +1,549 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.MempoolMirror;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.Searcher;
+import io.nem.symbol.sdk.api.TransactionPaginationStreamer;
+import io.nem.symbol.sdk.api.TransactionSearchCriteria;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.AddressMap;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.reactivex.Completable;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.Subject;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Implementation of {@link MempoolMirror}. The listener must be open while addresses are watched.
+ *
+ * <p>The transactions are stored by upper case hash. The signer and deadline indexes only hold
+ * hashes and are updated while the hash entry is locked, so a query never sees a half indexed
+ * transaction for long and the deadline eviction only visits expired transactions. Each transaction
+ * also holds the watched addresses it was received for, so unwatching an address only removes the
+ * transactions no other address follows.
+ */
+public class MempoolMirrorImpl implements MempoolMirror {
+
+  /** The mirrored groups, in seeding order. */
+  private static final TransactionGroup[] GROUPS = {
+    TransactionGroup.UNCONFIRMED, TransactionGroup.PARTIAL
+  };
+
+  /** The streamer used to seed the watched addresses. */
+  private final TransactionPaginationStreamer streamer;
+
+  /** The listener used to keep the mirror current. */
+  private final Listener listener;
+
+  /** The network epoch adjustment used to resolve the deadlines. */
+  private final Observable<Duration> epochAdjustmentObservable;
+
+  /** How often the expired transactions are evicted. */
+  private Duration evictionPeriod = Duration.ofSeconds(15);
+
+  /** The scheduler of the evictions. */
+  private Scheduler scheduler = Schedulers.computation();
+
+  /** The mirrored transactions, by upper case hash. */
+  private final Map<String, MirroredTransaction> transactions = new ConcurrentHashMap<>();
+
+  /** The hashes of the mirrored transactions, by signer. */
+  private final Map<PublicKey, Set<String>> signerIndex = new ConcurrentHashMap<>();
+
+  /** The deadline and hash pairs of the mirrored transactions, sorted by deadline. */
+  private final ConcurrentSkipListSet<Pair<Long, String>> deadlineIndex =
+      new ConcurrentSkipListSet<>();
+
+  /** The listener subscriptions per watched address. Access is synchronized on the map. */
+  private final AddressMap<CompositeDisposable> watchedAddresses = new AddressMap<>();
+
+  /** The addresses whose seeding or listener subscriptions failed. */
+  private final Subject<Address> failures = PublishSubject.<Address>create().toSerialized();
+
+  /**
+   * The periodic eviction, started with the first watched address and stopped once no address is
+   * watched. Access is synchronized on the watched addresses.
+   */
+  private CompositeDisposable eviction;
+
+  /** The resolved epoch adjustment, null until the first eviction is scheduled. */
+  private volatile Duration epochAdjustment;
+
+  private volatile boolean closed;
+
+  /**
+   * Constructor.
+   *
+   * @param repositoryFactory the {@link RepositoryFactory} used to search the transactions and to
+   *     resolve the epoch adjustment.
+   * @param listener the open listener.
+   */
+  public MempoolMirrorImpl(RepositoryFactory repositoryFactory, Listener listener) {
+    this(
+        repositoryFactory.createTransactionRepository(),
+        listener,
+        repositoryFactory.getEpochAdjustment());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param searcher the transaction searcher used to seed the watched addresses.
+   * @param listener the open listener.
+   * @param epochAdjustmentObservable the network epoch adjustment used to resolve the deadlines.
+   */
+  public MempoolMirrorImpl(
+      Searcher<Transaction, TransactionSearchCriteria> searcher,
+      Listener listener,
+      Observable<Duration> epochAdjustmentObservable) {
+    Validate.notNull(searcher, "searcher is required");
+    Validate.notNull(listener, "listener is required");
+    Validate.notNull(epochAdjustmentObservable, "epochAdjustmentObservable is required");
+    this.streamer = new TransactionPaginationStreamer(searcher);
+    this.listener = listener;
+    this.epochAdjustmentObservable = epochAdjustmentObservable;
+  }
+
+  /**
+   * @param evictionPeriod how often the expired transactions are evicted.
+   * @return this mirror.
+   */
+  public MempoolMirrorImpl withEvictionPeriod(Duration evictionPeriod) {
+    Validate.notNull(evictionPeriod, "evictionPeriod is required");
+    Validate.isTrue(
+        !evictionPeriod.isNegative() && !evictionPeriod.isZero(),
+        "evictionPeriod must be positive");
+    this.evictionPeriod = evictionPeriod;
+    return this;
+  }
+
+  /**
+   * @param scheduler the scheduler of the evictions.
+   * @return this mirror.
+   */
+  public MempoolMirrorImpl withScheduler(Scheduler scheduler) {
+    Validate.notNull(scheduler, "scheduler is required");
+    this.scheduler = scheduler;
+    return this;
+  }
+
+  @Override
+  public Completable watch(Address address) {
+    Validate.notNull(address, "address is required");
+    CompositeDisposable subscriptions = new CompositeDisposable();
+    synchronized (watchedAddresses) {
+      Validate.validState(!closed, "The mirror has been closed");
+      if (watchedAddresses.containsKey(address)) {
+        return Completable.complete();
+      }
+      watchedAddresses.put(address, subscriptions);
+      if (eviction == null) {
+        scheduleEviction();
+      }
+    }
+    if (subscriptions.isDisposed()) {
+      return Completable.error(
+          new IllegalStateException("The eviction of the mirror failed while watching " + address));
+    }
+    SeedingRemovals removedWhileSeeding = new SeedingRemovals();
+    subscriptions.add(
+        listener
+            .unconfirmedAdded(address)
+            .subscribe(
+                t -> add(t, TransactionGroup.UNCONFIRMED, address, subscriptions),
+                error -> fail(address, subscriptions)));
+    subscriptions.add(
+        listener
+            .aggregateBondedAdded(address)
+            .subscribe(
+                t -> add(t, TransactionGroup.PARTIAL, address, subscriptions),
+                error -> fail(address, subscriptions)));
+    subscriptions.add(
+        listener
+            .unconfirmedRemoved(address)
+            .subscribe(
+                hash -> onRemoved(hash, TransactionGroup.UNCONFIRMED, removedWhileSeeding),
+                error -> fail(address, subscriptions)));
+    subscriptions.add(
+        listener
+            .aggregateBondedRemoved(address)
+            .subscribe(
+                hash -> onRemoved(hash, TransactionGroup.PARTIAL, removedWhileSeeding),
+                error -> fail(address, subscriptions)));
+    Completable seed =
+        Observable.fromArray(GROUPS)
+            .concatMap(
+                group ->
+                    streamer
+                        .search(new TransactionSearchCriteria(group).address(address))
+                        .filter(t -> !removedWhileSeeding.contains(group, t))
+                        .doOnNext(t -> add(t, group, address, subscriptions)))
+            .ignoreElements()
+            .doFinally(removedWhileSeeding::seeded)
+            .cache();
+    subscriptions.add(seed.subscribe(() -> {}, error -> fail(address, subscriptions)));
+    return seed;
+  }
+
+  @Override
+  public void unwatch(Address address) {
+    Validate.notNull(address, "address is required");
+    CompositeDisposable subscriptions;
+    synchronized (watchedAddresses) {
+      subscriptions = watchedAddresses.remove(address);
+      stopEvictionIfIdle();
+    }
+    if (subscriptions != null) {
+      release(address, subscriptions);
+    }
+  }
+
+  @Override
+  public Observable<Address> failures() {
+    return failures;
+  }
+
+  /**
+   * Unwatches an address whose seeding or listener subscription failed, unless it has already been
+   * unwatched or watched again.
+   *
+   * @param address the address.
+   * @param subscriptions the subscriptions of the failed watch.
+   */
+  private void fail(Address address, CompositeDisposable subscriptions) {
+    synchronized (watchedAddresses) {
+      if (watchedAddresses.get(address) != subscriptions) {
+        return;
+      }
+      watchedAddresses.remove(address);
+      stopEvictionIfIdle();
+    }
+    release(address, subscriptions);
+    failures.onNext(address);
+  }
+
+  /**
+   * Unwatches all the addresses once the eviction fails, as the expired transactions would not be
+   * removed anymore. The next watched address schedules a new eviction.
+   *
+   * @param failed the failed eviction.
+   */
+  private void failEviction(CompositeDisposable failed) {
+    AddressMap<CompositeDisposable> unwatched = new AddressMap<>();
+    synchronized (watchedAddresses) {
+      if (eviction != failed) {
+        return;
+      }
+      eviction = null;
+      failed.dispose();
+      watchedAddresses.forEach(unwatched::put);
+      watchedAddresses.clear();
+    }
+    unwatched.forEach(this::release);
+    unwatched.forEach((address, subscriptions) -> failures.onNext(address));
+  }
+
+  /**
+   * Disposes the subscriptions of an unwatched address and removes the transactions no other
+   * watched address follows.
+   */
+  private void release(Address address, CompositeDisposable subscriptions) {
+    subscriptions.dispose();
+    for (String key : transactions.keySet()) {
+      transactions.computeIfPresent(
+          key,
+          (k, mirrored) -> {
+            if (!mirrored.watchers.contains(address)) {
+              return mirrored;
+            }
+            if (mirrored.watchers.size() > 1) {
+              return mirrored.without(address);
+            }
+            unindex(k, mirrored);
+            return null;
+          });
+    }
+  }
+
+  /** Starts the periodic eviction. It must be called while synchronized on the addresses. */
+  private void scheduleEviction() {
+    long period = evictionPeriod.toMillis();
+    CompositeDisposable scheduled = new CompositeDisposable();
+    eviction = scheduled;
+    scheduled.add(
+        epochAdjustmentObservable
+            .take(1)
+            .flatMap(
+                resolved -> {
+                  epochAdjustment = resolved;
+                  return Observable.interval(period, period, TimeUnit.MILLISECONDS, scheduler);
+                })
+            .subscribe(t -> evictExpired(), error -> failEviction(scheduled)));
+  }
+
+  /** Stops the eviction once no address is watched. It must be called while synchronized. */
+  private void stopEvictionIfIdle() {
+    if (eviction != null && watchedAddresses.isEmpty()) {
+      eviction.dispose();
+      eviction = null;
+    }
+  }
+
+  @Override
+  public Optional<Transaction> getTransaction(String transactionHash) {
+    return get(transactionHash).map(m -> m.transaction);
+  }
+
+  @Override
+  public Optional<TransactionGroup> getGroup(String transactionHash) {
+    return get(transactionHash).map(m -> m.group);
+  }
+
+  private Optional<MirroredTransaction> get(String transactionHash) {
+    Validate.notNull(transactionHash, "transactionHash is required");
+    return Optional.ofNullable(transactions.get(transactionHash.toUpperCase()));
+  }
+
+  @Override
+  public List<Transaction> getTransactions(PublicKey signer) {
+    Validate.notNull(signer, "signer is required");
+    return signerIndex.getOrDefault(signer, Collections.emptySet()).stream()
+        .map(transactions::get)
+        .filter(Objects::nonNull)
+        .map(m -> m.transaction)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public List<Transaction> getTransactions(TransactionGroup group) {
+    Validate.notNull(group, "group is required");
+    return transactions.values().stream()
+        .filter(m -> m.group == group)
+        .map(m -> m.transaction)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public int size() {
+    return transactions.size();
+  }
+
+  @Override
+  public int evictExpired() {
+    Duration resolved = epochAdjustment;
+    if (resolved == null) {
+      return 0;
+    }
+    long now = scheduler.now(TimeUnit.MILLISECONDS) - resolved.toMillis();
+    int evicted = 0;
+    for (Pair<Long, String> expired : deadlineIndex.headSet(Pair.of(now, ""))) {
+      if (remove(expired.getRight(), null)) {
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+  @Override
+  public void close() {
+    synchronized (watchedAddresses) {
+      closed = true;
+      watchedAddresses.forEach((address, subscriptions) -> subscriptions.dispose());
+      watchedAddresses.clear();
+      if (eviction != null) {
+        eviction.dispose();
+      }
+    }
+    transactions.clear();
+    signerIndex.clear();
+    deadlineIndex.clear();
+    failures.onComplete();
+  }
+
+  private void add(
+      Transaction transaction,
+      TransactionGroup group,
+      Address watcher,
+      CompositeDisposable subscriptions) {
+    Optional<String> hash = getHash(transaction);
+    if (closed || subscriptions.isDisposed() || !hash.isPresent()) {
+      return;
+    }
+    PublicKey signer = transaction.getSigner().map(PublicAccount::getPublicKey).orElse(null);
+    long deadline = transaction.getDeadline().getValue();
+    transactions.compute(
+        hash.get(),
+        (key, previous) -> {
+          Set<Address> watchers = new HashSet<>();
+          watchers.add(watcher);
+          if (previous != null) {
+            unindex(key, previous);
+            watchers.addAll(previous.watchers);
+          }
+          MirroredTransaction added =
+              new MirroredTransaction(transaction, group, signer, deadline, watchers);
+          index(key, added);
+          return added;
+        });
+  }
+
+  private void onRemoved(
+      String transactionHash, TransactionGroup group, SeedingRemovals removedWhileSeeding) {
+    String key = transactionHash.toUpperCase();
+    removedWhileSeeding.add(group, key);
+    remove(key, group);
+  }
+
+  /**
+   * Removes a transaction. An aggregate bonded transaction that gets all its cosignatures moves
+   * from partial to unconfirmed, so a removal only applies to the group it was received for.
+   *
+   * @param key the upper case hash.
+   * @param group the group the transaction is removed from, null for any group.
+   * @return if the transaction was removed.
+   */
+  private boolean remove(String key, TransactionGroup group) {
+    boolean[] removed = {false};
+    transactions.computeIfPresent(
+        key,
+        (k, mirrored) -> {
+          if (group != null && mirrored.group != group) {
+            return mirrored;
+          }
+          unindex(k, mirrored);
+          removed[0] = true;
+          return null;
+        });
+    return removed[0];
+  }
+
+  private void index(String key, MirroredTransaction mirrored) {
+    if (mirrored.signer != null) {
+      signerIndex.compute(
+          mirrored.signer,
+          (signer, hashes) -> {
+            Set<String> updated = hashes == null ? ConcurrentHashMap.newKeySet() : hashes;
+            updated.add(key);
+            return updated;
+          });
+    }
+    deadlineIndex.add(Pair.of(mirrored.deadline, key));
+  }
+
+  private void unindex(String key, MirroredTransaction mirrored) {
+    if (mirrored.signer != null) {
+      signerIndex.computeIfPresent(
+          mirrored.signer,
+          (signer, hashes) -> {
+            hashes.remove(key);
+            return hashes.isEmpty() ? null : hashes;
+          });
+    }
+    deadlineIndex.remove(Pair.of(mirrored.deadline, key));
+  }
+
+  private static Optional<String> getHash(Transaction transaction) {
+    return transaction
+        .getTransactionInfo()
+        .flatMap(TransactionInfo::getHash)
+        .map(String::toUpperCase);
+  }
+
+  /**
+   * The removals received while an address is seeded, so the search doesn't bring back removed
+   * transactions.
+   */
+  private static final class SeedingRemovals {
+
+    private final Map<TransactionGroup, Set<String>> hashes = new EnumMap<>(TransactionGroup.class);
+    private volatile boolean seeded;
+
+    private SeedingRemovals() {
+      for (TransactionGroup group : GROUPS) {
+        hashes.put(group, ConcurrentHashMap.newKeySet());
+      }
+    }
+
+    private void add(TransactionGroup group, String key) {
+      if (!seeded) {
+        hashes.get(group).add(key);
+      }
+    }
+
+    private boolean contains(TransactionGroup group, Transaction transaction) {
+      return getHash(transaction).map(hashes.get(group)::contains).orElse(true);
+    }
+
+    private void seeded() {
+      seeded = true;
+      hashes.values().forEach(Set::clear);
+    }
+  }
+
+  /** A mirrored transaction and the values it's indexed by. */
+  private static final class MirroredTransaction {
+
+    private final Transaction transaction;
+    private final TransactionGroup group;
+    private final PublicKey signer;
+    private final long deadline;
+    private final Set<Address> watchers;
+
+    private MirroredTransaction(
+        Transaction transaction,
+        TransactionGroup group,
+        PublicKey signer,
+        long deadline,
+        Set<Address> watchers) {
+      this.transaction = transaction;
+      this.group = group;
+      this.signer = signer;
+      this.deadline = deadline;
+      this.watchers = watchers;
+    }
+
+    private MirroredTransaction without(Address watcher) {
+      Set<Address> remaining = new HashSet<>(watchers);
+      remaining.remove(watcher);
+      return new MirroredTransaction(transaction, group, signer, deadline, remaining);
+    }
+  }
+}
@@ -22,6 +22,7 @@ import io.nem.symbol.sdk.api.MetadataRepository;
 import io.nem.symbol.sdk.api.MetadataSearchCriteria;
 import io.nem.symbol.sdk.api.MetadataTransactionService;
 import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.SdkMetrics;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.metadata.MetadataType;
 import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
@@ -69,13 +70,16 @@ public class MetadataTransactionServiceImpl implements MetadataTransactionServic
                 networkType, deadline, targetAddress, key, newValue);
 
     return processMetadata(
-        new MetadataSearchCriteria()
-            .targetAddress(targetAddress)
-            .scopedMetadataKey(key)
-            .sourceAddress(sourceAddress)
-            .metadataType(MetadataType.ACCOUNT),
-        factory,
-        value);
+            new MetadataSearchCriteria()
+                .targetAddress(targetAddress)
+                .scopedMetadataKey(key)
+                .sourceAddress(sourceAddress)
+                .metadataType(MetadataType.ACCOUNT),
+            factory,
+            value)
+        .compose(
+            SdkMetrics.timedService(
+                "MetadataTransactionService", "createAccountMetadataTransactionFactory"));
   }
 
   @Override
@@ -103,7 +107,10 @@ public class MetadataTransactionServiceImpl implements MetadataTransactionServic
                       .metadataType(MetadataType.MOSAIC),
                   factory,
                   value);
-            });
+            })
+        .compose(
+            SdkMetrics.timedService(
+                "MetadataTransactionService", "createMosaicMetadataTransactionFactory"));
   }
 
   @Override
@@ -118,13 +125,16 @@ public class MetadataTransactionServiceImpl implements MetadataTransactionServic
             NamespaceMetadataTransactionFactory.create(
                 networkType, deadline, targetAddress, targetId, key, newValue);
     return processMetadata(
-        new MetadataSearchCriteria()
-            .targetId(targetId)
-            .scopedMetadataKey(key)
-            .sourceAddress(sourceAddress)
-            .metadataType(MetadataType.NAMESPACE),
-        factory,
-        value);
+            new MetadataSearchCriteria()
+                .targetId(targetId)
+                .scopedMetadataKey(key)
+                .sourceAddress(sourceAddress)
+                .metadataType(MetadataType.NAMESPACE),
+            factory,
+            value)
+        .compose(
+            SdkMetrics.timedService(
+                "MetadataTransactionService", "createNamespaceMetadataTransactionFactory"));
   }
 
   /**
@@ -21,6 +21,7 @@ import io.nem.symbol.sdk.api.MosaicRestrictionSearchCriteria;
 import io.nem.symbol.sdk.api.MosaicRestrictionTransactionService;
 import io.nem.symbol.sdk.api.RepositoryFactory;
 import io.nem.symbol.sdk.api.RestrictionMosaicRepository;
+import io.nem.symbol.sdk.api.SdkMetrics;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.UnresolvedAddress;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
@@ -98,7 +99,11 @@ public class MosaicRestrictionTransactionServiceImpl
                               });
                           return factory;
                         })))
-        .flatMap(f -> f);
+        .flatMap(f -> f)
+        .compose(
+            SdkMetrics.timedService(
+                "MosaicRestrictionTransactionService",
+                "createMosaicGlobalRestrictionTransactionFactory"));
   }
 
   @Override
@@ -141,7 +146,11 @@ public class MosaicRestrictionTransactionServiceImpl
                                     return factory;
                                   });
                         }))
-        .flatMap(f -> f);
+        .flatMap(f -> f)
+        .compose(
+            SdkMetrics.timedService(
+                "MosaicRestrictionTransactionService",
+                "createMosaicAddressRestrictionTransactionFactory"));
   }
 
   /**
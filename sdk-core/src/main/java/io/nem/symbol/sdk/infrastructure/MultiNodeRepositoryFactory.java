@@ -0,0 +1,502 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.AccountRepository;
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.FinalizationRepository;
+import io.nem.symbol.sdk.api.HashLockRepository;
+import io.nem.symbol.sdk.api.JsonSerialization;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.MetadataRepository;
+import io.nem.symbol.sdk.api.MosaicRepository;
+import io.nem.symbol.sdk.api.MultiNodeRepositoryFactoryConfiguration;
+import io.nem.symbol.sdk.api.MultisigRepository;
+import io.nem.symbol.sdk.api.NamespaceRepository;
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.NodeRepository;
+import io.nem.symbol.sdk.api.ReceiptRepository;
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.RestrictionAccountRepository;
+import io.nem.symbol.sdk.api.RestrictionMosaicRepository;
+import io.nem.symbol.sdk.api.SecretLockRepository;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.api.TransactionStatusRepository;
+import io.nem.symbol.sdk.model.mosaic.Currency;
+import io.nem.symbol.sdk.model.mosaic.NetworkCurrencies;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.node.NodeInfo;
+import io.nem.symbol.sdk.model.node.NodeStatus;
+import io.nem.symbol.sdk.model.node.RoleType;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * {@link RepositoryFactory} that spreads the calls over many nodes.
+ *
+ * <p>It starts from the configured seed nodes and discovers more nodes from their peers. The nodes
+ * are probed in the background, their health, chain height and latency are tracked in {@link
+ * NodeEndpoint}s. Each repository call is sent to the node with the lowest moving average latency,
+ * penalized by how many blocks it lags behind the highest node. A probe that takes longer than the
+ * configured probe timeout counts as a failure of the node. Reads that take longer than the
+ * configured latency percentile of the selected node are also sent to the next best node with a
+ * {@link RequestHedger}, the first response wins and the other call is cancelled. Nodes failing too
+ * many times in a row are ejected for a while.
+ *
+ * <p>A repository created by this factory is a proxy that selects the node on each call. Methods
+ * that don't return an {@link Observable}, like {@link
+ * io.nem.symbol.sdk.api.SearcherRepository#streamer()}, are bound to the best node at the time of
+ * the call. Listeners are bound to the best node when created.
+ *
+ * <p>The factory of each node is created with the provided function, for example {@code url -> new
+ * RepositoryFactoryOkHttpImpl(url)}.
+ */
+public class MultiNodeRepositoryFactory implements RepositoryFactory {
+
+  private final MultiNodeRepositoryFactoryConfiguration configuration;
+
+  private final Function<String, RepositoryFactory> factoryProvider;
+
+  private final List<NodeEndpoint> nodes = new CopyOnWriteArrayList<>();
+
+  private final Disposable probeSubscription;
+
+  /** The scheduler of the background probes, the probe timeouts and the hedging timers. */
+  private final Scheduler scheduler;
+
+  /** The hedger of the slow reads, null if hedging is disabled. */
+  private final RequestHedger hedger;
+
+  /**
+   * Constructor.
+   *
+   * @param configuration the configuration.
+   * @param factoryProvider creates the repository factory of a node given its url.
+   */
+  public MultiNodeRepositoryFactory(
+      MultiNodeRepositoryFactoryConfiguration configuration,
+      Function<String, RepositoryFactory> factoryProvider) {
+    this(configuration, factoryProvider, Schedulers.computation());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param configuration the configuration.
+   * @param factoryProvider creates the repository factory of a node given its url.
+   * @param scheduler the scheduler of the background probes, the probe timeouts and the hedging
+   *     timers.
+   */
+  public MultiNodeRepositoryFactory(
+      MultiNodeRepositoryFactoryConfiguration configuration,
+      Function<String, RepositoryFactory> factoryProvider,
+      Scheduler scheduler) {
+    Validate.notNull(configuration, "configuration is required");
+    Validate.notNull(factoryProvider, "factoryProvider is required");
+    Validate.notNull(scheduler, "scheduler is required");
+    this.configuration = configuration;
+    this.factoryProvider = factoryProvider;
+    this.scheduler = scheduler;
+    this.hedger =
+        configuration.isHedgeReads()
+            ? new RequestHedger(
+                configuration.getHedgePercentile(),
+                new HedgingBudget(
+                    configuration.getHedgeBudgetRatio(), configuration.getHedgeBudgetBurst()),
+                scheduler)
+            : null;
+    configuration.getSeedUrls().forEach(url -> addNode(url, true));
+    this.probeSubscription =
+        Observable.interval(
+                0, configuration.getProbeInterval().toMillis(), TimeUnit.MILLISECONDS, scheduler)
+            .concatMap(tick -> probeNodes())
+            .subscribe(node -> {}, error -> {});
+  }
+
+  /** @return the known nodes. */
+  public List<NodeEndpoint> getNodes() {
+    return Collections.unmodifiableList(nodes);
+  }
+
+  /**
+   * Probes the health, chain height and latency of all the known nodes and discovers new nodes from
+   * the peers of the best node. It's called periodically in the background.
+   *
+   * @return the nodes that have been successfully probed.
+   */
+  public Observable<NodeEndpoint> probeNodes() {
+    return Observable.defer(
+        () ->
+            Observable.fromIterable(new ArrayList<>(nodes))
+                .flatMap(this::probe)
+                .concatWith(Observable.defer(this::discoverPeers)));
+  }
+
+  /**
+   * Returns the nodes that can receive calls, the best first. Ejected nodes are excluded unless all
+   * the nodes are ejected.
+   *
+   * @return the ranked nodes.
+   */
+  public List<NodeEndpoint> rankNodes() {
+    long now = System.nanoTime();
+    List<NodeEndpoint> all = new ArrayList<>(nodes);
+    boolean anyProbed = all.stream().anyMatch(NodeEndpoint::isProbed);
+    List<NodeEndpoint> candidates =
+        all.stream()
+            .filter(n -> !n.isEjected(now) && (n.isProbed() || !anyProbed && n.isSeed()))
+            .collect(Collectors.toList());
+    if (candidates.isEmpty()) {
+      candidates = all.stream().filter(n -> !n.isEjected(now)).collect(Collectors.toList());
+    }
+    if (candidates.isEmpty()) {
+      all.sort((a, b) -> Long.signum(a.getEjectedUntil() - b.getEjectedUntil()));
+      return all;
+    }
+    BigInteger maxHeight =
+        candidates.stream().map(NodeEndpoint::getHeight).max(BigInteger::compareTo).get();
+    long lagPenalty = configuration.getHeightLagPenalty().toNanos();
+    candidates.sort(
+        Comparator.comparing((NodeEndpoint n) -> !n.isHealthy())
+            .thenComparingDouble(
+                n -> {
+                  long lag = Math.min(maxHeight.subtract(n.getHeight()).longValue(), 1_000_000L);
+                  return n.getLatency().map(Duration::toNanos).orElse(0L)
+                      + (double) lag * lagPenalty;
+                }));
+    return candidates;
+  }
+
+  private Optional<NodeEndpoint> addNode(String url, boolean seed) {
+    synchronized (nodes) {
+      if (nodes.size() >= configuration.getMaxNodes() && !seed
+          || nodes.stream().anyMatch(n -> n.getUrl().equalsIgnoreCase(url))) {
+        return Optional.empty();
+      }
+      NodeEndpoint node =
+          new NodeEndpoint(
+              url, factoryProvider.apply(url), seed, configuration.getLatencyEwmaAlpha());
+      nodes.add(node);
+      return Optional.of(node);
+    }
+  }
+
+  private Observable<NodeEndpoint> probe(NodeEndpoint node) {
+    return Observable.defer(
+            () -> {
+              long start = System.nanoTime();
+              RepositoryFactory factory = node.getRepositoryFactory();
+              return Observable.zip(
+                  factory.createNodeRepository().getNodeHealth(),
+                  factory.createChainRepository().getChainInfo(),
+                  (health, chainInfo) -> {
+                    node.recordProbe(
+                        chainInfo.getHeight(),
+                        health.getApiNode() == NodeStatus.UP && health.getDb() == NodeStatus.UP);
+                    node.recordSuccess(System.nanoTime() - start);
+                    return node;
+                  });
+            })
+        // A node that doesn't answer would otherwise hold the following probes.
+        .timeout(configuration.getProbeTimeout().toMillis(), TimeUnit.MILLISECONDS, scheduler)
+        .onErrorResumeNext(
+            (Throwable e) -> {
+              recordFailure(node);
+              return Observable.empty();
+            });
+  }
+
+  private Observable<NodeEndpoint> discoverPeers() {
+    if (!configuration.isPeerDiscovery() || nodes.size() >= configuration.getMaxNodes()) {
+      return Observable.empty();
+    }
+    return rankNodes()
+        .get(0)
+        .getRepositoryFactory()
+        .createNodeRepository()
+        .getNodePeers()
+        .timeout(configuration.getProbeTimeout().toMillis(), TimeUnit.MILLISECONDS, scheduler)
+        .flatMapIterable(peers -> peers)
+        .filter(peer -> peer.getRoles().contains(RoleType.API_NODE))
+        .filter(peer -> StringUtils.isNotBlank(peer.getHost()))
+        .map(this::getPeerUrl)
+        .concatMap(url -> addNode(url, false).map(Observable::just).orElse(Observable.empty()))
+        .flatMap(this::probe)
+        .onErrorResumeNext(Observable.empty());
+  }
+
+  private String getPeerUrl(NodeInfo peer) {
+    return configuration.getPeerScheme()
+        + "://"
+        + peer.getHost()
+        + ":"
+        + configuration.getPeerPort();
+  }
+
+  private void recordFailure(NodeEndpoint node) {
+    node.recordFailure(
+        System.nanoTime(),
+        configuration.getFailureThreshold(),
+        configuration.getEjectionDuration());
+  }
+
+  /**
+   * Sends the call to the best node and, if it's a read, hedges it to the second best node once the
+   * call is slower than the configured latency percentile of the best node.
+   *
+   * @param call the call to a node.
+   * @param read if the call can be safely sent twice.
+   * @param <T> the type of the response.
+   * @return the response of the first node that answers.
+   */
+  <T> Observable<T> route(Function<NodeEndpoint, Observable<T>> call, boolean read) {
+    return Observable.defer(
+        () -> {
+          List<NodeEndpoint> ranked = rankNodes();
+          NodeEndpoint primary = ranked.get(0);
+          Observable<T> first = timed(primary, call);
+          if (!read || hedger == null || ranked.size() < 2) {
+            return first;
+          }
+          return hedger.hedge(primary.getLatencyTracker(), first, timed(ranked.get(1), call));
+        });
+  }
+
+  private <T> Observable<T> timed(NodeEndpoint node, Function<NodeEndpoint, Observable<T>> call) {
+    return Observable.defer(
+        () -> {
+          long start = System.nanoTime();
+          AtomicBoolean recorded = new AtomicBoolean();
+          return call.apply(node)
+              .doOnNext(
+                  item -> {
+                    if (recorded.compareAndSet(false, true)) {
+                      node.recordSuccess(System.nanoTime() - start);
+                    }
+                  })
+              .doOnComplete(
+                  () -> {
+                    if (recorded.compareAndSet(false, true)) {
+                      node.recordSuccess(System.nanoTime() - start);
+                    }
+                  })
+              .doOnError(
+                  e -> {
+                    if (recorded.compareAndSet(false, true)) {
+                      if (isNodeFailure(e)) {
+                        recordFailure(node);
+                      } else {
+                        node.recordSuccess(System.nanoTime() - start);
+                      }
+                    }
+                  })
+              .doOnDispose(
+                  () -> {
+                    if (recorded.compareAndSet(false, true)) {
+                      node.recordLatency(System.nanoTime() - start);
+                    }
+                  });
+        });
+  }
+
+  /**
+   * Connection errors and server errors are node failures. Client errors, like not found, are valid
+   * responses.
+   */
+  private static boolean isNodeFailure(Throwable e) {
+    if (!(e instanceof RepositoryCallException)) {
+      return false;
+    }
+    int statusCode = ((RepositoryCallException) e).getStatusCode();
+    return statusCode == 0 || statusCode >= 500;
+  }
+
+  private <R> R createRepository(Class<R> type, Function<RepositoryFactory, R> creator) {
+    Map<NodeEndpoint, R> repositories = new ConcurrentHashMap<>();
+    Function<NodeEndpoint, R> repository =
+        node -> repositories.computeIfAbsent(node, n -> creator.apply(n.getRepositoryFactory()));
+    return RepositoryProxies.create(
+        type,
+        "MultiNode",
+        (method, args) -> {
+          if (RepositoryProxies.isObservable(method)) {
+            return route(
+                node ->
+                    (Observable<?>) RepositoryProxies.invoke(method, repository.apply(node), args),
+                RepositoryProxies.isRead(method));
+          }
+          return RepositoryProxies.invoke(method, repository.apply(rankNodes().get(0)), args);
+        });
+  }
+
+  @Override
+  public AccountRepository createAccountRepository() {
+    return createRepository(AccountRepository.class, RepositoryFactory::createAccountRepository);
+  }
+
+  @Override
+  public MultisigRepository createMultisigRepository() {
+    return createRepository(MultisigRepository.class, RepositoryFactory::createMultisigRepository);
+  }
+
+  @Override
+  public BlockRepository createBlockRepository() {
+    return createRepository(BlockRepository.class, RepositoryFactory::createBlockRepository);
+  }
+
+  @Override
+  public ReceiptRepository createReceiptRepository() {
+    return createRepository(ReceiptRepository.class, RepositoryFactory::createReceiptRepository);
+  }
+
+  @Override
+  public ChainRepository createChainRepository() {
+    return createRepository(ChainRepository.class, RepositoryFactory::createChainRepository);
+  }
+
+  @Override
+  public MosaicRepository createMosaicRepository() {
+    return createRepository(MosaicRepository.class, RepositoryFactory::createMosaicRepository);
+  }
+
+  @Override
+  public NamespaceRepository createNamespaceRepository() {
+    return createRepository(
+        NamespaceRepository.class, RepositoryFactory::createNamespaceRepository);
+  }
+
+  @Override
+  public NetworkRepository createNetworkRepository() {
+    return createRepository(NetworkRepository.class, RepositoryFactory::createNetworkRepository);
+  }
+
+  @Override
+  public NodeRepository createNodeRepository() {
+    return createRepository(NodeRepository.class, RepositoryFactory::createNodeRepository);
+  }
+
+  @Override
+  public TransactionRepository createTransactionRepository() {
+    return createRepository(
+        TransactionRepository.class, RepositoryFactory::createTransactionRepository);
+  }
+
+  @Override
+  public TransactionStatusRepository createTransactionStatusRepository() {
+    return createRepository(
+        TransactionStatusRepository.class, RepositoryFactory::createTransactionStatusRepository);
+  }
+
+  @Override
+  public MetadataRepository createMetadataRepository() {
+    return createRepository(MetadataRepository.class, RepositoryFactory::createMetadataRepository);
+  }
+
+  @Override
+  public RestrictionAccountRepository createRestrictionAccountRepository() {
+    return createRepository(
+        RestrictionAccountRepository.class, RepositoryFactory::createRestrictionAccountRepository);
+  }
+
+  @Override
+  public RestrictionMosaicRepository createRestrictionMosaicRepository() {
+    return createRepository(
+        RestrictionMosaicRepository.class, RepositoryFactory::createRestrictionMosaicRepository);
+  }
+
+  @Override
+  public HashLockRepository createHashLockRepository() {
+    return createRepository(HashLockRepository.class, RepositoryFactory::createHashLockRepository);
+  }
+
+  @Override
+  public SecretLockRepository createSecretLockRepository() {
+    return createRepository(
+        SecretLockRepository.class, RepositoryFactory::createSecretLockRepository);
+  }
+
+  @Override
+  public FinalizationRepository createFinalizationRepository() {
+    return createRepository(
+        FinalizationRepository.class, RepositoryFactory::createFinalizationRepository);
+  }
+
+  @Override
+  public Listener createListener() {
+    return rankNodes().get(0).getRepositoryFactory().createListener();
+  }
+
+  @Override
+  public JsonSerialization createJsonSerialization() {
+    return nodes.get(0).getRepositoryFactory().createJsonSerialization();
+  }
+
+  @Override
+  public Observable<NetworkType> getNetworkType() {
+    return route(node -> node.getRepositoryFactory().getNetworkType(), false);
+  }
+
+  @Override
+  public Observable<String> getGenerationHash() {
+    return route(node -> node.getRepositoryFactory().getGenerationHash(), false);
+  }
+
+  @Override
+  public Observable<Currency> getNetworkCurrency() {
+    return route(node -> node.getRepositoryFactory().getNetworkCurrency(), false);
+  }
+
+  @Override
+  public Observable<Currency> getHarvestCurrency() {
+    return route(node -> node.getRepositoryFactory().getHarvestCurrency(), false);
+  }
+
+  @Override
+  public Observable<NetworkCurrencies> getNetworkCurrencies() {
+    return route(node -> node.getRepositoryFactory().getNetworkCurrencies(), false);
+  }
+
+  @Override
+  public Observable<Duration> getEpochAdjustment() {
+    return route(node -> node.getRepositoryFactory().getEpochAdjustment(), false);
+  }
+
+  @Override
+  public void close() {
+    probeSubscription.dispose();
+    nodes.forEach(node -> node.getRepositoryFactory().close());
+  }
+}
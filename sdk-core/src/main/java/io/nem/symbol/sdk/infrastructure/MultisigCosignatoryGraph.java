@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.AddressSet;
+import io.nem.symbol.sdk.model.account.MultisigAccountGraphInfo;
+import io.nem.symbol.sdk.model.account.MultisigAccountInfo;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compact, immutable view of the multisig graph of an account. It's used to check whether a set of
+ * signers is enough to cosign on behalf of the account without walking the REST model objects.
+ */
+final class MultisigCosignatoryGraph {
+
+  /** The account the graph has been resolved for. */
+  private final Address accountAddress;
+
+  /** The graph levels sorted by level number. Null when the account is not a multisig. */
+  private final Node[][] levels;
+
+  private MultisigCosignatoryGraph(Address accountAddress, Node[][] levels) {
+    this.accountAddress = accountAddress;
+    this.levels = levels;
+  }
+
+  /**
+   * Creates the graph of an account that is not a multisig. Only the account itself can sign.
+   *
+   * @param accountAddress the account address.
+   * @return the graph.
+   */
+  static MultisigCosignatoryGraph of(Address accountAddress) {
+    return new MultisigCosignatoryGraph(accountAddress, null);
+  }
+
+  /**
+   * Creates the graph of a multisig account.
+   *
+   * @param accountAddress the multisig account address.
+   * @param graphInfo the graph info as returned by the rest api.
+   * @return the graph.
+   */
+  static MultisigCosignatoryGraph of(Address accountAddress, MultisigAccountGraphInfo graphInfo) {
+    Map<Integer, List<MultisigAccountInfo>> sortedEntries =
+        new TreeMap<>(graphInfo.getMultisigEntries());
+    Node[][] levels = new Node[sortedEntries.size()][];
+    int levelIndex = 0;
+    for (List<MultisigAccountInfo> entries : sortedEntries.values()) {
+      Node[] level = new Node[entries.size()];
+      for (int i = 0; i < level.length; i++) {
+        level[i] = new Node(entries.get(i));
+      }
+      levels[levelIndex++] = level;
+    }
+    return new MultisigCosignatoryGraph(accountAddress, levels);
+  }
+
+  /** @return the account the graph has been resolved for. */
+  Address getAccountAddress() {
+    return accountAddress;
+  }
+
+  /**
+   * Validates cosignatories from bottom level to top. The first level where every multisig account
+   * has enough cosignatories makes the validation succeed. Multisig accounts whose requirement is
+   * met count as cosignatories of the following levels.
+   *
+   * @param signers the signers extracted from the aggregate transaction.
+   * @param multisigRemoval if the min removal, instead of min approval, needs to be met.
+   * @return true if the signers are enough to sign.
+   */
+  boolean isCosigned(AddressSet signers, boolean multisigRemoval) {
+    if (levels == null) {
+      return signers.contains(accountAddress);
+    }
+    AddressSet approvedMultisigs = new AddressSet();
+    for (Node[] level : levels) {
+      if (isLevelCosigned(level, signers, approvedMultisigs, multisigRemoval)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isLevelCosigned(
+      Node[] level, AddressSet signers, AddressSet approvedMultisigs, boolean multisigRemoval) {
+    for (Node node : level) {
+      if (node.minApproval <= 0 || node.minRemoval <= 0) {
+        // Not a multisig account.
+        return false;
+      }
+      int matched = 0;
+      for (Address cosignatory : node.cosignatories) {
+        if (signers.contains(cosignatory) || approvedMultisigs.contains(cosignatory)) {
+          matched++;
+        }
+      }
+      if (matched < (multisigRemoval ? node.minRemoval : node.minApproval)) {
+        return false;
+      }
+      approvedMultisigs.add(node.accountAddress);
+    }
+    return true;
+  }
+
+  /** A multisig account of the graph. */
+  private static final class Node {
+
+    private final Address accountAddress;
+    private final long minApproval;
+    private final long minRemoval;
+    private final Address[] cosignatories;
+
+    private Node(MultisigAccountInfo info) {
+      this.accountAddress = info.getAccountAddress();
+      this.minApproval = info.getMinApproval();
+      this.minRemoval = info.getMinRemoval();
+      AddressSet uniqueCosignatories = new AddressSet(info.getCosignatoryAddresses());
+      this.cosignatories = uniqueCosignatories.stream().toArray(Address[]::new);
+    }
+  }
+}
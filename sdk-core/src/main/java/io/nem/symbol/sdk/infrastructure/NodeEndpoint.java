@@ -0,0 +1,175 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The state of one node of a {@link MultiNodeRepositoryFactory}: its latency, chain height, health
+ * and failures.
+ *
+ * <p>The latency is tracked by a {@link LatencyTracker}, its moving average is used to rank the
+ * nodes and its percentiles to know when a call is slower than usual.
+ */
+public class NodeEndpoint {
+
+  private final String url;
+
+  private final RepositoryFactory repositoryFactory;
+
+  private final boolean seed;
+
+  private final LatencyTracker latencyTracker;
+
+  private BigInteger height = BigInteger.ZERO;
+
+  private boolean probed;
+
+  private boolean healthy = true;
+
+  private int consecutiveFailures;
+
+  private long ejectedUntil;
+
+  private boolean ejected;
+
+  /**
+   * Constructor.
+   *
+   * @param url the rest url of the node.
+   * @param repositoryFactory the repository factory connected to the node.
+   * @param seed if the node is a configured seed node.
+   * @param latencyEwmaAlpha the weight of the latest latency in the moving average.
+   */
+  public NodeEndpoint(
+      String url, RepositoryFactory repositoryFactory, boolean seed, double latencyEwmaAlpha) {
+    Validate.notNull(url, "url is required");
+    Validate.notNull(repositoryFactory, "repositoryFactory is required");
+    this.url = url;
+    this.repositoryFactory = repositoryFactory;
+    this.seed = seed;
+    this.latencyTracker = new LatencyTracker(latencyEwmaAlpha, LatencyTracker.DEFAULT_WINDOW);
+  }
+
+  public String getUrl() {
+    return url;
+  }
+
+  public RepositoryFactory getRepositoryFactory() {
+    return repositoryFactory;
+  }
+
+  public boolean isSeed() {
+    return seed;
+  }
+
+  /** @return the moving average of the latency, empty if there are no samples yet. */
+  public Optional<Duration> getLatency() {
+    return latencyTracker.getAverage();
+  }
+
+  /** @return the latency of the calls to this node. */
+  public LatencyTracker getLatencyTracker() {
+    return latencyTracker;
+  }
+
+  public synchronized BigInteger getHeight() {
+    return height;
+  }
+
+  /** @return if the node has been successfully probed at least once. */
+  public synchronized boolean isProbed() {
+    return probed;
+  }
+
+  /** @return if the last probe reported the node and its database as up. */
+  public synchronized boolean isHealthy() {
+    return healthy;
+  }
+
+  public synchronized int getConsecutiveFailures() {
+    return consecutiveFailures;
+  }
+
+  /**
+   * @param now the current {@link System#nanoTime()}.
+   * @return if the node is ejected and it shouldn't receive calls.
+   */
+  public synchronized boolean isEjected(long now) {
+    return ejected && now - ejectedUntil < 0;
+  }
+
+  synchronized long getEjectedUntil() {
+    return ejectedUntil;
+  }
+
+  /**
+   * Records the latency of a call, successful or not, and resets the consecutive failures.
+   *
+   * @param latencyNanos the latency.
+   */
+  synchronized void recordSuccess(long latencyNanos) {
+    latencyTracker.record(latencyNanos);
+    consecutiveFailures = 0;
+  }
+
+  /**
+   * Records the latency of a call that has been cancelled before finishing. It's a lower bound of
+   * the real latency, it's recorded so slow nodes are penalized.
+   *
+   * @param latencyNanos the elapsed time.
+   */
+  void recordLatency(long latencyNanos) {
+    latencyTracker.record(latencyNanos);
+  }
+
+  /**
+   * Records a node failure, the node is ejected after too many consecutive failures.
+   *
+   * @param now the current {@link System#nanoTime()}.
+   * @param failureThreshold the consecutive failures that eject the node.
+   * @param ejectionDuration for how long the node is ejected.
+   */
+  synchronized void recordFailure(long now, int failureThreshold, Duration ejectionDuration) {
+    consecutiveFailures++;
+    if (consecutiveFailures >= failureThreshold) {
+      ejected = true;
+      ejectedUntil = now + ejectionDuration.toNanos();
+      consecutiveFailures = 0;
+    }
+  }
+
+  /**
+   * Records the result of a successful probe.
+   *
+   * @param height the chain height of the node.
+   * @param healthy if the node and its database are up.
+   */
+  synchronized void recordProbe(BigInteger height, boolean healthy) {
+    this.height = height;
+    this.healthy = healthy;
+    this.probed = true;
+  }
+
+  @Override
+  public String toString() {
+    return "NodeEndpoint{" + url + '}';
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.reactivex.Observable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.BiFunction;
+
+/** Helper to create the dynamic proxies that wrap the repositories. */
+final class RepositoryProxies {
+
+  /** Private constructor of this utility class. */
+  private RepositoryProxies() {}
+
+  /**
+   * Creates a proxy of the repository interface. The {@link Object} methods are resolved by the
+   * proxy itself.
+   *
+   * @param type the repository interface.
+   * @param name the name used by toString.
+   * @param handler the handler of the repository methods.
+   * @param <R> the repository type.
+   * @return the proxy.
+   */
+  static <R> R create(Class<R> type, String name, BiFunction<Method, Object[], Object> handler) {
+    Object proxy =
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (self, method, args) -> {
+              if (method.getDeclaringClass() != Object.class) {
+                return handler.apply(method, args);
+              }
+              switch (method.getName()) {
+                case "equals":
+                  return self == args[0];
+                case "hashCode":
+                  return System.identityHashCode(self);
+                default:
+                  return name + type.getSimpleName();
+              }
+            });
+    return type.cast(proxy);
+  }
+
+  /**
+   * @param method the repository method.
+   * @return if the method returns an {@link Observable}.
+   */
+  static boolean isObservable(Method method) {
+    return Observable.class.equals(method.getReturnType());
+  }
+
+  /**
+   * @param method the repository method.
+   * @return if the method is a read that can be safely sent twice.
+   */
+  static boolean isRead(Method method) {
+    return method.getName().startsWith("get") || method.getName().startsWith("search");
+  }
+
+  /**
+   * Invokes the method on the target repository, propagating the exception it throws.
+   *
+   * @param method the method.
+   * @param target the repository.
+   * @param args the arguments.
+   * @return the result.
+   */
+  static Object invoke(Method method, Object target, Object[] args) {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Sends a backup request when the primary request is slower than usual, the first response wins and
+ * the other request is disposed.
+ *
+ * <p>The backup request is sent once the primary hasn't answered within the configured percentile
+ * of the recent latency of the primary endpoint, and only if the {@link HedgingBudget} allows it.
+ * Only reads should be hedged, they are sent twice.
+ *
+ * <p>{@link #wrap(Class, Object, Object)} hedges all the read methods (get and search) of a
+ * repository. The backup repository can connect to a second node, or be the same repository to use
+ * a second connection to the same node.
+ */
+public class RequestHedger {
+
+  private final double percentile;
+
+  private final HedgingBudget budget;
+
+  private final Scheduler scheduler;
+
+  /**
+   * Constructor.
+   *
+   * @param percentile the latency percentile after which the backup request is sent, like 0.95.
+   * @param budget the budget that limits the extra requests.
+   */
+  public RequestHedger(double percentile, HedgingBudget budget) {
+    this(percentile, budget, Schedulers.computation());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param percentile the latency percentile after which the backup request is sent, like 0.95.
+   * @param budget the budget that limits the extra requests.
+   * @param scheduler the scheduler of the hedging timers.
+   */
+  public RequestHedger(double percentile, HedgingBudget budget, Scheduler scheduler) {
+    Validate.isTrue(percentile > 0 && percentile < 1, "percentile must be between 0 and 1");
+    Validate.notNull(budget, "budget is required");
+    Validate.notNull(scheduler, "scheduler is required");
+    this.percentile = percentile;
+    this.budget = budget;
+    this.scheduler = scheduler;
+  }
+
+  public HedgingBudget getBudget() {
+    return budget;
+  }
+
+  /**
+   * Hedges a request. The latency of the primary endpoint is not recorded, the caller records it.
+   *
+   * @param primaryLatency the recent latency of the primary endpoint.
+   * @param primary the primary request.
+   * @param backup the backup request.
+   * @param <T> the response type.
+   * @return the response of the first request that answers.
+   */
+  public <T> Observable<T> hedge(
+      LatencyTracker primaryLatency, Observable<T> primary, Observable<T> backup) {
+    Validate.notNull(primaryLatency, "primaryLatency is required");
+    Validate.notNull(primary, "primary is required");
+    Validate.notNull(backup, "backup is required");
+    return Observable.defer(
+        () -> {
+          budget.onRequest();
+          Optional<Duration> threshold = primaryLatency.getPercentile(percentile);
+          if (!threshold.isPresent()) {
+            return primary;
+          }
+          Observable<T> hedged =
+              Observable.timer(threshold.get().toNanos(), TimeUnit.NANOSECONDS, scheduler)
+                  .concatMap(tick -> budget.tryAcquire() ? backup : Observable.<T>never());
+          return primary.ambWith(hedged);
+        });
+  }
+
+  /**
+   * Wraps a repository hedging its reads to the backup repository. The latency of the primary
+   * repository is tracked per method.
+   *
+   * @param type the repository interface.
+   * @param primary the primary repository.
+   * @param backup the backup repository, it can be the primary one.
+   * @param <R> the repository type.
+   * @return the hedged repository.
+   */
+  public <R> R wrap(Class<R> type, R primary, R backup) {
+    Validate.notNull(type, "type is required");
+    Validate.notNull(primary, "primary is required");
+    Validate.notNull(backup, "backup is required");
+    Map<Method, LatencyTracker> latencies = new ConcurrentHashMap<>();
+    return RepositoryProxies.create(
+        type,
+        "Hedged",
+        (method, args) -> {
+          if (!RepositoryProxies.isObservable(method) || !RepositoryProxies.isRead(method)) {
+            return RepositoryProxies.invoke(method, primary, args);
+          }
+          LatencyTracker latency =
+              latencies.computeIfAbsent(
+                  method, m -> new LatencyTracker(0.3, LatencyTracker.DEFAULT_WINDOW));
+          return hedge(
+              latency, timed(latency, call(method, primary, args)), call(method, backup, args));
+        });
+  }
+
+  /**
+   * Wraps a repository hedging its reads with a second call to the same repository.
+   *
+   * @param type the repository interface.
+   * @param repository the repository.
+   * @param <R> the repository type.
+   * @return the hedged repository.
+   */
+  public <R> R wrap(Class<R> type, R repository) {
+    return wrap(type, repository, repository);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Observable<Object> call(Method method, Object repository, Object[] args) {
+    return Observable.defer(
+        () -> (Observable<Object>) RepositoryProxies.invoke(method, repository, args));
+  }
+
+  /**
+   * Records the latency of the first signal of the call, or the elapsed time if it's disposed
+   * before answering.
+   */
+  private static <T> Observable<T> timed(LatencyTracker latency, Observable<T> call) {
+    return Observable.defer(
+        () -> {
+          long start = System.nanoTime();
+          AtomicBoolean recorded = new AtomicBoolean();
+          Runnable record =
+              () -> {
+                if (recorded.compareAndSet(false, true)) {
+                  latency.record(System.nanoTime() - start);
+                }
+              };
+          return call.doOnNext(item -> record.run())
+              .doOnComplete(record::run)
+              .doOnError(e -> record.run())
+              .doOnDispose(record::run);
+        });
+  }
+}
@@ -32,7 +32,6 @@ import io.nem.symbol.catapult.builders.UnresolvedMosaicIdDto;
 import io.nem.symbol.catapult.builders.VotingKeyDto;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.core.crypto.VotingKey;
-import io.nem.symbol.core.utils.Base32Encoder;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.core.utils.MapperUtils;
 import io.nem.symbol.core.utils.StringEncoder;
@@ -151,7 +150,7 @@ public class SerializationUtils {
    * @return the serialized {@link ByteBuffer}
    */
   public static ByteBuffer fromAddressToByteBuffer(Address resolvedAddress) {
-    return ByteBuffer.wrap(Base32Encoder.getBytes(resolvedAddress.plain()));
+    return ByteBuffer.wrap(resolvedAddress.getBytes());
   }
 
   /**
@@ -171,7 +170,7 @@ public class SerializationUtils {
    * @return the model {@link Address}
    */
   public static Address toAddress(AddressDto dto) {
-    return Address.createFromEncoded(ConvertUtils.toHex(dto.getAddress().array()));
+    return Address.createFromBytes(dto.getAddress().array());
   }
 
   /**
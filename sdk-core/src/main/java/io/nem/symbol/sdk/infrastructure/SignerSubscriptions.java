@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.AddressMap;
+import io.reactivex.disposables.Disposable;
+import java.util.function.Function;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Listener subscriptions shared by the transactions of the same signer. The subscriptions of a
+ * signer are created when its first transaction is acquired and disposed when its last one is
+ * released, so many transactions cost one set of listener subscriptions per signer.
+ */
+class SignerSubscriptions {
+
+  /** Creates the listener subscriptions of a signer. */
+  private final Function<Address, Disposable> subscriber;
+
+  /** The subscriptions per signer. Access is synchronized on the map. */
+  private final AddressMap<SignerSubscription> subscriptions = new AddressMap<>();
+
+  private boolean disposed;
+
+  /**
+   * Constructor.
+   *
+   * @param subscriber creates the listener subscriptions of a signer.
+   */
+  SignerSubscriptions(Function<Address, Disposable> subscriber) {
+    Validate.notNull(subscriber, "subscriber is required");
+    this.subscriber = subscriber;
+  }
+
+  /**
+   * Adds a transaction of the signer, subscribing to the signer's messages if it's the first one.
+   *
+   * @param signer the signer address.
+   */
+  void acquire(Address signer) {
+    synchronized (subscriptions) {
+      if (disposed) {
+        return;
+      }
+      SignerSubscription subscription = subscriptions.get(signer);
+      if (subscription == null) {
+        subscription = new SignerSubscription(subscriber.apply(signer));
+        subscriptions.put(signer, subscription);
+      }
+      subscription.count++;
+    }
+  }
+
+  /**
+   * Removes a transaction of the signer, disposing the signer's subscriptions if it was the last
+   * one.
+   *
+   * @param signer the signer address.
+   */
+  void release(Address signer) {
+    synchronized (subscriptions) {
+      SignerSubscription subscription = subscriptions.get(signer);
+      if (subscription != null && --subscription.count == 0) {
+        subscriptions.remove(signer);
+        subscription.disposable.dispose();
+      }
+    }
+  }
+
+  /** @return the number of signers with subscriptions. */
+  int size() {
+    synchronized (subscriptions) {
+      return subscriptions.size();
+    }
+  }
+
+  /** Disposes all the subscriptions. Signers acquired afterwards are not subscribed. */
+  void dispose() {
+    synchronized (subscriptions) {
+      disposed = true;
+      subscriptions.forEach((signer, subscription) -> subscription.disposable.dispose());
+      subscriptions.clear();
+    }
+  }
+
+  /** The subscriptions of a signer and its number of transactions. */
+  private static final class SignerSubscription {
+
+    private final Disposable disposable;
+
+    private int count;
+
+    private SignerSubscription(Disposable disposable) {
+      this.disposable = disposable;
+    }
+  }
+}
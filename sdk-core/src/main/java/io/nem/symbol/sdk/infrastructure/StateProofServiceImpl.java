@@ -21,6 +21,7 @@ import io.nem.symbol.sdk.api.NamespaceRepository;
 import io.nem.symbol.sdk.api.NamespaceSearchCriteria;
 import io.nem.symbol.sdk.api.PaginationStreamer;
 import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.SdkMetrics;
 import io.nem.symbol.sdk.api.StateProofService;
 import io.nem.symbol.sdk.model.account.AccountInfo;
 import io.nem.symbol.sdk.model.account.AccountRestrictions;
@@ -60,7 +61,8 @@ public class StateProofServiceImpl implements StateProofService {
     return this.repositoryFactory
         .createMosaicRepository()
         .getMosaicMerkle(id)
-        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()));
+        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()))
+        .compose(SdkMetrics.timedService("StateProofService", "mosaic"));
   }
 
   @Override
@@ -93,7 +95,8 @@ public class StateProofServiceImpl implements StateProofService {
     return this.repositoryFactory
         .createHashLockRepository()
         .getHashLockMerkle(id)
-        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()));
+        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()))
+        .compose(SdkMetrics.timedService("StateProofService", "hashLock"));
   }
 
   @Override
@@ -110,7 +113,8 @@ public class StateProofServiceImpl implements StateProofService {
     return this.repositoryFactory
         .createSecretLockRepository()
         .getSecretLockMerkle(id)
-        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()));
+        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()))
+        .compose(SdkMetrics.timedService("StateProofService", "secretLock"));
   }
 
   @Override
@@ -127,7 +131,8 @@ public class StateProofServiceImpl implements StateProofService {
     return this.repositoryFactory
         .createMetadataRepository()
         .getMetadataMerkle(id)
-        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()));
+        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()))
+        .compose(SdkMetrics.timedService("StateProofService", "metadata"));
   }
 
   @Override
@@ -145,7 +150,8 @@ public class StateProofServiceImpl implements StateProofService {
     return this.repositoryFactory
         .createRestrictionAccountRepository()
         .getAccountRestrictionsMerkle(id)
-        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()));
+        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()))
+        .compose(SdkMetrics.timedService("StateProofService", "accountRestrictions"));
   }
 
   @Override
@@ -162,7 +168,8 @@ public class StateProofServiceImpl implements StateProofService {
     return this.repositoryFactory
         .createAccountRepository()
         .getAccountInfoMerkle(id)
-        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()));
+        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()))
+        .compose(SdkMetrics.timedService("StateProofService", "account"));
   }
 
   @Override
@@ -179,7 +186,8 @@ public class StateProofServiceImpl implements StateProofService {
     return this.repositoryFactory
         .createMultisigRepository()
         .getMultisigAccountInfoMerkle(id)
-        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()));
+        .map(merkle -> toStateMerkleProof(state, merkle, state.serialize()))
+        .compose(SdkMetrics.timedService("StateProofService", "multisig"));
   }
 
   @Override
@@ -208,7 +216,8 @@ public class StateProofServiceImpl implements StateProofService {
                     .toList()
                     .toObservable()
                     .map(state::serialize)
-                    .map(s -> toStateMerkleProof(state, merkle, s)));
+                    .map(s -> toStateMerkleProof(state, merkle, s)))
+        .compose(SdkMetrics.timedService("StateProofService", "namespace"));
   }
 
   private <S> StateMerkleProof<S> toStateMerkleProof(
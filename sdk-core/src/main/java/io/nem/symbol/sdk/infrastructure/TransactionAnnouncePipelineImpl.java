@@ -0,0 +1,397 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionAnnouncePipeline;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.transaction.AnnounceResult;
+import io.nem.symbol.sdk.model.transaction.AnnounceStatistics;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusError;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusException;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.SingleSubject;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Implementation of {@link TransactionAnnouncePipeline}. It uses the {@link TransactionRepository}
+ * to announce and the {@link Listener} to track the confirmations. The listener must be open.
+ */
+public class TransactionAnnouncePipelineImpl implements TransactionAnnouncePipeline {
+
+  /** Value of the first announce time before anything has been announced. */
+  private static final long NOT_STARTED = Long.MIN_VALUE;
+
+  /** The default number of latest confirmation latencies used for the percentiles. */
+  public static final int DEFAULT_LATENCY_WINDOW = 10_000;
+
+  /** The repository used to announce the transactions. */
+  private final TransactionRepository transactionRepository;
+
+  /** The listener used to track the confirmations and status errors. */
+  private final Listener listener;
+
+  /** The max number of announce requests in flight. */
+  private int maxConcurrentAnnounces = 16;
+
+  /** The max number of announced transactions waiting for confirmation. */
+  private int maxPendingConfirmations = 10_000;
+
+  /** How many times an announce request is retried on transient errors. */
+  private int maxRetries = 3;
+
+  /** The delay before the first retry. The following retries wait linearly longer. */
+  private Duration retryDelay = Duration.ofSeconds(1);
+
+  /** How long an announced transaction waits for its confirmation. */
+  private Duration confirmationTimeout = Duration.ofMinutes(5);
+
+  /** The scheduler of the retry delays and confirmation timeouts. */
+  private Scheduler scheduler = Schedulers.computation();
+
+  private final AtomicLong announced = new AtomicLong();
+  private final AtomicLong confirmed = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong firstAnnounceNanos = new AtomicLong(NOT_STARTED);
+  private volatile long lastCompletionNanos;
+
+  /**
+   * The latest confirmation latencies in nanoseconds, used as a ring buffer. Access is synchronized
+   * on the pipeline.
+   */
+  private long[] latencies = new long[DEFAULT_LATENCY_WINDOW];
+
+  /** The number of latencies recorded since the window was created. */
+  private long latencyCount;
+
+  /**
+   * Constructor.
+   *
+   * @param repositoryFactory the {@link RepositoryFactory} with the catapult server connection.
+   * @param listener the open listener used to track the confirmations.
+   */
+  public TransactionAnnouncePipelineImpl(RepositoryFactory repositoryFactory, Listener listener) {
+    this(repositoryFactory.createTransactionRepository(), listener);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param transactionRepository the repository used to announce the transactions.
+   * @param listener the open listener used to track the confirmations.
+   */
+  public TransactionAnnouncePipelineImpl(
+      TransactionRepository transactionRepository, Listener listener) {
+    Validate.notNull(transactionRepository, "transactionRepository is required");
+    Validate.notNull(listener, "listener is required");
+    this.transactionRepository = transactionRepository;
+    this.listener = listener;
+  }
+
+  /**
+   * @param maxConcurrentAnnounces the max number of announce requests in flight.
+   * @return this pipeline.
+   */
+  public TransactionAnnouncePipelineImpl withMaxConcurrentAnnounces(int maxConcurrentAnnounces) {
+    Validate.isTrue(maxConcurrentAnnounces > 0, "maxConcurrentAnnounces must be positive");
+    this.maxConcurrentAnnounces = maxConcurrentAnnounces;
+    return this;
+  }
+
+  /**
+   * @param maxPendingConfirmations the max number of announced transactions waiting for
+   *     confirmation. No more transactions are requested from the source once it's reached.
+   * @return this pipeline.
+   */
+  public TransactionAnnouncePipelineImpl withMaxPendingConfirmations(int maxPendingConfirmations) {
+    Validate.isTrue(maxPendingConfirmations > 0, "maxPendingConfirmations must be positive");
+    this.maxPendingConfirmations = maxPendingConfirmations;
+    return this;
+  }
+
+  /**
+   * @param maxRetries how many times an announce request is retried on transient errors.
+   * @param retryDelay the delay before the first retry. The following retries wait linearly longer.
+   * @return this pipeline.
+   */
+  public TransactionAnnouncePipelineImpl withRetries(int maxRetries, Duration retryDelay) {
+    Validate.isTrue(maxRetries >= 0, "maxRetries must not be negative");
+    Validate.notNull(retryDelay, "retryDelay is required");
+    this.maxRetries = maxRetries;
+    this.retryDelay = retryDelay;
+    return this;
+  }
+
+  /**
+   * @param confirmationTimeout how long an announced transaction waits for its confirmation before
+   *     failing with a {@link java.util.concurrent.TimeoutException}.
+   * @return this pipeline.
+   */
+  public TransactionAnnouncePipelineImpl withConfirmationTimeout(Duration confirmationTimeout) {
+    Validate.notNull(confirmationTimeout, "confirmationTimeout is required");
+    this.confirmationTimeout = confirmationTimeout;
+    return this;
+  }
+
+  /**
+   * @param latencyWindow the number of latest confirmation latencies used for the percentiles.
+   *     Older latencies are dropped so the memory used doesn't grow with the announced
+   *     transactions.
+   * @return this pipeline.
+   */
+  public synchronized TransactionAnnouncePipelineImpl withLatencyWindow(int latencyWindow) {
+    Validate.isTrue(latencyWindow > 0, "latencyWindow must be positive");
+    this.latencies = new long[latencyWindow];
+    this.latencyCount = 0;
+    return this;
+  }
+
+  /**
+   * @param scheduler the scheduler of the retry delays and confirmation timeouts.
+   * @return this pipeline.
+   */
+  public TransactionAnnouncePipelineImpl withScheduler(Scheduler scheduler) {
+    Validate.notNull(scheduler, "scheduler is required");
+    this.scheduler = scheduler;
+    return this;
+  }
+
+  @Override
+  public Flowable<AnnounceResult> announce(Flowable<SignedTransaction> signedTransactions) {
+    Validate.notNull(signedTransactions, "signedTransactions is required");
+    IllegalStateException caller = new IllegalStateException("The Caller");
+    return Flowable.defer(
+        () -> {
+          ConfirmationTracker tracker = new ConfirmationTracker(caller);
+          return signedTransactions
+              .flatMapSingle(
+                  signedTransaction -> announce(signedTransaction, tracker),
+                  false,
+                  maxConcurrentAnnounces)
+              .flatMapSingle(PendingTransaction::getResult, false, maxPendingConfirmations)
+              .doFinally(tracker::dispose);
+        });
+  }
+
+  private Single<PendingTransaction> announce(
+      SignedTransaction signedTransaction, ConfirmationTracker tracker) {
+    return Single.defer(
+        () -> {
+          // Registered before announcing so a fast confirmation is not missed.
+          PendingTransaction pending = tracker.register(signedTransaction);
+          return transactionRepository
+              .announce(signedTransaction)
+              .singleOrError()
+              .retryWhen(this::retryTransientErrors)
+              .map(response -> pending)
+              .onErrorReturn(
+                  error -> {
+                    pending.fail(error);
+                    return pending;
+                  });
+        });
+  }
+
+  private Flowable<Long> retryTransientErrors(Flowable<Throwable> errors) {
+    return errors
+        .zipWith(Flowable.range(1, maxRetries + 1), Pair::of)
+        .flatMap(
+            errorAndAttempt -> {
+              Throwable error = errorAndAttempt.getLeft();
+              int attempt = errorAndAttempt.getRight();
+              if (attempt > maxRetries || !isTransient(error)) {
+                return Flowable.error(error);
+              }
+              return Flowable.timer(
+                  retryDelay.toMillis() * attempt, TimeUnit.MILLISECONDS, scheduler);
+            });
+  }
+
+  /**
+   * @param error the announce error.
+   * @return if the error is a connection error, a too many requests error or a server error.
+   */
+  static boolean isTransient(Throwable error) {
+    if (error instanceof RepositoryCallException) {
+      int statusCode = ((RepositoryCallException) error).getStatusCode();
+      return statusCode == 0 || statusCode == 429 || statusCode >= 500;
+    }
+    return error instanceof IOException;
+  }
+
+  @Override
+  public AnnounceStatistics getStatistics() {
+    long[] sortedLatencies;
+    synchronized (this) {
+      sortedLatencies = Arrays.copyOf(latencies, (int) Math.min(latencyCount, latencies.length));
+    }
+    Arrays.sort(sortedLatencies);
+    long first = firstAnnounceNanos.get();
+    Duration elapsed =
+        first == NOT_STARTED
+            ? Duration.ZERO
+            : Duration.ofNanos(Math.max(0, lastCompletionNanos - first));
+    return new AnnounceStatistics(
+        announced.get(), confirmed.get(), failed.get(), elapsed, sortedLatencies);
+  }
+
+  private synchronized void recordLatency(long latencyNanos) {
+    latencies[(int) (latencyCount++ % latencies.length)] = latencyNanos;
+  }
+
+  /**
+   * Tracks the transactions announced by one {@link #announce(Flowable)} call. It shares one
+   * confirmed and one status listener subscription between the pending transactions of a signer and
+   * finds the pending transaction of each message by hash.
+   */
+  private final class ConfirmationTracker {
+
+    private final Map<String, PendingTransaction> pendingTransactions = new ConcurrentHashMap<>();
+    private final SignerSubscriptions signerSubscriptions =
+        new SignerSubscriptions(this::subscribe);
+
+    /** Captured when {@link #announce(Flowable)} is called, so status errors show the caller. */
+    private final IllegalStateException caller;
+
+    private ConfirmationTracker(IllegalStateException caller) {
+      this.caller = caller;
+    }
+
+    private PendingTransaction register(SignedTransaction signedTransaction) {
+      PendingTransaction pending = new PendingTransaction(signedTransaction, this);
+      pendingTransactions.put(signedTransaction.getHash().toUpperCase(), pending);
+      signerSubscriptions.acquire(signedTransaction.getSigner().getAddress());
+      return pending;
+    }
+
+    private Disposable subscribe(Address signer) {
+      CompositeDisposable subscriptions = new CompositeDisposable();
+      subscriptions.add(listener.confirmed(signer).subscribe(this::onConfirmed, this::onError));
+      subscriptions.add(listener.status(signer).subscribe(this::onStatus, this::onError));
+      return subscriptions;
+    }
+
+    private void onConfirmed(Transaction transaction) {
+      transaction
+          .getTransactionInfo()
+          .flatMap(TransactionInfo::getHash)
+          .map(hash -> pendingTransactions.get(hash.toUpperCase()))
+          .ifPresent(pending -> pending.confirm(transaction));
+    }
+
+    private void onStatus(TransactionStatusError statusError) {
+      PendingTransaction pending =
+          statusError.getHash() == null
+              ? null
+              : pendingTransactions.get(statusError.getHash().toUpperCase());
+      if (pending != null) {
+        pending.fail(new TransactionStatusException(caller, statusError));
+      }
+    }
+
+    private void onError(Throwable error) {
+      List<PendingTransaction> pending = new ArrayList<>(pendingTransactions.values());
+      pending.forEach(p -> p.fail(error));
+    }
+
+    private void remove(PendingTransaction pending) {
+      SignedTransaction signedTransaction = pending.signedTransaction;
+      if (pendingTransactions.remove(signedTransaction.getHash().toUpperCase(), pending)) {
+        signerSubscriptions.release(signedTransaction.getSigner().getAddress());
+      }
+    }
+
+    private void dispose() {
+      signerSubscriptions.dispose();
+    }
+  }
+
+  /** A transaction announced or being announced. */
+  private final class PendingTransaction {
+
+    private final SignedTransaction signedTransaction;
+    private final ConfirmationTracker tracker;
+    private final long startNanos;
+    private final AtomicBoolean done = new AtomicBoolean();
+    private final SingleSubject<AnnounceResult> result = SingleSubject.create();
+
+    private PendingTransaction(SignedTransaction signedTransaction, ConfirmationTracker tracker) {
+      this.signedTransaction = signedTransaction;
+      this.tracker = tracker;
+      this.startNanos = System.nanoTime();
+      announced.incrementAndGet();
+      firstAnnounceNanos.compareAndSet(NOT_STARTED, startNanos);
+    }
+
+    private void confirm(Transaction transaction) {
+      if (done.compareAndSet(false, true)) {
+        long latency = complete();
+        confirmed.incrementAndGet();
+        recordLatency(latency);
+        result.onSuccess(
+            AnnounceResult.confirmed(signedTransaction, transaction, Duration.ofNanos(latency)));
+      }
+    }
+
+    private void fail(Throwable error) {
+      if (done.compareAndSet(false, true)) {
+        long latency = complete();
+        failed.incrementAndGet();
+        result.onSuccess(
+            AnnounceResult.failed(signedTransaction, error, Duration.ofNanos(latency)));
+      }
+    }
+
+    private long complete() {
+      tracker.remove(this);
+      long now = System.nanoTime();
+      lastCompletionNanos = now;
+      return now - startNanos;
+    }
+
+    private Single<AnnounceResult> getResult() {
+      return result
+          .timeout(confirmationTimeout.toMillis(), TimeUnit.MILLISECONDS, scheduler)
+          .onErrorResumeNext(
+              error -> {
+                fail(error);
+                return result;
+              });
+    }
+  }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.math.SparseBitmap;
+import io.nem.symbol.sdk.api.OrderBy;
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.Searcher;
+import io.nem.symbol.sdk.api.TransactionSearchCriteria;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionCosignature;
+import io.nem.symbol.sdk.model.transaction.RecipientTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * In memory index of transactions that answers {@link TransactionSearchCriteria} queries locally.
+ *
+ * <p>Each added transaction gets a dense ordinal in insertion order. The index keeps a {@link
+ * SparseBitmap} of ordinals per signer, recipient, involved address, transfer mosaic, transaction
+ * type and group. A query combines the bitmaps of its filters with compressed bitmap algebra and
+ * only the candidate transactions are visited, for the height and transfer amount filters and the
+ * pagination.
+ *
+ * <p>The involved addresses of a transaction are its signer, its recipient, the cosigners of an
+ * aggregate and the signers and recipients of the aggregate inner transactions. The inner
+ * transactions are indexed too, they are returned when the criteria is embedded.
+ *
+ * <p>The id and offset criteria are not supported, the ordinals are the order of the index. The
+ * transactions should be added in the chain order, ascending order is then oldest first like in
+ * rest.
+ */
+public class TransactionIndex implements Searcher<Transaction, TransactionSearchCriteria> {
+
+  /** The default page size, like rest. */
+  private static final int DEFAULT_PAGE_SIZE = 10;
+
+  private final List<Transaction> transactions = new ArrayList<>();
+
+  private long[] heights = new long[1024];
+
+  private final SparseBitmap topLevel = SparseBitmap.createEmpty();
+
+  private final Map<TransactionGroup, SparseBitmap> groups = new EnumMap<>(TransactionGroup.class);
+
+  private final Map<TransactionType, SparseBitmap> types = new EnumMap<>(TransactionType.class);
+
+  private final Map<Address, SparseBitmap> addresses = new HashMap<>();
+
+  private final Map<Address, SparseBitmap> recipients = new HashMap<>();
+
+  private final Map<PublicKey, SparseBitmap> signers = new HashMap<>();
+
+  private final Map<MosaicId, SparseBitmap> mosaics = new HashMap<>();
+
+  /**
+   * Adds a confirmed transaction.
+   *
+   * @param transaction the transaction.
+   * @return the ordinal of the transaction.
+   */
+  public int add(Transaction transaction) {
+    return add(transaction, TransactionGroup.CONFIRMED);
+  }
+
+  /**
+   * Adds a transaction of the given group. The inner transactions of an aggregate get the following
+   * ordinals.
+   *
+   * @param transaction the transaction.
+   * @param group the group of the transaction.
+   * @return the ordinal of the transaction.
+   */
+  public synchronized int add(Transaction transaction, TransactionGroup group) {
+    Validate.notNull(transaction, "transaction is required");
+    Validate.notNull(group, "group is required");
+    int ordinal = transactions.size();
+    Set<Address> involvedAddresses = new LinkedHashSet<>();
+    addInvolvedAddresses(transaction, involvedAddresses);
+    List<Transaction> innerTransactions = getInnerTransactions(transaction);
+    innerTransactions.forEach(inner -> addInvolvedAddresses(inner, involvedAddresses));
+
+    // the bitmaps are only appended, the ordinals are set in ascending order.
+    index(ordinal, transaction, group, involvedAddresses);
+    topLevel.setWithoutAscendingCheck(ordinal);
+    for (Transaction innerTransaction : innerTransactions) {
+      Set<Address> innerAddresses = new LinkedHashSet<>();
+      addInvolvedAddresses(innerTransaction, innerAddresses);
+      index(transactions.size(), innerTransaction, group, innerAddresses);
+    }
+    return ordinal;
+  }
+
+  /** @return the number of indexed transactions, including the inner transactions. */
+  public synchronized int size() {
+    return transactions.size();
+  }
+
+  @Override
+  public Observable<Page<Transaction>> search(TransactionSearchCriteria criteria) {
+    return Observable.fromCallable(() -> searchPage(criteria));
+  }
+
+  /**
+   * Counts the transactions that match the criteria, pagination aside.
+   *
+   * @param criteria the criteria.
+   * @return the number of matching transactions.
+   */
+  public synchronized int count(TransactionSearchCriteria criteria) {
+    return count(getCandidates(criteria), getFilter(criteria));
+  }
+
+  private static int count(SparseBitmap candidates, IntPredicate filter) {
+    if (filter == null) {
+      return candidates.cardinality();
+    }
+    int count = 0;
+    PrimitiveIterator.OfInt iterator = candidates.intIterator();
+    while (iterator.hasNext()) {
+      if (filter.test(iterator.nextInt())) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Searches a page of transactions synchronously.
+   *
+   * @param criteria the criteria.
+   * @return the page.
+   */
+  public synchronized Page<Transaction> searchPage(TransactionSearchCriteria criteria) {
+    Validate.notNull(criteria, "criteria is required");
+    Validate.isTrue(
+        criteria.getId() == null && criteria.getOffset() == null,
+        "id and offset criteria are not supported");
+    int pageSize = Optional.ofNullable(criteria.getPageSize()).orElse(DEFAULT_PAGE_SIZE);
+    int pageNumber = Optional.ofNullable(criteria.getPageNumber()).orElse(1);
+    Validate.isTrue(pageSize > 0, "pageSize must be positive");
+    Validate.isTrue(pageNumber > 0, "pageNumber must be positive");
+
+    SparseBitmap candidates = getCandidates(criteria);
+    IntPredicate filter = getFilter(criteria);
+    long skip = (long) (pageNumber - 1) * pageSize;
+    if (criteria.getOrder() == OrderBy.ASC) {
+      // One more transaction tells if there is a next page.
+      List<Transaction> data = collect(candidates, filter, skip, skip + pageSize + 1);
+      boolean last = data.size() <= pageSize;
+      return new Page<>(last ? data : data.subList(0, pageSize), pageNumber, pageSize, last);
+    }
+    // The bitmaps are iterated in ascending order, a descending page is the window of ascending
+    // ranks that ends skip transactions before the last match.
+    long to = Math.max(0, count(candidates, filter) - skip);
+    long from = Math.max(0, to - pageSize);
+    List<Transaction> data = collect(candidates, filter, from, to);
+    Collections.reverse(data);
+    return new Page<>(data, pageNumber, pageSize, from == 0);
+  }
+
+  /**
+   * Collects the matching transactions with an ascending rank between from (inclusive) and to
+   * (exclusive).
+   */
+  private List<Transaction> collect(
+      SparseBitmap candidates, IntPredicate filter, long from, long to) {
+    List<Transaction> data = new ArrayList<>((int) (to - from));
+    PrimitiveIterator.OfInt iterator = candidates.intIterator();
+    long rank = 0;
+    while (rank < to && iterator.hasNext()) {
+      int ordinal = iterator.nextInt();
+      if (filter != null && !filter.test(ordinal)) {
+        continue;
+      }
+      if (rank >= from) {
+        data.add(transactions.get(ordinal));
+      }
+      rank++;
+    }
+    return data;
+  }
+
+  private SparseBitmap getCandidates(TransactionSearchCriteria criteria) {
+    List<SparseBitmap> bitmaps = new ArrayList<>();
+    bitmaps.add(getBitmap(groups, criteria.getGroup()));
+    if (!Boolean.TRUE.equals(criteria.getEmbedded())) {
+      bitmaps.add(topLevel);
+    }
+    if (criteria.getAddress() != null) {
+      bitmaps.add(getBitmap(addresses, criteria.getAddress()));
+    }
+    if (criteria.getRecipientAddress() != null) {
+      bitmaps.add(getBitmap(recipients, criteria.getRecipientAddress()));
+    }
+    if (criteria.getSignerPublicKey() != null) {
+      bitmaps.add(getBitmap(signers, criteria.getSignerPublicKey()));
+    }
+    if (criteria.getTransferMosaicId() != null) {
+      bitmaps.add(getBitmap(mosaics, criteria.getTransferMosaicId()));
+    }
+    if (criteria.getTransactionTypes() != null && !criteria.getTransactionTypes().isEmpty()) {
+      bitmaps.add(
+          SparseBitmap.batchOr(
+              criteria.getTransactionTypes().stream()
+                  .map(type -> getBitmap(types, type))
+                  .toArray(SparseBitmap[]::new)));
+    }
+    return SparseBitmap.batchAnd(bitmaps.toArray(new SparseBitmap[0]));
+  }
+
+  /** @return the filter of the criteria that are not indexed or null when there is none. */
+  private IntPredicate getFilter(TransactionSearchCriteria criteria) {
+    List<IntPredicate> filters = new ArrayList<>();
+    if (criteria.getHeight() != null) {
+      long height = criteria.getHeight().longValue();
+      filters.add(ordinal -> heights[ordinal] == height);
+    }
+    if (criteria.getFromHeight() != null) {
+      long fromHeight = criteria.getFromHeight().longValue();
+      filters.add(ordinal -> heights[ordinal] >= fromHeight);
+    }
+    if (criteria.getToHeight() != null) {
+      long toHeight = criteria.getToHeight().longValue();
+      filters.add(ordinal -> heights[ordinal] <= toHeight);
+    }
+    if (criteria.getTransferMosaicId() != null
+        && (criteria.getFromTransferAmount() != null || criteria.getToTransferAmount() != null)) {
+      MosaicId mosaicId = criteria.getTransferMosaicId();
+      BigInteger fromAmount = criteria.getFromTransferAmount();
+      BigInteger toAmount = criteria.getToTransferAmount();
+      filters.add(
+          ordinal -> {
+            BigInteger amount = getTransferAmount(transactions.get(ordinal), mosaicId);
+            return (fromAmount == null || amount.compareTo(fromAmount) >= 0)
+                && (toAmount == null || amount.compareTo(toAmount) <= 0);
+          });
+    }
+    return filters.stream().reduce(IntPredicate::and).orElse(null);
+  }
+
+  private void index(
+      int ordinal, Transaction transaction, TransactionGroup group, Set<Address> involved) {
+    transactions.add(transaction);
+    if (ordinal == heights.length) {
+      heights = Arrays.copyOf(heights, heights.length + (heights.length >> 1));
+    }
+    heights[ordinal] =
+        transaction
+            .getTransactionInfo()
+            .map(TransactionInfo::getHeight)
+            .map(BigInteger::longValue)
+            .orElse(0L);
+    set(groups, group, ordinal);
+    set(types, transaction.getType(), ordinal);
+    involved.forEach(address -> set(addresses, address, ordinal));
+    transaction
+        .getSigner()
+        .map(PublicAccount::getPublicKey)
+        .ifPresent(publicKey -> set(signers, publicKey, ordinal));
+    getRecipient(transaction).ifPresent(recipient -> set(recipients, recipient, ordinal));
+    if (transaction instanceof TransferTransaction) {
+      ((TransferTransaction) transaction)
+          .getMosaics().stream()
+              .map(Mosaic::getId)
+              .filter(MosaicId.class::isInstance)
+              .map(MosaicId.class::cast)
+              .distinct()
+              .forEach(mosaicId -> set(mosaics, mosaicId, ordinal));
+    }
+  }
+
+  private static <K> void set(Map<K, SparseBitmap> bitmaps, K key, int ordinal) {
+    bitmaps.computeIfAbsent(key, k -> SparseBitmap.createEmpty()).setWithoutAscendingCheck(ordinal);
+  }
+
+  private static <K> SparseBitmap getBitmap(Map<K, SparseBitmap> bitmaps, K key) {
+    SparseBitmap bitmap = bitmaps.get(key);
+    return bitmap == null ? SparseBitmap.createEmpty() : bitmap;
+  }
+
+  private static void addInvolvedAddresses(Transaction transaction, Set<Address> involved) {
+    transaction.getSigner().map(PublicAccount::getAddress).ifPresent(involved::add);
+    getRecipient(transaction).ifPresent(involved::add);
+    if (transaction instanceof AggregateTransaction) {
+      ((AggregateTransaction) transaction)
+          .getCosignatures().stream()
+              .map(AggregateTransactionCosignature::getSigner)
+              .map(PublicAccount::getAddress)
+              .forEach(involved::add);
+    }
+  }
+
+  private static Optional<Address> getRecipient(Transaction transaction) {
+    if (!(transaction instanceof RecipientTransaction)) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(((RecipientTransaction) transaction).getRecipient())
+        .filter(Address.class::isInstance)
+        .map(Address.class::cast);
+  }
+
+  private static List<Transaction> getInnerTransactions(Transaction transaction) {
+    if (transaction instanceof AggregateTransaction) {
+      return ((AggregateTransaction) transaction).getInnerTransactions();
+    }
+    return new ArrayList<>();
+  }
+
+  private static BigInteger getTransferAmount(Transaction transaction, MosaicId mosaicId) {
+    if (!(transaction instanceof TransferTransaction)) {
+      return BigInteger.ZERO;
+    }
+    return ((TransferTransaction) transaction)
+        .getMosaics().stream()
+            .filter(mosaic -> mosaicId.equals(mosaic.getId()))
+            .map(Mosaic::getAmount)
+            .reduce(BigInteger.ZERO, BigInteger::add);
+  }
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionLifecycleTracker;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransactionLifecycleEvent;
+import io.nem.symbol.sdk.model.transaction.TransactionLifecycleState;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusError;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.functions.Consumer;
+import io.reactivex.schedulers.Schedulers;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subjects.ReplaySubject;
+import io.reactivex.subjects.Subject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Implementation of {@link TransactionLifecycleTracker}. The listener must be open while
+ * transactions are tracked.
+ *
+ * <p>Every listener message is resolved to its tracked transaction with a single hash lookup.
+ */
+public class TransactionLifecycleTrackerImpl implements TransactionLifecycleTracker {
+
+  /** The listener used to receive the transaction messages. */
+  private final Listener listener;
+
+  /** The network epoch adjustment used to resolve the deadlines. */
+  private final Observable<Duration> epochAdjustmentObservable;
+
+  /** How long after its deadline an unconfirmed transaction expires. */
+  private Duration expirationGracePeriod = Duration.ofSeconds(30);
+
+  /** The scheduler of the expirations. */
+  private Scheduler scheduler = Schedulers.computation();
+
+  /** The transactions that haven't reached a terminal state, by upper case hash. */
+  private final Map<String, TrackedTransaction> trackedTransactions = new ConcurrentHashMap<>();
+
+  /** The listener subscriptions shared by the tracked transactions of each signer. */
+  private final SignerSubscriptions signerSubscriptions = new SignerSubscriptions(this::subscribe);
+
+  /** The transitions of all the tracked transactions. */
+  private final Subject<TransactionLifecycleEvent> events =
+      PublishSubject.<TransactionLifecycleEvent>create().toSerialized();
+
+  private volatile boolean closed;
+
+  /**
+   * Constructor.
+   *
+   * @param repositoryFactory the {@link RepositoryFactory} used to resolve the epoch adjustment.
+   * @param listener the open listener.
+   */
+  public TransactionLifecycleTrackerImpl(RepositoryFactory repositoryFactory, Listener listener) {
+    this(listener, repositoryFactory.getEpochAdjustment());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param listener the open listener.
+   * @param epochAdjustmentObservable the network epoch adjustment used to resolve the deadlines.
+   */
+  public TransactionLifecycleTrackerImpl(
+      Listener listener, Observable<Duration> epochAdjustmentObservable) {
+    Validate.notNull(listener, "listener is required");
+    Validate.notNull(epochAdjustmentObservable, "epochAdjustmentObservable is required");
+    this.listener = listener;
+    this.epochAdjustmentObservable = epochAdjustmentObservable;
+  }
+
+  /**
+   * @param expirationGracePeriod how long after its deadline an unconfirmed transaction expires.
+   * @return this tracker.
+   */
+  public TransactionLifecycleTrackerImpl withExpirationGracePeriod(Duration expirationGracePeriod) {
+    Validate.notNull(expirationGracePeriod, "expirationGracePeriod is required");
+    this.expirationGracePeriod = expirationGracePeriod;
+    return this;
+  }
+
+  /**
+   * @param scheduler the scheduler of the expirations.
+   * @return this tracker.
+   */
+  public TransactionLifecycleTrackerImpl withScheduler(Scheduler scheduler) {
+    Validate.notNull(scheduler, "scheduler is required");
+    this.scheduler = scheduler;
+    return this;
+  }
+
+  @Override
+  public Observable<TransactionLifecycleEvent> track(
+      SignedTransaction signedTransaction, Deadline deadline) {
+    Validate.notNull(signedTransaction, "signedTransaction is required");
+    return track(signedTransaction.getSigner().getAddress(), signedTransaction.getHash(), deadline);
+  }
+
+  @Override
+  public Observable<TransactionLifecycleEvent> track(
+      Address signer, String transactionHash, Deadline deadline) {
+    Validate.notNull(signer, "signer is required");
+    Validate.notNull(transactionHash, "transactionHash is required");
+    Validate.notNull(deadline, "deadline is required");
+    Validate.validState(!closed, "The tracker has been closed");
+    String key = transactionHash.toUpperCase();
+    TrackedTransaction tracked = new TrackedTransaction(signer, key);
+    TrackedTransaction existing = trackedTransactions.putIfAbsent(key, tracked);
+    if (existing != null) {
+      return existing.getTransitions();
+    }
+    signerSubscriptions.acquire(signer);
+    tracked.transition(TransactionLifecycleState.ANNOUNCED, null, null);
+    tracked.setExpiration(
+        epochAdjustmentObservable
+            .take(1)
+            .flatMap(
+                epochAdjustment ->
+                    Observable.timer(
+                        getExpirationDelay(deadline, epochAdjustment),
+                        TimeUnit.MILLISECONDS,
+                        scheduler))
+            .subscribe(
+                t -> tracked.transition(TransactionLifecycleState.EXPIRED, null, null),
+                // Without the epoch adjustment, the transaction could never expire.
+                tracked::fail));
+    return tracked.getTransitions();
+  }
+
+  private long getExpirationDelay(Deadline deadline, Duration epochAdjustment) {
+    long expiration =
+        deadline.getInstant(epochAdjustment).toEpochMilli() + expirationGracePeriod.toMillis();
+    return Math.max(0, expiration - scheduler.now(TimeUnit.MILLISECONDS));
+  }
+
+  @Override
+  public Observable<TransactionLifecycleEvent> events() {
+    return events.hide();
+  }
+
+  @Override
+  public int getTrackedCount() {
+    return trackedTransactions.size();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    signerSubscriptions.dispose();
+    List<TrackedTransaction> tracked = new ArrayList<>(trackedTransactions.values());
+    trackedTransactions.clear();
+    tracked.forEach(TrackedTransaction::close);
+    events.onComplete();
+  }
+
+  private Disposable subscribe(Address signer) {
+    CompositeDisposable disposable = new CompositeDisposable();
+    Consumer<Throwable> onError = error -> onError(signer, error);
+    disposable.add(
+        listener
+            .unconfirmedAdded(signer)
+            .subscribe(t -> onTransaction(TransactionLifecycleState.UNCONFIRMED, t), onError));
+    disposable.add(
+        listener
+            .aggregateBondedAdded(signer)
+            .subscribe(t -> onTransaction(TransactionLifecycleState.PARTIAL, t), onError));
+    disposable.add(
+        listener
+            .confirmed(signer)
+            .subscribe(t -> onTransaction(TransactionLifecycleState.CONFIRMED, t), onError));
+    disposable.add(listener.status(signer).subscribe(this::onStatus, onError));
+    return disposable;
+  }
+
+  private void onTransaction(TransactionLifecycleState state, Transaction transaction) {
+    transaction
+        .getTransactionInfo()
+        .flatMap(TransactionInfo::getHash)
+        .map(hash -> trackedTransactions.get(hash.toUpperCase()))
+        .ifPresent(tracked -> tracked.transition(state, transaction, null));
+  }
+
+  private void onStatus(TransactionStatusError statusError) {
+    if (statusError.getHash() == null) {
+      return;
+    }
+    TrackedTransaction tracked = trackedTransactions.get(statusError.getHash().toUpperCase());
+    if (tracked != null) {
+      tracked.transition(TransactionLifecycleState.FAILED, null, statusError);
+    }
+  }
+
+  /**
+   * Forwards a listener error to the transitions of the signer's tracked transactions. Without the
+   * listener they would never leave their current state.
+   */
+  private void onError(Address signer, Throwable error) {
+    List<TrackedTransaction> tracked = new ArrayList<>(trackedTransactions.values());
+    tracked.stream().filter(t -> t.signer.equals(signer)).forEach(t -> t.fail(error));
+  }
+
+  /** A transaction that hasn't reached a terminal state. */
+  private final class TrackedTransaction {
+
+    private final Address signer;
+    private final String transactionHash;
+    private final Subject<TransactionLifecycleEvent> transitions = ReplaySubject.create(4);
+    private TransactionLifecycleState state;
+    private boolean terminated;
+    private Disposable expiration;
+
+    private TrackedTransaction(Address signer, String transactionHash) {
+      this.signer = signer;
+      this.transactionHash = transactionHash;
+    }
+
+    private Observable<TransactionLifecycleEvent> getTransitions() {
+      return transitions.hide();
+    }
+
+    /**
+     * Moves the transaction to a new state. Messages for the current state, for terminated
+     * transactions or that would move the transaction back to {@link
+     * TransactionLifecycleState#ANNOUNCED} are ignored.
+     */
+    private void transition(
+        TransactionLifecycleState newState,
+        Transaction transaction,
+        TransactionStatusError statusError) {
+      Disposable expirationToDispose;
+      synchronized (this) {
+        if (terminated
+            || state == newState
+            || (state != null && newState == TransactionLifecycleState.ANNOUNCED)) {
+          return;
+        }
+        state = newState;
+        TransactionLifecycleEvent event =
+            new TransactionLifecycleEvent(
+                signer, transactionHash, newState, transaction, statusError);
+        transitions.onNext(event);
+        events.onNext(event);
+        if (!newState.isTerminal()) {
+          return;
+        }
+        terminated = true;
+        transitions.onComplete();
+        expirationToDispose = expiration;
+      }
+      terminate(expirationToDispose);
+    }
+
+    /** Terminates the transitions with the listener error. */
+    private void fail(Throwable error) {
+      Disposable expirationToDispose;
+      synchronized (this) {
+        if (terminated) {
+          return;
+        }
+        terminated = true;
+        transitions.onError(error);
+        expirationToDispose = expiration;
+      }
+      terminate(expirationToDispose);
+    }
+
+    private void terminate(Disposable expirationToDispose) {
+      if (expirationToDispose != null) {
+        expirationToDispose.dispose();
+      }
+      if (trackedTransactions.remove(transactionHash, this)) {
+        signerSubscriptions.release(signer);
+      }
+    }
+
+    private void setExpiration(Disposable expiration) {
+      boolean alreadyTerminated;
+      synchronized (this) {
+        this.expiration = expiration;
+        alreadyTerminated = terminated;
+      }
+      if (alreadyTerminated) {
+        expiration.dispose();
+      }
+    }
+
+    private void close() {
+      Disposable expirationToDispose;
+      synchronized (this) {
+        if (terminated) {
+          return;
+        }
+        terminated = true;
+        expirationToDispose = expiration;
+        transitions.onComplete();
+      }
+      if (expirationToDispose != null) {
+        expirationToDispose.dispose();
+      }
+    }
+  }
+}
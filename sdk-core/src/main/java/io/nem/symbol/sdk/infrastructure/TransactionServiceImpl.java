@@ -20,6 +20,7 @@ import io.nem.symbol.sdk.api.ReceiptPaginationStreamer;
 import io.nem.symbol.sdk.api.ReceiptRepository;
 import io.nem.symbol.sdk.api.RepositoryFactory;
 import io.nem.symbol.sdk.api.ResolutionStatementSearchCriteria;
+import io.nem.symbol.sdk.api.SdkMetrics;
 import io.nem.symbol.sdk.api.TransactionRepository;
 import io.nem.symbol.sdk.api.TransactionService;
 import io.nem.symbol.sdk.model.account.Address;
@@ -95,10 +96,12 @@ public class TransactionServiceImpl implements TransactionService {
     Validate.notNull(signedTransaction, "signedTransaction is required");
     Observable<TransactionAnnounceResponse> announce =
         transactionRepository.announce(signedTransaction);
-    return announce.flatMap(
-        r ->
-            listener.confirmedOrError(
-                signedTransaction.getSigner().getAddress(), signedTransaction.getHash()));
+    return announce
+        .flatMap(
+            r ->
+                listener.confirmedOrError(
+                    signedTransaction.getSigner().getAddress(), signedTransaction.getHash()))
+        .compose(SdkMetrics.timedService("TransactionService", "announce"));
   }
 
   @Override
@@ -110,11 +113,13 @@ public class TransactionServiceImpl implements TransactionService {
         "signedAggregateTransaction type must be AGGREGATE_BONDED");
     Observable<TransactionAnnounceResponse> announce =
         transactionRepository.announceAggregateBonded(signedAggregateTransaction);
-    return announce.flatMap(
-        r ->
-            listener.aggregateBondedAddedOrError(
-                signedAggregateTransaction.getSigner().getAddress(),
-                signedAggregateTransaction.getHash()));
+    return announce
+        .flatMap(
+            r ->
+                listener.aggregateBondedAddedOrError(
+                    signedAggregateTransaction.getSigner().getAddress(),
+                    signedAggregateTransaction.getHash()))
+        .compose(SdkMetrics.timedService("TransactionService", "announceAggregateBonded"));
   }
 
   @Override
@@ -131,7 +136,8 @@ public class TransactionServiceImpl implements TransactionService {
         signedHashLockTransaction.getType() == TransactionType.HASH_LOCK,
         "signedHashLockTransaction type must be LOCK");
     return announce(listener, signedHashLockTransaction)
-        .flatMap(t -> announceAggregateBonded(listener, signedAggregateTransaction));
+        .flatMap(t -> announceAggregateBonded(listener, signedAggregateTransaction))
+        .compose(SdkMetrics.timedService("TransactionService", "announceHashLockAggregateBonded"));
   }
 
   @Override
@@ -143,7 +149,8 @@ public class TransactionServiceImpl implements TransactionService {
             transaction ->
                 resolveTransaction(transaction, createExpectedReceiptSource(transaction)))
         .toList()
-        .toObservable();
+        .toObservable()
+        .compose(SdkMetrics.timedService("TransactionService", "resolveAliases"));
   }
 
   private Observable<Transaction> resolveTransaction(
@@ -20,6 +20,8 @@ import io.nem.symbol.core.crypto.DsaSigner;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.PrivateKey;
 import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.core.utils.Suppliers;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
 import io.nem.symbol.sdk.model.transaction.AggregateTransactionCosignature;
@@ -28,6 +30,10 @@ import io.nem.symbol.sdk.model.transaction.CosignatureTransaction;
 import io.nem.symbol.sdk.model.transaction.SignedTransaction;
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * The account structure describes an account private key, public key, address and allows signing
@@ -43,6 +49,8 @@ public class Account {
 
   private final NetworkType networkType;
 
+  private final Supplier<DsaSigner> dsaSigner;
+
   /**
    * Constructor
    *
@@ -50,15 +58,15 @@ public class Account {
    * @param networkType NetworkType
    */
   public Account(String privateKey, NetworkType networkType) {
-    this.keyPair = KeyPair.fromPrivate(PrivateKey.fromHexString(privateKey));
-    this.publicAccount = new PublicAccount(this.getPublicKey(), networkType);
-    this.networkType = networkType;
+    this(KeyPair.fromPrivate(PrivateKey.fromHexString(privateKey)), networkType);
   }
 
   public Account(KeyPair keyPair, NetworkType networkType) {
     this.keyPair = keyPair;
-    this.publicAccount = new PublicAccount(this.getPublicKey(), networkType);
+    this.publicAccount = new PublicAccount(keyPair.getPublicKey(), networkType);
     this.networkType = networkType;
+    this.dsaSigner =
+        Suppliers.memoize(() -> CryptoEngines.defaultEngine().createDsaSigner(this.keyPair));
   }
 
   /**
@@ -109,6 +117,16 @@ public class Account {
     return keyPair;
   }
 
+  /**
+   * The account's DSA signer. The signer is created once and reused, the expanded private key is
+   * only calculated the first time the account signs.
+   *
+   * @return {@link DsaSigner}
+   */
+  public DsaSigner getDsaSigner() {
+    return dsaSigner.get();
+  }
+
   /**
    * Account address.
    *
@@ -138,6 +156,46 @@ public class Account {
     return transaction.signWith(this, generationHash);
   }
 
+  /**
+   * Sign many transactions with this account. The account's expanded private key is reused for all
+   * the signatures.
+   *
+   * @param transactions The transactions to be signed.
+   * @param generationHash the generation hash.
+   * @return the list of {@link SignedTransaction} in the same order of the provided transactions.
+   */
+  public List<SignedTransaction> signTransactions(
+      final List<? extends Transaction> transactions, final String generationHash) {
+    return transactions.stream()
+        .map(transaction -> sign(transaction, generationHash))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Sign many transactions with this account in parallel using the provided executor. The account's
+   * expanded private key is reused for all the signatures.
+   *
+   * @param transactions The transactions to be signed.
+   * @param generationHash the generation hash.
+   * @param executor the executor where the signatures are calculated.
+   * @return the list of {@link SignedTransaction} in the same order of the provided transactions.
+   */
+  public List<SignedTransaction> signTransactions(
+      final List<? extends Transaction> transactions,
+      final String generationHash,
+      final Executor executor) {
+    List<CompletableFuture<SignedTransaction>> futures =
+        transactions.stream()
+            .map(
+                transaction ->
+                    CompletableFuture.supplyAsync(
+                        () -> sign(transaction, generationHash), executor))
+            .collect(Collectors.toList());
+    return futures.stream()
+        .map(future -> ExceptionUtils.propagate(future::get))
+        .collect(Collectors.toList());
+  }
+
   /**
    * Sign aggregate signature transaction.
    *
@@ -156,7 +214,7 @@ public class Account {
    * @return {@link CosignatureSignedTransaction}
    */
   public CosignatureSignedTransaction signCosignatureTransaction(String transactionHash) {
-    DsaSigner signer = CryptoEngines.defaultEngine().createDsaSigner(this.getKeyPair());
+    DsaSigner signer = this.getDsaSigner();
     byte[] bytes = ConvertUtils.fromHexToBytes(transactionHash);
     byte[] signatureBytes = signer.sign(bytes).getBytes();
     return new CosignatureSignedTransaction(
@@ -181,6 +239,25 @@ public class Account {
     return transaction.signTransactionWithCosigners(this, cosignatories, generationHash);
   }
 
+  /**
+   * Sign transaction with cosignatories creating a new SignedTransaction. The cosignatures are
+   * calculated in parallel using the provided executor. The cosignatures are added to the payload
+   * in the same order of the provided cosignatories.
+   *
+   * @param transaction The aggregate transaction to be signed.
+   * @param cosignatories The list of accounts that will cosign the transaction
+   * @param generationHash the generation hash.
+   * @param executor the executor where the cosignatures are calculated.
+   * @return {@link SignedTransaction}
+   */
+  public SignedTransaction signTransactionWithCosignatories(
+      final AggregateTransaction transaction,
+      final List<Account> cosignatories,
+      final String generationHash,
+      final Executor executor) {
+    return transaction.signTransactionWithCosigners(this, cosignatories, generationHash, executor);
+  }
+
   /**
    * Sign transaction with cosignatures creating a new SignedTransaction.
    *
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.KeyGenerator;
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.RawAddress;
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Utility that generates random accounts in bulk using all the available cores. Accounts can be
+ * filtered by an address prefix (vanity addresses) or a regular expression.
+ *
+ * <p>Addresses are computed and matched in their raw form, the Base32 string representation is only
+ * created when a regular expression is provided or when the caller asks for it.
+ */
+public class AccountGenerator {
+
+  /** The Base32 alphabet used by the plain addresses. */
+  private static final String BASE32_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+
+  /** The plain address size. */
+  private static final int PLAIN_ADDRESS_SIZE = 39;
+
+  /** The amount of bits encoded in one Base32 char. */
+  private static final int BITS_PER_CHAR = 5;
+
+  private final NetworkType networkType;
+
+  private final KeyGenerator keyGenerator;
+
+  private int parallelism = Runtime.getRuntime().availableProcessors();
+
+  private Predicate<byte[]> addressFilter = rawAddress -> true;
+
+  /**
+   * Constructor.
+   *
+   * @param networkType the network type of the generated accounts.
+   */
+  public AccountGenerator(NetworkType networkType) {
+    Validate.notNull(networkType, "networkType must not be null");
+    this.networkType = networkType;
+    this.keyGenerator = CryptoEngines.defaultEngine().createKeyGenerator();
+  }
+
+  /**
+   * Sets the number of threads generating accounts. Defaults to the available processors.
+   *
+   * @param parallelism the number of threads.
+   * @return this generator.
+   */
+  public AccountGenerator withParallelism(int parallelism) {
+    Validate.isTrue(parallelism > 0, "parallelism must be greater than 0");
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * Only accounts whose plain address starts with the given prefix are generated. The prefix is
+   * compared against the raw address bits, no Base32 encoding is performed per candidate.
+   *
+   * <p>Note that the first char of the address is given by the network type and the second one is
+   * partially constrained by it. Every extra char makes the search 32 times slower.
+   *
+   * @param prefix the plain address prefix, for example "TALICE".
+   * @return this generator.
+   */
+  public AccountGenerator withPrefix(String prefix) {
+    Validate.notNull(prefix, "prefix must not be null");
+    String plainPrefix = prefix.trim().toUpperCase().replace("-", "");
+    Validate.isTrue(
+        plainPrefix.length() <= PLAIN_ADDRESS_SIZE,
+        "prefix cannot be longer than " + PLAIN_ADDRESS_SIZE + " chars");
+    int[] values = new int[plainPrefix.length()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = BASE32_ALPHABET.indexOf(plainPrefix.charAt(i));
+      Validate.isTrue(values[i] >= 0, "Invalid Base32 char in prefix " + prefix);
+    }
+    byte[] networkByte = new byte[] {(byte) networkType.getValue()};
+    for (int i = 0; i < Math.min(2, values.length); i++) {
+      int fixedBits = Math.min(BITS_PER_CHAR, Byte.SIZE - i * BITS_PER_CHAR);
+      int shift = BITS_PER_CHAR - fixedBits;
+      Validate.isTrue(
+          (values[i] >> shift) == (getChar(networkByte, i) >> shift),
+          "prefix " + prefix + " cannot be generated for network type " + networkType);
+    }
+    this.addressFilter = rawAddress -> startsWith(rawAddress, values);
+    return this;
+  }
+
+  /**
+   * Only accounts whose plain address matches the given pattern are generated. This filter needs to
+   * Base32 encode every candidate, use {@link #withPrefix(String)} when possible. The generation
+   * never ends if the pattern cannot be matched by any address.
+   *
+   * @param pattern the pattern the plain address must match.
+   * @return this generator.
+   */
+  public AccountGenerator withPattern(Pattern pattern) {
+    Validate.notNull(pattern, "pattern must not be null");
+    this.addressFilter =
+        rawAddress -> pattern.matcher(RawAddress.toPlainAddress(rawAddress)).matches();
+    return this;
+  }
+
+  /**
+   * Generates the given number of accounts and returns them.
+   *
+   * @param count the number of accounts to generate.
+   * @return the generated accounts, in no particular order.
+   */
+  public List<GeneratedAccount> generate(int count) {
+    List<GeneratedAccount> accounts = Collections.synchronizedList(new ArrayList<>(count));
+    generate(count, accounts::add);
+    return new ArrayList<>(accounts);
+  }
+
+  /**
+   * Generates the given number of accounts streaming them to the sink as soon as they are found.
+   * This method blocks until all the accounts have been generated.
+   *
+   * <p>The sink is called concurrently from the generator threads so it must be thread safe.
+   *
+   * @param count the number of accounts to generate.
+   * @param sink the consumer of the generated accounts.
+   */
+  public void generate(long count, Consumer<GeneratedAccount> sink) {
+    Validate.isTrue(count >= 0, "count must not be negative");
+    Validate.notNull(sink, "sink must not be null");
+    if (count == 0) {
+      return;
+    }
+    AtomicLong remaining = new AtomicLong(count);
+    Predicate<byte[]> filter = this.addressFilter;
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    try {
+      List<CompletableFuture<Void>> futures =
+          IntStream.range(0, parallelism)
+              .mapToObj(
+                  i ->
+                      CompletableFuture.runAsync(() -> generate(remaining, filter, sink), executor))
+              .collect(Collectors.toList());
+      futures.forEach(future -> ExceptionUtils.propagate(future::get));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void generate(
+      AtomicLong remaining, Predicate<byte[]> filter, Consumer<GeneratedAccount> sink) {
+    // One random generator per thread, seeding a new SecureRandom per key is expensive.
+    SecureRandom random = new SecureRandom();
+    try {
+      while (remaining.get() > 0 && !Thread.currentThread().isInterrupted()) {
+        byte[] privateKeyBytes = new byte[PrivateKey.SIZE];
+        random.nextBytes(privateKeyBytes);
+        PrivateKey privateKey = new PrivateKey(privateKeyBytes);
+        PublicKey publicKey = keyGenerator.derivePublicKey(privateKey);
+        byte[] rawAddress = RawAddress.generateAddressBytes(publicKey.getBytes(), networkType);
+        if (filter.test(rawAddress) && remaining.getAndDecrement() > 0) {
+          sink.accept(new GeneratedAccount(privateKey, publicKey, rawAddress, networkType));
+        }
+      }
+    } catch (RuntimeException e) {
+      // stop the other workers.
+      remaining.set(0);
+      throw e;
+    }
+  }
+
+  /**
+   * It checks that the Base32 encoding of the raw address starts with the given chars values.
+   *
+   * @param rawAddress the raw address.
+   * @param values the Base32 values of the prefix chars.
+   * @return true if the address starts with the prefix.
+   */
+  private static boolean startsWith(byte[] rawAddress, int[] values) {
+    for (int i = 0; i < values.length; i++) {
+      if (getChar(rawAddress, i) != values[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * It returns the Base32 value (0-31) of the char at the given position without encoding the
+   * bytes. Missing trailing bits are considered 0 as the Base32 encoder does.
+   *
+   * @param bytes the raw bytes.
+   * @param charIndex the char position.
+   * @return the char value.
+   */
+  private static int getChar(byte[] bytes, int charIndex) {
+    int bitIndex = charIndex * BITS_PER_CHAR;
+    int byteIndex = bitIndex / Byte.SIZE;
+    int window = (bytes[byteIndex] & 0xFF) << Byte.SIZE;
+    if (byteIndex + 1 < bytes.length) {
+      window |= bytes[byteIndex + 1] & 0xFF;
+    }
+    int shift = 2 * Byte.SIZE - BITS_PER_CHAR - bitIndex % Byte.SIZE;
+    return (window >> shift) & 0x1F;
+  }
+}
@@ -169,7 +169,7 @@ public class AccountInfo implements Stored {
    * @return {@link PublicAccount}
    */
   public PublicAccount getPublicAccount() {
-    return PublicAccount.createFromPublicKey(this.publicKey.toHex(), this.address.getNetworkType());
+    return new PublicAccount(this.publicKey, this.address.getNetworkType());
   }
 
   /** @return the account type. */
@@ -21,9 +21,13 @@ import io.nem.symbol.core.crypto.RawAddress;
 import io.nem.symbol.core.utils.Base32Encoder;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.network.NetworkType;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.WeakHashMap;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
@@ -38,15 +42,33 @@ public class Address implements UnresolvedAddress {
   private static final int PLAIN_ADDRESS_SIZE = 39;
 
   /** The raw address size. */
-  private static final int RAW_ADDRESS_SIZE = 24;
+  public static final int RAW_ADDRESS_SIZE = RawAddress.RAW_ADDRESS_SIZE;
 
   /** The checksum size. */
   private static final int CHECKSUM_SIZE = RawAddress.NUM_CHECKSUM_BYTES;
 
-  private final String plainAddress;
+  /** The bits of the first byte that give the first char of the plain address. */
+  private static final int NETWORK_PREFIX_MASK = 0xF8;
+
+  /** Interned addresses, see {@link #intern()}. */
+  private static final Map<Address, WeakReference<Address>> INTERNED = new WeakHashMap<>();
+
+  /** The raw address bytes 0 to 7. */
+  private final long first;
+
+  /** The raw address bytes 8 to 15. */
+  private final long second;
+
+  /** The raw address bytes 16 to 23. */
+  private final long third;
 
   private final NetworkType networkType;
 
+  private final int hashCode;
+
+  /** The plain address, Base32 encoded on first use. */
+  private volatile String plain;
+
   /**
    * Constructor
    *
@@ -54,14 +76,112 @@ public class Address implements UnresolvedAddress {
    * @param networkType Network type
    */
   public Address(String prettyOrRaw, NetworkType networkType) {
-    this.plainAddress = toPlainAddress(Validate.notNull(prettyOrRaw, "address must not be null"));
+    this(toValidatedBytes(Validate.notNull(prettyOrRaw, "address must not be null")), networkType);
+  }
+
+  /**
+   * Constructor from the already validated raw address bytes.
+   *
+   * @param rawAddress the {@link #RAW_ADDRESS_SIZE} bytes of the address.
+   * @param networkType Network type
+   */
+  Address(byte[] rawAddress, NetworkType networkType) {
+    this(
+        toLong(rawAddress, 0),
+        toLong(rawAddress, Long.BYTES),
+        toLong(rawAddress, 2 * Long.BYTES),
+        networkType);
+  }
+
+  /**
+   * Constructor from the raw address bytes packed in big endian longs.
+   *
+   * @param first the raw address bytes 0 to 7.
+   * @param second the raw address bytes 8 to 15.
+   * @param third the raw address bytes 16 to 23.
+   * @param networkType Network type
+   */
+  private Address(long first, long second, long third, NetworkType networkType) {
     this.networkType = Objects.requireNonNull(networkType, "networkType must not be null");
-    Optional<String> validationError = validatePlainAddress(this.plainAddress);
-    Validate.isTrue(!validationError.isPresent(), validationError.orElse(""));
-    char addressNetwork = this.plainAddress.charAt(0);
     Validate.isTrue(
-        addressNetwork == this.networkType.getAddressPrefix(),
+        (first >>> (Long.SIZE - Byte.SIZE) & NETWORK_PREFIX_MASK)
+            == (this.networkType.getValue() & NETWORK_PREFIX_MASK),
         this.networkType + " Address must start with " + this.networkType.getAddressPrefix());
+    this.first = first;
+    this.second = second;
+    this.third = third;
+    this.hashCode = hash(first, second, third);
+  }
+
+  /**
+   * The hash code of the packed raw address.
+   *
+   * @param first the raw address bytes 0 to 7.
+   * @param second the raw address bytes 8 to 15.
+   * @param third the raw address bytes 16 to 23.
+   * @return the hash code.
+   */
+  static int hash(long first, long second, long third) {
+    return Long.hashCode(first) * 961 + Long.hashCode(second) * 31 + Long.hashCode(third);
+  }
+
+  private static long toLong(byte[] bytes, int offset) {
+    return ByteBuffer.wrap(bytes, offset, Long.BYTES).getLong();
+  }
+
+  /**
+   * It writes the packed raw address into the target array. Used by the compact address
+   * collections.
+   *
+   * @param target the target array.
+   * @param offset the offset where the 3 longs are written.
+   */
+  void copyTo(long[] target, int offset) {
+    target[offset] = first;
+    target[offset + 1] = second;
+    target[offset + 2] = third;
+  }
+
+  /**
+   * It checks if the packed raw address at the given offset is this address.
+   *
+   * @param source the source array.
+   * @param offset the offset of the 3 longs.
+   * @return if the packed raw address is this address.
+   */
+  boolean equalsAt(long[] source, int offset) {
+    return source[offset] == first && source[offset + 1] == second && source[offset + 2] == third;
+  }
+
+  /**
+   * It creates an address from the packed raw address stored by {@link #copyTo(long[], int)}.
+   *
+   * @param source the source array.
+   * @param offset the offset of the 3 longs.
+   * @return the address.
+   */
+  static Address readFrom(long[] source, int offset) {
+    long first = source[offset];
+    int prefix = (int) (first >>> (Long.SIZE - Byte.SIZE)) & NETWORK_PREFIX_MASK;
+    NetworkType networkType =
+        Arrays.stream(NetworkType.values())
+            .filter(e -> (e.getValue() & NETWORK_PREFIX_MASK) == prefix)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown network type " + prefix));
+    return new Address(first, source[offset + 1], source[offset + 2], networkType);
+  }
+
+  /**
+   * It validates a plain or pretty address returning the decoded raw bytes.
+   *
+   * @param prettyOrRaw the plain or pretty address.
+   * @return the raw address bytes.
+   */
+  private static byte[] toValidatedBytes(String prettyOrRaw) {
+    String plainAddress = toPlainAddress(prettyOrRaw);
+    Optional<String> validationError = validatePlainAddress(plainAddress);
+    Validate.isTrue(!validationError.isPresent(), validationError.orElse(""));
+    return Base32Encoder.getBytes(plainAddress);
   }
 
   /**
@@ -123,6 +243,38 @@ public class Address implements UnresolvedAddress {
     return new Address(RawAddress.generateAddress(publicKey, networkType), networkType);
   }
 
+  /**
+   * Creates an address based on the public key and the network type without going through the
+   * string representations.
+   *
+   * @param publicKey the {@link PublicKey}
+   * @param networkType the {@link NetworkType}
+   * @return Address
+   * @see RawAddress
+   */
+  static Address createFromPublicKey(PublicKey publicKey, NetworkType networkType) {
+    return new Address(
+        RawAddress.generateAddressBytes(publicKey.getBytes(), networkType), networkType);
+  }
+
+  /**
+   * Create an Address from the raw, decoded, address bytes. The network type is resolved from the
+   * first byte.
+   *
+   * @param rawAddress the {@link #RAW_ADDRESS_SIZE} bytes of the address.
+   * @return {@link Address}
+   */
+  public static Address createFromBytes(byte[] rawAddress) {
+    Validate.notNull(rawAddress, "rawAddress must not be null");
+    Validate.isTrue(
+        rawAddress.length == RAW_ADDRESS_SIZE,
+        "Raw address size is " + rawAddress.length + " when " + RAW_ADDRESS_SIZE + " is required");
+    String plainAddress = RawAddress.toPlainAddress(rawAddress);
+    Optional<String> validationError = validatePlainAddress(plainAddress);
+    Validate.isTrue(!validationError.isPresent(), validationError.orElse(""));
+    return new Address(rawAddress, resolveNetworkType(plainAddress));
+  }
+
   /**
    * Determines the validity of a plainAddress address.
    *
@@ -247,7 +399,44 @@ public class Address implements UnresolvedAddress {
    * @return String
    */
   public String plain() {
-    return this.plainAddress;
+    String value = plain;
+    if (value == null) {
+      value = RawAddress.toPlainAddress(getBytes());
+      plain = value;
+    }
+    return value;
+  }
+
+  /**
+   * Returns the raw, decoded, address bytes.
+   *
+   * @return a new array with the {@link #RAW_ADDRESS_SIZE} bytes of the address.
+   */
+  public byte[] getBytes() {
+    return ByteBuffer.allocate(RAW_ADDRESS_SIZE)
+        .putLong(first)
+        .putLong(second)
+        .putLong(third)
+        .array();
+  }
+
+  /**
+   * Returns the canonical instance of this address. Addresses that are seen repeatedly (like the
+   * ones of a watched account set) can be interned so a single instance is kept in memory. Interned
+   * addresses are weakly referenced and released once they are no longer used.
+   *
+   * @return the interned address equal to this one.
+   */
+  public Address intern() {
+    synchronized (INTERNED) {
+      WeakReference<Address> reference = INTERNED.get(this);
+      Address interned = reference == null ? null : reference.get();
+      if (interned == null) {
+        INTERNED.put(this, new WeakReference<>(this));
+        interned = this;
+      }
+      return interned;
+    }
   }
 
   /**
@@ -276,7 +465,7 @@ public class Address implements UnresolvedAddress {
    * @return the encoded plain address.
    */
   public String encoded() {
-    return fromPlainToEncoded(plain());
+    return ConvertUtils.toHex(getBytes());
   }
 
   /**
@@ -285,18 +474,7 @@ public class Address implements UnresolvedAddress {
    * @return String
    */
   public String pretty() {
-    return this.plainAddress.replaceAll("(.{6})", "$1-");
-  }
-
-  /**
-   * Concert a encoded address to a plain one
-   *
-   * @param plain the plain address.
-   * @return the encoded address.
-   */
-  private static String fromPlainToEncoded(String plain) {
-    byte[] bytes = Base32Encoder.getBytes(plain);
-    return ConvertUtils.toHex(bytes);
+    return plain().replaceAll("(.{6})", "$1-");
   }
 
   /**
@@ -325,12 +503,15 @@ public class Address implements UnresolvedAddress {
       return false;
     }
     Address address1 = (Address) o;
-    return Objects.equals(plainAddress, address1.plainAddress)
+    return hashCode == address1.hashCode
+        && first == address1.first
+        && second == address1.second
+        && third == address1.third
         && networkType == address1.networkType;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(plainAddress, networkType);
+    return hashCode;
   }
 }
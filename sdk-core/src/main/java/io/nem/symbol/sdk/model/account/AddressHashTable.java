@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import java.util.Arrays;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Open addressing hash table of {@link Address} keys. Each key is stored as 3 packed longs instead
+ * of an object reference, entries are found using linear probing and removed using backward shift
+ * deletion so no tombstones are needed.
+ *
+ * <p>A slot is free when its first long is 0, valid addresses always have the network type in the
+ * first byte.
+ */
+abstract class AddressHashTable {
+
+  /** The number of longs used per address. */
+  private static final int LONGS_PER_KEY = 3;
+
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] keys;
+
+  private Object[] values;
+
+  private int size;
+
+  private int mask;
+
+  private final boolean withValues;
+
+  /**
+   * Constructor.
+   *
+   * @param expectedSize the number of entries that can be added without resizing.
+   * @param withValues if the table stores a value per key.
+   */
+  AddressHashTable(int expectedSize, boolean withValues) {
+    Validate.isTrue(expectedSize >= 0, "expectedSize must not be negative");
+    this.withValues = withValues;
+    allocate(capacityFor(expectedSize));
+  }
+
+  private static int capacityFor(int expectedSize) {
+    // load factor of 0.5
+    int capacity = MIN_CAPACITY;
+    while (capacity < expectedSize * 2L) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private void allocate(int capacity) {
+    this.keys = new long[capacity * LONGS_PER_KEY];
+    this.values = withValues ? new Object[capacity] : null;
+    this.mask = capacity - 1;
+  }
+
+  private int home(int hashCode) {
+    // spreads the hash code so the lower bits used by the mask depend on all the bits.
+    int hash = hashCode * 0x9E3779B9;
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  private int home(long[] source, int offset) {
+    return home(Address.hash(source[offset], source[offset + 1], source[offset + 2]));
+  }
+
+  /**
+   * It finds the slot of the address.
+   *
+   * @param address the address.
+   * @return the slot or -1 if the address is not present.
+   */
+  int find(Address address) {
+    Validate.notNull(address, "address must not be null");
+    int capacity = mask + 1;
+    int slot = home(address.hashCode());
+    for (int i = 0; i < capacity; i++) {
+      int offset = slot * LONGS_PER_KEY;
+      if (keys[offset] == 0) {
+        return -1;
+      }
+      if (address.equalsAt(keys, offset)) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  /**
+   * It finds the slot of the address adding it if it's not present.
+   *
+   * @param address the address.
+   * @return the slot if the address was present or (-slot - 1) if it has been added.
+   */
+  int insert(Address address) {
+    Validate.notNull(address, "address must not be null");
+    if ((size + 1) * 2L > mask + 1) {
+      rehash((mask + 1) << 1);
+    }
+    int slot = home(address.hashCode());
+    while (true) {
+      int offset = slot * LONGS_PER_KEY;
+      if (keys[offset] == 0) {
+        address.copyTo(keys, offset);
+        size++;
+        return -slot - 1;
+      }
+      if (address.equalsAt(keys, offset)) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  /**
+   * It removes the entry at the given slot shifting back the following entries of the cluster.
+   *
+   * @param slot the slot of the entry to be removed.
+   */
+  void removeAt(int slot) {
+    int free = slot;
+    int next = slot;
+    while (true) {
+      next = (next + 1) & mask;
+      int offset = next * LONGS_PER_KEY;
+      if (keys[offset] == 0) {
+        break;
+      }
+      int home = home(keys, offset);
+      // the entry can be moved to the free slot if its home is not cyclically in (free, next].
+      boolean keep = free <= next ? free < home && home <= next : free < home || home <= next;
+      if (!keep) {
+        System.arraycopy(keys, offset, keys, free * LONGS_PER_KEY, LONGS_PER_KEY);
+        if (withValues) {
+          values[free] = values[next];
+        }
+        free = next;
+      }
+    }
+    Arrays.fill(keys, free * LONGS_PER_KEY, (free + 1) * LONGS_PER_KEY, 0L);
+    if (withValues) {
+      values[free] = null;
+    }
+    size--;
+  }
+
+  private void rehash(int capacity) {
+    long[] oldKeys = this.keys;
+    Object[] oldValues = this.values;
+    allocate(capacity);
+    for (int oldSlot = 0; oldSlot < oldKeys.length / LONGS_PER_KEY; oldSlot++) {
+      int oldOffset = oldSlot * LONGS_PER_KEY;
+      if (oldKeys[oldOffset] == 0) {
+        continue;
+      }
+      int slot = home(oldKeys, oldOffset);
+      while (keys[slot * LONGS_PER_KEY] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      System.arraycopy(oldKeys, oldOffset, keys, slot * LONGS_PER_KEY, LONGS_PER_KEY);
+      if (withValues) {
+        values[slot] = oldValues[oldSlot];
+      }
+    }
+  }
+
+  /** @return the number of slots, used or free. */
+  int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * @param slot the slot.
+   * @return if the slot holds an entry.
+   */
+  boolean isUsed(int slot) {
+    return keys[slot * LONGS_PER_KEY] != 0;
+  }
+
+  /**
+   * @param slot a used slot.
+   * @return the address stored in the slot.
+   */
+  Address keyAt(int slot) {
+    return Address.readFrom(keys, slot * LONGS_PER_KEY);
+  }
+
+  /**
+   * @param slot a used slot.
+   * @return the value stored in the slot.
+   */
+  Object getValue(int slot) {
+    return values[slot];
+  }
+
+  /**
+   * @param slot a used slot.
+   * @param value the value to store in the slot.
+   */
+  void setValue(int slot, Object value) {
+    values[slot] = value;
+  }
+
+  /** @return the number of entries. */
+  public int size() {
+    return size;
+  }
+
+  /** @return if there are no entries. */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** Removes all the entries. */
+  public void clear() {
+    Arrays.fill(keys, 0L);
+    if (withValues) {
+      Arrays.fill(values, null);
+    }
+    size = 0;
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A compact map from {@link Address} to values. Addresses are stored as packed raw bytes in an open
+ * addressing table instead of as objects in hash map nodes.
+ *
+ * <p>Null values are not supported. This class is not thread safe.
+ *
+ * @param <V> the type of the values.
+ */
+public class AddressMap<V> extends AddressHashTable {
+
+  /** Creates an empty map. */
+  public AddressMap() {
+    this(0);
+  }
+
+  /**
+   * Creates an empty map.
+   *
+   * @param expectedSize the number of entries that can be added without resizing the map.
+   */
+  public AddressMap(int expectedSize) {
+    super(expectedSize, true);
+  }
+
+  /**
+   * Associates the value with the address.
+   *
+   * @param address the address.
+   * @param value the value.
+   * @return the previous value or null if the address was not present.
+   */
+  public V put(Address address, V value) {
+    Validate.notNull(value, "value must not be null");
+    int slot = insert(address);
+    if (slot < 0) {
+      setValue(-slot - 1, value);
+      return null;
+    }
+    V previous = valueAt(slot);
+    setValue(slot, value);
+    return previous;
+  }
+
+  /**
+   * @param address the address.
+   * @return the value of the address or null if not present.
+   */
+  public V get(Address address) {
+    int slot = find(address);
+    return slot < 0 ? null : valueAt(slot);
+  }
+
+  /**
+   * @param address the address.
+   * @param defaultValue the value returned when the address is not present.
+   * @return the value of the address or the default value if not present.
+   */
+  public V getOrDefault(Address address, V defaultValue) {
+    V value = get(address);
+    return value == null ? defaultValue : value;
+  }
+
+  /**
+   * @param address the address.
+   * @return if the address is present.
+   */
+  public boolean containsKey(Address address) {
+    return find(address) >= 0;
+  }
+
+  /**
+   * Returns the value of the address, computing and storing it if the address is not present.
+   *
+   * @param address the address.
+   * @param mappingFunction the function that creates the value.
+   * @return the current or computed value.
+   */
+  public V computeIfAbsent(
+      Address address, Function<? super Address, ? extends V> mappingFunction) {
+    V value = get(address);
+    if (value == null) {
+      value = Validate.notNull(mappingFunction.apply(address), "value must not be null");
+      put(address, value);
+    }
+    return value;
+  }
+
+  /**
+   * Removes the address.
+   *
+   * @param address the address.
+   * @return the removed value or null if the address was not present.
+   */
+  public V remove(Address address) {
+    int slot = find(address);
+    if (slot < 0) {
+      return null;
+    }
+    V value = valueAt(slot);
+    removeAt(slot);
+    return value;
+  }
+
+  /**
+   * Calls the action for each entry of the map.
+   *
+   * @param action the action.
+   */
+  public void forEach(BiConsumer<? super Address, ? super V> action) {
+    for (int slot = 0; slot < capacity(); slot++) {
+      if (isUsed(slot)) {
+        action.accept(keyAt(slot), valueAt(slot));
+      }
+    }
+  }
+
+  /** @return a new set with the addresses of this map. */
+  public AddressSet keySet() {
+    AddressSet keys = new AddressSet(size());
+    forEach((address, value) -> keys.add(address));
+    return keys;
+  }
+
+  @SuppressWarnings("unchecked")
+  private V valueAt(int slot) {
+    return (V) getValue(slot);
+  }
+}
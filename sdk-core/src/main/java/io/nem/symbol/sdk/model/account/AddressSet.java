@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A compact set of {@link Address}. Addresses are stored as packed raw bytes in an open addressing
+ * table, no node or address objects are kept per entry like in a {@link java.util.HashSet}.
+ *
+ * <p>This class is not thread safe and its iterators don't support modifications of the set.
+ */
+public class AddressSet extends AddressHashTable implements Iterable<Address> {
+
+  /** Creates an empty set. */
+  public AddressSet() {
+    this(0);
+  }
+
+  /**
+   * Creates an empty set.
+   *
+   * @param expectedSize the number of addresses that can be added without resizing the set.
+   */
+  public AddressSet(int expectedSize) {
+    super(expectedSize, false);
+  }
+
+  /**
+   * Creates a set with the given addresses.
+   *
+   * @param addresses the addresses.
+   */
+  public AddressSet(Iterable<? extends Address> addresses) {
+    this();
+    addAll(addresses);
+  }
+
+  /**
+   * Adds an address.
+   *
+   * @param address the address
+   * @return true if the address was not present.
+   */
+  public boolean add(Address address) {
+    return insert(address) < 0;
+  }
+
+  /**
+   * Adds all the addresses.
+   *
+   * @param addresses the addresses.
+   * @return true if any address was not present.
+   */
+  public boolean addAll(Iterable<? extends Address> addresses) {
+    boolean changed = false;
+    for (Address address : addresses) {
+      changed |= add(address);
+    }
+    return changed;
+  }
+
+  /**
+   * @param address the address
+   * @return if the address is present.
+   */
+  public boolean contains(Address address) {
+    return find(address) >= 0;
+  }
+
+  /**
+   * Removes an address.
+   *
+   * @param address the address
+   * @return true if the address was present.
+   */
+  public boolean remove(Address address) {
+    int slot = find(address);
+    if (slot < 0) {
+      return false;
+    }
+    removeAt(slot);
+    return true;
+  }
+
+  @Override
+  public Iterator<Address> iterator() {
+    return new Iterator<Address>() {
+
+      private int slot = nextUsed(0);
+
+      private int nextUsed(int from) {
+        int next = from;
+        while (next < capacity() && !isUsed(next)) {
+          next++;
+        }
+        return next;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return slot < capacity();
+      }
+
+      @Override
+      public Address next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        Address address = keyAt(slot);
+        slot = nextUsed(slot + 1);
+        return address;
+      }
+    };
+  }
+
+  /** @return a stream of the addresses. */
+  public Stream<Address> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+}
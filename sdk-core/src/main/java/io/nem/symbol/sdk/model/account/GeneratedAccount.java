@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.RawAddress;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.util.Arrays;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * An account produced by the {@link AccountGenerator}. It holds the raw keys and address bytes, the
+ * string and {@link Account} representations are only computed when requested.
+ */
+public class GeneratedAccount {
+
+  private final PrivateKey privateKey;
+
+  private final PublicKey publicKey;
+
+  private final byte[] rawAddress;
+
+  private final NetworkType networkType;
+
+  /**
+   * Constructor.
+   *
+   * @param privateKey the private key.
+   * @param publicKey the public key derived from the private key.
+   * @param rawAddress the raw address bytes derived from the public key.
+   * @param networkType the network type.
+   */
+  public GeneratedAccount(
+      PrivateKey privateKey, PublicKey publicKey, byte[] rawAddress, NetworkType networkType) {
+    Validate.notNull(privateKey, "privateKey must not be null");
+    Validate.notNull(publicKey, "publicKey must not be null");
+    Validate.notNull(rawAddress, "rawAddress must not be null");
+    Validate.notNull(networkType, "networkType must not be null");
+    Validate.isTrue(
+        rawAddress.length == RawAddress.RAW_ADDRESS_SIZE,
+        "rawAddress size must be " + RawAddress.RAW_ADDRESS_SIZE);
+    this.privateKey = privateKey;
+    this.publicKey = publicKey;
+    this.rawAddress = rawAddress;
+    this.networkType = networkType;
+  }
+
+  /** @return the private key. */
+  public PrivateKey getPrivateKey() {
+    return privateKey;
+  }
+
+  /** @return the public key. */
+  public PublicKey getPublicKey() {
+    return publicKey;
+  }
+
+  /** @return a copy of the raw, decoded, address bytes. */
+  public byte[] getRawAddress() {
+    return Arrays.copyOf(rawAddress, rawAddress.length);
+  }
+
+  /** @return the network type. */
+  public NetworkType getNetworkType() {
+    return networkType;
+  }
+
+  /** @return the {@link Address} of the generated account. */
+  public Address getAddress() {
+    return new Address(rawAddress, networkType);
+  }
+
+  /** @return the full {@link Account} object of the generated account. */
+  public Account toAccount() {
+    return new Account(KeyPair.fromPrivate(privateKey), networkType);
+  }
+}
@@ -18,6 +18,7 @@ package io.nem.symbol.sdk.model.account;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.util.Objects;
+import org.apache.commons.lang3.Validate;
 
 /**
  * The public account structure contains account's address and public key.
@@ -28,10 +29,23 @@ public class PublicAccount {
 
   private final Address address;
   private final PublicKey publicKey;
+  private final int hashCode;
 
   public PublicAccount(String publicKey, NetworkType networkType) {
+    this(PublicKey.fromHexString(publicKey), networkType);
+  }
+
+  /**
+   * Constructor from a {@link PublicKey}. The address is derived from the key bytes.
+   *
+   * @param publicKey Public key
+   * @param networkType NetworkType
+   */
+  public PublicAccount(PublicKey publicKey, NetworkType networkType) {
+    Validate.notNull(publicKey, "publicKey must not be null");
     this.address = Address.createFromPublicKey(publicKey, networkType);
-    this.publicKey = PublicKey.fromHexString(publicKey);
+    this.publicKey = publicKey;
+    this.hashCode = Objects.hash(address, publicKey);
   }
 
   /**
@@ -60,12 +74,14 @@ public class PublicAccount {
       return false;
     }
     PublicAccount that = (PublicAccount) o;
-    return Objects.equals(address, that.address) && Objects.equals(publicKey, that.publicKey);
+    return hashCode == that.hashCode
+        && Objects.equals(address, that.address)
+        && Objects.equals(publicKey, that.publicKey);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(address, publicKey);
+    return hashCode;
   }
 
   /**
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.blockchain;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The compact part of a verified {@link BlockInfo} a light client keeps: the block hash and the
+ * merkle roots inclusion proofs are checked against.
+ */
+public class BlockHeaderRecord {
+
+  /** The block height. */
+  private final BigInteger height;
+
+  /** The block hash. */
+  private final String hash;
+
+  /** The merkle root of the block transactions. */
+  private final String blockTransactionsHash;
+
+  /** The merkle root of the block receipts. */
+  private final String blockReceiptsHash;
+
+  /** The state hash. */
+  private final String stateHash;
+
+  public BlockHeaderRecord(
+      BigInteger height,
+      String hash,
+      String blockTransactionsHash,
+      String blockReceiptsHash,
+      String stateHash) {
+    Validate.notNull(height, "height is required");
+    Validate.notNull(hash, "hash is required");
+    Validate.notNull(blockTransactionsHash, "blockTransactionsHash is required");
+    Validate.notNull(blockReceiptsHash, "blockReceiptsHash is required");
+    Validate.notNull(stateHash, "stateHash is required");
+    this.height = height;
+    this.hash = hash.toUpperCase();
+    this.blockTransactionsHash = blockTransactionsHash.toUpperCase();
+    this.blockReceiptsHash = blockReceiptsHash.toUpperCase();
+    this.stateHash = stateHash.toUpperCase();
+  }
+
+  /**
+   * Creates the record of a block.
+   *
+   * @param blockInfo the block.
+   * @return the record.
+   */
+  public static BlockHeaderRecord of(BlockInfo blockInfo) {
+    Validate.notNull(blockInfo, "blockInfo is required");
+    return new BlockHeaderRecord(
+        blockInfo.getHeight(),
+        blockInfo.getHash(),
+        blockInfo.getBlockTransactionsHash(),
+        blockInfo.getBlockReceiptsHash(),
+        blockInfo.getStateHash());
+  }
+
+  public BigInteger getHeight() {
+    return height;
+  }
+
+  public String getHash() {
+    return hash;
+  }
+
+  public String getBlockTransactionsHash() {
+    return blockTransactionsHash;
+  }
+
+  public String getBlockReceiptsHash() {
+    return blockReceiptsHash;
+  }
+
+  public String getStateHash() {
+    return stateHash;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BlockHeaderRecord that = (BlockHeaderRecord) o;
+    return Objects.equals(height, that.height)
+        && Objects.equals(hash, that.hash)
+        && Objects.equals(blockTransactionsHash, that.blockTransactionsHash)
+        && Objects.equals(blockReceiptsHash, that.blockReceiptsHash)
+        && Objects.equals(stateHash, that.stateHash);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(height, hash, blockTransactionsHash, blockReceiptsHash, stateHash);
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.blockchain;
+
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.ed25519.Ed25519DsaSigner;
+import io.nem.symbol.core.utils.ConvertUtils;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Rebuilds the serialized header of a {@link BlockInfo} to verify its hash and its harvester
+ * signature locally.
+ *
+ * <p>The signed data is the block header without the verifiable entity header (size, signature,
+ * signer and reserved fields), including the importance footer of nemesis and importance blocks.
+ * The block hash is the sha3 256 of the R part of the signature, the signer public key and the
+ * signed data.
+ */
+public class BlockHeaderVerifier {
+
+  /** Size of the block header fields after the verifiable entity header. */
+  private static final int HEADER_DATA_SIZE = 264;
+
+  /** Size of the importance block footer. */
+  private static final int IMPORTANCE_FOOTER_SIZE = 52;
+
+  /** Private constructor of this utility class. */
+  private BlockHeaderVerifier() {}
+
+  /**
+   * Returns the bytes the harvester signs for the given block.
+   *
+   * @param block the block.
+   * @return the signed bytes.
+   */
+  public static byte[] getSignedBytes(BlockInfo block) {
+    Validate.notNull(block, "block is required");
+    boolean importance = block instanceof ImportanceBlockInfo;
+    ByteBuffer buffer =
+        ByteBuffer.allocate(HEADER_DATA_SIZE + (importance ? IMPORTANCE_FOOTER_SIZE : 0))
+            .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put(block.getVersion().byteValue());
+    buffer.put((byte) block.getNetworkType().getValue());
+    buffer.putShort((short) block.getType().getValue());
+    buffer.putLong(block.getHeight().longValue());
+    buffer.putLong(block.getTimestamp().longValue());
+    buffer.putLong(block.getDifficulty().longValue());
+    putHex(buffer, block.getProofGamma(), 32);
+    putHex(buffer, block.getProofVerificationHash(), 16);
+    putHex(buffer, block.getProofScalar(), 32);
+    putHex(buffer, block.getPreviousBlockHash(), 32);
+    putHex(buffer, block.getBlockTransactionsHash(), 32);
+    putHex(buffer, block.getBlockReceiptsHash(), 32);
+    putHex(buffer, block.getStateHash(), 32);
+    buffer.put(block.getBeneficiaryAddress().getBytes());
+    buffer.putInt(block.getFeeMultiplier().intValue());
+    if (importance) {
+      ImportanceBlockInfo importanceBlock = (ImportanceBlockInfo) block;
+      buffer.putInt((int) importanceBlock.getVotingEligibleAccountsCount());
+      buffer.putLong(importanceBlock.getHarvestingEligibleAccountsCount().longValue());
+      buffer.putLong(importanceBlock.getTotalVotingBalance().longValue());
+      putHex(buffer, importanceBlock.getPreviousImportanceBlockHash(), 32);
+    }
+    return buffer.array();
+  }
+
+  /**
+   * Calculates the hash of the given block from its header.
+   *
+   * @param block the block.
+   * @return the block hash hex.
+   */
+  public static String calculateHash(BlockInfo block) {
+    byte[] signature = ConvertUtils.fromHexToBytes(block.getSignature());
+    return ConvertUtils.toHex(
+        Hashes.sha3_256(
+            Arrays.copyOf(signature, 32),
+            block.getSignerPublicAccount().getPublicKey().getBytes(),
+            getSignedBytes(block)));
+  }
+
+  /**
+   * Returns if the block hash is the hash of its header and the header has been signed by the block
+   * signer. Malformed blocks are not valid.
+   *
+   * @param block the block.
+   * @return if the block header is valid.
+   */
+  public static boolean isValid(BlockInfo block) {
+    try {
+      byte[] data = getSignedBytes(block);
+      byte[] signatureBytes = ConvertUtils.fromHexToBytes(block.getSignature());
+      byte[] signerPublicKey = block.getSignerPublicAccount().getPublicKey().getBytes();
+      String hash =
+          ConvertUtils.toHex(
+              Hashes.sha3_256(Arrays.copyOf(signatureBytes, 32), signerPublicKey, data));
+      if (!hash.equalsIgnoreCase(block.getHash())) {
+        return false;
+      }
+      return new Ed25519DsaSigner(KeyPair.onlyPublic(block.getSignerPublicAccount().getPublicKey()))
+          .verify(data, new Signature(signatureBytes));
+    } catch (IllegalArgumentException | NullPointerException e) {
+      return false;
+    }
+  }
+
+  private static void putHex(ByteBuffer buffer, String hex, int size) {
+    ConvertUtils.validateIsHexString(hex, size * 2);
+    buffer.put(ConvertUtils.fromHexToBytes(hex));
+  }
+}
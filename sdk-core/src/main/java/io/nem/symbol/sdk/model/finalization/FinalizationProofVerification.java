@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.finalization;
+
+import io.nem.symbol.core.crypto.PublicKey;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.Validate;
+
+/** The result of verifying a {@link FinalizationProof} with a {@link FinalizationProofVerifier}. */
+public class FinalizationProofVerification {
+
+  /** The verified proof. */
+  private final FinalizationProof proof;
+
+  /** If the proof hash is the one the message groups have voted for at the proof height. */
+  private final boolean hashConsistent;
+
+  /** The verification of each message group, in the same order as the proof's message groups. */
+  private final List<MessageGroupVerification> messageGroups;
+
+  /** The voting weight of the whole voting set. */
+  private final BigInteger totalVotingWeight;
+
+  public FinalizationProofVerification(
+      FinalizationProof proof,
+      boolean hashConsistent,
+      List<MessageGroupVerification> messageGroups,
+      BigInteger totalVotingWeight) {
+    Validate.notNull(proof, "proof is required");
+    Validate.notNull(messageGroups, "messageGroups is required");
+    Validate.notNull(totalVotingWeight, "totalVotingWeight is required");
+    this.proof = proof;
+    this.hashConsistent = hashConsistent;
+    this.messageGroups = Collections.unmodifiableList(messageGroups);
+    this.totalVotingWeight = totalVotingWeight;
+  }
+
+  public FinalizationProof getProof() {
+    return proof;
+  }
+
+  public boolean isHashConsistent() {
+    return hashConsistent;
+  }
+
+  public List<MessageGroupVerification> getMessageGroups() {
+    return messageGroups;
+  }
+
+  public BigInteger getTotalVotingWeight() {
+    return totalVotingWeight;
+  }
+
+  /**
+   * @return if the proof hash is consistent and all the signatures of all the message groups are
+   *     valid and from voters of the voting set.
+   */
+  public boolean isValid() {
+    return hashConsistent && messageGroups.stream().allMatch(MessageGroupVerification::isValid);
+  }
+
+  /**
+   * Returns the voting weight of the distinct valid voters of all the message groups of the given
+   * stage.
+   *
+   * @param stage the stage.
+   * @return the voting weight.
+   */
+  public BigInteger getVotingWeight(FinalizationStage stage) {
+    Validate.notNull(stage, "stage is required");
+    Map<PublicKey, BigInteger> voters = new HashMap<>();
+    messageGroups.stream()
+        .filter(g -> g.getMessageGroup().getStage() == stage)
+        .forEach(g -> voters.putAll(g.getVoters()));
+    return voters.values().stream().reduce(BigInteger.ZERO, BigInteger::add);
+  }
+
+  /**
+   * Returns the voting weight of the valid voters of the given stage as a ratio of the total voting
+   * weight.
+   *
+   * @param stage the stage.
+   * @return the participation between 0 and 1.
+   */
+  public double getParticipation(FinalizationStage stage) {
+    return ratio(getVotingWeight(stage), totalVotingWeight);
+  }
+
+  /**
+   * Returns if the proof is valid and the precommit participation reaches the given threshold.
+   *
+   * @param threshold the required participation ratio, for example 0.67.
+   * @return if the proof finalizes its block.
+   */
+  public boolean isFinalized(double threshold) {
+    return isValid() && getParticipation(FinalizationStage.PRE_COMMIT) >= threshold;
+  }
+
+  static double ratio(BigInteger weight, BigInteger total) {
+    if (total.signum() == 0) {
+      return 0;
+    }
+    return new BigDecimal(weight)
+        .divide(new BigDecimal(total), MathContext.DECIMAL64)
+        .doubleValue();
+  }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.finalization;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.ed25519.Ed25519DsaSigner;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.utils.ExceptionUtils;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Verifies the signatures of a {@link FinalizationProof} against a known voting set.
+ *
+ * <p>Each {@link BmTreeSignature} of a message group is a two level signature. The root pair signs
+ * the bottom public key for the proof's epoch and the bottom pair signs the message of the group.
+ * The signatures are independent from each other, they are verified in parallel in the provided
+ * executor (the common fork join pool by default). A voter signs the prevote and the precommit
+ * groups with the same root signature, the root verifications are only done once per proof.
+ *
+ * <p>The verifier is immutable and thread safe, it can be reused to verify many proofs of the same
+ * voting set.
+ */
+public class FinalizationProofVerifier {
+
+  /** The size in bytes of a message group hash. */
+  private static final int HASH_SIZE = 32;
+
+  /** The voting weight of each voting public key. */
+  private final Map<PublicKey, BigInteger> votingWeights;
+
+  /** The voting weight of the whole voting set. */
+  private final BigInteger totalVotingWeight;
+
+  /**
+   * Constructor.
+   *
+   * @param votingWeights the voting weight of each voting public key of the voting set.
+   */
+  public FinalizationProofVerifier(Map<PublicKey, BigInteger> votingWeights) {
+    Validate.notNull(votingWeights, "votingWeights is required");
+    votingWeights
+        .values()
+        .forEach(
+            weight -> {
+              Validate.notNull(weight, "weight is required");
+              ConvertUtils.validateNotNegative(weight);
+            });
+    this.votingWeights = Collections.unmodifiableMap(new HashMap<>(votingWeights));
+    this.totalVotingWeight =
+        this.votingWeights.values().stream().reduce(BigInteger.ZERO, BigInteger::add);
+  }
+
+  /**
+   * Creates a verifier where all the voting keys have the same voting weight.
+   *
+   * @param votingKeys the voting public keys of the voting set.
+   * @return the verifier.
+   */
+  public static FinalizationProofVerifier ofVotingKeys(Collection<PublicKey> votingKeys) {
+    Validate.notNull(votingKeys, "votingKeys is required");
+    return new FinalizationProofVerifier(
+        votingKeys.stream()
+            .distinct()
+            .collect(Collectors.toMap(Function.identity(), key -> BigInteger.ONE)));
+  }
+
+  /**
+   * Verifies the proof using the common fork join pool.
+   *
+   * @param proof the finalization proof.
+   * @return the verification result.
+   */
+  public FinalizationProofVerification verify(FinalizationProof proof) {
+    return verify(proof, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Verifies the proof verifying the signatures in parallel using the given executor.
+   *
+   * @param proof the finalization proof.
+   * @param executor the executor used to verify the signatures.
+   * @return the verification result.
+   */
+  public FinalizationProofVerification verify(FinalizationProof proof, Executor executor) {
+    Validate.notNull(proof, "proof is required");
+    Validate.notNull(executor, "executor is required");
+    Map<String, CompletableFuture<Boolean>> rootVerifications = new HashMap<>();
+    Map<MessageGroup, List<CompletableFuture<Boolean>>> bottomVerifications = new LinkedHashMap<>();
+    for (MessageGroup group : proof.getMessageGroups()) {
+      byte[] signedBytes = getSignedBytesOrNull(proof, group);
+      List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+      for (BmTreeSignature signature : group.getSignatures()) {
+        ParentPublicKeySignaturePair root = signature.getRoot();
+        ParentPublicKeySignaturePair bottom = signature.getBottom();
+        rootVerifications.computeIfAbsent(
+            getRootKey(signature),
+            key ->
+                CompletableFuture.supplyAsync(
+                    () ->
+                        verify(
+                            root,
+                            getRootSignedBytesOrNull(
+                                proof.getFinalizationEpoch(), bottom.getParentPublicKey())),
+                    executor));
+        futures.add(CompletableFuture.supplyAsync(() -> verify(bottom, signedBytes), executor));
+      }
+      bottomVerifications.put(group, futures);
+    }
+
+    List<MessageGroupVerification> groups =
+        bottomVerifications.entrySet().stream()
+            .map(e -> toMessageGroupVerification(e.getKey(), e.getValue(), rootVerifications))
+            .collect(Collectors.toList());
+    return new FinalizationProofVerification(
+        proof, isHashConsistent(proof), groups, totalVotingWeight);
+  }
+
+  private MessageGroupVerification toMessageGroupVerification(
+      MessageGroup group,
+      List<CompletableFuture<Boolean>> bottomVerifications,
+      Map<String, CompletableFuture<Boolean>> rootVerifications) {
+    Map<PublicKey, BigInteger> voters = new HashMap<>();
+    Set<PublicKey> unknownVoters = new HashSet<>();
+    List<BmTreeSignature> invalidSignatures = new ArrayList<>();
+    for (int i = 0; i < group.getSignatures().size(); i++) {
+      BmTreeSignature signature = group.getSignatures().get(i);
+      boolean bottomValid = ExceptionUtils.propagate(bottomVerifications.get(i)::get);
+      boolean rootValid =
+          ExceptionUtils.propagate(rootVerifications.get(getRootKey(signature))::get);
+      if (!bottomValid || !rootValid) {
+        invalidSignatures.add(signature);
+        continue;
+      }
+      PublicKey voter = PublicKey.fromHexString(signature.getRoot().getParentPublicKey());
+      BigInteger weight = votingWeights.get(voter);
+      if (weight == null) {
+        unknownVoters.add(voter);
+      } else {
+        voters.put(voter, weight);
+      }
+    }
+    return new MessageGroupVerification(
+        group, voters, unknownVoters, invalidSignatures, totalVotingWeight);
+  }
+
+  /**
+   * Returns if the proof hash is the hash the message groups that include the proof height voted
+   * for.
+   *
+   * @param proof the proof.
+   * @return if the hash is consistent.
+   */
+  private static boolean isHashConsistent(FinalizationProof proof) {
+    boolean found = false;
+    for (MessageGroup group : proof.getMessageGroups()) {
+      BigInteger index = proof.getHeight().subtract(group.getHeight());
+      if (index.signum() < 0
+          || index.compareTo(BigInteger.valueOf(group.getHashes().size())) >= 0) {
+        continue;
+      }
+      if (!proof.getHash().equalsIgnoreCase(group.getHashes().get(index.intValue()))) {
+        return false;
+      }
+      found = true;
+    }
+    return found;
+  }
+
+  /**
+   * Returns the bytes a voter signs with its bottom key for the given message group. They are the
+   * finalization epoch, the finalization point and the stage as 32 bits little endian, the group
+   * height as 64 bits little endian and the group hashes.
+   *
+   * @param proof the proof of the message group.
+   * @param group the message group.
+   * @return the signed bytes.
+   */
+  public static byte[] getSignedBytes(FinalizationProof proof, MessageGroup group) {
+    Validate.notNull(proof, "proof is required");
+    Validate.notNull(group, "group is required");
+    ByteBuffer buffer =
+        ByteBuffer.allocate(3 * Integer.BYTES + Long.BYTES + group.getHashes().size() * HASH_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt((int) proof.getFinalizationEpoch());
+    buffer.putInt((int) proof.getFinalizationPoint());
+    buffer.putInt(group.getStage().getValue());
+    buffer.putLong(group.getHeight().longValue());
+    for (String hash : group.getHashes()) {
+      ConvertUtils.validateIsHexString(hash, HASH_SIZE * 2);
+      buffer.put(ConvertUtils.fromHexToBytes(hash));
+    }
+    return buffer.array();
+  }
+
+  /**
+   * Returns the bytes a voter signs with its root key to authorize a bottom key. They are the
+   * bottom public key and the epoch as 64 bits big endian.
+   *
+   * @param finalizationEpoch the finalization epoch.
+   * @param bottomPublicKey the bottom public key hex.
+   * @return the signed bytes.
+   */
+  public static byte[] getRootSignedBytes(long finalizationEpoch, String bottomPublicKey) {
+    byte[] key = PublicKey.fromHexString(bottomPublicKey).getBytes();
+    return ByteBuffer.allocate(key.length + Long.BYTES)
+        .order(ByteOrder.BIG_ENDIAN)
+        .put(key)
+        .putLong(finalizationEpoch)
+        .array();
+  }
+
+  private static byte[] getSignedBytesOrNull(FinalizationProof proof, MessageGroup group) {
+    try {
+      return getSignedBytes(proof, group);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static byte[] getRootSignedBytesOrNull(long finalizationEpoch, String bottomPublicKey) {
+    try {
+      return getRootSignedBytes(finalizationEpoch, bottomPublicKey);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static String getRootKey(BmTreeSignature signature) {
+    return signature.getRoot().getParentPublicKey()
+        + signature.getRoot().getSignature()
+        + signature.getBottom().getParentPublicKey();
+  }
+
+  /**
+   * Verifies one signature pair. Malformed keys, signatures or messages are invalid signatures.
+   *
+   * @param pair the public key and signature pair.
+   * @param data the signed data, null if it couldn't be built.
+   * @return if the signature is valid.
+   */
+  private static boolean verify(ParentPublicKeySignaturePair pair, byte[] data) {
+    if (data == null) {
+      return false;
+    }
+    try {
+      PublicKey publicKey = PublicKey.fromHexString(pair.getParentPublicKey());
+      Signature signature = new Signature(ConvertUtils.fromHexToBytes(pair.getSignature()));
+      return new Ed25519DsaSigner(KeyPair.onlyPublic(publicKey)).verify(data, signature);
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+}
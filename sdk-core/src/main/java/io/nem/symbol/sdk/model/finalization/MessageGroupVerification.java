@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.finalization;
+
+import io.nem.symbol.core.crypto.PublicKey;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The result of verifying the signatures of one {@link MessageGroup} of a {@link
+ * FinalizationProof}.
+ */
+public class MessageGroupVerification {
+
+  /** The verified message group. */
+  private final MessageGroup messageGroup;
+
+  /** The known voters with a valid signature and their voting weight. */
+  private final Map<PublicKey, BigInteger> voters;
+
+  /** The voters with a valid signature that are not part of the voting set. */
+  private final Set<PublicKey> unknownVoters;
+
+  /** The signatures that couldn't be verified. */
+  private final List<BmTreeSignature> invalidSignatures;
+
+  /** The voting weight of the whole voting set. */
+  private final BigInteger totalVotingWeight;
+
+  public MessageGroupVerification(
+      MessageGroup messageGroup,
+      Map<PublicKey, BigInteger> voters,
+      Set<PublicKey> unknownVoters,
+      List<BmTreeSignature> invalidSignatures,
+      BigInteger totalVotingWeight) {
+    Validate.notNull(messageGroup, "messageGroup is required");
+    Validate.notNull(voters, "voters is required");
+    Validate.notNull(unknownVoters, "unknownVoters is required");
+    Validate.notNull(invalidSignatures, "invalidSignatures is required");
+    Validate.notNull(totalVotingWeight, "totalVotingWeight is required");
+    this.messageGroup = messageGroup;
+    this.voters = Collections.unmodifiableMap(voters);
+    this.unknownVoters = Collections.unmodifiableSet(unknownVoters);
+    this.invalidSignatures = Collections.unmodifiableList(invalidSignatures);
+    this.totalVotingWeight = totalVotingWeight;
+  }
+
+  public MessageGroup getMessageGroup() {
+    return messageGroup;
+  }
+
+  public Map<PublicKey, BigInteger> getVoters() {
+    return voters;
+  }
+
+  public Set<PublicKey> getUnknownVoters() {
+    return unknownVoters;
+  }
+
+  public List<BmTreeSignature> getInvalidSignatures() {
+    return invalidSignatures;
+  }
+
+  /** @return the voting weight of the known voters with a valid signature. */
+  public BigInteger getVotingWeight() {
+    return voters.values().stream().reduce(BigInteger.ZERO, BigInteger::add);
+  }
+
+  public BigInteger getTotalVotingWeight() {
+    return totalVotingWeight;
+  }
+
+  /**
+   * @return if all the signatures are valid and they have been signed by voters of the voting set.
+   */
+  public boolean isValid() {
+    return invalidSignatures.isEmpty() && unknownVoters.isEmpty();
+  }
+
+  /** @return the voting weight of the valid voters as a ratio of the total voting weight. */
+  public double getParticipation() {
+    return FinalizationProofVerification.ratio(getVotingWeight(), totalVotingWeight);
+  }
+}
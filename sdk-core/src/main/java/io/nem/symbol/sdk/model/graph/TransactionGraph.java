@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.graph;
+
+import io.nem.symbol.core.math.ColumnVector;
+import io.nem.symbol.core.math.CsrMatrix;
+import io.nem.symbol.sdk.model.account.Address;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Address to address transfer graph. The addresses are indexed from 0 to {@link #getAddressCount()}
+ * - 1 in the order they were first seen, the vectors returned by the algorithms are indexed the
+ * same way.
+ *
+ * <p>The transfers are stored in a {@link CsrMatrix} where the row is the recipient and the column
+ * is the sender, so each row holds the incoming transfers of an address. The iterative algorithms
+ * pull values along the incoming transfers which lets the rows be multiplied in parallel without
+ * synchronization.
+ *
+ * <p>Use {@link TransactionGraphBuilder} to create the graph.
+ */
+public class TransactionGraph {
+
+  /** The default probability of following a transfer instead of jumping to a random address. */
+  public static final double DEFAULT_DAMPING_FACTOR = 0.85;
+
+  /** The default L1 distance between two iterations at which the importances have converged. */
+  public static final double DEFAULT_TOLERANCE = 1e-9;
+
+  /** The default maximum number of iterations. */
+  public static final int DEFAULT_MAX_ITERATIONS = 100;
+
+  private final List<Address> addresses;
+
+  private final Map<Address, Integer> indexes;
+
+  private final CsrMatrix transfers;
+
+  private final double[] outgoingWeights;
+
+  TransactionGraph(
+      List<Address> addresses,
+      Map<Address, Integer> indexes,
+      CsrMatrix transfers,
+      double[] outgoingWeights) {
+    this.addresses = addresses;
+    this.indexes = indexes;
+    this.transfers = transfers;
+    this.outgoingWeights = outgoingWeights;
+  }
+
+  /** @return the number of addresses in the graph. */
+  public int getAddressCount() {
+    return addresses.size();
+  }
+
+  /**
+   * @param index the index of the address.
+   * @return the address at the given index.
+   */
+  public Address getAddress(int index) {
+    return addresses.get(index);
+  }
+
+  /**
+   * @param address the address.
+   * @return the index of the address if it's in the graph.
+   */
+  public Optional<Integer> getIndex(Address address) {
+    return Optional.ofNullable(indexes.get(address));
+  }
+
+  /**
+   * @return the transfer matrix, the recipient is the row and the sender is the column. The matrix
+   *     is shared, it must not be modified.
+   */
+  public CsrMatrix getTransfers() {
+    return transfers;
+  }
+
+  /**
+   * @param sender the sender.
+   * @param recipient the recipient.
+   * @return the total weight of the transfers from the sender to the recipient.
+   */
+  public double getTransferWeight(Address sender, Address recipient) {
+    Optional<Integer> senderIndex = getIndex(sender);
+    Optional<Integer> recipientIndex = getIndex(recipient);
+    if (!senderIndex.isPresent() || !recipientIndex.isPresent()) {
+      return 0;
+    }
+    return transfers.getAt(recipientIndex.get(), senderIndex.get());
+  }
+
+  /**
+   * @param sender the sender.
+   * @return the total weight of the transfers sent by the address.
+   */
+  public double getOutgoingWeight(Address sender) {
+    return getIndex(sender).map(index -> outgoingWeights[index]).orElse(0.0);
+  }
+
+  /**
+   * Calculates the importance of each address with the default parameters using the common pool.
+   *
+   * @return the importances, indexed like the addresses. They add up to 1.
+   * @see #getImportances(double, double, int, ForkJoinPool)
+   */
+  public ColumnVector getImportances() {
+    return getImportances(
+        DEFAULT_DAMPING_FACTOR,
+        DEFAULT_TOLERANCE,
+        DEFAULT_MAX_ITERATIONS,
+        ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Calculates the importance of each address, PageRank style, by power iteration. The importance
+   * of an address is shared between its recipients proportionally to the transfer weights.
+   * Addresses without outgoing transfers share their importance with every address.
+   *
+   * <p>Each iteration is a sparse matrix vector multiplication split across the pool.
+   *
+   * @param dampingFactor the probability of following a transfer, between 0 and 1.
+   * @param tolerance the L1 distance between two iterations at which the calculation stops.
+   * @param maxIterations the maximum number of iterations.
+   * @param pool the pool running the multiplications.
+   * @return the importances, indexed like the addresses. They add up to 1.
+   */
+  public ColumnVector getImportances(
+      double dampingFactor, double tolerance, int maxIterations, ForkJoinPool pool) {
+    Validate.isTrue(
+        dampingFactor >= 0 && dampingFactor <= 1, "dampingFactor must be between 0 and 1");
+    Validate.isTrue(maxIterations > 0, "maxIterations must be positive");
+    int numAddresses = getAddressCount();
+    double[] importances = new double[numAddresses];
+    Arrays.fill(importances, 1.0 / numAddresses);
+    double[] shares = new double[numAddresses];
+    for (int iteration = 0; iteration < maxIterations; iteration++) {
+      double danglingImportance = 0;
+      for (int i = 0; i < numAddresses; i++) {
+        if (outgoingWeights[i] == 0) {
+          danglingImportance += importances[i];
+          shares[i] = 0;
+        } else {
+          shares[i] = importances[i] / outgoingWeights[i];
+        }
+      }
+
+      double[] next = transfers.multiply(new ColumnVector(shares), pool).getRaw();
+      double base = (1 - dampingFactor + dampingFactor * danglingImportance) / numAddresses;
+      double distance = 0;
+      for (int i = 0; i < numAddresses; i++) {
+        next[i] = dampingFactor * next[i] + base;
+        distance += Math.abs(next[i] - importances[i]);
+      }
+      importances = next;
+      if (distance < tolerance) {
+        break;
+      }
+    }
+    return new ColumnVector(importances);
+  }
+
+  /**
+   * Groups the addresses that are connected by transfers in either direction.
+   *
+   * <p>It's a union find over the transfers, one pass over the matrix entries is enough which is
+   * cheaper than iterating a label propagation until no label changes.
+   *
+   * @return the component of each address, indexed like the addresses. The components are numbered
+   *     from 0 in the order of their first address.
+   */
+  public int[] getConnectedComponents() {
+    int numAddresses = getAddressCount();
+    int[] parents = new int[numAddresses];
+    int[] sizes = new int[numAddresses];
+    for (int i = 0; i < numAddresses; i++) {
+      parents[i] = i;
+      sizes[i] = 1;
+    }
+    transfers.forEach(
+        (recipient, sender, weight) -> {
+          int recipientRoot = find(parents, recipient);
+          int senderRoot = find(parents, sender);
+          if (recipientRoot == senderRoot) {
+            return;
+          }
+          if (sizes[recipientRoot] < sizes[senderRoot]) {
+            parents[recipientRoot] = senderRoot;
+            sizes[senderRoot] += sizes[recipientRoot];
+          } else {
+            parents[senderRoot] = recipientRoot;
+            sizes[recipientRoot] += sizes[senderRoot];
+          }
+        });
+
+    int[] components = new int[numAddresses];
+    int[] rootComponents = new int[numAddresses];
+    Arrays.fill(rootComponents, -1);
+    int numComponents = 0;
+    for (int i = 0; i < numAddresses; i++) {
+      int root = find(parents, i);
+      if (rootComponents[root] == -1) {
+        rootComponents[root] = numComponents++;
+      }
+      components[i] = rootComponents[root];
+    }
+    return components;
+  }
+
+  private static int find(int[] parents, int index) {
+    int current = index;
+    while (parents[current] != current) {
+      // path halving
+      parents[current] = parents[parents[current]];
+      current = parents[current];
+    }
+    return current;
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.graph;
+
+import io.nem.symbol.core.math.CsrMatrix;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Builds a {@link TransactionGraph} from a stream of transactions.
+ *
+ * <p>The transfers are appended to primitive arrays while the transactions are streamed, the {@link
+ * CsrMatrix} is only created once in {@link #build()} when the number of addresses is known.
+ * Repeated transfers between the same accounts are merged into one entry adding their weights.
+ *
+ * <p>This class is not thread safe.
+ */
+public class TransactionGraphBuilder {
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final Map<Address, Integer> indexes = new HashMap<>();
+
+  private final List<Address> addresses = new ArrayList<>();
+
+  private int[] senders = new int[INITIAL_CAPACITY];
+
+  private int[] recipients = new int[INITIAL_CAPACITY];
+
+  private double[] weights = new double[INITIAL_CAPACITY];
+
+  private int size;
+
+  private ToDoubleFunction<TransferTransaction> weightFunction = transaction -> 1.0;
+
+  private Function<NamespaceId, Optional<Address>> aliasResolver = namespaceId -> Optional.empty();
+
+  /**
+   * Sets the function that computes the weight of a transfer, for example the amount of the
+   * currency mosaic. By default, each transfer weights 1. Transfers with a weight of zero or less
+   * are ignored.
+   *
+   * @param weightFunction the weight function.
+   * @return this builder.
+   */
+  public TransactionGraphBuilder withWeightFunction(
+      ToDoubleFunction<TransferTransaction> weightFunction) {
+    Validate.notNull(weightFunction, "weightFunction is required");
+    this.weightFunction = weightFunction;
+    return this;
+  }
+
+  /**
+   * Sets the function that resolves the recipients that are namespace aliases, for example from a
+   * local copy of the address resolution statements. By default, aliased recipients are ignored.
+   *
+   * @param aliasResolver the alias resolver.
+   * @return this builder.
+   */
+  public TransactionGraphBuilder withAliasResolver(
+      Function<NamespaceId, Optional<Address>> aliasResolver) {
+    Validate.notNull(aliasResolver, "aliasResolver is required");
+    this.aliasResolver = aliasResolver;
+    return this;
+  }
+
+  /**
+   * Adds the transfers of a transaction. Transfer transactions add one transfer, aggregate
+   * transactions add their inner transfer transactions, other transactions are ignored.
+   *
+   * @param transaction the transaction.
+   * @return the number of added transfers.
+   */
+  public int add(Transaction transaction) {
+    Validate.notNull(transaction, "transaction is required");
+    if (transaction instanceof AggregateTransaction) {
+      int added = 0;
+      for (Transaction innerTransaction :
+          ((AggregateTransaction) transaction).getInnerTransactions()) {
+        added += this.add(innerTransaction);
+      }
+      return added;
+    }
+    if (!(transaction instanceof TransferTransaction)) {
+      return 0;
+    }
+    TransferTransaction transfer = (TransferTransaction) transaction;
+    Optional<Address> recipient = resolve(transfer.getRecipient());
+    double weight = weightFunction.applyAsDouble(transfer);
+    if (!transfer.getSigner().isPresent() || !recipient.isPresent() || weight <= 0) {
+      return 0;
+    }
+    addTransfer(transfer.getSigner().get().getAddress(), recipient.get(), weight);
+    return 1;
+  }
+
+  /**
+   * Adds a transfer between two addresses.
+   *
+   * @param sender the sender address.
+   * @param recipient the recipient address.
+   * @param weight the weight of the transfer, it must be positive.
+   * @return this builder.
+   */
+  public TransactionGraphBuilder addTransfer(Address sender, Address recipient, double weight) {
+    Validate.notNull(sender, "sender is required");
+    Validate.notNull(recipient, "recipient is required");
+    Validate.isTrue(weight > 0, "weight must be positive");
+    if (size == senders.length) {
+      int capacity = size + (size >> 1);
+      senders = Arrays.copyOf(senders, capacity);
+      recipients = Arrays.copyOf(recipients, capacity);
+      weights = Arrays.copyOf(weights, capacity);
+    }
+    senders[size] = getOrCreateIndex(sender);
+    recipients[size] = getOrCreateIndex(recipient);
+    weights[size] = weight;
+    size++;
+    return this;
+  }
+
+  /**
+   * Adds all the transfers of the streamed transactions and builds the graph once the stream
+   * completes. The transactions are consumed as they arrive, use it with the {@link Flowable}
+   * searches of the pagination streamers to load the transactions page by page.
+   *
+   * @param transactions the transactions.
+   * @return the graph once all the transactions have been added.
+   */
+  public Single<TransactionGraph> collect(Flowable<? extends Transaction> transactions) {
+    return transactions
+        .doOnNext(this::add)
+        .ignoreElements()
+        .andThen(Single.fromCallable(this::build));
+  }
+
+  /**
+   * Builds the graph of the transfers added so far. The builder can keep receiving transfers
+   * afterwards, the built graphs are not modified.
+   *
+   * @return the graph.
+   */
+  public TransactionGraph build() {
+    Validate.isTrue(!addresses.isEmpty(), "At least one transfer is required");
+    int numAddresses = addresses.size();
+
+    // radix sort of the transfers by recipient then sender, they are then in CSR order.
+    int[] order = sortBy(senders, numAddresses, null);
+    order = sortBy(recipients, numAddresses, order);
+
+    int[] rowOffsets = new int[numAddresses + 1];
+    int[] cols = new int[size];
+    double[] values = new double[size];
+    double[] outgoingWeights = new double[numAddresses];
+    int numEntries = 0;
+    int i = 0;
+    while (i < size) {
+      int edge = order[i];
+      double weight = 0;
+      while (i < size && isSameEdge(edge, order[i])) {
+        weight += weights[order[i]];
+        i++;
+      }
+      rowOffsets[recipients[edge] + 1]++;
+      cols[numEntries] = senders[edge];
+      values[numEntries] = weight;
+      numEntries++;
+      outgoingWeights[senders[edge]] += weight;
+    }
+    for (int row = 0; row < numAddresses; row++) {
+      rowOffsets[row + 1] += rowOffsets[row];
+    }
+
+    CsrMatrix transfers =
+        new CsrMatrix(
+            numAddresses,
+            numAddresses,
+            rowOffsets,
+            Arrays.copyOf(cols, numEntries),
+            Arrays.copyOf(values, numEntries));
+    return new TransactionGraph(
+        new ArrayList<>(addresses), new HashMap<>(indexes), transfers, outgoingWeights);
+  }
+
+  private Optional<Address> resolve(UnresolvedAddress recipient) {
+    if (recipient instanceof Address) {
+      return Optional.of((Address) recipient);
+    }
+    if (recipient instanceof NamespaceId) {
+      return aliasResolver.apply((NamespaceId) recipient);
+    }
+    return Optional.empty();
+  }
+
+  private int getOrCreateIndex(Address address) {
+    return indexes.computeIfAbsent(
+        address,
+        key -> {
+          addresses.add(key);
+          return addresses.size() - 1;
+        });
+  }
+
+  private boolean isSameEdge(int edge1, int edge2) {
+    return senders[edge1] == senders[edge2] && recipients[edge1] == recipients[edge2];
+  }
+
+  private int[] sortBy(int[] keys, int numKeys, int[] order) {
+    int[] offsets = new int[numKeys + 1];
+    for (int i = 0; i < size; i++) {
+      offsets[keys[i] + 1]++;
+    }
+    for (int key = 0; key < numKeys; key++) {
+      offsets[key + 1] += offsets[key];
+    }
+    int[] sorted = new int[size];
+    for (int i = 0; i < size; i++) {
+      int edge = order == null ? i : order[i];
+      sorted[offsets[keys[edge]]++] = edge;
+    }
+    return sorted;
+  }
+}
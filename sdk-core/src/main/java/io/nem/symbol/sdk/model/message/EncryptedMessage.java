@@ -21,6 +21,7 @@ import io.nem.symbol.core.crypto.CryptoEngines;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.PrivateKey;
 import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.SharedKeyCache;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.core.utils.StringEncoder;
 
@@ -63,6 +64,29 @@ public class EncryptedMessage extends TypedMessage {
         ConvertUtils.toHex(blockCipher.encrypt(StringEncoder.getBytes(plainTextMessage))));
   }
 
+  /**
+   * Same as {@link #create(String, PrivateKey, PublicKey)} but the shared key between the sender
+   * and the recipient is resolved through the provided cache.
+   *
+   * @param plainTextMessage Plain message to be encrypted
+   * @param senderPrivateKey Sender private key
+   * @param recipientPublicKey Recipient public key
+   * @param sharedKeyCache the cache of shared keys.
+   * @return EncryptedMessage
+   */
+  public static EncryptedMessage create(
+      String plainTextMessage,
+      PrivateKey senderPrivateKey,
+      PublicKey recipientPublicKey,
+      SharedKeyCache sharedKeyCache) {
+    CryptoEngine engine = CryptoEngines.defaultEngine();
+    KeyPair sender = KeyPair.fromPrivate(senderPrivateKey);
+    KeyPair recipient = KeyPair.onlyPublic(recipientPublicKey, engine);
+    BlockCipher blockCipher = engine.createBlockCipher(sender, recipient, sharedKeyCache);
+    return new EncryptedMessage(
+        ConvertUtils.toHex(blockCipher.encrypt(StringEncoder.getBytes(plainTextMessage))));
+  }
+
   /**
    * Utility method that allow users to decrypt a message if it was created using the Java SDK or
    * the Typescript SDK.
@@ -78,4 +102,36 @@ public class EncryptedMessage extends TypedMessage {
     BlockCipher blockCipher = engine.createBlockCipher(sender, recipient);
     return StringEncoder.getString(blockCipher.decrypt(ConvertUtils.fromHexToBytes(getText())));
   }
+
+  /**
+   * Same as {@link #decryptPayload(PublicKey, PrivateKey)} but the shared key between the sender
+   * and the recipient is resolved through the provided cache.
+   *
+   * @param senderPublicKey Sender public key.
+   * @param recipientPrivateKey Recipient private key
+   * @param sharedKeyCache the cache of shared keys.
+   * @return plain string message.
+   */
+  public String decryptPayload(
+      PublicKey senderPublicKey, PrivateKey recipientPrivateKey, SharedKeyCache sharedKeyCache) {
+    return decryptPayload(
+        senderPublicKey, KeyPair.fromPrivate(recipientPrivateKey), sharedKeyCache);
+  }
+
+  /**
+   * Same as {@link #decryptPayload(PublicKey, PrivateKey, SharedKeyCache)} for a recipient key pair
+   * that has already been resolved, the recipient public key is not derived again.
+   *
+   * @param senderPublicKey Sender public key.
+   * @param recipientKeyPair Recipient key pair, the private key is required.
+   * @param sharedKeyCache the cache of shared keys.
+   * @return plain string message.
+   */
+  public String decryptPayload(
+      PublicKey senderPublicKey, KeyPair recipientKeyPair, SharedKeyCache sharedKeyCache) {
+    CryptoEngine engine = CryptoEngines.defaultEngine();
+    KeyPair sender = KeyPair.onlyPublic(senderPublicKey, engine);
+    BlockCipher blockCipher = engine.createBlockCipher(sender, recipientKeyPair, sharedKeyCache);
+    return StringEncoder.getString(blockCipher.decrypt(ConvertUtils.fromHexToBytes(getText())));
+  }
 }
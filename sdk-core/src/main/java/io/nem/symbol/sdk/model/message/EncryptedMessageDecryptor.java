@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.message;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.SharedKeyCache;
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Helper that decrypts the {@link EncryptedMessage}s of many incoming transfers for one recipient.
+ *
+ * <p>The recipient key pair is resolved once and the shared keys with the senders are resolved
+ * through a {@link SharedKeyCache}, a sender that sends many transfers only costs one key
+ * derivation. The bulk methods decrypt the messages in parallel and keep the order of the incoming
+ * transfers.
+ */
+public class EncryptedMessageDecryptor {
+
+  private final KeyPair recipientKeyPair;
+
+  private final SharedKeyCache sharedKeyCache;
+
+  /**
+   * Constructor.
+   *
+   * @param recipientPrivateKey the private key of the recipient of the transfers.
+   * @param sharedKeyCache the cache of shared keys, it can be shared between decryptors.
+   */
+  public EncryptedMessageDecryptor(PrivateKey recipientPrivateKey, SharedKeyCache sharedKeyCache) {
+    Validate.notNull(recipientPrivateKey, "recipientPrivateKey is required");
+    Validate.notNull(sharedKeyCache, "sharedKeyCache is required");
+    this.recipientKeyPair = KeyPair.fromPrivate(recipientPrivateKey);
+    this.sharedKeyCache = sharedKeyCache;
+  }
+
+  /**
+   * It decrypts the message of a transfer sent to the recipient.
+   *
+   * @param transfer the transfer, it must have a signer and an {@link EncryptedMessage}.
+   * @return the plain text message.
+   */
+  public String decrypt(TransferTransaction transfer) {
+    PublicKey senderPublicKey =
+        transfer
+            .getSigner()
+            .map(PublicAccount::getPublicKey)
+            .orElseThrow(() -> new IllegalArgumentException("Transfer signer is required"));
+    EncryptedMessage message =
+        transfer
+            .getMessage()
+            .filter(m -> m instanceof EncryptedMessage)
+            .map(m -> (EncryptedMessage) m)
+            .orElseThrow(
+                () -> new IllegalArgumentException("Transfer message is not an EncryptedMessage"));
+    return decrypt(message, senderPublicKey);
+  }
+
+  /**
+   * It decrypts a message sent to the recipient.
+   *
+   * @param message the encrypted message.
+   * @param senderPublicKey the sender's public key.
+   * @return the plain text message.
+   */
+  public String decrypt(EncryptedMessage message, PublicKey senderPublicKey) {
+    return message.decryptPayload(senderPublicKey, this.recipientKeyPair, this.sharedKeyCache);
+  }
+
+  /**
+   * It decrypts the messages of many transfers in parallel using the provided executor.
+   *
+   * @param transfers the transfers, they must have a signer and an {@link EncryptedMessage}.
+   * @param executor the executor where the messages are decrypted.
+   * @return the plain text messages in the same order of the provided transfers.
+   */
+  public List<String> decrypt(List<TransferTransaction> transfers, Executor executor) {
+    List<CompletableFuture<String>> futures =
+        transfers.stream()
+            .map(transfer -> CompletableFuture.supplyAsync(() -> decrypt(transfer), executor))
+            .collect(Collectors.toList());
+    return futures.stream()
+        .map(future -> ExceptionUtils.propagate(future::get))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * It decrypts the messages of a stream of transfers. The messages are decrypted in parallel on
+   * the provided scheduler and emitted in the same order of the incoming transfers.
+   *
+   * @param transfers the stream of transfers, they must have a signer and an {@link
+   *     EncryptedMessage}.
+   * @param scheduler the scheduler where the messages are decrypted.
+   * @return the stream of plain text messages.
+   */
+  public Observable<String> decrypt(
+      Observable<TransferTransaction> transfers, Scheduler scheduler) {
+    return transfers.concatMapEager(
+        transfer -> Observable.fromCallable(() -> decrypt(transfer)).subscribeOn(scheduler));
+  }
+}
@@ -18,12 +18,15 @@ package io.nem.symbol.sdk.model.transaction;
 import io.nem.symbol.catapult.builders.CosignatureBuilder;
 import io.nem.symbol.catapult.builders.SignatureDto;
 import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.utils.ExceptionUtils;
 import io.nem.symbol.sdk.infrastructure.SerializationUtils;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 
@@ -89,7 +92,40 @@ public class AggregateTransaction extends Transaction {
         cosignatories.stream()
             .map(cosignatory -> cosignatory.signCosignatureTransaction(signedTransaction.getHash()))
             .collect(Collectors.toList());
-    return signTransactionGivenSignatures(initiatorAccount, cosignatures, generationHash);
+    return appendCosignatures(signedTransaction, cosignatures);
+  }
+
+  /**
+   * Sign transaction with cosignatories creating a new SignedTransaction. The cosignatures are
+   * calculated in parallel using the provided executor. The resolved cosignatures are added to the
+   * payload in the same order of the provided cosignatories, so the generated payload is the same
+   * one {@link #signTransactionWithCosigners(Account, List, String)} generates.
+   *
+   * @param initiatorAccount Initiator account
+   * @param cosignatories The list of accounts that will cosign the transaction
+   * @param generationHash the block 1 generation hash used to sign.
+   * @param executor the executor where the cosignatures are calculated.
+   * @return {@link SignedTransaction}
+   */
+  public SignedTransaction signTransactionWithCosigners(
+      final Account initiatorAccount,
+      final List<Account> cosignatories,
+      final String generationHash,
+      final Executor executor) {
+    SignedTransaction signedTransaction = this.signWith(initiatorAccount, generationHash);
+    List<CompletableFuture<CosignatureSignedTransaction>> futures =
+        cosignatories.stream()
+            .map(
+                cosignatory ->
+                    CompletableFuture.supplyAsync(
+                        () -> cosignatory.signCosignatureTransaction(signedTransaction.getHash()),
+                        executor))
+            .collect(Collectors.toList());
+    List<CosignatureSignedTransaction> cosignatures =
+        futures.stream()
+            .map(future -> ExceptionUtils.propagate(future::get))
+            .collect(Collectors.toList());
+    return appendCosignatures(signedTransaction, cosignatures);
   }
 
   /**
@@ -105,6 +141,19 @@ public class AggregateTransaction extends Transaction {
       final List<? extends AggregateTransactionCosignature> cosignatures,
       final String generationHash) {
     SignedTransaction signedTransaction = this.signWith(initiatorAccount, generationHash);
+    return appendCosignatures(signedTransaction, cosignatures);
+  }
+
+  /**
+   * It appends the cosignatures to an already signed aggregate transaction.
+   *
+   * @param signedTransaction the aggregate transaction signed by the initiator.
+   * @param cosignatures The list of precreated cosignatures.
+   * @return {@link SignedTransaction} with the cosignatures.
+   */
+  private SignedTransaction appendCosignatures(
+      final SignedTransaction signedTransaction,
+      final List<? extends AggregateTransactionCosignature> cosignatures) {
     StringBuilder payload = new StringBuilder(signedTransaction.getPayload());
 
     for (AggregateTransactionCosignature cosignatory : cosignatures) {
@@ -122,7 +171,7 @@ public class AggregateTransaction extends Transaction {
     ArrayUtils.reverse(size);
     System.arraycopy(size, 0, payloadBytes, 0, size.length);
     return new SignedTransaction(
-        initiatorAccount.getPublicAccount(),
+        signedTransaction.getSigner(),
         ConvertUtils.toHex(payloadBytes),
         signedTransaction.getHash(),
         getType());
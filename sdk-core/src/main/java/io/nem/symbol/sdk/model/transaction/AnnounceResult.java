@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.transaction;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/** The outcome of a transaction announced through a transaction announce pipeline. */
+public class AnnounceResult {
+
+  /** The announced transaction. */
+  private final SignedTransaction signedTransaction;
+
+  /** The confirmed transaction, null if the transaction failed. */
+  private final Transaction transaction;
+
+  /** The error, null if the transaction has been confirmed. */
+  private final Throwable error;
+
+  /** The time between the announce request and the confirmation or error. */
+  private final Duration latency;
+
+  private AnnounceResult(
+      SignedTransaction signedTransaction,
+      Transaction transaction,
+      Throwable error,
+      Duration latency) {
+    this.signedTransaction = signedTransaction;
+    this.transaction = transaction;
+    this.error = error;
+    this.latency = latency;
+  }
+
+  /**
+   * Creates the result of a confirmed transaction.
+   *
+   * @param signedTransaction the announced transaction.
+   * @param transaction the confirmed transaction.
+   * @param latency the time between the announce request and the confirmation.
+   * @return the result.
+   */
+  public static AnnounceResult confirmed(
+      SignedTransaction signedTransaction, Transaction transaction, Duration latency) {
+    return new AnnounceResult(signedTransaction, transaction, null, latency);
+  }
+
+  /**
+   * Creates the result of a failed transaction.
+   *
+   * @param signedTransaction the announced transaction.
+   * @param error the announce error, status error or timeout.
+   * @param latency the time between the announce request and the error.
+   * @return the result.
+   */
+  public static AnnounceResult failed(
+      SignedTransaction signedTransaction, Throwable error, Duration latency) {
+    return new AnnounceResult(signedTransaction, null, error, latency);
+  }
+
+  /** @return the announced transaction. */
+  public SignedTransaction getSignedTransaction() {
+    return signedTransaction;
+  }
+
+  /** @return the confirmed transaction if the transaction has been confirmed. */
+  public Optional<Transaction> getTransaction() {
+    return Optional.ofNullable(transaction);
+  }
+
+  /**
+   * Returns the error when the transaction failed. It's a {@link TransactionStatusException} when
+   * the server rejected the transaction.
+   *
+   * @return the error if the transaction failed.
+   */
+  public Optional<Throwable> getError() {
+    return Optional.ofNullable(error);
+  }
+
+  /** @return if the transaction has been confirmed. */
+  public boolean isConfirmed() {
+    return transaction != null;
+  }
+
+  /** @return the time between the announce request and the confirmation or error. */
+  public Duration getLatency() {
+    return latency;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.transaction;
+
+import java.time.Duration;
+import org.apache.commons.lang3.Validate;
+
+/** Snapshot of the throughput and confirmation latencies of a transaction announce pipeline. */
+public class AnnounceStatistics {
+
+  private final long announced;
+  private final long confirmed;
+  private final long failed;
+  private final Duration elapsed;
+
+  /** The confirmation latencies in nanoseconds, sorted. */
+  private final long[] sortedLatencies;
+
+  /**
+   * Constructor.
+   *
+   * @param announced the number of transactions sent to the pipeline.
+   * @param confirmed the number of confirmed transactions.
+   * @param failed the number of failed transactions.
+   * @param elapsed the time between the first announce and the last confirmation or error.
+   * @param sortedLatencies the confirmation latencies in nanoseconds, sorted.
+   */
+  public AnnounceStatistics(
+      long announced, long confirmed, long failed, Duration elapsed, long[] sortedLatencies) {
+    this.announced = announced;
+    this.confirmed = confirmed;
+    this.failed = failed;
+    this.elapsed = elapsed;
+    this.sortedLatencies = sortedLatencies;
+  }
+
+  /** @return the number of transactions sent to the pipeline. */
+  public long getAnnounced() {
+    return announced;
+  }
+
+  /** @return the number of confirmed transactions. */
+  public long getConfirmed() {
+    return confirmed;
+  }
+
+  /** @return the number of failed transactions. */
+  public long getFailed() {
+    return failed;
+  }
+
+  /** @return the number of transactions announced but not yet confirmed or failed. */
+  public long getPending() {
+    return announced - confirmed - failed;
+  }
+
+  /** @return the time between the first announce and the last confirmation or error. */
+  public Duration getElapsed() {
+    return elapsed;
+  }
+
+  /** @return the confirmed transactions per second. */
+  public double getThroughput() {
+    long nanos = elapsed.toNanos();
+    return nanos == 0 ? 0 : confirmed * 1_000_000_000.0 / nanos;
+  }
+
+  /**
+   * Returns the confirmation latency percentile using the nearest rank method.
+   *
+   * @param percentile the percentile, from 0 to 100. For example, 99 for the p99.
+   * @return the latency or {@link Duration#ZERO} if no transaction has been confirmed.
+   */
+  public Duration getLatencyPercentile(double percentile) {
+    Validate.isTrue(percentile >= 0 && percentile <= 100, "percentile must be between 0 and 100");
+    if (sortedLatencies.length == 0) {
+      return Duration.ZERO;
+    }
+    int rank = (int) Math.ceil(percentile / 100 * sortedLatencies.length);
+    return Duration.ofNanos(sortedLatencies[Math.max(rank, 1) - 1]);
+  }
+}
@@ -15,7 +15,6 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
-import io.nem.symbol.core.crypto.CryptoEngines;
 import io.nem.symbol.core.crypto.DsaSigner;
 import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.crypto.Signature;
@@ -206,7 +205,7 @@ public abstract class Transaction implements Stored {
    * @return {@link SignedTransaction}
    */
   public SignedTransaction signWith(final Account account, final String generationHash) {
-    final DsaSigner theSigner = CryptoEngines.defaultEngine().createDsaSigner(account.getKeyPair());
+    final DsaSigner theSigner = account.getDsaSigner();
     final byte[] bytes = this.serialize();
     final byte[] generationHashBytes = ConvertUtils.getBytes(generationHash);
     final byte[] signingBytes = getSignBytes(bytes, generationHashBytes);
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.transaction;
+
+import io.nem.symbol.sdk.model.account.Address;
+import java.util.Optional;
+
+/** A state transition of a transaction tracked by a transaction lifecycle tracker. */
+public class TransactionLifecycleEvent {
+
+  /** The signer of the transaction. */
+  private final Address signer;
+
+  /** The transaction hash. */
+  private final String transactionHash;
+
+  /** The new state. */
+  private final TransactionLifecycleState state;
+
+  /** The transaction sent by the listener, if any. */
+  private final Transaction transaction;
+
+  /** The status error sent by the listener when the transaction failed. */
+  private final TransactionStatusError statusError;
+
+  /**
+   * Constructor.
+   *
+   * @param signer the signer of the transaction.
+   * @param transactionHash the transaction hash.
+   * @param state the new state.
+   * @param transaction the transaction sent by the listener, if any.
+   * @param statusError the status error sent by the listener when the transaction failed.
+   */
+  public TransactionLifecycleEvent(
+      Address signer,
+      String transactionHash,
+      TransactionLifecycleState state,
+      Transaction transaction,
+      TransactionStatusError statusError) {
+    this.signer = signer;
+    this.transactionHash = transactionHash;
+    this.state = state;
+    this.transaction = transaction;
+    this.statusError = statusError;
+  }
+
+  /** @return the signer of the transaction. */
+  public Address getSigner() {
+    return signer;
+  }
+
+  /** @return the transaction hash. */
+  public String getTransactionHash() {
+    return transactionHash;
+  }
+
+  /** @return the new state. */
+  public TransactionLifecycleState getState() {
+    return state;
+  }
+
+  /**
+   * @return the unconfirmed, partial or confirmed transaction sent by the listener. Empty for the
+   *     other states.
+   */
+  public Optional<Transaction> getTransaction() {
+    return Optional.ofNullable(transaction);
+  }
+
+  /** @return the status error when the state is {@link TransactionLifecycleState#FAILED}. */
+  public Optional<TransactionStatusError> getStatusError() {
+    return Optional.ofNullable(statusError);
+  }
+
+  @Override
+  public String toString() {
+    return "TransactionLifecycleEvent{"
+        + "transactionHash='"
+        + transactionHash
+        + '\''
+        + ", state="
+        + state
+        + '}';
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.transaction;
+
+/** The states a tracked transaction goes through from being announced. */
+public enum TransactionLifecycleState {
+  /** The transaction has been registered for tracking, usually right before being announced. */
+  ANNOUNCED(false),
+
+  /** The transaction has been added to the unconfirmed transactions cache. */
+  UNCONFIRMED(false),
+
+  /** The aggregate bonded transaction has been added to the partial transactions cache. */
+  PARTIAL(false),
+
+  /** The transaction has been included in a block. */
+  CONFIRMED(true),
+
+  /** The server rejected the transaction. */
+  FAILED(true),
+
+  /** The transaction deadline passed without it being confirmed. */
+  EXPIRED(true);
+
+  /** If no more transitions happen after this state. */
+  private final boolean terminal;
+
+  TransactionLifecycleState(boolean terminal) {
+    this.terminal = terminal;
+  }
+
+  /** @return if no more transitions happen after this state. */
+  public boolean isTerminal() {
+    return terminal;
+  }
+}
@@ -17,6 +17,7 @@ package io.nem.symbol.core.crypto;
 
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.function.Function;
 import org.hamcrest.MatcherAssert;
@@ -142,6 +143,25 @@ public class HashesTest {
     SHA_512_TESTER.assertHashIsDifferentForDifferentInputs();
   }
 
+  @Test
+  public void sha512_GeneratesSameHashForBufferSuffix() {
+    // Arrange:
+    final byte[] input1 = RandomUtils.generateRandomBytes();
+    final byte[] input2 = RandomUtils.generateRandomBytes();
+    final byte[] data = RandomUtils.generateRandomBytes();
+    final ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+    buffer.put(data);
+    buffer.flip();
+
+    // Act:
+    final byte[] hash1 = Hashes.sha512(input1, input2, data);
+    final byte[] hash2 = Hashes.sha512(buffer, input1, input2);
+
+    // Assert:
+    MatcherAssert.assertThat(hash2, IsEqual.equalTo(hash1));
+    MatcherAssert.assertThat(buffer.position(), IsEqual.equalTo(0));
+  }
+
   // endregion
 
   // region sha3_512
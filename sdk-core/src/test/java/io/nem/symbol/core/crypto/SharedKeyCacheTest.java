@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+import io.nem.symbol.core.crypto.ed25519.Ed25519BlockCipher;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SharedKeyCacheTest {
+
+  @Test
+  public void getSharedKeyDerivesTheKeyOnce() {
+    // Arrange:
+    final KeyPair sender = KeyPair.random();
+    final KeyPair recipient = KeyPair.random();
+    final SharedKeyCache cache = new SharedKeyCache();
+    final AtomicInteger calls = new AtomicInteger();
+    final BiFunction<PrivateKey, PublicKey, byte[]> function =
+        (privateKey, publicKey) -> {
+          calls.incrementAndGet();
+          return Ed25519BlockCipher.getSharedKey(privateKey, publicKey);
+        };
+
+    // Act:
+    final byte[] sharedKey1 =
+        cache.getSharedKey(sender.getPrivateKey(), recipient.getPublicKey(), function);
+    final byte[] sharedKey2 =
+        cache.getSharedKey(sender.getPrivateKey(), recipient.getPublicKey(), function);
+
+    // Assert:
+    Assertions.assertArrayEquals(
+        Ed25519BlockCipher.getSharedKey(sender.getPrivateKey(), recipient.getPublicKey()),
+        sharedKey1);
+    Assertions.assertArrayEquals(sharedKey1, sharedKey2);
+    Assertions.assertNotSame(sharedKey1, sharedKey2);
+    Assertions.assertEquals(1, calls.get());
+    Assertions.assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void returnedKeysAreCopies() {
+    // Arrange:
+    final KeyPair sender = KeyPair.random();
+    final KeyPair recipient = KeyPair.random();
+    final SharedKeyCache cache = new SharedKeyCache();
+    final byte[] expected =
+        Ed25519BlockCipher.getSharedKey(sender.getPrivateKey(), recipient.getPublicKey());
+
+    // Act:
+    final byte[] sharedKey =
+        cache.getSharedKey(
+            sender.getPrivateKey(), recipient.getPublicKey(), Ed25519BlockCipher::getSharedKey);
+    sharedKey[0] = (byte) (sharedKey[0] + 1);
+
+    // Assert:
+    Assertions.assertArrayEquals(
+        expected,
+        cache.getSharedKey(
+            sender.getPrivateKey(), recipient.getPublicKey(), Ed25519BlockCipher::getSharedKey));
+  }
+
+  @Test
+  public void leastRecentlyUsedKeysAreEvicted() {
+    // Arrange:
+    final KeyPair sender = KeyPair.random();
+    final KeyPair recipient1 = KeyPair.random();
+    final KeyPair recipient2 = KeyPair.random();
+    final KeyPair recipient3 = KeyPair.random();
+    final SharedKeyCache cache = new SharedKeyCache(2);
+    final AtomicInteger calls = new AtomicInteger();
+    final BiFunction<PrivateKey, PublicKey, byte[]> function =
+        (privateKey, publicKey) -> {
+          calls.incrementAndGet();
+          return Ed25519BlockCipher.getSharedKey(privateKey, publicKey);
+        };
+
+    // Act:
+    cache.getSharedKey(sender.getPrivateKey(), recipient1.getPublicKey(), function);
+    cache.getSharedKey(sender.getPrivateKey(), recipient2.getPublicKey(), function);
+    cache.getSharedKey(sender.getPrivateKey(), recipient1.getPublicKey(), function);
+    cache.getSharedKey(sender.getPrivateKey(), recipient3.getPublicKey(), function);
+    cache.getSharedKey(sender.getPrivateKey(), recipient1.getPublicKey(), function);
+    Assertions.assertEquals(3, calls.get());
+    cache.getSharedKey(sender.getPrivateKey(), recipient2.getPublicKey(), function);
+
+    // Assert:
+    Assertions.assertEquals(4, calls.get());
+    Assertions.assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void clearRemovesAllTheKeys() {
+    // Arrange:
+    final SharedKeyCache cache = new SharedKeyCache();
+    cache.getSharedKey(
+        KeyPair.random().getPrivateKey(),
+        KeyPair.random().getPublicKey(),
+        Ed25519BlockCipher::getSharedKey);
+    Assertions.assertEquals(1, cache.size());
+
+    // Act:
+    cache.clear();
+
+    // Assert:
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void invalidMaxSize() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new SharedKeyCache(0));
+  }
+}
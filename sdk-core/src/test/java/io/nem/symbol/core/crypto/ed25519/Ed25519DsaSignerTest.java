@@ -110,6 +110,24 @@ public class Ed25519DsaSignerTest extends DsaSignerTest {
     }
   }
 
+  @Test
+  public void reusedSignerReturnsExpectedSignatures() {
+    // Arrange:
+    final CryptoEngine engine = this.getCryptoEngine();
+    final KeyPair keyPair = KeyPair.random(engine);
+    final DsaSigner dsaSigner = this.getDsaSigner(keyPair);
+    for (int i = 0; i < 20; i++) {
+      final byte[] input = RandomUtils.generateRandomBytes();
+
+      // Act:
+      final Signature signature1 = dsaSigner.sign(input);
+      final Signature signature2 = MathUtils.sign(keyPair, input);
+
+      // Assert:
+      Assertions.assertEquals(signature1, signature2);
+    }
+  }
+
   @Test
   public void signReturnsVerifiableSignature() {
     // Arrange:
@@ -175,6 +193,24 @@ public class Ed25519DsaSignerTest extends DsaSignerTest {
     Mockito.verify(dsaSignerWithZeroArrayPublicKey, Mockito.times(1)).getKeyPair();
   }
 
+  @Test
+  public void closedSignerCannotSignButCanVerify() {
+    // Arrange:
+    final KeyPair keyPair = KeyPair.random(this.getCryptoEngine());
+    final Ed25519DsaSigner dsaSigner = new Ed25519DsaSigner(keyPair);
+    final byte[] input = RandomUtils.generateRandomBytes();
+    final Signature signature = dsaSigner.sign(input);
+
+    // Act:
+    dsaSigner.close();
+
+    // Assert:
+    Assertions.assertEquals(
+        "cannot sign with a closed signer",
+        Assertions.assertThrows(CryptoException.class, () -> dsaSigner.sign(input)).getMessage());
+    Assertions.assertTrue(dsaSigner.verify(input, signature));
+  }
+
   @Override
   protected CryptoEngine getCryptoEngine() {
     return CryptoEngines.ed25519Engine();
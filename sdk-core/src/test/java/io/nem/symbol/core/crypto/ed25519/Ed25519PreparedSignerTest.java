@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.CryptoException;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.MathUtils;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519PreparedSignerTest {
+
+  private final CryptoEngine engine = CryptoEngines.ed25519Engine();
+
+  @Test
+  public void signReturnsExpectedSignature() {
+    // Arrange:
+    final KeyPair keyPair = KeyPair.random(engine);
+    try (Ed25519PreparedSigner signer = new Ed25519PreparedSigner(keyPair)) {
+      for (int i = 0; i < 20; i++) {
+        final byte[] input = RandomUtils.generateRandomBytes();
+
+        // Act:
+        final Signature signature1 = signer.sign(input);
+        final Signature signature2 = MathUtils.sign(keyPair, input);
+
+        // Assert:
+        Assertions.assertEquals(signature1, signature2);
+        Assertions.assertTrue(engine.createDsaSigner(keyPair).verify(input, signature1));
+      }
+    }
+  }
+
+  @Test
+  public void signByteBufferReturnsExpectedSignature() {
+    // Arrange:
+    final KeyPair keyPair = KeyPair.random(engine);
+    final byte[] input = RandomUtils.generateRandomBytes();
+    final ByteBuffer direct = ByteBuffer.allocateDirect(input.length + 10);
+    direct.position(5);
+    direct.put(input);
+    direct.position(5);
+    direct.limit(5 + input.length);
+
+    try (Ed25519PreparedSigner signer = new Ed25519PreparedSigner(keyPair)) {
+      // Act:
+      final Signature signature = signer.sign(direct);
+
+      // Assert:
+      Assertions.assertEquals(MathUtils.sign(keyPair, input), signature);
+      Assertions.assertEquals(5, direct.position());
+      Assertions.assertEquals(5 + input.length, direct.limit());
+      Assertions.assertEquals(signature, signer.sign(direct));
+    }
+  }
+
+  @Test
+  public void closeWipesTheSecret() {
+    // Arrange:
+    final KeyPair keyPair = KeyPair.random(engine);
+    final Ed25519PreparedSigner signer = new Ed25519PreparedSigner(keyPair);
+    final byte[] input = RandomUtils.generateRandomBytes();
+    signer.sign(input);
+    Assertions.assertFalse(signer.isClosed());
+
+    // Act:
+    signer.close();
+
+    // Assert:
+    Assertions.assertTrue(signer.isClosed());
+    Assertions.assertEquals(
+        "cannot sign with a closed signer",
+        Assertions.assertThrows(CryptoException.class, () -> signer.sign(input)).getMessage());
+  }
+
+  @Test
+  public void cannotCreateWithoutPrivateKey() {
+    // Arrange:
+    final KeyPair keyPair = KeyPair.onlyPublic(KeyPair.random(engine).getPublicKey(), engine);
+
+    // Act:
+    Assertions.assertEquals(
+        "cannot sign without private key",
+        Assertions.assertThrows(CryptoException.class, () -> new Ed25519PreparedSigner(keyPair))
+            .getMessage());
+  }
+}
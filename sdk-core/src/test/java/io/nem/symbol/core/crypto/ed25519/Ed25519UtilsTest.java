@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.core.crypto.ed25519;
 
+import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.crypto.PrivateKey;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.infrastructure.RandomUtils;
@@ -69,5 +70,17 @@ public class Ed25519UtilsTest {
         ConvertUtils.toHex(Ed25519Utils.prepareForScalarMultiply(privateKey).getRaw()));
   }
 
+  @ParameterizedTest
+  @MethodSource("params")
+  public void shouldPrepareForScalarMultiplyFromPrivateKeyHash(String input, String expected) {
+    // Arrange:
+    final byte[] privateKeyHash = Hashes.sha512(PrivateKey.fromHexString(input).getBytes());
+
+    // Assert:
+    Assertions.assertEquals(
+        expected.toUpperCase(),
+        ConvertUtils.toHex(Ed25519Utils.prepareForScalarMultiply(privateKeyHash).getRaw()));
+  }
+
   // endregion
 }
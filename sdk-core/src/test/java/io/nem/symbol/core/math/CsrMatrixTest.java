@@ -0,0 +1,219 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CsrMatrixTest extends MatrixTest<CsrMatrix> {
+
+  private static void assertSorted(final MatrixNonZeroElementRowIterator iterator) {
+    int col = -1;
+    while (iterator.hasNext()) {
+      final MatrixElement entry = iterator.next();
+      MatcherAssert.assertThat(entry.getColumn() > col, IsEqual.equalTo(true));
+      col = entry.getColumn();
+    }
+  }
+
+  private static SparseMatrix createRandomSparseMatrix(
+      final Random random, final int rows, final int cols, final int numEntries) {
+    final SparseMatrix matrix = new SparseMatrix(rows, cols, 4);
+    for (int i = 0; i < numEntries; ++i) {
+      matrix.incrementAt(random.nextInt(rows), random.nextInt(cols), random.nextDouble());
+    }
+    return matrix;
+  }
+
+  @Test
+  public void canBeCreatedFromSparseMatrix() {
+    // Arrange:
+    final SparseMatrix sparseMatrix = createRandomSparseMatrix(new Random(7), 50, 40, 300);
+
+    // Act:
+    final CsrMatrix matrix = new CsrMatrix(sparseMatrix);
+
+    // Assert:
+    MatcherAssert.assertThat(matrix, IsEqual.equalTo(sparseMatrix));
+    MatcherAssert.assertThat(matrix.getNumEntries(), IsEqual.equalTo(sparseMatrix.getNumEntries()));
+    for (int row = 0; row < 50; ++row) {
+      MatcherAssert.assertThat(
+          matrix.getNonZeroColumnCount(row),
+          IsEqual.equalTo(sparseMatrix.getNonZeroColumnCount(row)));
+      assertSorted(matrix.getNonZeroElementRowIterator(row));
+    }
+  }
+
+  @Test
+  public void canBeCreatedFromRawArrays() {
+    // Act:
+    final CsrMatrix matrix =
+        new CsrMatrix(
+            3, 3, new int[] {0, 2, 2, 3}, new int[] {0, 2, 1}, new double[] {1.0, 2.0, 3.0});
+
+    // Assert:
+    MatcherAssert.assertThat(
+        matrix, IsEqual.equalTo(this.createMatrix(3, 3, new double[] {1, 0, 2, 0, 0, 0, 0, 3, 0})));
+  }
+
+  @Test
+  public void cannotBeCreatedFromIncompatibleRawArrays() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new CsrMatrix(3, 3, new int[] {0, 2, 3}, new int[] {0, 2, 1}, new double[3]));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new CsrMatrix(2, 3, new int[] {0, 2, 4}, new int[] {0, 2, 1}, new double[3]));
+  }
+
+  @Test
+  public void entriesCanBeAddedAndRemovedInAnyOrder() {
+    // Arrange:
+    final Random random = new Random(11);
+    final CsrMatrix matrix = this.createMatrix(20, 20);
+    final DenseMatrix expected = new DenseMatrix(20, 20);
+
+    // Act:
+    for (int i = 0; i < 500; ++i) {
+      final int row = random.nextInt(20);
+      final int col = random.nextInt(20);
+      final double value = random.nextInt(4) == 0 ? 0.0 : random.nextDouble();
+      matrix.setAt(row, col, value);
+      expected.setAt(row, col, value);
+    }
+
+    // Assert:
+    MatcherAssert.assertThat(matrix, IsEqual.equalTo(expected));
+    int numEntries = 0;
+    for (int row = 0; row < 20; ++row) {
+      assertSorted(matrix.getNonZeroElementRowIterator(row));
+      numEntries += matrix.getNonZeroColumnCount(row);
+    }
+    MatcherAssert.assertThat(matrix.getNumEntries(), IsEqual.equalTo(numEntries));
+  }
+
+  @Test
+  public void removeLessThanRemovesEntries() {
+    // Arrange:
+    final CsrMatrix matrix = this.createMatrix(2, 3, new double[] {2, -3, -5, 11, -1, 8});
+
+    // Act:
+    matrix.removeLessThan(0);
+
+    // Assert:
+    MatcherAssert.assertThat(matrix.getNumEntries(), IsEqual.equalTo(3));
+    MatcherAssert.assertThat(matrix.getNonZeroColumnCount(0), IsEqual.equalTo(1));
+    MatcherAssert.assertThat(
+        matrix, IsEqual.equalTo(this.createMatrix(2, 3, new double[] {2, 0, 0, 11, 0, 8})));
+  }
+
+  @Test
+  public void kernelsReturnSameResultsAsSparseMatrix() {
+    // Arrange:
+    final Random random = new Random(42);
+    final SparseMatrix sparseMatrix = createRandomSparseMatrix(random, 300, 200, 2000);
+    final CsrMatrix matrix = new CsrMatrix(sparseMatrix);
+    final double[] rawVector = new double[200];
+    for (int i = 0; i < rawVector.length; ++i) {
+      rawVector[i] = random.nextDouble();
+    }
+    final ColumnVector vector = new ColumnVector(rawVector);
+
+    // Assert:
+    MatcherAssert.assertThat(
+        matrix.multiply(vector).roundTo(9),
+        IsEqual.equalTo(sparseMatrix.multiply(vector).roundTo(9)));
+    MatcherAssert.assertThat(
+        matrix.getRowSumVector().roundTo(9),
+        IsEqual.equalTo(sparseMatrix.getRowSumVector().roundTo(9)));
+    MatcherAssert.assertThat(
+        matrix.getColumnSumVector().roundTo(9),
+        IsEqual.equalTo(sparseMatrix.getColumnSumVector().roundTo(9)));
+
+    final Collection<Integer> zeroColumns = matrix.normalizeColumns();
+    MatcherAssert.assertThat(zeroColumns, IsEqual.equalTo(sparseMatrix.normalizeColumns()));
+    MatcherAssert.assertThat(matrix.roundTo(9), IsEqual.equalTo(sparseMatrix.roundTo(9)));
+  }
+
+  @Test
+  public void forkJoinMultiplyReturnsSameResultAsMultiply() {
+    // Arrange: enough entries to split the tasks and a dense row
+    final Random random = new Random(42);
+    final SparseMatrix sparseMatrix = createRandomSparseMatrix(random, 2000, 1000, 100000);
+    for (int col = 0; col < 1000; ++col) {
+      sparseMatrix.setAt(3, col, col);
+    }
+    final CsrMatrix matrix = new CsrMatrix(sparseMatrix);
+    final double[] rawVector = new double[1000];
+    for (int i = 0; i < rawVector.length; ++i) {
+      rawVector[i] = random.nextDouble();
+    }
+    final ColumnVector vector = new ColumnVector(rawVector);
+    final ForkJoinPool pool = new ForkJoinPool(4);
+
+    try {
+      // Act:
+      final ColumnVector result = matrix.multiply(vector, pool);
+
+      // Assert:
+      MatcherAssert.assertThat(
+          result.roundTo(9), IsEqual.equalTo(matrix.multiply(vector).roundTo(9)));
+      MatcherAssert.assertThat(
+          result.roundTo(9), IsEqual.equalTo(sparseMatrix.multiply(vector).roundTo(9)));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void forkJoinMultiplyOfMatrixWithEmptyTrailingRows() {
+    // Arrange:
+    final CsrMatrix matrix = this.createMatrix(4, 2);
+    matrix.setAt(0, 1, 2.0);
+
+    // Act:
+    final ColumnVector result = matrix.multiply(new ColumnVector(3, 5), ForkJoinPool.commonPool());
+
+    // Assert:
+    MatcherAssert.assertThat(result, IsEqual.equalTo(new ColumnVector(10, 0, 0, 0)));
+  }
+
+  @Test
+  public void forEachReturnsAllNonZeroElements() {
+    // Arrange:
+    final CsrMatrix matrix = this.createMatrix(3, 2, new double[] {2, 0, 0, 1, -5, 8});
+
+    // Act:
+    final List<Double> values = new ArrayList<>();
+    matrix.forEach((row, col, value) -> values.add(value));
+
+    // Assert:
+    MatcherAssert.assertThat(values, IsEqual.equalTo(Arrays.asList(2.0, 1.0, -5.0, 8.0)));
+  }
+
+  @Override
+  protected CsrMatrix createMatrix(final int rows, final int cols) {
+    return new CsrMatrix(rows, cols);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RollingHistogramTest {
+
+  @Test
+  public void smallValuesAreExact() {
+    // Arrange:
+    final RollingHistogram histogram = new RollingHistogram(100);
+    for (int i = 1; i <= 100; i++) {
+      histogram.record(i);
+    }
+
+    // Assert:
+    Assertions.assertEquals(100, histogram.size());
+    Assertions.assertEquals(1, histogram.getValueAtPercentile(0));
+    Assertions.assertEquals(50, histogram.getValueAtPercentile(0.5));
+    Assertions.assertEquals(90, histogram.getValueAtPercentile(0.9));
+    Assertions.assertEquals(100, histogram.getValueAtPercentile(1));
+  }
+
+  @Test
+  public void largeValuesAreWithinThePrecision() {
+    // Arrange:
+    final RollingHistogram histogram = new RollingHistogram(1);
+    final long[] values = {128, 129, 1000, 123_456, 1L << 40, (1L << 40) + 12345, Long.MAX_VALUE};
+
+    for (final long value : values) {
+      // Act:
+      histogram.record(value);
+      final long percentile = histogram.getValueAtPercentile(0.5);
+
+      // Assert:
+      Assertions.assertTrue(percentile >= value, value + " > " + percentile);
+      Assertions.assertTrue(percentile - value <= value / 64, value + " << " + percentile);
+    }
+  }
+
+  @Test
+  public void oldValuesAreDropped() {
+    // Arrange:
+    final RollingHistogram histogram = new RollingHistogram(3);
+    histogram.record(100);
+    histogram.record(100);
+    histogram.record(100);
+
+    // Act:
+    histogram.record(1);
+    histogram.record(2);
+
+    // Assert:
+    Assertions.assertEquals(3, histogram.size());
+    Assertions.assertEquals(1, histogram.getValueAtPercentile(0));
+    Assertions.assertEquals(2, histogram.getValueAtPercentile(0.5));
+    Assertions.assertEquals(100, histogram.getValueAtPercentile(1));
+  }
+
+  @Test
+  public void clearRemovesAllTheValues() {
+    // Arrange:
+    final RollingHistogram histogram = new RollingHistogram(2);
+    histogram.record(10);
+    histogram.record(20);
+
+    // Act:
+    histogram.clear();
+    histogram.record(5);
+
+    // Assert:
+    Assertions.assertEquals(1, histogram.size());
+    Assertions.assertEquals(5, histogram.getValueAtPercentile(1));
+  }
+
+  @Test
+  public void invalidArgumentsAreRejected() {
+    final RollingHistogram histogram = new RollingHistogram(2);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new RollingHistogram(0));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    Assertions.assertThrows(IllegalStateException.class, () -> histogram.getValueAtPercentile(1));
+    histogram.record(1);
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> histogram.getValueAtPercentile(1.5));
+  }
+}
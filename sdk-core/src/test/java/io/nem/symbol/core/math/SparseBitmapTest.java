@@ -16,9 +16,13 @@
 package io.nem.symbol.core.math;
 
 import io.nem.symbol.core.test.ExceptionAssert;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import org.hamcrest.MatcherAssert;
@@ -486,4 +490,52 @@ public class SparseBitmapTest {
   }
 
   // endregion
+
+  // region batchAnd / int iterators
+
+  @Test
+  public void batchAndCanCreateBitmapFromZeroBitmaps() {
+    // Act:
+    final SparseBitmap sb = SparseBitmap.batchAnd();
+
+    // Assert:
+    MatcherAssert.assertThat(sb.cardinality(), IsEqual.equalTo(0));
+  }
+
+  @Test
+  public void batchAndCanCreateBitmapFromMultipleBitmaps() {
+    // Act:
+    final SparseBitmap sb =
+        SparseBitmap.batchAnd(
+            SparseBitmap.createFromSortedData(1, 3, 5, 7, 200),
+            SparseBitmap.createFromSortedData(3, 5, 8, 200),
+            SparseBitmap.createFromSortedData(2, 3, 200, 300));
+
+    // Assert:
+    MatcherAssert.assertThat(sb.toList(), IsEqual.equalTo(Arrays.asList(3, 200)));
+  }
+
+  @Test
+  public void intIteratorReturnsAllBitsInOrder() {
+    // Arrange:
+    final SparseBitmap sb = SparseBitmap.createFromSortedData(0, 4, 64, 1000);
+
+    // Act:
+    final List<Integer> ascending = toList(sb.intIterator());
+
+    // Assert:
+    MatcherAssert.assertThat(ascending, IsEqual.equalTo(Arrays.asList(0, 4, 64, 1000)));
+    ExceptionAssert.assertThrows(
+        v -> SparseBitmap.createEmpty().intIterator().nextInt(), NoSuchElementException.class);
+  }
+
+  private static List<Integer> toList(final PrimitiveIterator.OfInt iterator) {
+    final List<Integer> bits = new ArrayList<>();
+    while (iterator.hasNext()) {
+      bits.add(iterator.nextInt());
+    }
+    return bits;
+  }
+
+  // endregion
 }
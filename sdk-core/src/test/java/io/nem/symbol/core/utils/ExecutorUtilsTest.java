@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link ExecutorUtils}. */
+public class ExecutorUtilsTest {
+
+  private static boolean isJava21() {
+    try {
+      Thread.class.getMethod("isVirtual");
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  @Test
+  void isVirtualThreadSupported() {
+    Assertions.assertEquals(isJava21(), ExecutorUtils.isVirtualThreadSupported());
+  }
+
+  @Test
+  void newVirtualThreadPerTaskExecutor() throws Exception {
+    if (!ExecutorUtils.isVirtualThreadSupported()) {
+      Assertions.assertThrows(
+          UnsupportedOperationException.class, ExecutorUtils::newVirtualThreadPerTaskExecutor);
+      return;
+    }
+    ExecutorService executor = ExecutorUtils.newVirtualThreadPerTaskExecutor();
+    try {
+      Future<Object> isVirtual =
+          executor.submit(() -> Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+      Assertions.assertEquals(Boolean.TRUE, isVirtual.get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void newVirtualThreadOrCachedExecutor() throws Exception {
+    ExecutorService executor = ExecutorUtils.newVirtualThreadOrCachedExecutor();
+    try {
+      Assertions.assertEquals("done", executor.submit(() -> "done").get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
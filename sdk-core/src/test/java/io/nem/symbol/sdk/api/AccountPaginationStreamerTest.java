@@ -16,6 +16,7 @@
 package io.nem.symbol.sdk.api;
 
 import io.nem.symbol.sdk.model.account.AccountInfo;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -42,6 +43,45 @@ public class AccountPaginationStreamerTest {
     tester().limitToTwoPages();
   }
 
+  @Test
+  void cursorMultiPageTest() {
+    tester().cursorMultiPageTest();
+  }
+
+  @Test
+  void cursorMultiPageWithLimit() {
+    tester().cursorMultiPageWithLimit();
+  }
+
+  @Test
+  void cursorSearchRequiresIdOrder() {
+    AccountPaginationStreamer streamer =
+        new AccountPaginationStreamer(Mockito.mock(AccountRepository.class));
+    Assertions.assertEquals(
+        "Cursor search requires the results to be ordered by ID",
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                    streamer.cursorSearch(
+                        new AccountSearchCriteria().orderBy(AccountOrderBy.BALANCE)))
+            .getMessage());
+  }
+
+  @Test
+  void cursorSearchFlowableRequiresIdOrder() {
+    AccountRepository repository = Mockito.mock(AccountRepository.class);
+    AccountPaginationStreamer streamer = new AccountPaginationStreamer(repository);
+    Assertions.assertEquals(
+        "Cursor search requires the results to be ordered by ID",
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                    streamer.cursorSearchFlowable(
+                        new AccountSearchCriteria().orderBy(AccountOrderBy.BALANCE)))
+            .getMessage());
+    Mockito.verifyZeroInteractions(repository);
+  }
+
   private PaginationStreamerTester<AccountInfo, AccountSearchCriteria> tester() {
     AccountRepository repository = Mockito.mock(AccountRepository.class);
     AccountPaginationStreamer streamer = new AccountPaginationStreamer(repository);
@@ -16,6 +16,7 @@
 package io.nem.symbol.sdk.api;
 
 import io.nem.symbol.sdk.model.account.AccountRestrictions;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -42,6 +43,37 @@ public class AccountRestrictionsPaginationStreamerTest {
     tester().limitToTwoPages();
   }
 
+  @Test
+  void cursorSearchNotSupported() {
+    AccountRestrictionsPaginationStreamer streamer =
+        new AccountRestrictionsPaginationStreamer(Mockito.mock(RestrictionAccountRepository.class));
+    Assertions.assertFalse(streamer.isCursorSupported());
+    Assertions.assertEquals(
+        "Cursor search is not supported by AccountRestrictionsPaginationStreamer",
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> streamer.cursorSearch(new AccountRestrictionSearchCriteria()))
+            .getMessage());
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () -> streamer.cursorSearchFlowable(new AccountRestrictionSearchCriteria()));
+  }
+
+  @Test
+  void flowableMultiPageTest() {
+    tester().flowableMultiPageTest();
+  }
+
+  @Test
+  void flowableMultipageWithLimit() {
+    tester().flowableMultipageWithLimit();
+  }
+
+  @Test
+  void flowableBackpressureTest() {
+    tester().flowableBackpressureTest();
+  }
+
   private PaginationStreamerTester<AccountRestrictions, AccountRestrictionSearchCriteria> tester() {
     RestrictionAccountRepository repository = Mockito.mock(RestrictionAccountRepository.class);
     AccountRestrictionsPaginationStreamer streamer =
@@ -16,6 +16,7 @@
 package io.nem.symbol.sdk.api;
 
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -42,6 +43,58 @@ public class BlockPaginationStreamerTest {
     tester().limitToTwoPages();
   }
 
+  @Test
+  void cursorMultiPageTest() {
+    tester().cursorMultiPageTest();
+  }
+
+  @Test
+  void cursorMultiPageWithLimit() {
+    tester().cursorMultiPageWithLimit();
+  }
+
+  @Test
+  void cursorSearchRequiresIdOrder() {
+    BlockPaginationStreamer streamer =
+        new BlockPaginationStreamer(Mockito.mock(BlockRepository.class));
+    Assertions.assertEquals(
+        "Cursor search requires the results to be ordered by ID",
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> streamer.cursorSearch(new BlockSearchCriteria().orderBy(BlockOrderBy.HEIGHT)))
+            .getMessage());
+  }
+
+  @Test
+  void cursorSearchFlowableRequiresIdOrder() {
+    BlockRepository repository = Mockito.mock(BlockRepository.class);
+    BlockPaginationStreamer streamer = new BlockPaginationStreamer(repository);
+    Assertions.assertEquals(
+        "Cursor search requires the results to be ordered by ID",
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                    streamer.cursorSearchFlowable(
+                        new BlockSearchCriteria().orderBy(BlockOrderBy.HEIGHT)))
+            .getMessage());
+    Mockito.verifyZeroInteractions(repository);
+  }
+
+  @Test
+  void flowableMultiPageTest() {
+    tester().flowableMultiPageTest();
+  }
+
+  @Test
+  void flowableMultipageWithLimit() {
+    tester().flowableMultipageWithLimit();
+  }
+
+  @Test
+  void flowableBackpressureTest() {
+    tester().flowableBackpressureTest();
+  }
+
   private PaginationStreamerTester<BlockInfo, BlockSearchCriteria> tester() {
     BlockRepository repository = Mockito.mock(BlockRepository.class);
     BlockPaginationStreamer streamer = new BlockPaginationStreamer(repository);
@@ -42,6 +42,16 @@ public class HashLockPaginationStreamerTest {
     tester().limitToTwoPages();
   }
 
+  @Test
+  void cursorMultiPageTest() {
+    tester().cursorMultiPageTest();
+  }
+
+  @Test
+  void cursorMultiPageWithLimit() {
+    tester().cursorMultiPageWithLimit();
+  }
+
   private PaginationStreamerTester<HashLockInfo, HashLockSearchCriteria> tester() {
     HashLockRepository repository = Mockito.mock(HashLockRepository.class);
     HashLockPaginationStreamer streamer = new HashLockPaginationStreamer(repository);
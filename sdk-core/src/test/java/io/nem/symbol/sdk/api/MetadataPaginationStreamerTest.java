@@ -42,6 +42,16 @@ public class MetadataPaginationStreamerTest {
     tester().limitToTwoPages();
   }
 
+  @Test
+  void cursorMultiPageTest() {
+    tester().cursorMultiPageTest();
+  }
+
+  @Test
+  void cursorMultiPageWithLimit() {
+    tester().cursorMultiPageWithLimit();
+  }
+
   private PaginationStreamerTester<Metadata, MetadataSearchCriteria> tester() {
     MetadataRepository repository = Mockito.mock(MetadataRepository.class);
     MetadataPaginationStreamer streamer = new MetadataPaginationStreamer(repository);
@@ -42,6 +42,16 @@ public class MosaicPaginationStreamerTest {
     tester().limitToTwoPages();
   }
 
+  @Test
+  void cursorMultiPageTest() {
+    tester().cursorMultiPageTest();
+  }
+
+  @Test
+  void cursorMultiPageWithLimit() {
+    tester().cursorMultiPageWithLimit();
+  }
+
   private PaginationStreamerTester<MosaicInfo, MosaicSearchCriteria> tester() {
     MosaicRepository repository = Mockito.mock(MosaicRepository.class);
     MosaicPaginationStreamer streamer = new MosaicPaginationStreamer(repository);
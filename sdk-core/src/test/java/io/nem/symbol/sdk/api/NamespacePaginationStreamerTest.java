@@ -42,6 +42,16 @@ public class NamespacePaginationStreamerTest {
     tester().limitToTwoPages();
   }
 
+  @Test
+  void cursorMultiPageTest() {
+    tester().cursorMultiPageTest();
+  }
+
+  @Test
+  void cursorMultiPageWithLimit() {
+    tester().cursorMultiPageWithLimit();
+  }
+
   private PaginationStreamerTester<NamespaceInfo, NamespaceSearchCriteria> tester() {
     NamespaceRepository repository = Mockito.mock(NamespaceRepository.class);
     NamespacePaginationStreamer streamer = new NamespacePaginationStreamer(repository);
@@ -15,9 +15,14 @@
  */
 package io.nem.symbol.sdk.api;
 
+import io.nem.symbol.sdk.model.Stored;
+import io.reactivex.Flowable;
 import io.reactivex.Observable;
+import io.reactivex.subscribers.TestSubscriber;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -53,28 +58,129 @@ public class PaginationStreamerTester<E, C extends SearchCriteria<C>> {
   public void basicMultiPageTest() {
     int pageSize = 20;
     int totalEntries = 110;
-    runSearch(pageSize, totalEntries, null);
+    runSearch(pageSize, totalEntries, null, false);
   }
 
   public void multipageWithLimit() {
     int pageSize = 20;
     int totalEntries = 110;
-    runSearch(pageSize, totalEntries, 30);
+    runSearch(pageSize, totalEntries, 30, false);
   }
 
   public void limitToTwoPages() {
     int pageSize = 20;
     int totalEntries = 110;
-    runSearch(pageSize, totalEntries, pageSize * 2);
+    runSearch(pageSize, totalEntries, pageSize * 2, false);
   }
 
   public void basicSinglePageTest() {
     int pageSize = 20;
     int totalEntries = 19;
-    runSearch(pageSize, totalEntries, null);
+    runSearch(pageSize, totalEntries, null, false);
   }
 
-  private void runSearch(int pageSize, int totalEntries, Integer limit) {
+  public void cursorMultiPageTest() {
+    int pageSize = 20;
+    int totalEntries = 110;
+    runCursorSearch(pageSize, totalEntries, null, false);
+  }
+
+  public void cursorMultiPageWithLimit() {
+    int pageSize = 20;
+    int totalEntries = 110;
+    runCursorSearch(pageSize, totalEntries, 30, false);
+  }
+
+  public void flowableMultiPageTest() {
+    runSearch(20, 110, null, true);
+  }
+
+  public void flowableMultipageWithLimit() {
+    runSearch(20, 110, 30, true);
+  }
+
+  public void cursorFlowableMultiPageTest() {
+    runCursorSearch(20, 110, null, true);
+  }
+
+  public void cursorFlowableMultiPageWithLimit() {
+    runCursorSearch(20, 110, 30, true);
+  }
+
+  /** It checks that the flowable only requests the pages the subscriber has demanded. */
+  public void flowableBackpressureTest() {
+    int pageSize = 20;
+    criteria.setPageSize(pageSize);
+    List<E> infos =
+        IntStream.range(0, 110)
+            .mapToObj((i) -> Mockito.mock(entityClass))
+            .collect(Collectors.toList());
+    List<Observable<Page<E>>> pages = toPages(infos, pageSize);
+    Mockito.when(repository.search(Mockito.eq(criteria))).thenAnswer(new ReturnsElementsOf(pages));
+
+    TestSubscriber<E> subscriber = streamer.searchFlowable(criteria).test(0);
+    // The first page and the one after it.
+    Mockito.verify(repository, Mockito.times(2)).search(Mockito.eq(criteria));
+
+    subscriber.request(5);
+    subscriber.assertValueCount(5);
+    Mockito.verify(repository, Mockito.times(2)).search(Mockito.eq(criteria));
+
+    // Once the first page is consumed, the third one is requested.
+    subscriber.request(pageSize);
+    subscriber.assertValueCount(pageSize + 5);
+    Mockito.verify(repository, Mockito.times(3)).search(Mockito.eq(criteria));
+
+    subscriber.request(Long.MAX_VALUE);
+    subscriber.assertValueSequence(infos);
+    subscriber.assertComplete();
+    Mockito.verify(repository, Mockito.times(pages.size())).search(Mockito.eq(criteria));
+  }
+
+  private void runCursorSearch(int pageSize, int totalEntries, Integer limit, boolean flowable) {
+    try {
+      criteria.setPageSize(pageSize);
+      List<E> infos =
+          IntStream.range(0, totalEntries)
+              .mapToObj(
+                  (i) -> {
+                    E info = Mockito.mock(entityClass);
+                    Mockito.when(((Stored) info).getRecordId())
+                        .thenReturn(Optional.of("record" + i));
+                    return info;
+                  })
+              .collect(Collectors.toList());
+      List<Observable<Page<E>>> pages = toPages(infos, criteria.getPageSize());
+      List<String> offsets = new ArrayList<>();
+      Iterator<Observable<Page<E>>> pagesIterator = pages.iterator();
+      Mockito.when(repository.search(Mockito.eq(criteria)))
+          .thenAnswer(
+              invocation -> {
+                Assertions.assertEquals(1, criteria.getPageNumber());
+                offsets.add(criteria.getOffset());
+                return pagesIterator.next();
+              });
+      Assertions.assertTrue(streamer.isCursorSupported());
+      List<E> returnedInfos =
+          flowable
+              ? limit(streamer.cursorSearchFlowable(criteria), limit).toList().blockingGet()
+              : limit(streamer.cursorSearch(criteria), limit).toList().toFuture().get();
+      Assertions.assertEquals(
+          infos.subList(0, limit == null ? infos.size() : limit), returnedInfos);
+      int totalPagesRead =
+          limit == null ? pages.size() : (int) Math.ceil(limit.doubleValue() / pageSize);
+      List<String> expectedOffsets = new ArrayList<>();
+      expectedOffsets.add(null);
+      for (int i = 1; i < totalPagesRead; i++) {
+        expectedOffsets.add("record" + (i * pageSize - 1));
+      }
+      Assertions.assertEquals(expectedOffsets, offsets);
+    } catch (InterruptedException | ExecutionException e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+  private void runSearch(int pageSize, int totalEntries, Integer limit, boolean flowable) {
     try {
       criteria.setPageSize(pageSize);
       List<E> infos =
@@ -85,11 +191,10 @@ public class PaginationStreamerTester<E, C extends SearchCriteria<C>> {
       List<Observable<Page<E>>> pages = toPages(infos, criteria.getPageSize());
       Mockito.when(repository.search(Mockito.eq(criteria)))
           .thenAnswer(new ReturnsElementsOf(pages));
-      Observable<E> search = streamer.search(criteria);
-      if (limit != null) {
-        search = search.take(limit);
-      }
-      List<E> returnedInfos = search.toList().toFuture().get();
+      List<E> returnedInfos =
+          flowable
+              ? limit(streamer.searchFlowable(criteria), limit).toList().blockingGet()
+              : limit(streamer.search(criteria), limit).toList().toFuture().get();
       Assertions.assertEquals(
           infos.subList(0, limit == null ? infos.size() : limit), returnedInfos);
       int totalPagesRead =
@@ -100,6 +205,14 @@ public class PaginationStreamerTester<E, C extends SearchCriteria<C>> {
     }
   }
 
+  private static <T> Observable<T> limit(Observable<T> search, Integer limit) {
+    return limit == null ? search : search.take(limit);
+  }
+
+  private static <T> Flowable<T> limit(Flowable<T> search, Integer limit) {
+    return limit == null ? search : search.take(limit);
+  }
+
   private <T> List<Observable<Page<T>>> toPages(List<T> infos, Integer pageSize) {
     List<List<T>> partitions = new ArrayList<>();
     for (int i = 0; i < infos.size(); i += pageSize) {
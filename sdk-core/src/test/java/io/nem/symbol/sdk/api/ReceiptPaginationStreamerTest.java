@@ -42,6 +42,16 @@ public class ReceiptPaginationStreamerTest {
     tester().limitToTwoPages();
   }
 
+  @Test
+  void cursorMultiPageTest() {
+    tester().cursorMultiPageTest();
+  }
+
+  @Test
+  void cursorMultiPageWithLimit() {
+    tester().cursorMultiPageWithLimit();
+  }
+
   private PaginationStreamerTester<TransactionStatement, TransactionStatementSearchCriteria>
       tester() {
     Searcher<TransactionStatement, TransactionStatementSearchCriteria> searcher =
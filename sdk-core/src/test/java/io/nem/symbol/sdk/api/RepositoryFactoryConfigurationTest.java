@@ -21,6 +21,7 @@ import io.nem.symbol.sdk.model.mosaic.NetworkCurrencies;
 import io.nem.symbol.sdk.model.namespace.NamespaceId;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -41,7 +42,10 @@ class RepositoryFactoryConfigurationTest {
     Currency harvest =
         new CurrencyBuilder(NamespaceId.createFromName("my.custom.harvest"), 3).build();
     configuration.withNetworkCurrencies(new NetworkCurrencies(currency, harvest));
+    Executor executor = Runnable::run;
+    configuration.withExecutor(executor);
     Assertions.assertEquals(epochAdjustment, configuration.getEpochAdjustment());
+    Assertions.assertSame(executor, configuration.getExecutor());
     Assertions.assertEquals("http://localhost:3000", configuration.getBaseUrl());
     Assertions.assertEquals("abc", configuration.getGenerationHash());
     Assertions.assertEquals(NetworkType.MAIN_NET, configuration.getNetworkType());
@@ -64,7 +68,11 @@ class RepositoryFactoryConfigurationTest {
         new CurrencyBuilder(NamespaceId.createFromName("my.custom.harvest"), 3).build();
 
     configuration.setNetworkCurrencies(new NetworkCurrencies(currency, harvest));
+    Assertions.assertNull(configuration.getExecutor());
+    Executor executor = Runnable::run;
+    configuration.setExecutor(executor);
 
+    Assertions.assertSame(executor, configuration.getExecutor());
     Assertions.assertEquals(Duration.ofMillis(100L), configuration.getEpochAdjustment());
     Assertions.assertEquals("http://localhost:3000", configuration.getBaseUrl());
     Assertions.assertEquals("abc", configuration.getGenerationHash());
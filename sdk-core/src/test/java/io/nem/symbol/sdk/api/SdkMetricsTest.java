@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.subjects.PublishSubject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link SdkMetrics}. */
+public class SdkMetricsTest {
+
+  private RecordingMetricsRecorder recorder;
+
+  @BeforeEach
+  void setUp() {
+    recorder = new RecordingMetricsRecorder();
+    SdkMetrics.setRecorder(recorder);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SdkMetrics.setRecorder(SdkMetrics.NO_OP);
+  }
+
+  @Test
+  void timedSuccess() {
+    Observable<String> observable =
+        Observable.just("a").compose(SdkMetrics.timed("operation", "key", "value"));
+    Assertions.assertTrue(recorder.events.isEmpty());
+    Assertions.assertEquals("a", observable.blockingFirst());
+    Assertions.assertEquals(
+        Arrays.asList("start operation [key, value]", "success operation"), recorder.events);
+  }
+
+  @Test
+  void timedEachSubscription() {
+    Observable<String> observable = Observable.just("a").compose(SdkMetrics.timed("operation"));
+    observable.blockingFirst();
+    observable.blockingFirst();
+    Assertions.assertEquals(
+        Arrays.asList(
+            "start operation []", "success operation", "start operation []", "success operation"),
+        recorder.events);
+  }
+
+  @Test
+  void timedRepositoryCallError() {
+    Observable<String> observable =
+        Observable.<String>error(new RepositoryCallException("Not Found", 404, null))
+            .compose(SdkMetrics.timed("operation"));
+    Assertions.assertThrows(RepositoryCallException.class, observable::blockingFirst);
+    Assertions.assertEquals(
+        Arrays.asList("start operation []", "error operation 404"), recorder.events);
+  }
+
+  @Test
+  void timedOtherError() {
+    Observable<String> observable =
+        Observable.<String>error(new IllegalStateException("Boom"))
+            .compose(SdkMetrics.timed("operation"));
+    Assertions.assertThrows(IllegalStateException.class, observable::blockingFirst);
+    Assertions.assertEquals(
+        Arrays.asList("start operation []", "error operation 0"), recorder.events);
+  }
+
+  @Test
+  void timedCancel() {
+    PublishSubject<String> subject = PublishSubject.create();
+    Disposable disposable = subject.compose(SdkMetrics.timed("operation")).subscribe();
+    disposable.dispose();
+    subject.onComplete();
+    Assertions.assertEquals(
+        Arrays.asList("start operation []", "cancel operation"), recorder.events);
+  }
+
+  @Test
+  void timedNotEnabled() {
+    SdkMetrics.setRecorder(SdkMetrics.NO_OP);
+    Assertions.assertFalse(SdkMetrics.isEnabled());
+    Observable<String> observable = Observable.just("a");
+    Assertions.assertSame(observable, observable.compose(SdkMetrics.timed("operation")));
+  }
+
+  @Test
+  void timedService() {
+    Observable.just("a")
+        .compose(SdkMetrics.timedService("TransactionService", "announce"))
+        .blockingFirst();
+    Assertions.assertEquals(
+        Arrays.asList(
+            "start symbol.sdk.service.call [service, TransactionService, operation, announce]",
+            "success symbol.sdk.service.call"),
+        recorder.events);
+  }
+
+  @Test
+  void increment() {
+    Assertions.assertTrue(SdkMetrics.isEnabled());
+    SdkMetrics.increment("counter", "key", "value");
+    Assertions.assertEquals(
+        Collections.singletonList("increment counter [key, value]"), recorder.events);
+  }
+
+  @Test
+  void setNullRecorder() {
+    Assertions.assertThrows(NullPointerException.class, () -> SdkMetrics.setRecorder(null));
+  }
+
+  @Test
+  void paginationStreamerCountsPages() {
+    PaginationStreamer<String, TransactionSearchCriteria> streamer =
+        new PaginationStreamer<>(
+            criteria ->
+                Observable.just(
+                    new Page<>(
+                        Arrays.asList("a", "b"),
+                        criteria.getPageNumber(),
+                        2,
+                        criteria.getPageNumber() == 3)));
+    List<String> entities =
+        streamer
+            .search(new TransactionSearchCriteria(TransactionGroup.CONFIRMED))
+            .toList()
+            .blockingGet();
+    Assertions.assertEquals(6, entities.size());
+    Assertions.assertEquals(
+        Collections.nCopies(
+            3,
+            "increment symbol.sdk.pagination.page [criteria, TransactionSearchCriteria, mode, page]"),
+        recorder.events);
+  }
+
+  /** Recorder that keeps the received calls. */
+  private static class RecordingMetricsRecorder implements MetricsRecorder {
+
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public Sample start(String name, String... tags) {
+      events.add("start " + name + " " + Arrays.toString(tags));
+      return new Sample() {
+        @Override
+        public void success() {
+          events.add("success " + name);
+        }
+
+        @Override
+        public void error(int statusCode) {
+          events.add("error " + name + " " + statusCode);
+        }
+
+        @Override
+        public void cancel() {
+          events.add("cancel " + name);
+        }
+      };
+    }
+
+    @Override
+    public void increment(String name, String... tags) {
+      events.add("increment " + name + " " + Arrays.toString(tags));
+    }
+  }
+}
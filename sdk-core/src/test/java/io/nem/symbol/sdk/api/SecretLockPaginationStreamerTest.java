@@ -42,6 +42,16 @@ public class SecretLockPaginationStreamerTest {
     tester().limitToTwoPages();
   }
 
+  @Test
+  void cursorMultiPageTest() {
+    tester().cursorMultiPageTest();
+  }
+
+  @Test
+  void cursorMultiPageWithLimit() {
+    tester().cursorMultiPageWithLimit();
+  }
+
   private PaginationStreamerTester<SecretLockInfo, SecretLockSearchCriteria> tester() {
     SecretLockRepository repository = Mockito.mock(SecretLockRepository.class);
     SecretLockPaginationStreamer streamer = new SecretLockPaginationStreamer(repository);
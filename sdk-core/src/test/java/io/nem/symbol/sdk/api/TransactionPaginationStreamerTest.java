@@ -43,6 +43,41 @@ public class TransactionPaginationStreamerTest {
     tester().limitToTwoPages();
   }
 
+  @Test
+  void cursorMultiPageTest() {
+    tester().cursorMultiPageTest();
+  }
+
+  @Test
+  void cursorMultiPageWithLimit() {
+    tester().cursorMultiPageWithLimit();
+  }
+
+  @Test
+  void flowableMultiPageTest() {
+    tester().flowableMultiPageTest();
+  }
+
+  @Test
+  void flowableMultipageWithLimit() {
+    tester().flowableMultipageWithLimit();
+  }
+
+  @Test
+  void flowableBackpressureTest() {
+    tester().flowableBackpressureTest();
+  }
+
+  @Test
+  void cursorFlowableMultiPageTest() {
+    tester().cursorFlowableMultiPageTest();
+  }
+
+  @Test
+  void cursorFlowableMultiPageWithLimit() {
+    tester().cursorFlowableMultiPageWithLimit();
+  }
+
   private PaginationStreamerTester<Transaction, TransactionSearchCriteria> tester() {
     TransactionRepository repository = Mockito.mock(TransactionRepository.class);
     TransactionPaginationStreamer streamer = new TransactionPaginationStreamer(repository);
@@ -39,6 +39,7 @@ import io.nem.symbol.sdk.model.transaction.TransferTransaction;
 import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
 import io.reactivex.Observable;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -764,4 +765,84 @@ public class AggregateTransactionServiceTest {
 
     Assertions.assertFalse(service.isComplete(signedTransaction).toFuture().get());
   }
+
+  @Test
+  void isCompleteResolvesEachInnerTransactionSignerOnce()
+      throws ExecutionException, InterruptedException {
+    TransferTransaction transferTransaction =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                account4.getAddress(),
+                Collections.emptyList())
+            .message(new PlainMessage("test-message"))
+            .build();
+
+    AggregateTransaction aggregateTransaction =
+        AggregateTransactionFactory.createComplete(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                Arrays.asList(
+                    transferTransaction.toAggregate(multisig3.getPublicAccount()),
+                    transferTransaction.toAggregate(multisig3.getPublicAccount()),
+                    transferTransaction.toAggregate(multisig3.getPublicAccount())))
+            .build();
+
+    SignedTransaction signedTransaction =
+        account2.signTransactionWithCosignatories(
+            aggregateTransaction, Collections.singletonList(account3), generationHash);
+
+    Assertions.assertTrue(service.isComplete(signedTransaction).toFuture().get());
+    Assertions.assertTrue(service.isComplete(signedTransaction).toFuture().get());
+
+    Mockito.verify(multisigRepository, Mockito.times(2))
+        .getMultisigAccountInfo(multisig3.getAddress());
+    Mockito.verify(multisigRepository, Mockito.times(2))
+        .getMultisigAccountGraphInfo(multisig3.getAddress());
+  }
+
+  @Test
+  void isCompleteReusesGraphsAcrossCallsWhenCacheIsEnabled()
+      throws ExecutionException, InterruptedException {
+    AggregateTransactionServiceImpl cachedService =
+        new AggregateTransactionServiceImpl(factory, Duration.ofMinutes(1));
+    TransferTransaction transferTransaction =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                account4.getAddress(),
+                Collections.emptyList())
+            .message(new PlainMessage("test-message"))
+            .build();
+
+    AggregateTransaction aggregateTransaction =
+        AggregateTransactionFactory.createComplete(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                Collections.singletonList(
+                    transferTransaction.toAggregate(multisig3.getPublicAccount())))
+            .build();
+
+    SignedTransaction completeTransaction =
+        account2.signTransactionWithCosignatories(
+            aggregateTransaction, Collections.singletonList(account3), generationHash);
+    SignedTransaction partialTransaction =
+        account2.signTransactionWithCosignatories(
+            aggregateTransaction, Collections.emptyList(), generationHash);
+
+    Assertions.assertTrue(cachedService.isComplete(completeTransaction).toFuture().get());
+    Assertions.assertFalse(cachedService.isComplete(partialTransaction).toFuture().get());
+
+    Mockito.verify(multisigRepository, Mockito.times(1))
+        .getMultisigAccountInfo(multisig3.getAddress());
+    Mockito.verify(multisigRepository, Mockito.times(1))
+        .getMultisigAccountGraphInfo(multisig3.getAddress());
+  }
+
+  @Test
+  void graphCacheTtlMustNotBeNegative() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new AggregateTransactionServiceImpl(factory, Duration.ofSeconds(-1)));
+  }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Test of {@link BulkTransferTransactionBuilder} */
+public class BulkTransferTransactionBuilderTest {
+
+  private final NetworkType networkType = NetworkType.TEST_NET;
+  private final String generationHash =
+      "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+  private final Deadline deadline = new Deadline(BigInteger.valueOf(123_456_789));
+  private final Account signer = Account.generateNewAccount(networkType);
+  private final Address recipient = Account.generateNewAccount(networkType).getAddress();
+  private final List<Mosaic> mosaics =
+      Arrays.asList(
+          new Mosaic(new MosaicId(BigInteger.valueOf(20)), BigInteger.valueOf(2)),
+          new Mosaic(new MosaicId(new BigInteger("F000000000000001", 16)), BigInteger.ONE),
+          new Mosaic(new MosaicId(BigInteger.valueOf(10)), BigInteger.valueOf(1_000_000)));
+  private final BulkTransferTransactionBuilder builder =
+      new BulkTransferTransactionBuilder(networkType, deadline, 100, signer, generationHash);
+
+  private TransferTransaction transfer(List<Mosaic> mosaics, PlainMessage message) {
+    TransferTransactionFactory factory =
+        TransferTransactionFactory.create(networkType, deadline, recipient, mosaics);
+    if (message != null) {
+      factory.message(message);
+    }
+    return factory.calculateMaxFeeFromMultiplier(100).build();
+  }
+
+  @Test
+  void producesTheSameTransfersAsSignWith() {
+    PlainMessage message = new PlainMessage("bulk");
+    builder.add(recipient, mosaics, message);
+    builder.add(recipient, Collections.emptyList());
+
+    SignedTransaction expected1 = transfer(mosaics, message).signWith(signer, generationHash);
+    SignedTransaction expected2 =
+        transfer(Collections.emptyList(), null).signWith(signer, generationHash);
+
+    Assertions.assertEquals(expected1.getPayload(), builder.getSignedTransaction(0).getPayload());
+    Assertions.assertEquals(expected1.getHash(), builder.getHash(0));
+    Assertions.assertEquals(expected2.getPayload(), builder.getSignedTransaction(1).getPayload());
+    Assertions.assertEquals(expected2.getHash(), builder.getHash(1));
+  }
+
+  @Test
+  void writesASignedTransferLayout() {
+    Assertions.assertEquals(0, builder.add(recipient, mosaics, new PlainMessage("hello")));
+
+    byte[] payload = builder.getPayload(0);
+    ByteBuffer buffer = ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN);
+    int size = 128 + 32 + 3 * 16 + 6;
+    Assertions.assertEquals(size, payload.length);
+    Assertions.assertEquals(size, buffer.getInt(0));
+    Assertions.assertEquals(1, buffer.get(108));
+    Assertions.assertEquals((byte) networkType.getValue(), buffer.get(109));
+    Assertions.assertEquals(0x4154, buffer.getShort(110));
+    Assertions.assertEquals(size * 100L, buffer.getLong(112));
+    Assertions.assertEquals(deadline.getValue(), buffer.getLong(120));
+    Assertions.assertArrayEquals(recipient.getBytes(), Arrays.copyOfRange(payload, 128, 128 + 24));
+    Assertions.assertEquals(6, buffer.getShort(152));
+    Assertions.assertEquals(3, buffer.get(154));
+    // The mosaics are sorted by unsigned id.
+    Assertions.assertEquals(10, buffer.getLong(160));
+    Assertions.assertEquals(1_000_000, buffer.getLong(168));
+    Assertions.assertEquals(20, buffer.getLong(176));
+    Assertions.assertEquals(0xF000000000000001L, buffer.getLong(192));
+    Assertions.assertEquals(0, payload[208]);
+    Assertions.assertEquals("hello", new String(payload, 209, 5));
+
+    // The hashing and signing helpers don't depend on the transaction content.
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(networkType, deadline, recipient, mosaics).build();
+    byte[] signedData = transaction.getSignBytes(payload, ConvertUtils.getBytes(generationHash));
+    Signature signature = new Signature(Arrays.copyOfRange(payload, 8, 72));
+    Assertions.assertTrue(signer.getDsaSigner().verify(signedData, signature));
+    Assertions.assertArrayEquals(
+        signer.getPublicAccount().getPublicKey().getBytes(), Arrays.copyOfRange(payload, 72, 104));
+    Assertions.assertEquals(
+        transaction.createTransactionHash(
+            builder.getSignedTransaction(0).getPayload(), ConvertUtils.getBytes(generationHash)),
+        builder.getHash(0));
+  }
+
+  @Test
+  void encodesNamespaceRecipients() {
+    NamespaceId alias = NamespaceId.createFromName("alias");
+    builder.add(alias, Collections.emptyList());
+
+    byte[] payload = builder.getPayload(0);
+    ByteBuffer buffer = ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN);
+    Assertions.assertEquals((byte) (networkType.getValue() | 0x01), payload[128]);
+    Assertions.assertEquals(alias.getIdAsLong(), buffer.getLong(129));
+    Assertions.assertEquals(160, payload.length);
+  }
+
+  @Test
+  void appendsAllThePayloadsToOneBuffer() {
+    int transfers = 100;
+    for (int i = 0; i < transfers; i++) {
+      Assertions.assertEquals(
+          i,
+          builder.add(
+              recipient,
+              Collections.singletonList(mosaics.get(0)),
+              new PlainMessage(String.valueOf(i))));
+    }
+
+    Assertions.assertEquals(transfers, builder.size());
+    ByteBuffer payloads = builder.getPayloads();
+    Assertions.assertTrue(payloads.isReadOnly());
+    Set<String> hashes = new HashSet<>();
+    for (int i = 0; i < transfers; i++) {
+      int size = payloads.getInt(payloads.position());
+      byte[] payload = new byte[size];
+      payloads.get(payload);
+      Assertions.assertArrayEquals(builder.getPayload(i), payload);
+      hashes.add(builder.getHash(i));
+    }
+    Assertions.assertFalse(payloads.hasRemaining());
+    Assertions.assertEquals(transfers, hashes.size());
+    List<SignedTransaction> signedTransactions = builder.getSignedTransactions();
+    Assertions.assertEquals(transfers, signedTransactions.size());
+    Assertions.assertEquals(builder.getHash(99), signedTransactions.get(99).getHash());
+    Assertions.assertEquals(signer.getPublicAccount(), signedTransactions.get(99).getSigner());
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    List<Mosaic> tooManyMosaics = Collections.nCopies(256, mosaics.get(0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> builder.add(recipient, tooManyMosaics));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> builder.getPayload(0));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> builder.getHash(-1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new BulkTransferTransactionBuilder(networkType, deadline, -1, signer, generationHash));
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.PublishSubject;
+import java.math.BigInteger;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Test of {@link FeeEstimatorImpl} */
+public class FeeEstimatorImplTest {
+
+  private final Account account = Account.generateNewAccount(NetworkType.TEST_NET);
+  private Listener listener;
+  private PublishSubject<BlockInfo> newBlock;
+  private PublishSubject<Transaction> unconfirmedAdded;
+  private FeeEstimatorImpl estimator;
+
+  @BeforeEach
+  void setup() {
+    listener = Mockito.mock(Listener.class);
+    newBlock = PublishSubject.create();
+    unconfirmedAdded = PublishSubject.create();
+    Mockito.when(listener.newBlock()).thenReturn(newBlock);
+    Mockito.when(listener.unconfirmedAdded(account.getAddress())).thenReturn(unconfirmedAdded);
+    estimator = new FeeEstimatorImpl(listener, 10, 10);
+  }
+
+  private static BlockInfo block(Long feeMultiplier) {
+    BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+    Mockito.when(blockInfo.getFeeMultiplier()).thenReturn(feeMultiplier);
+    return blockInfo;
+  }
+
+  private static Transaction transaction(long maxFee, long size) {
+    Transaction transaction = Mockito.mock(Transaction.class);
+    Mockito.when(transaction.getMaxFee()).thenReturn(BigInteger.valueOf(maxFee));
+    Mockito.when(transaction.getSize()).thenReturn(size);
+    return transaction;
+  }
+
+  @Test
+  void emptyUntilRecorded() {
+    Assertions.assertEquals(Optional.empty(), estimator.suggestFeeMultiplier(1, 0.9));
+    Assertions.assertEquals(Optional.empty(), estimator.getUnconfirmedFeeMultiplier(0.5));
+    Assertions.assertEquals(0, estimator.getBlockCount());
+  }
+
+  @Test
+  void suggestsFromTheStreamedBlocks() {
+    // Half of the blocks accept anything, the other half require 100.
+    for (int i = 0; i < 5; i++) {
+      newBlock.onNext(block(0L));
+      newBlock.onNext(block(100L));
+    }
+    newBlock.onNext(block(null));
+    Assertions.assertEquals(10, estimator.getBlockCount());
+
+    Assertions.assertEquals(Optional.of(100L), estimator.suggestFeeMultiplier(1, 0.9));
+    // Within 4 blocks, 90% confidence needs a 44% acceptance per block.
+    Assertions.assertEquals(Optional.of(0L), estimator.suggestFeeMultiplier(4, 0.9));
+    Assertions.assertEquals(Optional.of(0L), estimator.getBlockFeeMultiplier(0.5));
+    Assertions.assertEquals(Optional.of(100L), estimator.getBlockFeeMultiplier(0.6));
+  }
+
+  @Test
+  void olderBlocksLeaveTheWindow() {
+    for (int i = 0; i < 10; i++) {
+      estimator.recordBlock(block(500L));
+    }
+    for (int i = 0; i < 10; i++) {
+      newBlock.onNext(block(10L));
+    }
+    Assertions.assertEquals(Optional.of(10L), estimator.suggestFeeMultiplier(1, 1));
+  }
+
+  @Test
+  void recordsTheWatchedUnconfirmedTransactions() {
+    estimator.watch(account.getAddress());
+    estimator.watch(account.getAddress());
+    Mockito.verify(listener, Mockito.times(1)).unconfirmedAdded(account.getAddress());
+
+    unconfirmedAdded.onNext(transaction(20_000, 200));
+    unconfirmedAdded.onNext(transaction(24_000, 200));
+    estimator.recordUnconfirmed(transaction(1_000, 0));
+
+    Assertions.assertEquals(2, estimator.getUnconfirmedCount());
+    Assertions.assertEquals(Optional.of(100L), estimator.getUnconfirmedFeeMultiplier(0.5));
+    Assertions.assertEquals(Optional.of(120L), estimator.getUnconfirmedFeeMultiplier(1));
+  }
+
+  @Test
+  void listenerErrorsAreForwarded() {
+    TestObserver<Throwable> failures = estimator.failures().test();
+    estimator.watch(account.getAddress());
+    IllegalStateException blockError = new IllegalStateException("newBlock failed");
+    IllegalStateException unconfirmedError = new IllegalStateException("unconfirmed failed");
+
+    newBlock.onError(blockError);
+    unconfirmedAdded.onError(unconfirmedError);
+
+    failures.assertValues(blockError, unconfirmedError);
+    // The failed address is unwatched, so watching it again resubscribes.
+    PublishSubject<Transaction> reopened = PublishSubject.create();
+    Mockito.when(listener.unconfirmedAdded(account.getAddress())).thenReturn(reopened);
+    estimator.watch(account.getAddress());
+    reopened.onNext(transaction(1000, 100));
+    Assertions.assertEquals(1, estimator.getUnconfirmedCount());
+
+    estimator.close();
+    failures.assertComplete();
+  }
+
+  @Test
+  void failedListenerIsNotWatched() {
+    TestObserver<Throwable> failures = estimator.failures().test();
+    unconfirmedAdded.onError(new IllegalStateException("Listener closed"));
+
+    estimator.watch(account.getAddress());
+    estimator.watch(account.getAddress());
+
+    Assertions.assertEquals(2, failures.valueCount());
+    Mockito.verify(listener, Mockito.times(2)).unconfirmedAdded(account.getAddress());
+  }
+
+  @Test
+  void closeDisposesTheSubscriptions() {
+    estimator.watch(account.getAddress());
+
+    estimator.close();
+
+    Assertions.assertFalse(newBlock.hasObservers());
+    Assertions.assertFalse(unconfirmedAdded.hasObservers());
+    Assertions.assertThrows(
+        IllegalStateException.class, () -> estimator.watch(account.getAddress()));
+  }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.sdk.api.BlockOrderBy;
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.BlockSearchCriteria;
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.FinalizationRepository;
+import io.nem.symbol.sdk.api.OrderBy;
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.blockchain.BlockHeaderRecord;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.blockchain.ChainInfo;
+import io.nem.symbol.sdk.model.blockchain.FakeBlockInfoFactory;
+import io.nem.symbol.sdk.model.blockchain.FinalizedBlock;
+import io.nem.symbol.sdk.model.blockchain.MerkleProofInfo;
+import io.nem.symbol.sdk.model.finalization.FinalizationProof;
+import io.nem.symbol.sdk.model.finalization.FinalizationProofVerification;
+import io.nem.symbol.sdk.model.finalization.FinalizationProofVerifier;
+import io.reactivex.Observable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+/** Test class for the LightClientImpl. */
+public class LightClientImplTest {
+
+  @TempDir Path tempDir;
+
+  private final KeyPair harvester = KeyPair.random();
+
+  private final List<BlockInfo> blocks = new ArrayList<>();
+
+  private final List<String> searchedOffsets = new ArrayList<>();
+
+  private ChainRepository chainRepository;
+
+  private BlockRepository blockRepository;
+
+  private FinalizationRepository finalizationRepository;
+
+  private FinalizationProofVerifier proofVerifier;
+
+  private MappedFileBlockHeaderStore store;
+
+  private ExecutorService executor;
+
+  private LightClientImpl client;
+
+  @BeforeEach
+  void setup() {
+    RepositoryFactory factory = Mockito.mock(RepositoryFactory.class);
+    chainRepository = Mockito.mock(ChainRepository.class);
+    blockRepository = Mockito.mock(BlockRepository.class);
+    finalizationRepository = Mockito.mock(FinalizationRepository.class);
+    proofVerifier = Mockito.mock(FinalizationProofVerifier.class);
+    Mockito.when(factory.createChainRepository()).thenReturn(chainRepository);
+    Mockito.when(factory.createBlockRepository()).thenReturn(blockRepository);
+    Mockito.when(factory.createFinalizationRepository()).thenReturn(finalizationRepository);
+    Mockito.when(blockRepository.search(Mockito.any(BlockSearchCriteria.class)))
+        .thenAnswer(invocation -> search((BlockSearchCriteria) invocation.getArguments()[0]));
+    store = new MappedFileBlockHeaderStore(tempDir.resolve("headers.bin"));
+    executor = Executors.newFixedThreadPool(2);
+    client = new LightClientImpl(factory, store, proofVerifier, 0.67, executor, 3);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    executor.shutdown();
+    store.close();
+  }
+
+  private void addBlocks(int count) {
+    for (int i = 0; i < count; i++) {
+      String previousHash =
+          blocks.isEmpty()
+              ? FakeBlockInfoFactory.randomHash()
+              : blocks.get(blocks.size() - 1).getHash();
+      addBlock(
+          FakeBlockInfoFactory.create(
+              harvester,
+              BigInteger.valueOf(blocks.size() + 1),
+              previousHash,
+              FakeBlockInfoFactory.randomHash()));
+    }
+  }
+
+  private void addBlock(BlockInfo block) {
+    blocks.add(block);
+  }
+
+  /** It answers a block search sorted by height like the REST gateway does. */
+  private Observable<Page<BlockInfo>> search(BlockSearchCriteria criteria) {
+    Assertions.assertEquals(BlockOrderBy.HEIGHT, criteria.getOrderBy());
+    Assertions.assertEquals(OrderBy.ASC, criteria.getOrder());
+    searchedOffsets.add(criteria.getOffset());
+    BigInteger offset =
+        criteria.getOffset() == null ? BigInteger.ZERO : new BigInteger(criteria.getOffset());
+    List<BlockInfo> after =
+        blocks.stream()
+            .filter(block -> block.getHeight().compareTo(offset) > 0)
+            .collect(Collectors.toList());
+    int pageSize = criteria.getPageSize();
+    List<BlockInfo> data = after.subList(0, Math.min(pageSize, after.size()));
+    return Observable.just(new Page<>(data, 1, pageSize, after.size() <= pageSize));
+  }
+
+  private FinalizationProof finalizeAt(int height, boolean finalized) {
+    BlockInfo block = blocks.get(height - 1);
+    FinalizationProof proof =
+        new FinalizationProof(1, 2, 3, block.getHeight(), block.getHash(), Collections.emptyList());
+    ChainInfo chainInfo =
+        new ChainInfo(
+            block.getHeight(),
+            BigInteger.ONE,
+            BigInteger.ONE,
+            new FinalizedBlock(2L, 3L, block.getHeight(), block.getHash()));
+    Mockito.when(chainRepository.getChainInfo()).thenReturn(Observable.just(chainInfo));
+    Mockito.when(finalizationRepository.getFinalizationProofAtHeight(block.getHeight()))
+        .thenReturn(Observable.just(proof));
+    FinalizationProofVerification verification = Mockito.mock(FinalizationProofVerification.class);
+    Mockito.when(verification.isFinalized(0.67)).thenReturn(finalized);
+    Mockito.when(proofVerifier.verify(proof, executor)).thenReturn(verification);
+    return proof;
+  }
+
+  @Test
+  void syncDownloadsAndFinalizesHeaders() {
+    addBlocks(7);
+    finalizeAt(7, true);
+
+    List<BlockHeaderRecord> headers = client.sync().toList().blockingGet();
+
+    Assertions.assertEquals(7, headers.size());
+    Assertions.assertEquals(BlockHeaderRecord.of(blocks.get(6)), headers.get(6));
+    Assertions.assertEquals(BigInteger.valueOf(7), client.getFinalizedHeight());
+    Assertions.assertTrue(client.isFinal(BigInteger.valueOf(7)));
+    Assertions.assertFalse(client.isFinal(BigInteger.valueOf(8)));
+  }
+
+  @Test
+  void syncIsIncremental() {
+    addBlocks(4);
+    finalizeAt(4, true);
+    Assertions.assertEquals(4, client.sync().toList().blockingGet().size());
+
+    addBlocks(5);
+    finalizeAt(8, true);
+    List<BlockHeaderRecord> headers = client.sync().toList().blockingGet();
+
+    Assertions.assertEquals(4, headers.size());
+    Assertions.assertEquals(BigInteger.valueOf(5), headers.get(0).getHeight());
+    Assertions.assertEquals(BigInteger.valueOf(8), client.getFinalizedHeight());
+    Assertions.assertEquals(BigInteger.valueOf(8), store.getLastHeader().get().getHeight());
+    Assertions.assertEquals(Arrays.asList(null, "4"), searchedOffsets);
+  }
+
+  @Test
+  void syncWalksThePagesByHeight() {
+    addBlocks(2 * LightClientImpl.PAGE_SIZE + 10);
+    finalizeAt(LightClientImpl.PAGE_SIZE + 5, true);
+
+    List<BlockHeaderRecord> headers = client.sync().toList().blockingGet();
+
+    Assertions.assertEquals(LightClientImpl.PAGE_SIZE + 5, headers.size());
+    Assertions.assertEquals(
+        Arrays.asList(null, String.valueOf(LightClientImpl.PAGE_SIZE)), searchedOffsets);
+
+    // Nothing is requested once the store is at the finalized height.
+    searchedOffsets.clear();
+    Assertions.assertTrue(client.sync().toList().blockingGet().isEmpty());
+    Assertions.assertTrue(searchedOffsets.isEmpty());
+  }
+
+  @Test
+  void syncRejectsUnverifiedProof() {
+    addBlocks(3);
+    finalizeAt(3, false);
+
+    IllegalStateException exception =
+        Assertions.assertThrows(
+            IllegalStateException.class, () -> client.sync().toList().blockingGet());
+
+    Assertions.assertTrue(exception.getMessage().contains("could not be verified"));
+    Assertions.assertFalse(store.getLastHeader().isPresent());
+    Assertions.assertEquals(BigInteger.ZERO, client.getFinalizedHeight());
+  }
+
+  @Test
+  void syncRejectsBrokenLinkage() {
+    addBlocks(4);
+    addBlock(
+        FakeBlockInfoFactory.create(
+            harvester,
+            BigInteger.valueOf(5),
+            FakeBlockInfoFactory.randomHash(),
+            FakeBlockInfoFactory.randomHash()));
+    finalizeAt(5, true);
+
+    IllegalStateException exception =
+        Assertions.assertThrows(
+            IllegalStateException.class, () -> client.sync().toList().blockingGet());
+
+    Assertions.assertEquals(
+        "Block at height 5 does not link to the previous block", exception.getMessage());
+    Assertions.assertEquals(BigInteger.valueOf(3), store.getLastHeader().get().getHeight());
+    Assertions.assertEquals(BigInteger.ZERO, client.getFinalizedHeight());
+  }
+
+  @Test
+  void syncRejectsInvalidSignature() {
+    addBlocks(2);
+    BlockInfo valid =
+        FakeBlockInfoFactory.create(
+            harvester,
+            BigInteger.valueOf(3),
+            blocks.get(1).getHash(),
+            FakeBlockInfoFactory.randomHash());
+    addBlock(
+        new BlockInfo(
+            null,
+            valid.getSize(),
+            valid.getHash(),
+            valid.getGenerationHash(),
+            valid.getTotalFee(),
+            valid.getStateHashSubCacheMerkleRoots(),
+            valid.getTransactionsCount(),
+            valid.getTotalTransactionsCount(),
+            valid.getStatementsCount(),
+            valid.getSubCacheMerkleRoots(),
+            valid.getSignature(),
+            new PublicAccount(KeyPair.random().getPublicKey().toHex(), valid.getNetworkType()),
+            valid.getNetworkType(),
+            valid.getVersion(),
+            valid.getType(),
+            valid.getHeight(),
+            valid.getTimestamp(),
+            valid.getDifficulty(),
+            valid.getFeeMultiplier(),
+            valid.getPreviousBlockHash(),
+            valid.getBlockTransactionsHash(),
+            valid.getBlockReceiptsHash(),
+            valid.getStateHash(),
+            valid.getProofGamma(),
+            valid.getProofScalar(),
+            valid.getProofVerificationHash(),
+            valid.getBeneficiaryAddress()));
+    finalizeAt(3, true);
+
+    IllegalStateException exception =
+        Assertions.assertThrows(
+            IllegalStateException.class, () -> client.sync().toList().blockingGet());
+
+    Assertions.assertEquals(
+        "Block at height 3 has an invalid hash or signature", exception.getMessage());
+  }
+
+  @Test
+  void isValidTransactionInBlockUsesLocalHeader() {
+    addBlocks(1);
+    finalizeAt(1, true);
+    client.sync().toList().blockingGet();
+    String transactionHash = blocks.get(0).getBlockTransactionsHash();
+    Mockito.when(blockRepository.getMerkleTransaction(BigInteger.ONE, transactionHash))
+        .thenReturn(Observable.just(new MerkleProofInfo(Collections.emptyList())));
+    Mockito.when(blockRepository.getMerkleReceipts(BigInteger.ONE, transactionHash))
+        .thenReturn(Observable.just(new MerkleProofInfo(Collections.emptyList())));
+
+    Assertions.assertTrue(
+        client.isValidTransactionInBlock(BigInteger.ONE, transactionHash).blockingFirst());
+    Assertions.assertFalse(
+        client.isValidStatementInBlock(BigInteger.ONE, transactionHash).blockingFirst());
+    Assertions.assertEquals(1, searchedOffsets.size());
+  }
+
+  @Test
+  void isValidTransactionInBlockRequiresSyncedHeader() {
+    Mockito.when(blockRepository.getMerkleTransaction(BigInteger.TEN, "AA"))
+        .thenReturn(Observable.just(new MerkleProofInfo(Collections.emptyList())));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> client.isValidTransactionInBlock(BigInteger.TEN, "AA").blockingFirst());
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.blockchain.BlockHeaderRecord;
+import io.nem.symbol.sdk.model.blockchain.FakeBlockInfoFactory;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Test class for the MappedFileBlockHeaderStore. */
+public class MappedFileBlockHeaderStoreTest {
+
+  @TempDir Path tempDir;
+
+  private static List<BlockHeaderRecord> headers(int from, int to) {
+    return IntStream.rangeClosed(from, to)
+        .mapToObj(
+            height ->
+                new BlockHeaderRecord(
+                    BigInteger.valueOf(height),
+                    FakeBlockInfoFactory.randomHash(),
+                    FakeBlockInfoFactory.randomHash(),
+                    FakeBlockInfoFactory.randomHash(),
+                    FakeBlockInfoFactory.randomHash()))
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  void appendAndRead() throws IOException {
+    List<BlockHeaderRecord> headers = headers(1, 3);
+    try (MappedFileBlockHeaderStore store =
+        new MappedFileBlockHeaderStore(tempDir.resolve("headers.bin"))) {
+      Assertions.assertEquals(Optional.empty(), store.getLastHeader());
+      store.append(headers);
+      Assertions.assertEquals(Optional.of(headers.get(2)), store.getLastHeader());
+      Assertions.assertEquals(Optional.of(headers.get(0)), store.getHeader(BigInteger.ONE));
+      Assertions.assertEquals(Optional.empty(), store.getHeader(BigInteger.ZERO));
+      Assertions.assertEquals(Optional.empty(), store.getHeader(BigInteger.valueOf(4)));
+      Assertions.assertEquals(BigInteger.ZERO, store.getFinalizedHeight());
+    }
+  }
+
+  @Test
+  void reopenKeepsHeaders() throws IOException {
+    Path file = tempDir.resolve("headers.bin");
+    List<BlockHeaderRecord> headers = headers(1, 5);
+    try (MappedFileBlockHeaderStore store = new MappedFileBlockHeaderStore(file)) {
+      store.append(headers);
+      store.setFinalizedHeight(BigInteger.valueOf(4));
+    }
+    try (MappedFileBlockHeaderStore store = new MappedFileBlockHeaderStore(file)) {
+      Assertions.assertEquals(Optional.of(headers.get(4)), store.getLastHeader());
+      Assertions.assertEquals(Optional.of(headers.get(2)), store.getHeader(BigInteger.valueOf(3)));
+      Assertions.assertEquals(BigInteger.valueOf(4), store.getFinalizedHeight());
+    }
+    Assertions.assertTrue(Files.size(file) > 0);
+  }
+
+  @Test
+  void appendGrowsTheMapping() throws IOException {
+    List<BlockHeaderRecord> headers = headers(1, 3000);
+    try (MappedFileBlockHeaderStore store =
+        new MappedFileBlockHeaderStore(tempDir.resolve("headers.bin"))) {
+      store.append(headers.subList(0, 1000));
+      store.append(headers.subList(1000, 3000));
+      Assertions.assertEquals(
+          Optional.of(headers.get(2999)), store.getHeader(BigInteger.valueOf(3000)));
+      Assertions.assertEquals(
+          Optional.of(headers.get(1500)), store.getHeader(BigInteger.valueOf(1501)));
+    }
+  }
+
+  @Test
+  void appendGrowsAcrossSegments() throws IOException {
+    Path file = tempDir.resolve("headers.bin");
+    List<BlockHeaderRecord> headers = headers(1, 41);
+    try (MappedFileBlockHeaderStore store = new MappedFileBlockHeaderStore(file, 8)) {
+      store.append(headers.subList(0, 5));
+      Assertions.assertEquals(16 + 8 * 136, Files.size(file));
+      // Doubles the first segment.
+      store.append(headers.subList(5, 9));
+      Assertions.assertEquals(16 + 16 * 136, Files.size(file));
+      // Spans many segments in one append.
+      store.append(headers.subList(9, 30));
+      Assertions.assertEquals(16 + 30 * 136, Files.size(file));
+      // Grows at most one segment at a time.
+      store.append(headers.subList(30, 31));
+      Assertions.assertEquals(16 + 38 * 136, Files.size(file));
+      store.append(headers.subList(31, 41));
+      store.setFinalizedHeight(BigInteger.valueOf(40));
+      for (BlockHeaderRecord header : headers) {
+        Assertions.assertEquals(Optional.of(header), store.getHeader(header.getHeight()));
+      }
+    }
+    // The file layout doesn't depend on the segment size.
+    try (MappedFileBlockHeaderStore store = new MappedFileBlockHeaderStore(file, 3)) {
+      for (BlockHeaderRecord header : headers) {
+        Assertions.assertEquals(Optional.of(header), store.getHeader(header.getHeight()));
+      }
+      store.append(headers(42, 42));
+    }
+    try (MappedFileBlockHeaderStore store = new MappedFileBlockHeaderStore(file)) {
+      Assertions.assertEquals(BigInteger.valueOf(42), store.getLastHeader().get().getHeight());
+      Assertions.assertEquals(
+          Optional.of(headers.get(20)), store.getHeader(BigInteger.valueOf(21)));
+      Assertions.assertEquals(BigInteger.valueOf(40), store.getFinalizedHeight());
+    }
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new MappedFileBlockHeaderStore(file, Integer.MAX_VALUE / 100));
+  }
+
+  @Test
+  void appendRejectsGaps() throws IOException {
+    try (MappedFileBlockHeaderStore store =
+        new MappedFileBlockHeaderStore(tempDir.resolve("headers.bin"))) {
+      store.append(headers(1, 2));
+      Assertions.assertEquals(
+          "Header at height 4 cannot be appended, the next height is 3",
+          Assertions.assertThrows(IllegalArgumentException.class, () -> store.append(headers(4, 4)))
+              .getMessage());
+      Assertions.assertThrows(
+          IllegalArgumentException.class, () -> store.setFinalizedHeight(BigInteger.TEN));
+      store.append(Collections.emptyList());
+      Assertions.assertEquals(BigInteger.valueOf(2), store.getLastHeader().get().getHeight());
+    }
+  }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.Searcher;
+import io.nem.symbol.sdk.api.TransactionSearchCriteria;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Test of {@link MempoolMirrorImpl} */
+public class MempoolMirrorImplTest {
+
+  private final NetworkType networkType = NetworkType.TEST_NET;
+  private final Account account = Account.generateNewAccount(networkType);
+  private final Account signer1 = Account.generateNewAccount(networkType);
+  private final Account signer2 = Account.generateNewAccount(networkType);
+  private final Map<TransactionGroup, List<Transaction>> searchResults =
+      new EnumMap<>(TransactionGroup.class);
+  private final List<TransactionSearchCriteria> searches = new ArrayList<>();
+  private Runnable beforeSearch = () -> {};
+  private Listener listener;
+  private PublishSubject<Transaction> unconfirmedAdded;
+  private PublishSubject<String> unconfirmedRemoved;
+  private PublishSubject<AggregateTransaction> partialAdded;
+  private PublishSubject<String> partialRemoved;
+  private Searcher<Transaction, TransactionSearchCriteria> searcher;
+  private TestScheduler scheduler;
+  private MempoolMirrorImpl mirror;
+
+  @BeforeEach
+  void setup() {
+    listener = Mockito.mock(Listener.class);
+    unconfirmedAdded = PublishSubject.create();
+    unconfirmedRemoved = PublishSubject.create();
+    partialAdded = PublishSubject.create();
+    partialRemoved = PublishSubject.create();
+    Mockito.when(listener.unconfirmedAdded(account.getAddress())).thenReturn(unconfirmedAdded);
+    Mockito.when(listener.unconfirmedRemoved(account.getAddress())).thenReturn(unconfirmedRemoved);
+    Mockito.when(listener.aggregateBondedAdded(account.getAddress())).thenReturn(partialAdded);
+    Mockito.when(listener.aggregateBondedRemoved(account.getAddress())).thenReturn(partialRemoved);
+    searcher =
+        criteria -> {
+          searches.add(criteria);
+          beforeSearch.run();
+          return Observable.just(
+              new Page<>(
+                  searchResults.getOrDefault(criteria.getGroup(), Collections.emptyList()),
+                  1,
+                  100,
+                  true));
+        };
+    scheduler = new TestScheduler();
+    mirror =
+        new MempoolMirrorImpl(searcher, listener, Observable.just(Duration.ZERO))
+            .withScheduler(scheduler)
+            .withEvictionPeriod(Duration.ofSeconds(10));
+  }
+
+  private <T extends Transaction> T transaction(
+      Class<T> type, Account signer, int index, long deadline) {
+    T transaction = Mockito.mock(type);
+    Mockito.when(transaction.getTransactionInfo())
+        .thenReturn(
+            Optional.of(
+                TransactionInfo.create(
+                    BigInteger.ZERO, String.format("%064x", index), "merkleHash")));
+    Mockito.when(transaction.getSigner()).thenReturn(Optional.of(signer.getPublicAccount()));
+    Mockito.when(transaction.getDeadline()).thenReturn(new Deadline(BigInteger.valueOf(deadline)));
+    return transaction;
+  }
+
+  private static String hash(int index) {
+    return String.format("%064X", index);
+  }
+
+  @Test
+  void seedsTheUnconfirmedAndPartialTransactions() {
+    Transaction unconfirmed = transaction(Transaction.class, signer1, 1, 60_000);
+    Transaction partial = transaction(AggregateTransaction.class, signer1, 2, 60_000);
+    Transaction other = transaction(Transaction.class, signer2, 3, 60_000);
+    searchResults.put(TransactionGroup.UNCONFIRMED, Arrays.asList(unconfirmed, other));
+    searchResults.put(TransactionGroup.PARTIAL, Collections.singletonList(partial));
+
+    mirror.watch(account.getAddress()).test().assertComplete();
+
+    Assertions.assertEquals(2, searches.size());
+    Assertions.assertEquals(account.getAddress(), searches.get(0).getAddress());
+    Assertions.assertEquals(TransactionGroup.UNCONFIRMED, searches.get(0).getGroup());
+    Assertions.assertEquals(TransactionGroup.PARTIAL, searches.get(1).getGroup());
+    Assertions.assertEquals(3, mirror.size());
+    Assertions.assertEquals(unconfirmed, mirror.getTransaction(hash(1).toLowerCase()).get());
+    Assertions.assertEquals(TransactionGroup.PARTIAL, mirror.getGroup(hash(2)).get());
+    Assertions.assertFalse(mirror.getTransaction(hash(4)).isPresent());
+    Assertions.assertEquals(
+        2, mirror.getTransactions(signer1.getPublicAccount().getPublicKey()).size());
+    Assertions.assertEquals(
+        Collections.singletonList(other),
+        mirror.getTransactions(signer2.getPublicAccount().getPublicKey()));
+    Assertions.assertEquals(
+        Collections.singletonList(partial), mirror.getTransactions(TransactionGroup.PARTIAL));
+    Assertions.assertEquals(2, mirror.getTransactions(TransactionGroup.UNCONFIRMED).size());
+  }
+
+  @Test
+  void followsTheListener() {
+    mirror.watch(account.getAddress()).test().assertComplete();
+    Transaction unconfirmed = transaction(Transaction.class, signer1, 1, 60_000);
+    AggregateTransaction partial = transaction(AggregateTransaction.class, signer1, 2, 60_000);
+
+    unconfirmedAdded.onNext(unconfirmed);
+    partialAdded.onNext(partial);
+    Assertions.assertEquals(2, mirror.size());
+
+    unconfirmedRemoved.onNext(hash(1).toLowerCase());
+    Assertions.assertFalse(mirror.getTransaction(hash(1)).isPresent());
+    Assertions.assertEquals(
+        Collections.singletonList(partial),
+        mirror.getTransactions(signer1.getPublicAccount().getPublicKey()));
+
+    // The fully cosigned aggregate moves to unconfirmed before its partial removal arrives.
+    unconfirmedAdded.onNext(partial);
+    partialRemoved.onNext(hash(2));
+    Assertions.assertEquals(TransactionGroup.UNCONFIRMED, mirror.getGroup(hash(2)).get());
+    Assertions.assertEquals(1, mirror.size());
+
+    unconfirmedRemoved.onNext(hash(2));
+    Assertions.assertEquals(0, mirror.size());
+    Assertions.assertTrue(
+        mirror.getTransactions(signer1.getPublicAccount().getPublicKey()).isEmpty());
+  }
+
+  @Test
+  void ignoresSearchResultsRemovedWhileSeeding() {
+    searchResults.put(
+        TransactionGroup.UNCONFIRMED,
+        Arrays.asList(
+            transaction(Transaction.class, signer1, 1, 60_000),
+            transaction(Transaction.class, signer1, 2, 60_000)));
+    beforeSearch = () -> unconfirmedRemoved.onNext(hash(1));
+
+    mirror.watch(account.getAddress()).test().assertComplete();
+
+    Assertions.assertEquals(1, mirror.size());
+    Assertions.assertTrue(mirror.getGroup(hash(2)).isPresent());
+
+    // Once seeded, removed transactions can be added again.
+    beforeSearch = () -> {};
+    unconfirmedAdded.onNext(transaction(Transaction.class, signer1, 1, 60_000));
+    Assertions.assertEquals(2, mirror.size());
+  }
+
+  @Test
+  void evictsExpiredTransactions() {
+    searchResults.put(
+        TransactionGroup.UNCONFIRMED,
+        Arrays.asList(
+            transaction(Transaction.class, signer1, 1, 15_000),
+            transaction(Transaction.class, signer1, 2, 60_000)));
+    mirror.watch(account.getAddress()).test().assertComplete();
+    partialAdded.onNext(transaction(AggregateTransaction.class, signer2, 3, 5_000));
+    Assertions.assertEquals(3, mirror.size());
+
+    scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+    Assertions.assertEquals(2, mirror.size());
+    Assertions.assertTrue(
+        mirror.getTransactions(signer2.getPublicAccount().getPublicKey()).isEmpty());
+
+    scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+    Assertions.assertEquals(1, mirror.size());
+    Assertions.assertTrue(mirror.getGroup(hash(2)).isPresent());
+    Assertions.assertEquals(0, mirror.evictExpired());
+  }
+
+  @Test
+  void epochAdjustmentErrorFailsTheWatchedAddresses() {
+    PublishSubject<Duration> epochAdjustment = PublishSubject.create();
+    mirror = new MempoolMirrorImpl(searcher, listener, epochAdjustment).withScheduler(scheduler);
+    TestObserver<Address> failures = mirror.failures().test();
+    mirror.watch(account.getAddress()).test().assertComplete();
+
+    epochAdjustment.onError(new IllegalStateException("Network unreachable"));
+
+    failures.assertValue(account.getAddress());
+    Assertions.assertFalse(unconfirmedAdded.hasObservers());
+
+    // The next watch schedules a new eviction, which fails right away.
+    mirror.watch(account.getAddress()).test().assertError(IllegalStateException.class);
+    failures.assertValues(account.getAddress(), account.getAddress());
+  }
+
+  @Test
+  void stopsTheEvictionOnceNoAddressIsWatched() {
+    PublishSubject<Duration> epochAdjustment = PublishSubject.create();
+    mirror = new MempoolMirrorImpl(searcher, listener, epochAdjustment).withScheduler(scheduler);
+    mirror.watch(account.getAddress()).test().assertComplete();
+    Assertions.assertTrue(epochAdjustment.hasObservers());
+
+    mirror.unwatch(account.getAddress());
+    Assertions.assertFalse(epochAdjustment.hasObservers());
+
+    mirror.watch(account.getAddress()).test().assertComplete();
+    Assertions.assertTrue(epochAdjustment.hasObservers());
+  }
+
+  @Test
+  void watchesAnAddressOnce() {
+    mirror.watch(account.getAddress()).test().assertComplete();
+    mirror.watch(account.getAddress()).test().assertComplete();
+
+    Assertions.assertEquals(2, searches.size());
+    Mockito.verify(listener, Mockito.times(1)).unconfirmedAdded(account.getAddress());
+  }
+
+  @Test
+  void unwatchKeepsTheTransactionsOfOtherAddresses() {
+    Mockito.when(listener.unconfirmedAdded(signer1.getAddress())).thenReturn(Observable.never());
+    Mockito.when(listener.unconfirmedRemoved(signer1.getAddress())).thenReturn(Observable.never());
+    Mockito.when(listener.aggregateBondedAdded(signer1.getAddress()))
+        .thenReturn(Observable.never());
+    Mockito.when(listener.aggregateBondedRemoved(signer1.getAddress()))
+        .thenReturn(Observable.never());
+    searchResults.put(
+        TransactionGroup.UNCONFIRMED,
+        Collections.singletonList(transaction(Transaction.class, signer1, 1, 60_000)));
+    mirror.watch(account.getAddress()).test().assertComplete();
+    mirror.watch(signer1.getAddress()).test().assertComplete();
+    unconfirmedAdded.onNext(transaction(Transaction.class, signer2, 2, 60_000));
+    Assertions.assertEquals(2, mirror.size());
+
+    mirror.unwatch(account.getAddress());
+
+    Assertions.assertFalse(unconfirmedAdded.hasObservers());
+    Assertions.assertTrue(mirror.getTransaction(hash(1)).isPresent());
+    Assertions.assertFalse(mirror.getTransaction(hash(2)).isPresent());
+    Assertions.assertTrue(
+        mirror.getTransactions(signer2.getPublicAccount().getPublicKey()).isEmpty());
+
+    mirror.unwatch(signer1.getAddress());
+    mirror.unwatch(signer1.getAddress());
+
+    Assertions.assertEquals(0, mirror.size());
+    Assertions.assertEquals(0, mirror.evictExpired());
+  }
+
+  @Test
+  void listenerErrorUnwatchesTheAddress() {
+    TestObserver<Address> failures = mirror.failures().test();
+    mirror.watch(account.getAddress()).test().assertComplete();
+    partialAdded.onNext(transaction(AggregateTransaction.class, signer1, 1, 60_000));
+
+    unconfirmedRemoved.onError(new IllegalStateException("Listener closed"));
+
+    failures.assertValue(account.getAddress());
+    Assertions.assertEquals(0, mirror.size());
+    Assertions.assertFalse(partialAdded.hasObservers());
+
+    mirror.watch(account.getAddress()).test().assertComplete();
+    Mockito.verify(listener, Mockito.times(2)).aggregateBondedAdded(account.getAddress());
+    mirror.close();
+    failures.assertComplete();
+  }
+
+  @Test
+  void seedErrorUnwatchesTheAddress() {
+    TestObserver<Address> failures = mirror.failures().test();
+    beforeSearch =
+        () -> {
+          throw new IllegalStateException("Search failed");
+        };
+
+    mirror.watch(account.getAddress()).test().assertError(IllegalStateException.class);
+
+    failures.assertValue(account.getAddress());
+    Assertions.assertFalse(unconfirmedAdded.hasObservers());
+  }
+
+  @Test
+  void closeDisposesTheSubscriptions() {
+    searchResults.put(
+        TransactionGroup.UNCONFIRMED,
+        Collections.singletonList(transaction(Transaction.class, signer1, 1, 60_000)));
+    mirror.watch(account.getAddress()).test().assertComplete();
+
+    mirror.close();
+
+    Assertions.assertEquals(0, mirror.size());
+    Assertions.assertFalse(unconfirmedAdded.hasObservers());
+    Assertions.assertFalse(partialRemoved.hasObservers());
+    Assertions.assertEquals(
+        "The mirror has been closed",
+        Assertions.assertThrows(
+                IllegalStateException.class, () -> mirror.watch(signer1.getAddress()))
+            .getMessage());
+  }
+}
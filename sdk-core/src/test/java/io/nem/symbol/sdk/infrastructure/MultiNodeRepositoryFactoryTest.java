@@ -0,0 +1,299 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.MultiNodeRepositoryFactoryConfiguration;
+import io.nem.symbol.sdk.api.NodeRepository;
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.model.blockchain.ChainInfo;
+import io.nem.symbol.sdk.model.blockchain.FinalizedBlock;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.node.NodeHealth;
+import io.nem.symbol.sdk.model.node.NodeInfo;
+import io.nem.symbol.sdk.model.node.NodeStatus;
+import io.nem.symbol.sdk.model.node.RoleType;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Test class for the MultiNodeRepositoryFactory. */
+public class MultiNodeRepositoryFactoryTest {
+
+  private static final String NODE_A = "http://a:3000";
+
+  private static final String NODE_B = "http://b:3000";
+
+  private final TestScheduler scheduler = new TestScheduler();
+
+  private final Map<String, RepositoryFactory> factories = new HashMap<>();
+
+  private final Map<String, NodeRepository> nodeRepositories = new HashMap<>();
+
+  private final Map<String, ChainRepository> chainRepositories = new HashMap<>();
+
+  private MultiNodeRepositoryFactory factory;
+
+  private RepositoryFactory mockNode(String url, long height, NodeStatus status) {
+    RepositoryFactory nodeFactory = Mockito.mock(RepositoryFactory.class);
+    NodeRepository nodeRepository = Mockito.mock(NodeRepository.class);
+    ChainRepository chainRepository = Mockito.mock(ChainRepository.class);
+    Mockito.when(nodeFactory.createNodeRepository()).thenReturn(nodeRepository);
+    Mockito.when(nodeFactory.createChainRepository()).thenReturn(chainRepository);
+    Mockito.when(nodeRepository.getNodeHealth())
+        .thenReturn(Observable.just(new NodeHealth(status, NodeStatus.UP)));
+    Mockito.when(nodeRepository.getNodePeers())
+        .thenReturn(Observable.just(Collections.emptyList()));
+    Mockito.when(chainRepository.getChainInfo())
+        .thenReturn(
+            Observable.just(
+                new ChainInfo(
+                    BigInteger.valueOf(height),
+                    BigInteger.ONE,
+                    BigInteger.ONE,
+                    new FinalizedBlock(1L, 1L, BigInteger.ONE, "AA"))));
+    Mockito.when(nodeRepository.getNodeInfo())
+        .thenReturn(Observable.just(Mockito.mock(NodeInfo.class)));
+    factories.put(url, nodeFactory);
+    nodeRepositories.put(url, nodeRepository);
+    chainRepositories.put(url, chainRepository);
+    return nodeFactory;
+  }
+
+  private MultiNodeRepositoryFactory create(MultiNodeRepositoryFactoryConfiguration configuration) {
+    factory = new MultiNodeRepositoryFactory(configuration, factories::get, scheduler);
+    factory.probeNodes().toList().blockingGet();
+    return factory;
+  }
+
+  private MultiNodeRepositoryFactoryConfiguration configuration() {
+    return new MultiNodeRepositoryFactoryConfiguration(Arrays.asList(NODE_A, NODE_B))
+        .withPeerDiscovery(false);
+  }
+
+  private NodeEndpoint node(String url) {
+    return factory.getNodes().stream().filter(n -> n.getUrl().equals(url)).findFirst().get();
+  }
+
+  private void recordLatency(String url, long millis) {
+    for (int i = 0; i < 10; i++) {
+      node(url).recordSuccess(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+  }
+
+  private List<String> rankedUrls() {
+    return factory.rankNodes().stream().map(NodeEndpoint::getUrl).collect(Collectors.toList());
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (factory != null) {
+      factory.close();
+    }
+  }
+
+  @Test
+  void routesToTheFastestNode() {
+    mockNode(NODE_A, 100, NodeStatus.UP);
+    mockNode(NODE_B, 100, NodeStatus.UP);
+    create(configuration().withHedgeReads(false, 0.95));
+    recordLatency(NODE_A, 50);
+    recordLatency(NODE_B, 10);
+
+    Assertions.assertEquals(Arrays.asList(NODE_B, NODE_A), rankedUrls());
+    Assertions.assertNotNull(factory.createNodeRepository().getNodeInfo().blockingFirst());
+    Mockito.verify(nodeRepositories.get(NODE_B)).getNodeInfo();
+    Mockito.verify(nodeRepositories.get(NODE_A), Mockito.never()).getNodeInfo();
+  }
+
+  @Test
+  void penalizesLaggingAndUnhealthyNodes() {
+    mockNode(NODE_A, 100, NodeStatus.UP);
+    mockNode(NODE_B, 90, NodeStatus.UP);
+    create(configuration().withHeightLagPenalty(Duration.ofMillis(10)));
+    recordLatency(NODE_A, 50);
+    recordLatency(NODE_B, 10);
+    Assertions.assertEquals(Arrays.asList(NODE_A, NODE_B), rankedUrls());
+
+    node(NODE_A).recordProbe(BigInteger.valueOf(100), false);
+    Assertions.assertEquals(Arrays.asList(NODE_B, NODE_A), rankedUrls());
+  }
+
+  @Test
+  void ejectsFailingNodes() {
+    mockNode(NODE_A, 100, NodeStatus.UP);
+    mockNode(NODE_B, 100, NodeStatus.UP);
+    create(configuration().withHedgeReads(false, 0.95).withEjection(2, Duration.ofHours(1)));
+    recordLatency(NODE_A, 50);
+    recordLatency(NODE_B, 10);
+    Mockito.when(nodeRepositories.get(NODE_B).getNodeInfo())
+        .thenReturn(Observable.error(new RepositoryCallException("Not Found", 404, null)))
+        .thenReturn(Observable.error(new RepositoryCallException("Timeout", 0, null)));
+    NodeRepository repository = factory.createNodeRepository();
+
+    Assertions.assertThrows(
+        RepositoryCallException.class, () -> repository.getNodeInfo().blockingFirst());
+    Assertions.assertEquals(0, node(NODE_B).getConsecutiveFailures());
+    Assertions.assertThrows(
+        RepositoryCallException.class, () -> repository.getNodeInfo().blockingFirst());
+    Assertions.assertThrows(
+        RepositoryCallException.class, () -> repository.getNodeInfo().blockingFirst());
+
+    Assertions.assertTrue(node(NODE_B).isEjected(System.nanoTime()));
+    Assertions.assertEquals(Collections.singletonList(NODE_A), rankedUrls());
+    Assertions.assertNotNull(repository.getNodeInfo().blockingFirst());
+    Mockito.verify(nodeRepositories.get(NODE_A)).getNodeInfo();
+  }
+
+  @Test
+  void hedgesSlowReads() {
+    mockNode(NODE_A, 100, NodeStatus.UP);
+    mockNode(NODE_B, 100, NodeStatus.UP);
+    create(configuration().withHedgeReads(true, 0.9));
+    recordLatency(NODE_A, 10);
+    recordLatency(NODE_B, 20);
+    Mockito.when(nodeRepositories.get(NODE_A).getNodeInfo()).thenReturn(Observable.never());
+
+    TestObserver<NodeInfo> observer = factory.createNodeRepository().getNodeInfo().test();
+    observer.assertNoValues();
+    Mockito.verify(nodeRepositories.get(NODE_B), Mockito.never()).getNodeInfo();
+
+    scheduler.advanceTimeBy(10, TimeUnit.MILLISECONDS);
+
+    observer.assertValueCount(1);
+    observer.assertComplete();
+    Mockito.verify(nodeRepositories.get(NODE_B)).getNodeInfo();
+  }
+
+  @Test
+  void doesNotHedgeWrites() {
+    mockNode(NODE_A, 100, NodeStatus.UP);
+    mockNode(NODE_B, 100, NodeStatus.UP);
+    create(configuration());
+    recordLatency(NODE_A, 10);
+    recordLatency(NODE_B, 20);
+    Mockito.when(factories.get(NODE_A).getNetworkType()).thenReturn(Observable.never());
+
+    TestObserver<NetworkType> observer = factory.getNetworkType().test();
+    scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+    observer.assertNoValues();
+    Mockito.verify(factories.get(NODE_B), Mockito.never()).getNetworkType();
+  }
+
+  @Test
+  void discoversPeers() {
+    mockNode(NODE_A, 100, NodeStatus.UP);
+    mockNode("http://peer:3000", 100, NodeStatus.UP);
+    NodeInfo apiPeer =
+        new NodeInfo(
+            "ABC",
+            7900,
+            NetworkType.TEST_NET,
+            1,
+            Arrays.asList(RoleType.PEER_NODE, RoleType.API_NODE),
+            "peer",
+            "peer",
+            "AA");
+    NodeInfo peerOnly =
+        new NodeInfo(
+            "DEF",
+            7900,
+            NetworkType.TEST_NET,
+            1,
+            Collections.singletonList(RoleType.PEER_NODE),
+            "other",
+            "other",
+            "AA");
+    Mockito.when(nodeRepositories.get(NODE_A).getNodePeers())
+        .thenReturn(Observable.just(Arrays.asList(apiPeer, peerOnly)));
+
+    create(new MultiNodeRepositoryFactoryConfiguration(Collections.singletonList(NODE_A)));
+
+    Assertions.assertEquals(
+        Arrays.asList(NODE_A, "http://peer:3000"),
+        factory.getNodes().stream().map(NodeEndpoint::getUrl).collect(Collectors.toList()));
+    Assertions.assertTrue(node("http://peer:3000").isProbed());
+  }
+
+  @Test
+  void probesInTheBackground() {
+    mockNode(NODE_A, 100, NodeStatus.UP);
+    mockNode(NODE_B, 100, NodeStatus.UP);
+    factory =
+        new MultiNodeRepositoryFactory(
+            configuration().withProbeInterval(Duration.ofSeconds(10)), factories::get, scheduler);
+    Assertions.assertFalse(node(NODE_A).isProbed());
+
+    scheduler.triggerActions();
+    Assertions.assertTrue(node(NODE_A).isProbed());
+    Mockito.verify(chainRepositories.get(NODE_B), Mockito.times(1)).getChainInfo();
+
+    scheduler.advanceTimeBy(10, TimeUnit.SECONDS);
+    Mockito.verify(chainRepositories.get(NODE_B), Mockito.times(2)).getChainInfo();
+  }
+
+  @Test
+  void probeTimeoutCountsAsAFailure() {
+    mockNode(NODE_A, 100, NodeStatus.UP);
+    mockNode(NODE_B, 100, NodeStatus.UP);
+    Mockito.when(chainRepositories.get(NODE_A).getChainInfo()).thenReturn(Observable.never());
+    factory =
+        new MultiNodeRepositoryFactory(
+            configuration()
+                .withProbeInterval(Duration.ofSeconds(10))
+                .withProbeTimeout(Duration.ofSeconds(2)),
+            factories::get,
+            scheduler);
+
+    scheduler.triggerActions();
+    Assertions.assertTrue(node(NODE_B).isProbed());
+    Assertions.assertFalse(node(NODE_A).isProbed());
+    Assertions.assertEquals(0, node(NODE_A).getConsecutiveFailures());
+
+    scheduler.advanceTimeBy(2, TimeUnit.SECONDS);
+    Assertions.assertEquals(1, node(NODE_A).getConsecutiveFailures());
+
+    // The node that doesn't answer doesn't hold the next probes.
+    scheduler.advanceTimeBy(8, TimeUnit.SECONDS);
+    Mockito.verify(chainRepositories.get(NODE_B), Mockito.times(2)).getChainInfo();
+  }
+
+  @Test
+  void closeClosesAllNodes() {
+    mockNode(NODE_A, 100, NodeStatus.UP);
+    mockNode(NODE_B, 100, NodeStatus.UP);
+    create(configuration());
+    factory.close();
+    factory = null;
+    Mockito.verify(factories.get(NODE_A)).close();
+    Mockito.verify(factories.get(NODE_B)).close();
+  }
+}
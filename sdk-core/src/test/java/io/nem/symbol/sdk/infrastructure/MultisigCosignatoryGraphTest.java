@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.AddressSet;
+import io.nem.symbol.sdk.model.account.MultisigAccountGraphInfo;
+import io.nem.symbol.sdk.model.account.MultisigAccountInfo;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Test of {@link MultisigCosignatoryGraph} */
+class MultisigCosignatoryGraphTest {
+
+  private final NetworkType networkType = NetworkType.TEST_NET;
+  private final Address account1 = Account.generateNewAccount(networkType).getAddress();
+  private final Address account2 = Account.generateNewAccount(networkType).getAddress();
+  private final Address account3 = Account.generateNewAccount(networkType).getAddress();
+  private final Address multisig1 = Account.generateNewAccount(networkType).getAddress();
+  private final Address multisig2 = Account.generateNewAccount(networkType).getAddress();
+
+  /*
+   * multisig2 is a 1/2 (min removal 2) multisig of multisig1 and account1. multisig1 is a 1/1
+   * multisig of account2 and account3.
+   */
+  private MultisigCosignatoryGraph givenTwoLevelsGraph() {
+    Map<Integer, List<MultisigAccountInfo>> map = new HashMap<>();
+    map.put(0, Collections.singletonList(info(multisig2, 1, 2, multisig1, account1)));
+    map.put(1, Collections.singletonList(info(multisig1, 1, 1, account2, account3)));
+    return MultisigCosignatoryGraph.of(multisig2, new MultisigAccountGraphInfo(map));
+  }
+
+  private MultisigAccountInfo info(
+      Address address, long minApproval, long minRemoval, Address... cosignatories) {
+    return new MultisigAccountInfo(
+        "a",
+        1,
+        address,
+        minApproval,
+        minRemoval,
+        Arrays.asList(cosignatories),
+        Collections.emptyList());
+  }
+
+  private AddressSet signers(Address... addresses) {
+    return new AddressSet(Arrays.asList(addresses));
+  }
+
+  @Test
+  void notMultisigRequiresTheAccount() {
+    MultisigCosignatoryGraph graph = MultisigCosignatoryGraph.of(account1);
+    Assertions.assertEquals(account1, graph.getAccountAddress());
+    Assertions.assertTrue(graph.isCosigned(signers(account1), false));
+    Assertions.assertTrue(graph.isCosigned(signers(account2, account1), true));
+    Assertions.assertFalse(graph.isCosigned(signers(account2), false));
+    Assertions.assertFalse(graph.isCosigned(signers(), false));
+  }
+
+  @Test
+  void singleLevel() {
+    Map<Integer, List<MultisigAccountInfo>> map = new HashMap<>();
+    map.put(0, Collections.singletonList(info(multisig1, 2, 1, account2, account3)));
+    MultisigCosignatoryGraph graph =
+        MultisigCosignatoryGraph.of(multisig1, new MultisigAccountGraphInfo(map));
+
+    Assertions.assertTrue(graph.isCosigned(signers(account2, account3), false));
+    Assertions.assertFalse(graph.isCosigned(signers(account2), false));
+    Assertions.assertTrue(graph.isCosigned(signers(account2), true));
+    Assertions.assertFalse(graph.isCosigned(signers(account1), true));
+  }
+
+  @Test
+  void anyCosignedLevelIsEnough() {
+    MultisigCosignatoryGraph graph = givenTwoLevelsGraph();
+
+    Assertions.assertTrue(graph.isCosigned(signers(account1), false));
+    Assertions.assertTrue(graph.isCosigned(signers(account2), false));
+    Assertions.assertTrue(graph.isCosigned(signers(account3), true));
+    Assertions.assertFalse(graph.isCosigned(signers(account1), true));
+    Assertions.assertFalse(graph.isCosigned(signers(multisig2), false));
+  }
+
+  @Test
+  void approvedMultisigsCountAsCosignatoriesOfTheFollowingLevels() {
+    Address multisig3 = Account.generateNewAccount(networkType).getAddress();
+    Map<Integer, List<MultisigAccountInfo>> map = new HashMap<>();
+    map.put(-1, Arrays.asList(info(multisig1, 1, 1, account2), info(multisig3, 1, 1, account3)));
+    map.put(0, Collections.singletonList(info(multisig2, 2, 2, multisig1, account1)));
+    MultisigCosignatoryGraph graph =
+        MultisigCosignatoryGraph.of(multisig2, new MultisigAccountGraphInfo(map));
+
+    Assertions.assertTrue(graph.isCosigned(signers(account1, account2), false));
+    Assertions.assertFalse(graph.isCosigned(signers(account1), false));
+    Assertions.assertFalse(graph.isCosigned(signers(account2), false));
+  }
+
+  @Test
+  void duplicatedCosignatoriesAreCountedOnce() {
+    Map<Integer, List<MultisigAccountInfo>> map = new HashMap<>();
+    map.put(0, Collections.singletonList(info(multisig1, 2, 2, account2, account2, account3)));
+    MultisigCosignatoryGraph graph =
+        MultisigCosignatoryGraph.of(multisig1, new MultisigAccountGraphInfo(map));
+
+    Assertions.assertFalse(graph.isCosigned(signers(account2), false));
+    Assertions.assertTrue(graph.isCosigned(signers(account2, account3), false));
+  }
+
+  @Test
+  void levelWithNoMultisigAccountIsNotCosigned() {
+    Map<Integer, List<MultisigAccountInfo>> map = new HashMap<>();
+    map.put(0, Collections.singletonList(info(multisig1, 0, 0, account2)));
+    MultisigCosignatoryGraph graph =
+        MultisigCosignatoryGraph.of(multisig1, new MultisigAccountGraphInfo(map));
+
+    Assertions.assertFalse(graph.isCosigned(signers(account2, multisig1), false));
+  }
+
+  @Test
+  void signersAreNotModified() {
+    MultisigCosignatoryGraph graph = givenTwoLevelsGraph();
+    AddressSet signers = signers(account2);
+    Assertions.assertTrue(graph.isCosigned(signers, false));
+    Assertions.assertEquals(1, signers.size());
+    Assertions.assertFalse(signers.contains(multisig1));
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.NodeRepository;
+import io.nem.symbol.sdk.model.node.NodeInfo;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Test class for the RequestHedger. */
+public class RequestHedgerTest {
+
+  private final TestScheduler scheduler = new TestScheduler();
+
+  private static LatencyTracker tracker(long millis) {
+    LatencyTracker tracker = new LatencyTracker(0.3, LatencyTracker.DEFAULT_WINDOW);
+    for (int i = 0; i < 10; i++) {
+      tracker.record(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+    return tracker;
+  }
+
+  private static Observable<String> counted(AtomicInteger subscriptions, Observable<String> call) {
+    return Observable.defer(
+        () -> {
+          subscriptions.incrementAndGet();
+          return call;
+        });
+  }
+
+  @Test
+  void doesNotHedgeWithoutLatencySamples() {
+    RequestHedger hedger = new RequestHedger(0.9, new HedgingBudget(0.1, 10), scheduler);
+    AtomicInteger backupCalls = new AtomicInteger();
+
+    TestObserver<String> observer =
+        hedger
+            .hedge(
+                new LatencyTracker(0.3, LatencyTracker.DEFAULT_WINDOW),
+                Observable.never(),
+                counted(backupCalls, Observable.just("backup")))
+            .test();
+    scheduler.advanceTimeBy(1, TimeUnit.MINUTES);
+
+    observer.assertNoValues();
+    Assertions.assertEquals(0, backupCalls.get());
+  }
+
+  @Test
+  void hedgesAfterThePercentile() {
+    RequestHedger hedger = new RequestHedger(0.9, new HedgingBudget(0.1, 10), scheduler);
+    PublishSubject<String> primary = PublishSubject.create();
+    AtomicInteger backupCalls = new AtomicInteger();
+
+    TestObserver<String> observer =
+        hedger.hedge(tracker(10), primary, counted(backupCalls, Observable.just("backup"))).test();
+    scheduler.advanceTimeBy(9, TimeUnit.MILLISECONDS);
+    Assertions.assertEquals(0, backupCalls.get());
+    scheduler.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+
+    observer.assertResult("backup");
+    Assertions.assertEquals(1, backupCalls.get());
+    Assertions.assertFalse(primary.hasObservers());
+  }
+
+  @Test
+  void primaryWinsBeforeThePercentile() {
+    HedgingBudget budget = new HedgingBudget(0.1, 10);
+    RequestHedger hedger = new RequestHedger(0.9, budget, scheduler);
+    AtomicInteger backupCalls = new AtomicInteger();
+
+    TestObserver<String> observer =
+        hedger
+            .hedge(
+                tracker(10), Observable.just("primary"), counted(backupCalls, Observable.never()))
+            .test();
+    scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+    observer.assertResult("primary");
+    Assertions.assertEquals(0, backupCalls.get());
+    Assertions.assertEquals(10, budget.getTokens());
+  }
+
+  @Test
+  void budgetLimitsTheHedgedRequests() {
+    RequestHedger hedger = new RequestHedger(0.9, new HedgingBudget(0.5, 1), scheduler);
+    AtomicInteger backupCalls = new AtomicInteger();
+    LatencyTracker tracker = tracker(10);
+
+    TestObserver<String> first =
+        hedger
+            .hedge(tracker, Observable.never(), counted(backupCalls, Observable.just("a")))
+            .test();
+    TestObserver<String> second =
+        hedger
+            .hedge(tracker, Observable.never(), counted(backupCalls, Observable.just("b")))
+            .test();
+    TestObserver<String> third =
+        hedger
+            .hedge(tracker, Observable.never(), counted(backupCalls, Observable.just("c")))
+            .test();
+    scheduler.advanceTimeBy(10, TimeUnit.MILLISECONDS);
+
+    first.assertResult("a");
+    second.assertNoValues();
+    third.assertNoValues();
+    Assertions.assertEquals(1, backupCalls.get());
+
+    TestObserver<String> fourth =
+        hedger
+            .hedge(tracker, Observable.never(), counted(backupCalls, Observable.just("d")))
+            .test();
+    TestObserver<String> fifth =
+        hedger
+            .hedge(tracker, Observable.never(), counted(backupCalls, Observable.just("e")))
+            .test();
+    scheduler.advanceTimeBy(10, TimeUnit.MILLISECONDS);
+
+    fourth.assertResult("d");
+    fifth.assertNoValues();
+    Assertions.assertEquals(2, backupCalls.get());
+  }
+
+  @Test
+  void wrapHedgesTheReadsOfARepository() {
+    RequestHedger hedger = new RequestHedger(0.5, new HedgingBudget(0.1, 10), scheduler);
+    NodeRepository primary = Mockito.mock(NodeRepository.class);
+    NodeRepository backup = Mockito.mock(NodeRepository.class);
+    NodeInfo primaryInfo = Mockito.mock(NodeInfo.class);
+    NodeInfo backupInfo = Mockito.mock(NodeInfo.class);
+    Mockito.when(primary.getNodeInfo()).thenReturn(Observable.just(primaryInfo));
+    Mockito.when(backup.getNodeInfo()).thenReturn(Observable.just(backupInfo));
+    NodeRepository hedged = hedger.wrap(NodeRepository.class, primary, backup);
+
+    for (int i = 0; i < 10; i++) {
+      Assertions.assertSame(primaryInfo, hedged.getNodeInfo().blockingFirst());
+    }
+    Mockito.verify(backup, Mockito.never()).getNodeInfo();
+
+    Mockito.when(primary.getNodeInfo()).thenReturn(Observable.never());
+    TestObserver<NodeInfo> observer = hedged.getNodeInfo().test();
+    scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+    observer.assertResult(backupInfo);
+    Mockito.verify(backup).getNodeInfo();
+    Assertions.assertEquals("HedgedNodeRepository", hedged.toString());
+  }
+
+  @Test
+  void wrapDelegatesOtherMethodsToThePrimary() {
+    RequestHedger hedger = new RequestHedger(0.5, new HedgingBudget(0.1, 10), scheduler);
+    BlockRepository primary = Mockito.mock(BlockRepository.class);
+    BlockRepository backup = Mockito.mock(BlockRepository.class);
+    BlockRepository hedged = hedger.wrap(BlockRepository.class, primary, backup);
+
+    hedged.streamer();
+
+    Mockito.verify(primary).streamer();
+    Mockito.verify(backup, Mockito.never()).streamer();
+  }
+
+  @Test
+  void budget() {
+    HedgingBudget budget = new HedgingBudget(0.25, 2);
+    Assertions.assertTrue(budget.tryAcquire());
+    Assertions.assertTrue(budget.tryAcquire());
+    Assertions.assertFalse(budget.tryAcquire());
+    for (int i = 0; i < 3; i++) {
+      budget.onRequest();
+    }
+    Assertions.assertFalse(budget.tryAcquire());
+    budget.onRequest();
+    Assertions.assertTrue(budget.tryAcquire());
+    for (int i = 0; i < 100; i++) {
+      budget.onRequest();
+    }
+    Assertions.assertEquals(2, budget.getTokens());
+  }
+
+  @Test
+  void latencyTracker() {
+    LatencyTracker tracker = new LatencyTracker(0.5, 10);
+    Assertions.assertFalse(tracker.getAverage().isPresent());
+    for (int i = 1; i <= 9; i++) {
+      tracker.record(i);
+    }
+    Assertions.assertFalse(tracker.getPercentile(0.5).isPresent());
+    tracker.record(10);
+    Assertions.assertEquals(5, tracker.getPercentile(0.5).get().toNanos());
+    Assertions.assertEquals(9, tracker.getPercentile(0.9).get().toNanos());
+    Assertions.assertEquals(10, tracker.getPercentile(0.99).get().toNanos());
+    tracker.record(100);
+    Assertions.assertEquals(100, tracker.getPercentile(0.99).get().toNanos());
+    Assertions.assertEquals(2, tracker.getPercentile(0.1).get().toNanos());
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Test of {@link SignerSubscriptions} */
+class SignerSubscriptionsTest {
+
+  private final Address signer1 = Address.generateRandom(NetworkType.TEST_NET);
+  private final Address signer2 = Address.generateRandom(NetworkType.TEST_NET);
+  private final List<Disposable> created = new ArrayList<>();
+  private final SignerSubscriptions subscriptions =
+      new SignerSubscriptions(
+          signer -> {
+            Disposable disposable = Disposables.empty();
+            created.add(disposable);
+            return disposable;
+          });
+
+  @Test
+  void subscribesOncePerSignerUntilTheLastRelease() {
+    subscriptions.acquire(signer1);
+    subscriptions.acquire(signer1);
+    subscriptions.acquire(signer2);
+    Assertions.assertEquals(2, created.size());
+    Assertions.assertEquals(2, subscriptions.size());
+
+    subscriptions.release(signer1);
+    Assertions.assertFalse(created.get(0).isDisposed());
+    subscriptions.release(signer1);
+    Assertions.assertTrue(created.get(0).isDisposed());
+    Assertions.assertEquals(1, subscriptions.size());
+
+    // Releasing a signer without subscriptions is ignored.
+    subscriptions.release(signer1);
+
+    subscriptions.acquire(signer1);
+    Assertions.assertEquals(3, created.size());
+  }
+
+  @Test
+  void dispose() {
+    subscriptions.acquire(signer1);
+    subscriptions.acquire(signer2);
+
+    subscriptions.dispose();
+
+    Assertions.assertTrue(created.stream().allMatch(Disposable::isDisposed));
+    Assertions.assertEquals(0, subscriptions.size());
+    subscriptions.acquire(signer1);
+    Assertions.assertEquals(2, created.size());
+  }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AnnounceResult;
+import io.nem.symbol.sdk.model.transaction.AnnounceStatistics;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionAnnounceResponse;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusError;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusException;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import io.reactivex.subscribers.TestSubscriber;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Test of {@link TransactionAnnouncePipelineImpl} */
+public class TransactionAnnouncePipelineImplTest {
+
+  private final NetworkType networkType = NetworkType.TEST_NET;
+  private final Account signer1 = Account.generateNewAccount(networkType);
+  private final Account signer2 = Account.generateNewAccount(networkType);
+  private TransactionRepository transactionRepository;
+  private Listener listener;
+  private PublishSubject<Transaction> confirmed1;
+  private PublishSubject<Transaction> confirmed2;
+  private PublishSubject<TransactionStatusError> status1;
+  private TestScheduler scheduler;
+  private TransactionAnnouncePipelineImpl pipeline;
+
+  @BeforeEach
+  void setup() {
+    transactionRepository = Mockito.mock(TransactionRepository.class);
+    listener = Mockito.mock(Listener.class);
+    confirmed1 = PublishSubject.create();
+    confirmed2 = PublishSubject.create();
+    status1 = PublishSubject.create();
+    Mockito.when(listener.confirmed(signer1.getAddress())).thenReturn(confirmed1);
+    Mockito.when(listener.confirmed(signer2.getAddress())).thenReturn(confirmed2);
+    Mockito.when(listener.status(signer1.getAddress())).thenReturn(status1);
+    Mockito.when(listener.status(signer2.getAddress())).thenReturn(Observable.never());
+    Mockito.when(transactionRepository.announce(Mockito.any()))
+        .thenReturn(Observable.just(new TransactionAnnounceResponse("ok")));
+    scheduler = new TestScheduler();
+    pipeline =
+        new TransactionAnnouncePipelineImpl(transactionRepository, listener)
+            .withScheduler(scheduler);
+  }
+
+  private SignedTransaction signedTransaction(Account signer, int index) {
+    String hash = String.format("%064X", index);
+    return new SignedTransaction(signer.getPublicAccount(), "AA", hash, TransactionType.TRANSFER);
+  }
+
+  private Transaction confirmedTransaction(SignedTransaction signedTransaction) {
+    Transaction transaction = Mockito.mock(Transaction.class);
+    Mockito.when(transaction.getTransactionInfo())
+        .thenReturn(
+            Optional.of(
+                TransactionInfo.create(
+                    BigInteger.ONE, signedTransaction.getHash().toLowerCase(), "merkle")));
+    return transaction;
+  }
+
+  @Test
+  void confirmsTransactionsWithOneSubscriptionPerSigner() {
+    List<SignedTransaction> transactions =
+        Arrays.asList(
+            signedTransaction(signer1, 1),
+            signedTransaction(signer1, 2),
+            signedTransaction(signer2, 3),
+            signedTransaction(signer1, 4));
+
+    TestSubscriber<AnnounceResult> subscriber =
+        pipeline.announce(Flowable.fromIterable(transactions)).test();
+
+    confirmed1.onNext(confirmedTransaction(transactions.get(1)));
+    confirmed2.onNext(confirmedTransaction(transactions.get(2)));
+    confirmed1.onNext(confirmedTransaction(transactions.get(0)));
+    subscriber.assertValueCount(3).assertNotComplete();
+    confirmed1.onNext(confirmedTransaction(transactions.get(3)));
+
+    subscriber.assertValueCount(4).assertComplete();
+    Assertions.assertEquals(
+        Arrays.asList(
+            transactions.get(1), transactions.get(2), transactions.get(0), transactions.get(3)),
+        subscriber.values().stream()
+            .map(AnnounceResult::getSignedTransaction)
+            .collect(Collectors.toList()));
+    Assertions.assertTrue(subscriber.values().stream().allMatch(AnnounceResult::isConfirmed));
+
+    Mockito.verify(listener, Mockito.times(1)).confirmed(signer1.getAddress());
+    Mockito.verify(listener, Mockito.times(1)).confirmed(signer2.getAddress());
+    Mockito.verify(listener, Mockito.times(1)).status(signer1.getAddress());
+    Mockito.verify(listener, Mockito.never())
+        .confirmedOrError(Mockito.any(UnresolvedAddress.class), Mockito.anyString());
+    Assertions.assertFalse(confirmed1.hasObservers());
+    Assertions.assertFalse(confirmed2.hasObservers());
+
+    AnnounceStatistics statistics = pipeline.getStatistics();
+    Assertions.assertEquals(4, statistics.getAnnounced());
+    Assertions.assertEquals(4, statistics.getConfirmed());
+    Assertions.assertEquals(0, statistics.getFailed());
+    Assertions.assertEquals(0, statistics.getPending());
+  }
+
+  @Test
+  void statusErrorFailsTheTransaction() {
+    SignedTransaction transaction1 = signedTransaction(signer1, 1);
+    SignedTransaction transaction2 = signedTransaction(signer1, 2);
+
+    TestSubscriber<AnnounceResult> subscriber =
+        pipeline.announce(Flowable.just(transaction1, transaction2)).test();
+
+    status1.onNext(
+        new TransactionStatusError(
+            signer1.getAddress(),
+            transaction1.getHash(),
+            "Failure_Core_Insufficient_Balance",
+            new Deadline(BigInteger.ONE)));
+    confirmed1.onNext(confirmedTransaction(transaction2));
+
+    subscriber.assertValueCount(2).assertComplete();
+    AnnounceResult failed = subscriber.values().get(0);
+    Assertions.assertFalse(failed.isConfirmed());
+    Assertions.assertEquals(transaction1, failed.getSignedTransaction());
+    Assertions.assertTrue(failed.getError().get() instanceof TransactionStatusException);
+    Assertions.assertEquals(
+        "Failure_Core_Insufficient_Balance",
+        ((TransactionStatusException) failed.getError().get()).getStatusError().getStatus());
+    Assertions.assertTrue(subscriber.values().get(1).isConfirmed());
+    Assertions.assertEquals(1, pipeline.getStatistics().getFailed());
+
+    // The cause is captured when announce is called, not when the status arrives.
+    Throwable caller = failed.getError().get().getCause();
+    Assertions.assertEquals("The Caller", caller.getMessage());
+    Assertions.assertEquals("announce", caller.getStackTrace()[0].getMethodName());
+  }
+
+  @Test
+  void keepsTheLatestLatencies() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> pipeline.withLatencyWindow(0));
+    List<SignedTransaction> transactions =
+        IntStream.range(0, 3)
+            .mapToObj(i -> signedTransaction(signer1, i))
+            .collect(Collectors.toList());
+
+    TestSubscriber<AnnounceResult> subscriber =
+        pipeline.withLatencyWindow(1).announce(Flowable.fromIterable(transactions)).test();
+    transactions.forEach(t -> confirmed1.onNext(confirmedTransaction(t)));
+
+    subscriber.assertValueCount(3).assertComplete();
+    AnnounceStatistics statistics = pipeline.getStatistics();
+    Assertions.assertEquals(3, statistics.getConfirmed());
+    Assertions.assertEquals(
+        subscriber.values().get(2).getLatency(), statistics.getLatencyPercentile(0));
+    Assertions.assertEquals(
+        subscriber.values().get(2).getLatency(), statistics.getLatencyPercentile(100));
+  }
+
+  @Test
+  void retriesTransientErrors() {
+    SignedTransaction transaction = signedTransaction(signer1, 1);
+    AtomicInteger calls = new AtomicInteger();
+    Mockito.when(transactionRepository.announce(transaction))
+        .thenReturn(
+            Observable.defer(
+                () ->
+                    calls.incrementAndGet() < 3
+                        ? Observable.error(new RepositoryCallException("unavailable", 503, null))
+                        : Observable.just(new TransactionAnnounceResponse("ok"))));
+
+    TestSubscriber<AnnounceResult> subscriber =
+        pipeline.withRetries(3, Duration.ofSeconds(1)).announce(Flowable.just(transaction)).test();
+    Assertions.assertEquals(1, calls.get());
+    scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+    Assertions.assertEquals(2, calls.get());
+    // The delay grows linearly with the attempts.
+    scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+    Assertions.assertEquals(2, calls.get());
+    scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+    Assertions.assertEquals(3, calls.get());
+    confirmed1.onNext(confirmedTransaction(transaction));
+
+    subscriber.assertValueCount(1).assertComplete();
+    Assertions.assertTrue(subscriber.values().get(0).isConfirmed());
+    Assertions.assertEquals(3, calls.get());
+  }
+
+  @Test
+  void doesNotRetryOtherErrors() {
+    SignedTransaction transaction = signedTransaction(signer1, 1);
+    AtomicInteger calls = new AtomicInteger();
+    RepositoryCallException error = new RepositoryCallException("invalid", 409, null);
+    Mockito.when(transactionRepository.announce(transaction))
+        .thenReturn(
+            Observable.defer(
+                () -> {
+                  calls.incrementAndGet();
+                  return Observable.error(error);
+                }));
+
+    TestSubscriber<AnnounceResult> subscriber =
+        pipeline.withRetries(3, Duration.ZERO).announce(Flowable.just(transaction)).test();
+
+    subscriber.assertValueCount(1).assertComplete();
+    Assertions.assertEquals(error, subscriber.values().get(0).getError().get());
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  void failsAfterMaxRetries() {
+    SignedTransaction transaction = signedTransaction(signer1, 1);
+    AtomicInteger calls = new AtomicInteger();
+    Mockito.when(transactionRepository.announce(transaction))
+        .thenReturn(
+            Observable.defer(
+                () -> {
+                  calls.incrementAndGet();
+                  return Observable.error(new RepositoryCallException("down", 0, null));
+                }));
+
+    TestSubscriber<AnnounceResult> subscriber =
+        pipeline.withRetries(2, Duration.ZERO).announce(Flowable.just(transaction)).test();
+    scheduler.triggerActions();
+
+    subscriber.assertValueCount(1).assertComplete();
+    Assertions.assertFalse(subscriber.values().get(0).isConfirmed());
+    Assertions.assertEquals(3, calls.get());
+  }
+
+  @Test
+  void boundsInFlightAnnouncesAndPendingConfirmations() {
+    Mockito.when(transactionRepository.announce(Mockito.any())).thenReturn(Observable.never());
+    AtomicLong requested = new AtomicLong();
+    Flowable<SignedTransaction> source =
+        Flowable.range(0, 100)
+            .map(i -> signedTransaction(signer1, i))
+            .doOnRequest(requested::addAndGet);
+
+    TestSubscriber<AnnounceResult> subscriber =
+        pipeline.withMaxConcurrentAnnounces(4).announce(source).test();
+
+    subscriber.assertNoValues();
+    Assertions.assertEquals(4, requested.get());
+    Mockito.verify(transactionRepository, Mockito.times(4)).announce(Mockito.any());
+    Assertions.assertEquals(4, pipeline.getStatistics().getPending());
+    subscriber.dispose();
+  }
+
+  @Test
+  void pendingConfirmationsLimitStopsRequestingTransactions() {
+    List<SignedTransaction> transactions =
+        IntStream.range(0, 10)
+            .mapToObj(i -> signedTransaction(signer1, i))
+            .collect(Collectors.toList());
+    AtomicLong requested = new AtomicLong();
+
+    TestSubscriber<AnnounceResult> subscriber =
+        pipeline
+            .withMaxConcurrentAnnounces(2)
+            .withMaxPendingConfirmations(3)
+            .announce(Flowable.fromIterable(transactions).doOnRequest(requested::addAndGet))
+            .test();
+
+    // 3 transactions wait for confirmation, 2 more are announced and wait for capacity.
+    Assertions.assertEquals(5, pipeline.getStatistics().getAnnounced());
+    Assertions.assertEquals(5, requested.get());
+
+    confirmed1.onNext(confirmedTransaction(transactions.get(0)));
+    subscriber.assertValueCount(1);
+    Assertions.assertEquals(6, requested.get());
+    subscriber.dispose();
+  }
+
+  @Test
+  void failsUnconfirmedTransactionsAfterTimeout() {
+    SignedTransaction transaction = signedTransaction(signer1, 1);
+
+    TestSubscriber<AnnounceResult> subscriber =
+        pipeline
+            .withConfirmationTimeout(Duration.ofSeconds(30))
+            .announce(Flowable.just(transaction))
+            .test();
+
+    scheduler.advanceTimeBy(29, TimeUnit.SECONDS);
+    subscriber.assertNoValues();
+    scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+    subscriber.assertValueCount(1).assertComplete();
+    Assertions.assertTrue(subscriber.values().get(0).getError().get() instanceof TimeoutException);
+
+    // A late confirmation is ignored.
+    confirmed1.onNext(confirmedTransaction(transaction));
+    Assertions.assertEquals(0, pipeline.getStatistics().getConfirmed());
+    Assertions.assertEquals(1, pipeline.getStatistics().getFailed());
+  }
+
+  @Test
+  void listenerErrorFailsPendingTransactions() {
+    SignedTransaction transaction = signedTransaction(signer1, 1);
+    TestSubscriber<AnnounceResult> subscriber =
+        pipeline.announce(Flowable.just(transaction)).test();
+
+    IllegalStateException error = new IllegalStateException("closed");
+    confirmed1.onError(error);
+
+    subscriber.assertValueCount(1).assertComplete();
+    Assertions.assertEquals(error, subscriber.values().get(0).getError().get());
+  }
+
+  @Test
+  void isTransient() {
+    Assertions.assertTrue(
+        TransactionAnnouncePipelineImpl.isTransient(new RepositoryCallException("a", 0, null)));
+    Assertions.assertTrue(
+        TransactionAnnouncePipelineImpl.isTransient(new RepositoryCallException("a", 429, null)));
+    Assertions.assertTrue(
+        TransactionAnnouncePipelineImpl.isTransient(new RepositoryCallException("a", 502, null)));
+    Assertions.assertFalse(
+        TransactionAnnouncePipelineImpl.isTransient(new RepositoryCallException("a", 409, null)));
+    Assertions.assertFalse(
+        TransactionAnnouncePipelineImpl.isTransient(new IllegalArgumentException("a")));
+  }
+
+  @Test
+  void statisticsBeforeAnnouncing() {
+    AnnounceStatistics statistics = pipeline.getStatistics();
+    Assertions.assertEquals(0, statistics.getAnnounced());
+    Assertions.assertEquals(Duration.ZERO, statistics.getElapsed());
+    Assertions.assertEquals(0, statistics.getThroughput());
+    Assertions.assertEquals(Duration.ZERO, statistics.getLatencyPercentile(99));
+  }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.OrderBy;
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.TransactionSearchCriteria;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionCosignature;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link TransactionIndex}. */
+public class TransactionIndexTest {
+
+  private final NetworkType networkType = NetworkType.TEST_NET;
+
+  private final PublicAccount alice = Account.generateNewAccount(networkType).getPublicAccount();
+
+  private final PublicAccount bob = Account.generateNewAccount(networkType).getPublicAccount();
+
+  private final PublicAccount carol = Account.generateNewAccount(networkType).getPublicAccount();
+
+  private final MosaicId currency = new MosaicId("85BBEA6CC462B244");
+
+  private final MosaicId token = new MosaicId("1BBEA6CC462B2441");
+
+  @Test
+  void searchBySignerRecipientAndAddress() {
+    TransactionIndex index = new TransactionIndex();
+    Transaction t0 = transfer(alice, bob.getAddress(), 1, mosaic(currency, 10));
+    Transaction t1 = transfer(bob, carol.getAddress(), 2, mosaic(currency, 20));
+    Transaction t2 = transfer(alice, carol.getAddress(), 3, mosaic(token, 30));
+    Assertions.assertEquals(0, index.add(t0));
+    Assertions.assertEquals(1, index.add(t1));
+    Assertions.assertEquals(2, index.add(t2));
+
+    Assertions.assertEquals(
+        Arrays.asList(t2, t0), search(index, criteria().signerPublicKey(alice.getPublicKey())));
+    Assertions.assertEquals(
+        Arrays.asList(t2, t1), search(index, criteria().recipientAddress(carol.getAddress())));
+    Assertions.assertEquals(
+        Arrays.asList(t1, t0), search(index, criteria().address(bob.getAddress())));
+    Assertions.assertEquals(
+        Collections.singletonList(t2),
+        search(
+            index,
+            criteria().signerPublicKey(alice.getPublicKey()).recipientAddress(carol.getAddress())));
+    Assertions.assertEquals(
+        Collections.emptyList(),
+        search(index, criteria().address(Address.generateRandom(networkType))));
+  }
+
+  @Test
+  void searchByMosaicAmountTypeAndHeight() {
+    TransactionIndex index = new TransactionIndex();
+    Transaction t0 = transfer(alice, bob.getAddress(), 1, mosaic(currency, 10));
+    Transaction t1 = transfer(bob, carol.getAddress(), 2, mosaic(currency, 20), mosaic(token, 5));
+    Transaction t2 = transfer(alice, carol.getAddress(), 3, mosaic(token, 30));
+    Arrays.asList(t0, t1, t2).forEach(index::add);
+
+    Assertions.assertEquals(
+        Arrays.asList(t0, t1),
+        search(index, criteria().transferMosaicId(currency).order(OrderBy.ASC)));
+    Assertions.assertEquals(
+        Collections.singletonList(t1),
+        search(
+            index,
+            criteria().transferMosaicId(currency).fromTransferAmount(BigInteger.valueOf(15))));
+    Assertions.assertEquals(
+        Collections.singletonList(t1),
+        search(index, criteria().transferMosaicId(token).toTransferAmount(BigInteger.valueOf(10))));
+    Assertions.assertEquals(
+        Arrays.asList(t2, t1, t0),
+        search(
+            index,
+            criteria().transactionTypes(Collections.singletonList(TransactionType.TRANSFER))));
+    Assertions.assertEquals(
+        Collections.emptyList(),
+        search(
+            index,
+            criteria()
+                .transactionTypes(Collections.singletonList(TransactionType.MOSAIC_DEFINITION))));
+    Assertions.assertEquals(
+        Arrays.asList(t1, t2),
+        search(index, criteria().fromHeight(BigInteger.valueOf(2)).order(OrderBy.ASC)));
+    Assertions.assertEquals(
+        Collections.singletonList(t1), search(index, criteria().height(BigInteger.valueOf(2))));
+    Assertions.assertEquals(2, index.count(criteria().toHeight(BigInteger.valueOf(2))));
+    Assertions.assertEquals(2, index.count(criteria().transferMosaicId(token)));
+  }
+
+  @Test
+  void searchByGroup() {
+    TransactionIndex index = new TransactionIndex();
+    Transaction confirmed = transfer(alice, bob.getAddress(), 1, mosaic(currency, 10));
+    Transaction unconfirmed = transfer(alice, bob.getAddress(), 0, mosaic(currency, 10));
+    index.add(confirmed);
+    index.add(unconfirmed, TransactionGroup.UNCONFIRMED);
+
+    Assertions.assertEquals(Collections.singletonList(confirmed), search(index, criteria()));
+    Assertions.assertEquals(
+        Collections.singletonList(unconfirmed),
+        search(index, new TransactionSearchCriteria(TransactionGroup.UNCONFIRMED)));
+    Assertions.assertEquals(
+        Collections.emptyList(),
+        search(index, new TransactionSearchCriteria(TransactionGroup.PARTIAL)));
+  }
+
+  @Test
+  void searchEmbeddedTransactions() {
+    TransactionIndex index = new TransactionIndex();
+    Transaction inner1 = transfer(bob, carol.getAddress(), 0, mosaic(currency, 10));
+    Transaction inner2 = transfer(carol, bob.getAddress(), 0, mosaic(token, 10));
+    Transaction aggregate =
+        AggregateTransactionFactory.create(
+                TransactionType.AGGREGATE_COMPLETE,
+                networkType,
+                new Deadline(BigInteger.ONE),
+                StringUtils.repeat("0", 64),
+                Arrays.asList(inner1, inner2),
+                Collections.singletonList(
+                    new AggregateTransactionCosignature(BigInteger.ZERO, "AA", carol)))
+            .signer(alice)
+            .transactionInfo(TransactionInfo.create(BigInteger.valueOf(5), "hash", "merkle"))
+            .build();
+    Transaction transfer = transfer(alice, bob.getAddress(), 6, mosaic(currency, 10));
+
+    Assertions.assertEquals(0, index.add(aggregate));
+    Assertions.assertEquals(3, index.add(transfer));
+    Assertions.assertEquals(4, index.size());
+
+    // the aggregate involves the inner and cosigner addresses
+    Assertions.assertEquals(
+        Arrays.asList(transfer, aggregate), search(index, criteria().address(bob.getAddress())));
+    Assertions.assertEquals(
+        Collections.singletonList(aggregate),
+        search(index, criteria().address(carol.getAddress())));
+    Assertions.assertEquals(
+        Arrays.asList(inner2, inner1, aggregate),
+        search(index, criteria().address(carol.getAddress()).embedded(true)));
+    Assertions.assertEquals(
+        Collections.singletonList(inner1),
+        search(index, criteria().signerPublicKey(bob.getPublicKey()).embedded(true)));
+    Assertions.assertEquals(
+        Collections.emptyList(), search(index, criteria().signerPublicKey(bob.getPublicKey())));
+  }
+
+  @Test
+  void pagination() {
+    TransactionIndex index = new TransactionIndex();
+    List<Transaction> transactions =
+        Arrays.asList(
+            transfer(alice, bob.getAddress(), 1, mosaic(currency, 1)),
+            transfer(alice, bob.getAddress(), 2, mosaic(currency, 2)),
+            transfer(bob, alice.getAddress(), 3, mosaic(currency, 3)),
+            transfer(alice, bob.getAddress(), 4, mosaic(currency, 4)),
+            transfer(alice, bob.getAddress(), 5, mosaic(currency, 5)));
+    transactions.forEach(index::add);
+    TransactionSearchCriteria criteria =
+        criteria().signerPublicKey(alice.getPublicKey()).order(OrderBy.ASC).pageSize(3);
+
+    Page<Transaction> page1 = index.searchPage(criteria.pageNumber(1));
+    Assertions.assertEquals(
+        Arrays.asList(transactions.get(0), transactions.get(1), transactions.get(3)),
+        page1.getData());
+    Assertions.assertFalse(page1.isLast());
+
+    Page<Transaction> page2 = index.search(criteria.pageNumber(2)).blockingFirst();
+    Assertions.assertEquals(Collections.singletonList(transactions.get(4)), page2.getData());
+    Assertions.assertTrue(page2.isLast());
+    Assertions.assertEquals(2, page2.getPageNumber());
+    Assertions.assertEquals(3, page2.getPageSize());
+
+    Assertions.assertTrue(index.searchPage(criteria.pageNumber(3)).getData().isEmpty());
+  }
+
+  @Test
+  void descendingPagination() {
+    TransactionIndex index = new TransactionIndex();
+    List<Transaction> transactions =
+        Arrays.asList(
+            transfer(alice, bob.getAddress(), 1, mosaic(currency, 1)),
+            transfer(alice, bob.getAddress(), 2, mosaic(currency, 2)),
+            transfer(bob, alice.getAddress(), 3, mosaic(currency, 3)),
+            transfer(alice, bob.getAddress(), 4, mosaic(currency, 4)),
+            transfer(alice, bob.getAddress(), 5, mosaic(currency, 5)));
+    transactions.forEach(index::add);
+    TransactionSearchCriteria criteria =
+        criteria().signerPublicKey(alice.getPublicKey()).order(OrderBy.DESC).pageSize(3);
+
+    Page<Transaction> page1 = index.searchPage(criteria.pageNumber(1));
+    Assertions.assertEquals(
+        Arrays.asList(transactions.get(4), transactions.get(3), transactions.get(1)),
+        page1.getData());
+    Assertions.assertFalse(page1.isLast());
+    Page<Transaction> page2 = index.searchPage(criteria.pageNumber(2));
+    Assertions.assertEquals(Collections.singletonList(transactions.get(0)), page2.getData());
+    Assertions.assertTrue(page2.isLast());
+    Assertions.assertTrue(index.searchPage(criteria.pageNumber(3)).getData().isEmpty());
+
+    // With a criteria that isn't indexed.
+    TransactionSearchCriteria filtered =
+        criteria().fromHeight(BigInteger.valueOf(2)).order(OrderBy.DESC).pageSize(2);
+    Page<Transaction> filteredPage1 = index.searchPage(filtered.pageNumber(1));
+    Assertions.assertEquals(
+        Arrays.asList(transactions.get(4), transactions.get(3)), filteredPage1.getData());
+    Assertions.assertFalse(filteredPage1.isLast());
+    Page<Transaction> filteredPage2 = index.searchPage(filtered.pageNumber(2));
+    Assertions.assertEquals(
+        Arrays.asList(transactions.get(2), transactions.get(1)), filteredPage2.getData());
+    Assertions.assertTrue(filteredPage2.isLast());
+  }
+
+  @Test
+  void unsupportedCriteria() {
+    TransactionIndex index = new TransactionIndex();
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> index.searchPage(criteria().id("abc")));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> index.searchPage(criteria().offset("abc")));
+  }
+
+  private TransactionSearchCriteria criteria() {
+    return new TransactionSearchCriteria(TransactionGroup.CONFIRMED);
+  }
+
+  private static List<Transaction> search(
+      TransactionIndex index, TransactionSearchCriteria criteria) {
+    return index.searchPage(criteria).getData();
+  }
+
+  private static Mosaic mosaic(MosaicId mosaicId, long amount) {
+    return new Mosaic(mosaicId, BigInteger.valueOf(amount));
+  }
+
+  private Transaction transfer(
+      PublicAccount signer, Address recipient, long height, Mosaic... mosaics) {
+    TransferTransactionFactory factory =
+        TransferTransactionFactory.create(
+            networkType, new Deadline(BigInteger.ONE), recipient, Arrays.asList(mosaics));
+    factory.signer(signer);
+    if (height > 0) {
+      factory.transactionInfo(
+          TransactionInfo.create(BigInteger.valueOf(height), "hash" + height, "merkle" + height));
+    }
+    return factory.build();
+  }
+}
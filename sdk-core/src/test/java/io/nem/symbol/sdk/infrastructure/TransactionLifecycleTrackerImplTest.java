@@ -0,0 +1,301 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransactionLifecycleEvent;
+import io.nem.symbol.sdk.model.transaction.TransactionLifecycleState;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusError;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.reactivex.Observable;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.PublishSubject;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Test of {@link TransactionLifecycleTrackerImpl} */
+public class TransactionLifecycleTrackerImplTest {
+
+  private final NetworkType networkType = NetworkType.TEST_NET;
+  private final Account signer1 = Account.generateNewAccount(networkType);
+  private final Account signer2 = Account.generateNewAccount(networkType);
+  private final Deadline deadline = new Deadline(BigInteger.valueOf(60_000));
+  private Listener listener;
+  private PublishSubject<Transaction> unconfirmed1;
+  private PublishSubject<AggregateTransaction> partial1;
+  private PublishSubject<Transaction> confirmed1;
+  private PublishSubject<TransactionStatusError> status1;
+  private PublishSubject<Transaction> confirmed2;
+  private TestScheduler scheduler;
+  private TransactionLifecycleTrackerImpl tracker;
+
+  @BeforeEach
+  void setup() {
+    listener = Mockito.mock(Listener.class);
+    unconfirmed1 = PublishSubject.create();
+    partial1 = PublishSubject.create();
+    confirmed1 = PublishSubject.create();
+    status1 = PublishSubject.create();
+    confirmed2 = PublishSubject.create();
+    Mockito.when(listener.unconfirmedAdded(signer1.getAddress())).thenReturn(unconfirmed1);
+    Mockito.when(listener.aggregateBondedAdded(signer1.getAddress())).thenReturn(partial1);
+    Mockito.when(listener.confirmed(signer1.getAddress())).thenReturn(confirmed1);
+    Mockito.when(listener.status(signer1.getAddress())).thenReturn(status1);
+    Mockito.when(listener.unconfirmedAdded(signer2.getAddress())).thenReturn(Observable.never());
+    Mockito.when(listener.aggregateBondedAdded(signer2.getAddress()))
+        .thenReturn(Observable.never());
+    Mockito.when(listener.confirmed(signer2.getAddress())).thenReturn(confirmed2);
+    Mockito.when(listener.status(signer2.getAddress())).thenReturn(Observable.never());
+    scheduler = new TestScheduler();
+    tracker =
+        new TransactionLifecycleTrackerImpl(listener, Observable.just(Duration.ZERO))
+            .withScheduler(scheduler)
+            .withExpirationGracePeriod(Duration.ofSeconds(10));
+  }
+
+  private SignedTransaction signedTransaction(Account signer, int index) {
+    return new SignedTransaction(
+        signer.getPublicAccount(), "AA", String.format("%064X", index), TransactionType.TRANSFER);
+  }
+
+  private <T extends Transaction> T transaction(Class<T> type, SignedTransaction signed) {
+    T transaction = Mockito.mock(type);
+    Mockito.when(transaction.getTransactionInfo())
+        .thenReturn(
+            Optional.of(
+                TransactionInfo.create(BigInteger.ONE, signed.getHash().toLowerCase(), "m")));
+    return transaction;
+  }
+
+  @Test
+  void reportsTransitionsUntilConfirmed() {
+    SignedTransaction signedTransaction = signedTransaction(signer1, 1);
+    TestObserver<TransactionLifecycleEvent> observer =
+        tracker.track(signedTransaction, deadline).test();
+
+    unconfirmed1.onNext(transaction(Transaction.class, signedTransaction));
+    // Repeated messages are ignored.
+    unconfirmed1.onNext(transaction(Transaction.class, signedTransaction));
+    Transaction confirmed = transaction(Transaction.class, signedTransaction);
+    confirmed1.onNext(confirmed);
+
+    observer.assertComplete();
+    Assertions.assertEquals(
+        Arrays.asList(
+            TransactionLifecycleState.ANNOUNCED,
+            TransactionLifecycleState.UNCONFIRMED,
+            TransactionLifecycleState.CONFIRMED),
+        observer.values().stream()
+            .map(TransactionLifecycleEvent::getState)
+            .collect(Collectors.toList()));
+    TransactionLifecycleEvent last = observer.values().get(2);
+    Assertions.assertEquals(signedTransaction.getHash(), last.getTransactionHash());
+    Assertions.assertEquals(signer1.getAddress(), last.getSigner());
+    Assertions.assertEquals(confirmed, last.getTransaction().get());
+    Assertions.assertEquals(0, tracker.getTrackedCount());
+    Assertions.assertFalse(confirmed1.hasObservers());
+  }
+
+  @Test
+  void sharesOneSubscriptionPerSigner() {
+    SignedTransaction transaction1 = signedTransaction(signer1, 1);
+    SignedTransaction transaction2 = signedTransaction(signer1, 2);
+    SignedTransaction transaction3 = signedTransaction(signer2, 3);
+    TestObserver<TransactionLifecycleEvent> events = tracker.events().test();
+
+    tracker.track(transaction1, deadline);
+    tracker.track(transaction2, deadline);
+    tracker.track(transaction3, deadline);
+    Assertions.assertEquals(3, tracker.getTrackedCount());
+    Mockito.verify(listener, Mockito.times(1)).confirmed(signer1.getAddress());
+    Mockito.verify(listener, Mockito.times(1)).confirmed(signer2.getAddress());
+
+    confirmed1.onNext(transaction(Transaction.class, transaction1));
+    Assertions.assertTrue(confirmed1.hasObservers());
+    confirmed1.onNext(transaction(Transaction.class, transaction2));
+    Assertions.assertFalse(confirmed1.hasObservers());
+    Assertions.assertTrue(confirmed2.hasObservers());
+    Assertions.assertEquals(1, tracker.getTrackedCount());
+
+    // The subscription is opened again when the signer has new transactions.
+    tracker.track(signedTransaction(signer1, 4), deadline);
+    Mockito.verify(listener, Mockito.times(2)).confirmed(signer1.getAddress());
+    Assertions.assertEquals(6, events.valueCount());
+  }
+
+  @Test
+  void trackingTheSameHashTwiceSharesTheTransitions() {
+    SignedTransaction signedTransaction = signedTransaction(signer1, 1);
+    TestObserver<TransactionLifecycleEvent> observer1 =
+        tracker.track(signedTransaction, deadline).test();
+    TestObserver<TransactionLifecycleEvent> observer2 =
+        tracker
+            .track(signer1.getAddress(), signedTransaction.getHash().toLowerCase(), deadline)
+            .test();
+
+    confirmed1.onNext(transaction(Transaction.class, signedTransaction));
+
+    observer1.assertValueCount(2).assertComplete();
+    observer2.assertValueCount(2).assertComplete();
+    Mockito.verify(listener, Mockito.times(1)).confirmed(signer1.getAddress());
+  }
+
+  @Test
+  void partialAggregateBonded() {
+    SignedTransaction signedTransaction = signedTransaction(signer1, 1);
+    TestObserver<TransactionLifecycleEvent> observer =
+        tracker.track(signedTransaction, deadline).test();
+
+    partial1.onNext(transaction(AggregateTransaction.class, signedTransaction));
+    unconfirmed1.onNext(transaction(Transaction.class, signedTransaction));
+    confirmed1.onNext(transaction(Transaction.class, signedTransaction));
+
+    Assertions.assertEquals(
+        Arrays.asList(
+            TransactionLifecycleState.ANNOUNCED,
+            TransactionLifecycleState.PARTIAL,
+            TransactionLifecycleState.UNCONFIRMED,
+            TransactionLifecycleState.CONFIRMED),
+        observer.values().stream()
+            .map(TransactionLifecycleEvent::getState)
+            .collect(Collectors.toList()));
+  }
+
+  @Test
+  void statusErrorFailsTheTransaction() {
+    SignedTransaction signedTransaction = signedTransaction(signer1, 1);
+    TestObserver<TransactionLifecycleEvent> observer =
+        tracker.track(signedTransaction, deadline).test();
+    TransactionStatusError statusError =
+        new TransactionStatusError(
+            signer1.getAddress(),
+            signedTransaction.getHash(),
+            "Failure_Core_Past_Deadline",
+            deadline);
+
+    status1.onNext(statusError);
+    // Messages after a terminal state are ignored.
+    confirmed1.onNext(transaction(Transaction.class, signedTransaction));
+
+    observer.assertValueCount(2).assertComplete();
+    TransactionLifecycleEvent event = observer.values().get(1);
+    Assertions.assertEquals(TransactionLifecycleState.FAILED, event.getState());
+    Assertions.assertEquals(statusError, event.getStatusError().get());
+    Assertions.assertFalse(event.getTransaction().isPresent());
+  }
+
+  @Test
+  void expiresAfterTheDeadlineAndGracePeriod() {
+    SignedTransaction signedTransaction = signedTransaction(signer1, 1);
+    TestObserver<TransactionLifecycleEvent> observer =
+        tracker.track(signedTransaction, deadline).test();
+    unconfirmed1.onNext(transaction(Transaction.class, signedTransaction));
+
+    scheduler.advanceTimeBy(69, TimeUnit.SECONDS);
+    observer.assertValueCount(2).assertNotComplete();
+    scheduler.advanceTimeBy(1, TimeUnit.SECONDS);
+
+    observer.assertValueCount(3).assertComplete();
+    Assertions.assertEquals(TransactionLifecycleState.EXPIRED, observer.values().get(2).getState());
+    Assertions.assertEquals(0, tracker.getTrackedCount());
+    Assertions.assertFalse(unconfirmed1.hasObservers());
+  }
+
+  @Test
+  void confirmationCancelsTheExpiration() {
+    SignedTransaction signedTransaction = signedTransaction(signer1, 1);
+    TestObserver<TransactionLifecycleEvent> events = tracker.events().test();
+    tracker.track(signedTransaction, deadline);
+    confirmed1.onNext(transaction(Transaction.class, signedTransaction));
+
+    scheduler.advanceTimeBy(10, TimeUnit.MINUTES);
+
+    events.assertValueCount(2);
+  }
+
+  @Test
+  void epochAdjustmentErrorFailsTheTransaction() {
+    PublishSubject<Duration> epochAdjustment = PublishSubject.create();
+    tracker =
+        new TransactionLifecycleTrackerImpl(listener, epochAdjustment).withScheduler(scheduler);
+    TestObserver<TransactionLifecycleEvent> observer =
+        tracker.track(signedTransaction(signer1, 1), deadline).test();
+
+    IllegalStateException error = new IllegalStateException("Network unreachable");
+    epochAdjustment.onError(error);
+
+    observer.assertValueCount(1).assertError(error);
+    Assertions.assertEquals(0, tracker.getTrackedCount());
+    Assertions.assertFalse(confirmed1.hasObservers());
+  }
+
+  @Test
+  void listenerErrorFailsTheTransactionsOfTheSigner() {
+    SignedTransaction transaction1 = signedTransaction(signer1, 1);
+    SignedTransaction transaction2 = signedTransaction(signer2, 2);
+    TestObserver<TransactionLifecycleEvent> observer1 =
+        tracker.track(transaction1, deadline).test();
+    TestObserver<TransactionLifecycleEvent> observer2 =
+        tracker.track(transaction2, deadline).test();
+
+    IllegalStateException error = new IllegalStateException("closed");
+    confirmed1.onError(error);
+
+    observer1.assertValueCount(1).assertError(error);
+    observer2.assertValueCount(1).assertNotTerminated();
+    Assertions.assertFalse(unconfirmed1.hasObservers());
+    Assertions.assertFalse(status1.hasObservers());
+    Assertions.assertEquals(1, tracker.getTrackedCount());
+
+    // The expiration of the failed transaction is cancelled.
+    scheduler.advanceTimeBy(10, TimeUnit.MINUTES);
+    observer1.assertValueCount(1);
+    observer2.assertValueCount(2).assertComplete();
+  }
+
+  @Test
+  void close() {
+    SignedTransaction signedTransaction = signedTransaction(signer1, 1);
+    TestObserver<TransactionLifecycleEvent> observer =
+        tracker.track(signedTransaction, deadline).test();
+    TestObserver<TransactionLifecycleEvent> events = tracker.events().test();
+
+    tracker.close();
+
+    observer.assertValueCount(1).assertComplete();
+    events.assertComplete();
+    Assertions.assertFalse(confirmed1.hasObservers());
+    Assertions.assertEquals(0, tracker.getTrackedCount());
+    Assertions.assertThrows(
+        IllegalStateException.class, () -> tracker.track(signedTransaction, deadline));
+  }
+}
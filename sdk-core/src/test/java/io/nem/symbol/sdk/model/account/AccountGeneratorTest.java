@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class AccountGeneratorTest {
+
+  @ParameterizedTest
+  @EnumSource(NetworkType.class)
+  void shouldGenerateValidAccounts(NetworkType networkType) {
+    List<GeneratedAccount> accounts =
+        new AccountGenerator(networkType).withParallelism(2).generate(10);
+
+    Assertions.assertEquals(10, accounts.size());
+    accounts.forEach(
+        generated -> {
+          Account account = generated.toAccount();
+          Assertions.assertEquals(networkType, generated.getNetworkType());
+          Assertions.assertEquals(account.getPublicKey(), generated.getPublicKey().toHex());
+          Assertions.assertEquals(account.getAddress(), generated.getAddress());
+          Assertions.assertEquals(
+              account.getAddress().encoded(), ConvertUtils.toHex(generated.getRawAddress()));
+        });
+  }
+
+  @Test
+  void shouldGenerateAccountsMatchingPrefix() {
+    List<GeneratedAccount> accounts =
+        new AccountGenerator(NetworkType.TEST_NET).withPrefix("ta-b").generate(5);
+
+    Assertions.assertEquals(5, accounts.size());
+    accounts.forEach(
+        generated -> Assertions.assertTrue(generated.getAddress().plain().startsWith("TAB")));
+  }
+
+  @Test
+  void shouldGenerateAccountsMatchingPattern() {
+    List<GeneratedAccount> accounts =
+        new AccountGenerator(NetworkType.MAIN_NET)
+            .withPattern(Pattern.compile("N.{4}Z.*"))
+            .generate(3);
+
+    Assertions.assertEquals(3, accounts.size());
+    accounts.forEach(
+        generated -> Assertions.assertTrue(generated.getAddress().plain().charAt(5) == 'Z'));
+  }
+
+  @Test
+  void shouldStreamToSink() {
+    AtomicInteger counter = new AtomicInteger();
+    new AccountGenerator(NetworkType.MAIN_NET)
+        .withParallelism(3)
+        .generate(20, generated -> counter.incrementAndGet());
+    Assertions.assertEquals(20, counter.get());
+  }
+
+  @Test
+  void shouldPropagateSinkErrors() {
+    AccountGenerator generator = new AccountGenerator(NetworkType.TEST_NET).withParallelism(2);
+    Assertions.assertEquals(
+        "Some sink error",
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () ->
+                    generator.generate(
+                        Long.MAX_VALUE,
+                        generated -> {
+                          throw new IllegalStateException("Some sink error");
+                        }))
+            .getMessage());
+  }
+
+  @Test
+  void shouldRejectInvalidPrefixes() {
+    AccountGenerator generator = new AccountGenerator(NetworkType.TEST_NET);
+    Assertions.assertEquals(
+        "prefix NA cannot be generated for network type TEST_NET",
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.withPrefix("NA"))
+            .getMessage());
+    Assertions.assertEquals(
+        "prefix TZ cannot be generated for network type TEST_NET",
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.withPrefix("TZ"))
+            .getMessage());
+    Assertions.assertEquals(
+        "Invalid Base32 char in prefix TA1",
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.withPrefix("TA1"))
+            .getMessage());
+  }
+}
@@ -17,6 +17,7 @@ package io.nem.symbol.sdk.model.account;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.ed25519.Ed25519CryptoEngine;
@@ -30,6 +31,11 @@ import io.nem.symbol.sdk.model.transaction.TransferTransaction;
 import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
 import java.math.BigInteger;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 class AccountTest {
@@ -129,6 +135,57 @@ class AccountTest {
         signedTransaction.getHash());
   }
 
+  @Test
+  void shouldSignManyTransactions() {
+    Account account =
+        new Account(
+            "787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d",
+            NetworkType.TEST_NET);
+    List<TransferTransaction> transactions =
+        IntStream.range(0, 20)
+            .mapToObj(
+                i ->
+                    TransferTransactionFactory.create(
+                            NetworkType.TEST_NET,
+                            new Deadline(BigInteger.valueOf(i + 1)),
+                            new Address(
+                                "TDWGJE7XOYRX5RQMMLWF4TE7U5Y2HUYBRAHRSJA", NetworkType.TEST_NET),
+                            Collections.emptyList())
+                        .message(new PlainMessage("Message " + i))
+                        .build())
+            .collect(Collectors.toList());
+
+    List<SignedTransaction> expected =
+        transactions.stream()
+            .map(t -> t.signWith(account, generationHash))
+            .collect(Collectors.toList());
+
+    List<SignedTransaction> signedTransactions =
+        account.signTransactions(transactions, generationHash);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<SignedTransaction> parallelSignedTransactions =
+          account.signTransactions(transactions, generationHash, executor);
+      assertEquals(expected.size(), signedTransactions.size());
+      assertEquals(expected.size(), parallelSignedTransactions.size());
+      for (int i = 0; i < expected.size(); i++) {
+        assertEquals(expected.get(i).getPayload(), signedTransactions.get(i).getPayload());
+        assertEquals(expected.get(i).getHash(), signedTransactions.get(i).getHash());
+        assertEquals(expected.get(i).getPayload(), parallelSignedTransactions.get(i).getPayload());
+        assertEquals(expected.get(i).getHash(), parallelSignedTransactions.get(i).getHash());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void shouldReuseDsaSigner() {
+    Account account = Account.generateNewAccount(NetworkType.TEST_NET);
+    assertSame(account.getDsaSigner(), account.getDsaSigner());
+  }
+
   @Test
   void shouldAcceptKeyPairAsConstructor() {
     NetworkType networkType = NetworkType.TEST_NET;
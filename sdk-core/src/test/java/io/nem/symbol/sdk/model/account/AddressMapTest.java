@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AddressMapTest {
+
+  @Test
+  void shouldPutGetAndRemove() {
+    Address address1 = Address.generateRandom(NetworkType.MAIN_NET);
+    Address address2 = Address.generateRandom(NetworkType.TEST_NET);
+    AddressMap<String> map = new AddressMap<>();
+    Assertions.assertNull(map.put(address1, "a"));
+    Assertions.assertEquals("a", map.put(address1, "b"));
+    Assertions.assertEquals("b", map.get(address1));
+    Assertions.assertNull(map.get(address2));
+    Assertions.assertEquals("c", map.getOrDefault(address2, "c"));
+    Assertions.assertEquals("d", map.computeIfAbsent(address2, a -> "d"));
+    Assertions.assertEquals("d", map.computeIfAbsent(address2, a -> "e"));
+    Assertions.assertTrue(map.containsKey(address2));
+    Assertions.assertEquals(2, map.size());
+    Assertions.assertEquals(2, map.keySet().size());
+    Assertions.assertEquals("b", map.remove(address1));
+    Assertions.assertNull(map.remove(address1));
+    Assertions.assertFalse(map.containsKey(address1));
+    Assertions.assertEquals(1, map.size());
+    map.clear();
+    Assertions.assertTrue(map.isEmpty());
+  }
+
+  @Test
+  void shouldBehaveLikeHashMap() {
+    Random random = new Random(2);
+    List<Address> addresses = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      addresses.add(Address.generateRandom(NetworkType.TEST_NET));
+    }
+    Map<Address, Integer> expected = new HashMap<>();
+    AddressMap<Integer> map = new AddressMap<>();
+    for (int i = 0; i < 5000; i++) {
+      Address address = addresses.get(random.nextInt(addresses.size()));
+      if (random.nextInt(3) > 0) {
+        Assertions.assertEquals(expected.put(address, i), map.put(address, i));
+      } else {
+        Assertions.assertEquals(expected.remove(address), map.remove(address));
+      }
+      Assertions.assertEquals(expected.size(), map.size());
+    }
+    addresses.forEach(address -> Assertions.assertEquals(expected.get(address), map.get(address)));
+    Map<Address, Integer> actual = new HashMap<>();
+    map.forEach(actual::put);
+    Assertions.assertEquals(expected, actual);
+  }
+}
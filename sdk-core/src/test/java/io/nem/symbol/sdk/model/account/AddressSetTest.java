@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.account;
+
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AddressSetTest {
+
+  @Test
+  void shouldAddContainsAndRemove() {
+    Address address1 = Address.generateRandom(NetworkType.MAIN_NET);
+    Address address2 = Address.generateRandom(NetworkType.TEST_NET);
+    AddressSet set = new AddressSet();
+    Assertions.assertTrue(set.isEmpty());
+    Assertions.assertTrue(set.add(address1));
+    Assertions.assertFalse(set.add(new Address(address1.plain(), NetworkType.MAIN_NET)));
+    Assertions.assertTrue(set.contains(address1));
+    Assertions.assertFalse(set.contains(address2));
+    Assertions.assertEquals(1, set.size());
+    Assertions.assertTrue(set.add(address2));
+    Assertions.assertTrue(set.remove(address1));
+    Assertions.assertFalse(set.remove(address1));
+    Assertions.assertFalse(set.contains(address1));
+    Assertions.assertTrue(set.contains(address2));
+    set.clear();
+    Assertions.assertTrue(set.isEmpty());
+    Assertions.assertFalse(set.contains(address2));
+  }
+
+  @Test
+  void shouldBehaveLikeHashSet() {
+    Random random = new Random(1);
+    List<Address> addresses = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      addresses.add(
+          Address.generateRandom(i % 2 == 0 ? NetworkType.MAIN_NET : NetworkType.TEST_NET));
+    }
+    Set<Address> expected = new HashSet<>();
+    AddressSet set = new AddressSet();
+    for (int i = 0; i < 5000; i++) {
+      Address address = addresses.get(random.nextInt(addresses.size()));
+      if (random.nextBoolean()) {
+        Assertions.assertEquals(expected.add(address), set.add(address));
+      } else {
+        Assertions.assertEquals(expected.remove(address), set.remove(address));
+      }
+      Assertions.assertEquals(expected.size(), set.size());
+    }
+    addresses.forEach(
+        address -> Assertions.assertEquals(expected.contains(address), set.contains(address)));
+    Assertions.assertEquals(expected, set.stream().collect(Collectors.toSet()));
+  }
+
+  @Test
+  void shouldCreateFromIterable() {
+    List<Address> addresses = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      addresses.add(Address.generateRandom(NetworkType.TEST_NET));
+    }
+    addresses.add(addresses.get(0));
+    AddressSet set = new AddressSet(addresses);
+    Assertions.assertEquals(100, set.size());
+    List<Address> iterated = new ArrayList<>();
+    set.forEach(iterated::add);
+    Assertions.assertEquals(new HashSet<>(addresses), new HashSet<>(iterated));
+    Assertions.assertEquals(100, iterated.size());
+  }
+}
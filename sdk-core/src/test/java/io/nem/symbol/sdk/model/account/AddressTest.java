@@ -17,9 +17,13 @@ package io.nem.symbol.sdk.model.account;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.RawAddress;
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.util.Arrays;
 import java.util.stream.Stream;
@@ -81,6 +85,15 @@ class AddressTest {
     assertEquals("TDGRZDZEHD4M5K3JIT64DU3PEKFYNF5VWFEYDQA", address.plain());
   }
 
+  @Test
+  void plainIsEncodedOnce() {
+    Address address =
+        new Address("TDGRZD-ZEHD4M-5K3JIT-64DU3P-EKFYNF-5VWFEY-DQA", NetworkType.TEST_NET);
+    String plain = address.plain();
+    assertSame(plain, address.plain());
+    assertEquals("TDGRZD-ZEHD4M-5K3JIT-64DU3P-EKFYNF-5VWFEY-DQA", address.pretty());
+  }
+
   @Test
   void testAddressWithSpacesCreation() {
     Address address =
@@ -128,6 +141,51 @@ class AddressTest {
     assertEquals(address1.plain(), address2.plain());
   }
 
+  @ParameterizedTest
+  @EnumSource(NetworkType.class)
+  void generateAddressBytesMatchesEncodedAddress(NetworkType networkType) {
+    PublicKey publicKey = PublicKey.generateRandom();
+    Address address = Address.createFromPublicKey(publicKey.toHex(), networkType);
+    byte[] rawAddress = RawAddress.generateAddressBytes(publicKey.getBytes(), networkType);
+    assertEquals(RawAddress.RAW_ADDRESS_SIZE, rawAddress.length);
+    assertEquals(address.encoded(), ConvertUtils.toHex(rawAddress));
+    assertEquals(address.plain(), RawAddress.toPlainAddress(rawAddress));
+  }
+
+  @Test
+  void createFromBytes() {
+    Address address = Address.createFromRawAddress("NAR3W7B4BCOZSZMFIZRYB3N5YGOUSWIYJCJ6HDA");
+    byte[] bytes = ConvertUtils.fromHexToBytes("6823BB7C3C089D996585466380EDBDC19D4959184893E38C");
+    Address address2 = Address.createFromBytes(bytes);
+    assertEquals(address, address2);
+    assertEquals(address.hashCode(), address2.hashCode());
+    assertEquals(NetworkType.MAIN_NET, address2.getNetworkType());
+    assertEquals("NAR3W7B4BCOZSZMFIZRYB3N5YGOUSWIYJCJ6HDA", address2.plain());
+    Assertions.assertArrayEquals(bytes, address2.getBytes());
+  }
+
+  @Test
+  void createFromBytesShouldFailWhenInvalid() {
+    assertEquals(
+        "Raw address size is 3 when 24 is required",
+        assertThrows(IllegalArgumentException.class, () -> Address.createFromBytes(new byte[3]))
+            .getMessage());
+    byte[] bytes = ConvertUtils.fromHexToBytes("6823BB7C3C089D996585466380EDBDC19D4959184893E38D");
+    assertTrue(
+        assertThrows(IllegalArgumentException.class, () -> Address.createFromBytes(bytes))
+            .getMessage()
+            .contains("checksum is incorrect"));
+  }
+
+  @Test
+  void internShouldReturnTheSameInstance() {
+    Address address = Address.generateRandom(NetworkType.TEST_NET);
+    Address copy = new Address(address.plain(), NetworkType.TEST_NET);
+    Assertions.assertNotSame(address, copy);
+    Assertions.assertSame(address.intern(), copy.intern());
+    Assertions.assertSame(address.intern(), address);
+  }
+
   @Test
   void createFromEncodedDuplicated() {
     Address address2 = Address.createFromRawAddress("NAR3W7B4BCOZSZMFIZRYB3N5YGOUSWIYJCJ6HDA");
@@ -18,6 +18,7 @@ package io.nem.symbol.sdk.model.account;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
+import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.util.HashSet;
 import org.junit.jupiter.api.Assertions;
@@ -47,6 +48,17 @@ class PublicAccountTest {
     assertEquals(plain, publicAccount.getAddress().plain());
   }
 
+  @Test
+  void shouldCreatePublicAccountFromPublicKey() {
+    PublicAccount publicAccount =
+        new PublicAccount(PublicKey.fromHexString(publicKey), NetworkType.TEST_NET);
+    assertEquals(publicKey.toUpperCase(), publicAccount.getPublicKey().toHex());
+    assertEquals(plain, publicAccount.getAddress().plain());
+    assertEquals(new PublicAccount(publicKey, NetworkType.TEST_NET), publicAccount);
+    assertEquals(
+        new PublicAccount(publicKey, NetworkType.TEST_NET).hashCode(), publicAccount.hashCode());
+  }
+
   @Test
   void equalityIsBasedOnPublicKeyAndNetwork() {
     PublicAccount publicAccount = new PublicAccount(publicKey, NetworkType.TEST_NET);
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.blockchain;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.math.BigInteger;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Test class for the BlockHeaderVerifier. */
+public class BlockHeaderVerifierTest {
+
+  private final KeyPair harvester = KeyPair.random();
+
+  @Test
+  void validBlock() {
+    BlockInfo block =
+        FakeBlockInfoFactory.create(
+            harvester,
+            BigInteger.TEN,
+            FakeBlockInfoFactory.randomHash(),
+            FakeBlockInfoFactory.randomHash());
+    Assertions.assertEquals(264, BlockHeaderVerifier.getSignedBytes(block).length);
+    Assertions.assertEquals(block.getHash(), BlockHeaderVerifier.calculateHash(block));
+    Assertions.assertTrue(BlockHeaderVerifier.isValid(block));
+  }
+
+  @Test
+  void invalidHash() {
+    BlockInfo block =
+        FakeBlockInfoFactory.create(
+            harvester,
+            BigInteger.TEN,
+            FakeBlockInfoFactory.randomHash(),
+            FakeBlockInfoFactory.randomHash());
+    BlockInfo tampered = withSignerAndHash(block, block.getSignerPublicAccount(), "AB");
+    Assertions.assertFalse(BlockHeaderVerifier.isValid(tampered));
+  }
+
+  @Test
+  void invalidSigner() {
+    BlockInfo block =
+        FakeBlockInfoFactory.create(
+            harvester,
+            BigInteger.TEN,
+            FakeBlockInfoFactory.randomHash(),
+            FakeBlockInfoFactory.randomHash());
+    PublicAccount other =
+        new PublicAccount(KeyPair.random().getPublicKey().toHex(), NetworkType.TEST_NET);
+    BlockInfo withOtherSigner = withSignerAndHash(block, other, block.getHash());
+    BlockInfo tampered =
+        withSignerAndHash(block, other, BlockHeaderVerifier.calculateHash(withOtherSigner));
+    Assertions.assertFalse(BlockHeaderVerifier.isValid(tampered));
+  }
+
+  @Test
+  void importanceBlockIncludesFooter() {
+    ImportanceBlockInfo block =
+        new ImportanceBlockInfo(
+            "abc",
+            424L,
+            FakeBlockInfoFactory.randomHash(),
+            FakeBlockInfoFactory.randomHash(),
+            BigInteger.ZERO,
+            Collections.emptyList(),
+            0,
+            0,
+            0,
+            Collections.emptyList(),
+            FakeBlockInfoFactory.randomHash() + FakeBlockInfoFactory.randomHash(),
+            new PublicAccount(harvester.getPublicKey().toHex(), NetworkType.TEST_NET),
+            NetworkType.TEST_NET,
+            1,
+            BlockType.IMPORTANCE_BLOCK,
+            BigInteger.valueOf(720),
+            BigInteger.ONE,
+            BigInteger.ONE,
+            100L,
+            FakeBlockInfoFactory.randomHash(),
+            FakeBlockInfoFactory.randomHash(),
+            FakeBlockInfoFactory.randomHash(),
+            FakeBlockInfoFactory.randomHash(),
+            FakeBlockInfoFactory.randomHash(),
+            FakeBlockInfoFactory.randomHash(),
+            "0123456789ABCDEF0123456789ABCDEF",
+            Address.createFromPublicKey(harvester.getPublicKey().toHex(), NetworkType.TEST_NET),
+            3,
+            BigInteger.TEN,
+            BigInteger.valueOf(1000),
+            FakeBlockInfoFactory.randomHash());
+    Assertions.assertEquals(316, BlockHeaderVerifier.getSignedBytes(block).length);
+  }
+
+  @Test
+  void malformedBlockIsNotValid() {
+    BlockInfo block = Mockito.mock(BlockInfo.class);
+    Assertions.assertFalse(BlockHeaderVerifier.isValid(block));
+  }
+
+  private static BlockInfo withSignerAndHash(BlockInfo block, PublicAccount signer, String hash) {
+    return new BlockInfo(
+        block.getRecordId().orElse(null),
+        block.getSize(),
+        hash,
+        block.getGenerationHash(),
+        block.getTotalFee(),
+        block.getStateHashSubCacheMerkleRoots(),
+        block.getTransactionsCount(),
+        block.getTotalTransactionsCount(),
+        block.getStatementsCount(),
+        block.getSubCacheMerkleRoots(),
+        block.getSignature(),
+        signer,
+        block.getNetworkType(),
+        block.getVersion(),
+        block.getType(),
+        block.getHeight(),
+        block.getTimestamp(),
+        block.getDifficulty(),
+        block.getFeeMultiplier(),
+        block.getPreviousBlockHash(),
+        block.getBlockTransactionsHash(),
+        block.getBlockReceiptsHash(),
+        block.getStateHash(),
+        block.getProofGamma(),
+        block.getProofScalar(),
+        block.getProofVerificationHash(),
+        block.getBeneficiaryAddress());
+  }
+}
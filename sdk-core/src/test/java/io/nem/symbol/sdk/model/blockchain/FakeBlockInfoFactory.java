@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.blockchain;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.ed25519.Ed25519DsaSigner;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.math.BigInteger;
+import java.util.Collections;
+
+/** Creates blocks with a valid hash and signature for tests. */
+public class FakeBlockInfoFactory {
+
+  private static final NetworkType NETWORK_TYPE = NetworkType.TEST_NET;
+
+  private FakeBlockInfoFactory() {}
+
+  public static String randomHash() {
+    return ConvertUtils.toHex(RandomUtils.generateRandomBytes(32));
+  }
+
+  /**
+   * Creates a normal block signed by the given harvester.
+   *
+   * @param harvester the signer.
+   * @param height the block height.
+   * @param previousBlockHash the previous block hash.
+   * @param transactionsHash the block transactions merkle root.
+   * @return the signed block.
+   */
+  public static BlockInfo create(
+      KeyPair harvester, BigInteger height, String previousBlockHash, String transactionsHash) {
+    BlockInfo unsigned = create(harvester, height, previousBlockHash, transactionsHash, null, null);
+    String signature =
+        new Ed25519DsaSigner(harvester)
+            .sign(BlockHeaderVerifier.getSignedBytes(unsigned))
+            .toString();
+    BlockInfo signed = withSignatureAndHash(unsigned, signature, null);
+    return withSignatureAndHash(signed, signature, BlockHeaderVerifier.calculateHash(signed));
+  }
+
+  private static BlockInfo create(
+      KeyPair harvester,
+      BigInteger height,
+      String previousBlockHash,
+      String transactionsHash,
+      String signature,
+      String hash) {
+    return new BlockInfo(
+        "abc",
+        372L,
+        hash,
+        randomHash(),
+        BigInteger.ZERO,
+        Collections.emptyList(),
+        0,
+        0,
+        0,
+        Collections.emptyList(),
+        signature,
+        new PublicAccount(harvester.getPublicKey().toHex(), NETWORK_TYPE),
+        NETWORK_TYPE,
+        1,
+        BlockType.NORMAL_BLOCK,
+        height,
+        BigInteger.valueOf(1000).multiply(height),
+        BigInteger.valueOf(100_000_000_000_000L),
+        100L,
+        previousBlockHash,
+        transactionsHash,
+        "0000000000000000000000000000000000000000000000000000000000000000",
+        randomHash(),
+        randomHash(),
+        randomHash(),
+        "0123456789ABCDEF0123456789ABCDEF",
+        Address.createFromPublicKey(harvester.getPublicKey().toHex(), NETWORK_TYPE));
+  }
+
+  private static BlockInfo withSignatureAndHash(BlockInfo block, String signature, String hash) {
+    return new BlockInfo(
+        block.getRecordId().orElse(null),
+        block.getSize(),
+        hash,
+        block.getGenerationHash(),
+        block.getTotalFee(),
+        block.getStateHashSubCacheMerkleRoots(),
+        block.getTransactionsCount(),
+        block.getTotalTransactionsCount(),
+        block.getStatementsCount(),
+        block.getSubCacheMerkleRoots(),
+        signature,
+        block.getSignerPublicAccount(),
+        block.getNetworkType(),
+        block.getVersion(),
+        block.getType(),
+        block.getHeight(),
+        block.getTimestamp(),
+        block.getDifficulty(),
+        block.getFeeMultiplier(),
+        block.getPreviousBlockHash(),
+        block.getBlockTransactionsHash(),
+        block.getBlockReceiptsHash(),
+        block.getStateHash(),
+        block.getProofGamma(),
+        block.getProofScalar(),
+        block.getProofVerificationHash(),
+        block.getBeneficiaryAddress());
+  }
+}
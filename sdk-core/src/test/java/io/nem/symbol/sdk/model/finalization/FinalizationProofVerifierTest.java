@@ -0,0 +1,356 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.finalization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.ed25519.Ed25519DsaSigner;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.io.File;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+/** Test class for the FinalizationProofVerifier. */
+public class FinalizationProofVerifierTest {
+
+  private static final long EPOCH = 12;
+
+  private static final long POINT = 5;
+
+  /** A proof recorded from a network node, see {@link #verifiesANetworkProof()}. */
+  private static final String NETWORK_PROOF =
+      "src/test/resources/json/finalization-proof-network.json";
+
+  private final List<KeyPair> voters =
+      IntStream.range(0, 4).mapToObj(i -> KeyPair.random()).collect(Collectors.toList());
+
+  private final List<String> hashes =
+      IntStream.range(0, 3)
+          .mapToObj(i -> ConvertUtils.toHex(RandomUtils.generateRandomBytes(32)))
+          .collect(Collectors.toList());
+
+  private final FinalizationProof header =
+      new FinalizationProof(
+          1, EPOCH, POINT, BigInteger.valueOf(101), hashes.get(1), Collections.emptyList());
+
+  private FinalizationProofVerifier verifier() {
+    return FinalizationProofVerifier.ofVotingKeys(
+        voters.stream().map(KeyPair::getPublicKey).collect(Collectors.toList()));
+  }
+
+  private BmTreeSignature sign(KeyPair voter, byte[] data) {
+    KeyPair bottom = KeyPair.random();
+    String rootSignature =
+        new Ed25519DsaSigner(voter)
+            .sign(
+                FinalizationProofVerifier.getRootSignedBytes(EPOCH, bottom.getPublicKey().toHex()))
+            .toString();
+    String bottomSignature = new Ed25519DsaSigner(bottom).sign(data).toString();
+    return new BmTreeSignature(
+        new ParentPublicKeySignaturePair(voter.getPublicKey().toHex(), rootSignature),
+        new ParentPublicKeySignaturePair(bottom.getPublicKey().toHex(), bottomSignature));
+  }
+
+  private MessageGroup group(
+      FinalizationStage stage, BigInteger height, List<String> hashes, List<KeyPair> signers) {
+    MessageGroup unsigned = new MessageGroup(stage, height, hashes, Collections.emptyList());
+    byte[] data = FinalizationProofVerifier.getSignedBytes(header, unsigned);
+    return new MessageGroup(
+        stage,
+        height,
+        hashes,
+        signers.stream().map(signer -> sign(signer, data)).collect(Collectors.toList()));
+  }
+
+  private FinalizationProof proof(MessageGroup... groups) {
+    return new FinalizationProof(
+        header.getVersion(),
+        header.getFinalizationEpoch(),
+        header.getFinalizationPoint(),
+        header.getHeight(),
+        header.getHash(),
+        Arrays.asList(groups));
+  }
+
+  @Test
+  void verifyValidProof() {
+    FinalizationProof proof =
+        proof(
+            group(FinalizationStage.PRE_VOTE, BigInteger.valueOf(100), hashes, voters),
+            group(
+                FinalizationStage.PRE_COMMIT,
+                BigInteger.valueOf(101),
+                hashes.subList(1, 2),
+                voters.subList(0, 3)));
+
+    FinalizationProofVerification verification = verifier().verify(proof);
+
+    Assertions.assertTrue(verification.isValid());
+    Assertions.assertTrue(verification.isHashConsistent());
+    Assertions.assertEquals(2, verification.getMessageGroups().size());
+    Assertions.assertEquals(
+        BigInteger.valueOf(4), verification.getVotingWeight(FinalizationStage.PRE_VOTE));
+    Assertions.assertEquals(
+        BigInteger.valueOf(3), verification.getVotingWeight(FinalizationStage.PRE_COMMIT));
+    Assertions.assertEquals(0.75, verification.getParticipation(FinalizationStage.PRE_COMMIT));
+    Assertions.assertTrue(verification.isFinalized(0.67));
+    Assertions.assertFalse(verification.isFinalized(0.8));
+    Assertions.assertEquals(1.0, verification.getMessageGroups().get(0).getParticipation(), 0.0001);
+  }
+
+  @Test
+  void verifyInParallelWithExecutor() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      FinalizationProof proof =
+          proof(
+              group(
+                  FinalizationStage.PRE_COMMIT,
+                  BigInteger.valueOf(101),
+                  hashes.subList(1, 2),
+                  voters));
+      FinalizationProofVerification verification = verifier().verify(proof, executor);
+      Assertions.assertTrue(verification.isValid());
+      Assertions.assertEquals(1.0, verification.getParticipation(FinalizationStage.PRE_COMMIT));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void verifyUsesVotingWeights() {
+    Map<PublicKey, BigInteger> weights = new HashMap<>();
+    weights.put(voters.get(0).getPublicKey(), BigInteger.valueOf(7));
+    weights.put(voters.get(1).getPublicKey(), BigInteger.valueOf(3));
+    FinalizationProof proof =
+        proof(
+            group(
+                FinalizationStage.PRE_COMMIT,
+                BigInteger.valueOf(101),
+                hashes.subList(1, 2),
+                voters.subList(0, 1)));
+
+    FinalizationProofVerification verification =
+        new FinalizationProofVerifier(weights).verify(proof);
+
+    Assertions.assertTrue(verification.isValid());
+    Assertions.assertEquals(BigInteger.TEN, verification.getTotalVotingWeight());
+    Assertions.assertEquals(0.7, verification.getParticipation(FinalizationStage.PRE_COMMIT));
+  }
+
+  @Test
+  void verifyReportsUnknownVoters() {
+    KeyPair stranger = KeyPair.random();
+    FinalizationProof proof =
+        proof(
+            group(
+                FinalizationStage.PRE_COMMIT,
+                BigInteger.valueOf(101),
+                hashes.subList(1, 2),
+                Arrays.asList(voters.get(0), stranger)));
+
+    FinalizationProofVerification verification = verifier().verify(proof);
+
+    MessageGroupVerification group = verification.getMessageGroups().get(0);
+    Assertions.assertFalse(verification.isValid());
+    Assertions.assertEquals(
+        Collections.singleton(stranger.getPublicKey()), group.getUnknownVoters());
+    Assertions.assertEquals(
+        Collections.singleton(voters.get(0).getPublicKey()), group.getVoters().keySet());
+    Assertions.assertTrue(group.getInvalidSignatures().isEmpty());
+  }
+
+  @Test
+  void verifyReportsInvalidSignatures() {
+    MessageGroup signed =
+        group(FinalizationStage.PRE_COMMIT, BigInteger.valueOf(101), hashes.subList(1, 2), voters);
+    BmTreeSignature valid = signed.getSignatures().get(0);
+    BmTreeSignature tamperedBottom =
+        new BmTreeSignature(
+            valid.getRoot(),
+            new ParentPublicKeySignaturePair(
+                valid.getBottom().getParentPublicKey(),
+                signed.getSignatures().get(1).getBottom().getSignature()));
+    BmTreeSignature tamperedRoot =
+        new BmTreeSignature(
+            new ParentPublicKeySignaturePair(
+                voters.get(1).getPublicKey().toHex(), valid.getRoot().getSignature()),
+            valid.getBottom());
+    BmTreeSignature malformed =
+        new BmTreeSignature(
+            new ParentPublicKeySignaturePair("ZZ", valid.getRoot().getSignature()),
+            valid.getBottom());
+    FinalizationProof proof =
+        proof(
+            new MessageGroup(
+                signed.getStage(),
+                signed.getHeight(),
+                signed.getHashes(),
+                Arrays.asList(valid, tamperedBottom, tamperedRoot, malformed)));
+
+    FinalizationProofVerification verification = verifier().verify(proof);
+
+    MessageGroupVerification group = verification.getMessageGroups().get(0);
+    Assertions.assertFalse(verification.isValid());
+    Assertions.assertEquals(
+        Arrays.asList(tamperedBottom, tamperedRoot, malformed), group.getInvalidSignatures());
+    Assertions.assertEquals(BigInteger.ONE, group.getVotingWeight());
+  }
+
+  @Test
+  void verifyRejectsSignaturesOfAnotherEpoch() {
+    MessageGroup signed =
+        group(FinalizationStage.PRE_COMMIT, BigInteger.valueOf(101), hashes.subList(1, 2), voters);
+    FinalizationProof proof =
+        new FinalizationProof(
+            1,
+            EPOCH + 1,
+            POINT,
+            header.getHeight(),
+            header.getHash(),
+            Collections.singletonList(signed));
+
+    FinalizationProofVerification verification = verifier().verify(proof);
+
+    Assertions.assertEquals(
+        voters.size(), verification.getMessageGroups().get(0).getInvalidSignatures().size());
+    Assertions.assertFalse(verification.isFinalized(0.5));
+  }
+
+  @Test
+  void verifyDetectsInconsistentHash() {
+    FinalizationProof proof =
+        proof(
+            group(
+                FinalizationStage.PRE_COMMIT,
+                BigInteger.valueOf(101),
+                hashes.subList(2, 3),
+                voters));
+
+    FinalizationProofVerification verification = verifier().verify(proof);
+
+    Assertions.assertFalse(verification.isHashConsistent());
+    Assertions.assertFalse(verification.isValid());
+    Assertions.assertTrue(verification.getMessageGroups().get(0).isValid());
+  }
+
+  @Test
+  void verifyEmptyProof() {
+    FinalizationProofVerification verification = verifier().verify(proof());
+    Assertions.assertFalse(verification.isValid());
+    Assertions.assertEquals(0.0, verification.getParticipation(FinalizationStage.PRE_COMMIT));
+  }
+
+  @Test
+  void signedBytes() {
+    MessageGroup group =
+        new MessageGroup(
+            FinalizationStage.PRE_COMMIT,
+            BigInteger.valueOf(0x0102),
+            Collections.singletonList(hashes.get(0)),
+            Collections.emptyList());
+    Assertions.assertEquals(
+        "0C000000" + "05000000" + "01000000" + "0201000000000000" + hashes.get(0),
+        ConvertUtils.toHex(FinalizationProofVerifier.getSignedBytes(header, group)));
+    String bottomKey = voters.get(0).getPublicKey().toHex();
+    Assertions.assertEquals(
+        bottomKey + "000000000000000C",
+        ConvertUtils.toHex(FinalizationProofVerifier.getRootSignedBytes(EPOCH, bottomKey)));
+  }
+
+  @Test
+  void shouldValidateVotingWeights() {
+    Map<PublicKey, BigInteger> weights = new HashMap<>();
+    weights.put(voters.get(0).getPublicKey(), BigInteger.valueOf(-1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new FinalizationProofVerifier(weights));
+  }
+
+  /**
+   * Known answer test. The fixture is the json returned by a node's
+   * /finalization/proof/epoch/{epoch} endpoint plus a votingKeys array with the voting public keys
+   * of that epoch's voting set. Unlike the tests above, the signatures are produced by the network,
+   * so it checks the signed bytes layout against catapult. It runs whenever the fixture is present.
+   */
+  @Test
+  void verifiesANetworkProof() throws Exception {
+    File fixture = new File(NETWORK_PROOF);
+    Assumptions.assumeTrue(
+        fixture.isFile(), "Needs a finalization proof recorded from a network node in " + fixture);
+    JsonNode json = new ObjectMapper().readTree(fixture);
+    List<PublicKey> votingKeys =
+        StreamSupport.stream(json.get("votingKeys").spliterator(), false)
+            .map(key -> PublicKey.fromHexString(key.asText()))
+            .collect(Collectors.toList());
+    FinalizationProof proof = toFinalizationProof(json);
+
+    FinalizationProofVerification verification =
+        FinalizationProofVerifier.ofVotingKeys(votingKeys).verify(proof);
+
+    Assertions.assertTrue(verification.isValid());
+    verification
+        .getMessageGroups()
+        .forEach(group -> Assertions.assertEquals(0, group.getInvalidSignatures().size()));
+  }
+
+  private static FinalizationProof toFinalizationProof(JsonNode json) {
+    List<MessageGroup> messageGroups =
+        StreamSupport.stream(json.get("messageGroups").spliterator(), false)
+            .map(
+                group ->
+                    new MessageGroup(
+                        FinalizationStage.rawValueOf(group.get("stage").asInt()),
+                        new BigInteger(group.get("height").asText()),
+                        StreamSupport.stream(group.get("hashes").spliterator(), false)
+                            .map(JsonNode::asText)
+                            .collect(Collectors.toList()),
+                        StreamSupport.stream(group.get("signatures").spliterator(), false)
+                            .map(
+                                signature ->
+                                    new BmTreeSignature(
+                                        toPair(signature.get("root")),
+                                        toPair(signature.get("bottom"))))
+                            .collect(Collectors.toList())))
+            .collect(Collectors.toList());
+    return new FinalizationProof(
+        json.get("version").asInt(),
+        json.get("finalizationEpoch").asLong(),
+        json.get("finalizationPoint").asLong(),
+        new BigInteger(json.get("height").asText()),
+        json.get("hash").asText(),
+        messageGroups);
+  }
+
+  private static ParentPublicKeySignaturePair toPair(JsonNode pair) {
+    return new ParentPublicKeySignaturePair(
+        pair.get("parentPublicKey").asText(), pair.get("signature").asText());
+  }
+}
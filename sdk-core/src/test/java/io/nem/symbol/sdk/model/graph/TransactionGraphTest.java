@@ -0,0 +1,245 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.graph;
+
+import io.nem.symbol.core.math.ColumnVector;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.reactivex.Flowable;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link TransactionGraphBuilder} and {@link TransactionGraph}. */
+public class TransactionGraphTest {
+
+  private final NetworkType networkType = NetworkType.TEST_NET;
+
+  private final Address address1 = Address.generateRandom(networkType);
+
+  private final Address address2 = Address.generateRandom(networkType);
+
+  private final Address address3 = Address.generateRandom(networkType);
+
+  private final Address address4 = Address.generateRandom(networkType);
+
+  private final Address address5 = Address.generateRandom(networkType);
+
+  @Test
+  void buildMergesRepeatedTransfers() {
+    TransactionGraph graph =
+        new TransactionGraphBuilder()
+            .addTransfer(address1, address2, 1)
+            .addTransfer(address2, address3, 5)
+            .addTransfer(address1, address2, 2)
+            .addTransfer(address1, address3, 4)
+            .build();
+
+    Assertions.assertEquals(3, graph.getAddressCount());
+    Assertions.assertEquals(address1, graph.getAddress(0));
+    Assertions.assertEquals(Optional.of(2), graph.getIndex(address3));
+    Assertions.assertEquals(Optional.empty(), graph.getIndex(address4));
+    Assertions.assertEquals(3, graph.getTransfers().getNumEntries());
+    Assertions.assertEquals(3.0, graph.getTransferWeight(address1, address2));
+    Assertions.assertEquals(4.0, graph.getTransferWeight(address1, address3));
+    Assertions.assertEquals(0.0, graph.getTransferWeight(address2, address1));
+    Assertions.assertEquals(0.0, graph.getTransferWeight(address4, address1));
+    Assertions.assertEquals(7.0, graph.getOutgoingWeight(address1));
+    Assertions.assertEquals(0.0, graph.getOutgoingWeight(address3));
+  }
+
+  @Test
+  void buildRequiresTransfers() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> new TransactionGraphBuilder().build());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new TransactionGraphBuilder().addTransfer(address1, address2, 0));
+  }
+
+  @Test
+  void builtGraphIsNotModifiedByLaterTransfers() {
+    TransactionGraphBuilder builder =
+        new TransactionGraphBuilder().addTransfer(address1, address2, 1);
+    TransactionGraph graph = builder.build();
+
+    builder.addTransfer(address3, address1, 1);
+
+    Assertions.assertEquals(2, graph.getAddressCount());
+    Assertions.assertEquals(Optional.empty(), graph.getIndex(address3));
+    Assertions.assertEquals(3, builder.build().getAddressCount());
+  }
+
+  @Test
+  void addTransferTransactions() {
+    NamespaceId alias = NamespaceId.createFromName("alias");
+    TransactionGraphBuilder builder =
+        new TransactionGraphBuilder()
+            .withWeightFunction(transaction -> transaction.getMosaics().isEmpty() ? 1 : 10)
+            .withAliasResolver(
+                namespaceId ->
+                    namespaceId.equals(alias) ? Optional.of(address3) : Optional.empty());
+
+    Assertions.assertEquals(1, builder.add(transfer(address2)));
+    Assertions.assertEquals(1, builder.add(transfer(alias)));
+    Assertions.assertEquals(0, builder.add(transfer(NamespaceId.createFromName("unknown"))));
+
+    TransactionGraph graph = builder.build();
+    Assertions.assertEquals(1.0, graph.getTransferWeight(signerAddress(), address2));
+    Assertions.assertEquals(1.0, graph.getTransferWeight(signerAddress(), address3));
+  }
+
+  @Test
+  void collectStreamedTransactions() {
+    TransactionGraph graph =
+        new TransactionGraphBuilder()
+            .collect(Flowable.just(transfer(address1), transfer(address2), transfer(address1)))
+            .blockingGet();
+
+    Assertions.assertEquals(3, graph.getAddressCount());
+    Assertions.assertEquals(2.0, graph.getTransferWeight(signerAddress(), address1));
+    Assertions.assertEquals(1.0, graph.getTransferWeight(signerAddress(), address2));
+  }
+
+  @Test
+  void importancesOfSymmetricCycleAreEqual() {
+    TransactionGraph graph =
+        new TransactionGraphBuilder()
+            .addTransfer(address1, address2, 1)
+            .addTransfer(address2, address3, 1)
+            .addTransfer(address3, address1, 1)
+            .build();
+
+    ColumnVector importances = graph.getImportances();
+
+    Assertions.assertEquals(1.0, importances.sum(), 1e-9);
+    for (int i = 0; i < 3; i++) {
+      Assertions.assertEquals(1.0 / 3, importances.getAt(i), 1e-9);
+    }
+  }
+
+  @Test
+  void importancesMatchKnownValues() {
+    // 1 and 2 send to 3, 3 sends back to 1, 4 has no outgoing transfers.
+    TransactionGraph graph =
+        new TransactionGraphBuilder()
+            .addTransfer(address1, address3, 1)
+            .addTransfer(address2, address3, 1)
+            .addTransfer(address3, address1, 1)
+            .addTransfer(address1, address4, 1)
+            .build();
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      ColumnVector importances = graph.getImportances(0.85, 1e-12, 1000, pool);
+      ColumnVector expected = powerIteration(graph, 0.85);
+
+      Assertions.assertEquals(1.0, importances.sum(), 1e-9);
+      for (int i = 0; i < graph.getAddressCount(); i++) {
+        Assertions.assertEquals(expected.getAt(i), importances.getAt(i), 1e-9);
+      }
+      int index1 = graph.getIndex(address1).get();
+      int index2 = graph.getIndex(address2).get();
+      int index3 = graph.getIndex(address3).get();
+      // 2 doesn't receive transfers
+      Assertions.assertTrue(importances.getAt(index1) > importances.getAt(index2));
+      Assertions.assertTrue(importances.getAt(index3) > importances.getAt(index2));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void connectedComponents() {
+    TransactionGraph graph =
+        new TransactionGraphBuilder()
+            .addTransfer(address1, address2, 1)
+            .addTransfer(address3, address4, 1)
+            .addTransfer(address2, address1, 1)
+            .addTransfer(address5, address5, 1)
+            .addTransfer(address4, address2, 1)
+            .build();
+
+    int[] components = graph.getConnectedComponents();
+
+    Assertions.assertEquals(5, components.length);
+    Assertions.assertEquals(0, components[graph.getIndex(address1).get()]);
+    Assertions.assertEquals(0, components[graph.getIndex(address2).get()]);
+    Assertions.assertEquals(0, components[graph.getIndex(address3).get()]);
+    Assertions.assertEquals(0, components[graph.getIndex(address4).get()]);
+    Assertions.assertEquals(1, components[graph.getIndex(address5).get()]);
+  }
+
+  @Test
+  void separateComponents() {
+    TransactionGraph graph =
+        new TransactionGraphBuilder()
+            .addTransfer(address1, address2, 1)
+            .addTransfer(address3, address4, 1)
+            .build();
+
+    int[] components = graph.getConnectedComponents();
+
+    Assertions.assertArrayEquals(new int[] {0, 0, 1, 1}, components);
+  }
+
+  /** Dense reference implementation of the importance calculation. */
+  private static ColumnVector powerIteration(TransactionGraph graph, double dampingFactor) {
+    int n = graph.getAddressCount();
+    double[] importances = new double[n];
+    Arrays.fill(importances, 1.0 / n);
+    for (int iteration = 0; iteration < 1000; iteration++) {
+      double[] next = new double[n];
+      for (int sender = 0; sender < n; sender++) {
+        double outgoing = graph.getOutgoingWeight(graph.getAddress(sender));
+        for (int recipient = 0; recipient < n; recipient++) {
+          double share =
+              outgoing == 0 ? 1.0 / n : graph.getTransfers().getAt(recipient, sender) / outgoing;
+          next[recipient] +=
+              dampingFactor * share * importances[sender]
+                  + (1 - dampingFactor) * importances[sender] / n;
+        }
+      }
+      importances = next;
+    }
+    return new ColumnVector(importances);
+  }
+
+  private Address signerAddress() {
+    return signer().getAddress();
+  }
+
+  private PublicAccount signer() {
+    return PublicAccount.createFromPublicKey(
+        "9801508C58666C746F471538E43002B85B1CD542F9874B2861183919BA8787B6", networkType);
+  }
+
+  private Transaction transfer(UnresolvedAddress recipient) {
+    return TransferTransactionFactory.create(
+            networkType, new Deadline(BigInteger.ONE), recipient, Collections.emptyList())
+        .signer(signer())
+        .build();
+  }
+}
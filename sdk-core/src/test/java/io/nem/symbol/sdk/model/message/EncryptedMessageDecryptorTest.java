@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.message;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.SharedKeyCache;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Test class for the EncryptedMessageDecryptor. */
+public class EncryptedMessageDecryptorTest {
+
+  private final NetworkType networkType = NetworkType.TEST_NET;
+
+  private final KeyPair recipient = KeyPair.random();
+
+  private final List<KeyPair> senders =
+      IntStream.range(0, 3).mapToObj(i -> KeyPair.random()).collect(Collectors.toList());
+
+  private final List<String> messages =
+      IntStream.range(0, 30).mapToObj(i -> "Message 漢字 " + i).collect(Collectors.toList());
+
+  private final List<TransferTransaction> transfers =
+      IntStream.range(0, messages.size())
+          .mapToObj(i -> createTransfer(senders.get(i % senders.size()), messages.get(i)))
+          .collect(Collectors.toList());
+
+  private TransferTransaction createTransfer(KeyPair sender, String message) {
+    return TransferTransactionFactory.create(
+            networkType,
+            new Deadline(BigInteger.ONE),
+            Address.createFromPublicKey(recipient.getPublicKey().toHex(), networkType),
+            Collections.emptyList())
+        .message(EncryptedMessage.create(message, sender.getPrivateKey(), recipient.getPublicKey()))
+        .signer(new PublicAccount(sender.getPublicKey().toHex(), networkType))
+        .build();
+  }
+
+  @Test
+  void decryptSingleTransfer() {
+    SharedKeyCache sharedKeyCache = new SharedKeyCache();
+    EncryptedMessageDecryptor decryptor =
+        new EncryptedMessageDecryptor(recipient.getPrivateKey(), sharedKeyCache);
+    Assertions.assertEquals(messages.get(0), decryptor.decrypt(transfers.get(0)));
+    Assertions.assertEquals(messages.get(3), decryptor.decrypt(transfers.get(3)));
+    Assertions.assertEquals(1, sharedKeyCache.size());
+  }
+
+  @Test
+  void decryptTransfersInParallel() {
+    SharedKeyCache sharedKeyCache = new SharedKeyCache();
+    EncryptedMessageDecryptor decryptor =
+        new EncryptedMessageDecryptor(recipient.getPrivateKey(), sharedKeyCache);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Assertions.assertEquals(messages, decryptor.decrypt(transfers, executor));
+      Assertions.assertEquals(senders.size(), sharedKeyCache.size());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void decryptTransfersStream() {
+    SharedKeyCache sharedKeyCache = new SharedKeyCache();
+    EncryptedMessageDecryptor decryptor =
+        new EncryptedMessageDecryptor(recipient.getPrivateKey(), sharedKeyCache);
+    List<String> decrypted =
+        decryptor
+            .decrypt(Observable.fromIterable(transfers), Schedulers.computation())
+            .toList()
+            .blockingGet();
+    Assertions.assertEquals(messages, decrypted);
+  }
+
+  @Test
+  void decryptInvalidTransfer() {
+    EncryptedMessageDecryptor decryptor =
+        new EncryptedMessageDecryptor(recipient.getPrivateKey(), new SharedKeyCache());
+    TransferTransaction plainTransfer =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                Address.createFromPublicKey(recipient.getPublicKey().toHex(), networkType),
+                Collections.emptyList())
+            .message(new PlainMessage("Plain"))
+            .signer(new PublicAccount(senders.get(0).getPublicKey().toHex(), networkType))
+            .build();
+    Assertions.assertEquals(
+        "Transfer message is not an EncryptedMessage",
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> decryptor.decrypt(plainTransfer))
+            .getMessage());
+  }
+}
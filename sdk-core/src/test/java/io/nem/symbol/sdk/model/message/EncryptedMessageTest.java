@@ -18,6 +18,7 @@ package io.nem.symbol.sdk.model.message;
 import io.nem.symbol.core.crypto.CryptoException;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.SharedKeyCache;
 import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,30 @@ public class EncryptedMessageTest {
     Assertions.assertEquals(message, plainMessage);
   }
 
+  @Test
+  public void testCreateEncryptedMessageUsingSharedKeyCache() {
+
+    String message = "This is a plain message 漢字";
+    KeyPair sender = KeyPair.random();
+    KeyPair recipient = KeyPair.random();
+    SharedKeyCache sharedKeyCache = new SharedKeyCache();
+
+    EncryptedMessage encryptedMessage =
+        EncryptedMessage.create(
+            message, sender.getPrivateKey(), recipient.getPublicKey(), sharedKeyCache);
+    Assertions.assertEquals(1, sharedKeyCache.size());
+
+    Assertions.assertEquals(
+        message, encryptedMessage.decryptPayload(sender.getPublicKey(), recipient.getPrivateKey()));
+    Assertions.assertEquals(
+        message,
+        encryptedMessage.decryptPayload(
+            sender.getPublicKey(), recipient.getPrivateKey(), sharedKeyCache));
+    Assertions.assertEquals(
+        message, encryptedMessage.decryptPayload(sender.getPublicKey(), recipient, sharedKeyCache));
+    Assertions.assertEquals(2, sharedKeyCache.size());
+  }
+
   @Test
   public void testDecryptWrong() {
 
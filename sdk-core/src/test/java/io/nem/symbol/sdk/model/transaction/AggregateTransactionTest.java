@@ -33,6 +33,11 @@ import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -486,4 +491,44 @@ public class AggregateTransactionTest extends AbstractTransactionTester {
     Assertions.assertEquals(2, transactionBuilder.getTransactions().size());
     Assertions.assertEquals(2, transactionBuilder.getCosignatures().size());
   }
+
+  @Test
+  void signTransactionWithCosignersInParallel() {
+    NetworkType networkType = NetworkType.TEST_NET;
+    String generationHash = "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+    List<Account> cosigners =
+        IntStream.range(0, 10)
+            .mapToObj(i -> Account.generateNewAccount(networkType))
+            .collect(Collectors.toList());
+
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                new Address("TBE5JFS6AG2RBQVJE7R3IZV4B4RCXULIXY77ZZQ", networkType),
+                Collections.emptyList())
+            .message(new PlainMessage("Some Message"))
+            .signer(account.getPublicAccount())
+            .build();
+
+    AggregateTransaction aggregateTransaction =
+        AggregateTransactionFactory.createComplete(
+                networkType, new Deadline(BigInteger.ONE), Collections.singletonList(transaction))
+            .build();
+
+    SignedTransaction expected =
+        aggregateTransaction.signTransactionWithCosigners(account, cosigners, generationHash);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      SignedTransaction signedTransaction =
+          account.signTransactionWithCosignatories(
+              aggregateTransaction, cosigners, generationHash, executor);
+      Assertions.assertEquals(expected.getPayload(), signedTransaction.getPayload());
+      Assertions.assertEquals(expected.getHash(), signedTransaction.getHash());
+      Assertions.assertEquals(account.getPublicAccount(), signedTransaction.getSigner());
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
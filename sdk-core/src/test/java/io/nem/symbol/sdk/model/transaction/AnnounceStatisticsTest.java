@@ -0,0 +1,52 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.model.transaction;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Test of {@link AnnounceStatistics} */
+class AnnounceStatisticsTest {
+
+  @Test
+  void countsAndThroughput() {
+    AnnounceStatistics statistics =
+        new AnnounceStatistics(10, 6, 2, Duration.ofSeconds(2), new long[] {1, 2, 3, 4, 5, 6});
+    Assertions.assertEquals(10, statistics.getAnnounced());
+    Assertions.assertEquals(6, statistics.getConfirmed());
+    Assertions.assertEquals(2, statistics.getFailed());
+    Assertions.assertEquals(2, statistics.getPending());
+    Assertions.assertEquals(Duration.ofSeconds(2), statistics.getElapsed());
+    Assertions.assertEquals(3.0, statistics.getThroughput());
+  }
+
+  @Test
+  void latencyPercentiles() {
+    long[] latencies = new long[100];
+    for (int i = 0; i < latencies.length; i++) {
+      latencies[i] = (i + 1) * 1_000_000L;
+    }
+    AnnounceStatistics statistics =
+        new AnnounceStatistics(100, 100, 0, Duration.ofSeconds(10), latencies);
+    Assertions.assertEquals(Duration.ofMillis(1), statistics.getLatencyPercentile(0));
+    Assertions.assertEquals(Duration.ofMillis(50), statistics.getLatencyPercentile(50));
+    Assertions.assertEquals(Duration.ofMillis(99), statistics.getLatencyPercentile(99));
+    Assertions.assertEquals(Duration.ofMillis(100), statistics.getLatencyPercentile(100));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> statistics.getLatencyPercentile(101));
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.nem.symbol.sdk.api.MetricsRecorder;
+import io.nem.symbol.sdk.api.SdkMetrics;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * {@link MetricsRecorder} that reports the sdk metrics to a Micrometer {@link MeterRegistry}.
+ *
+ * <p>Each timed operation is reported as:
+ *
+ * <ul>
+ *   <li>a timer with a percentile histogram, tagged with the outcome (success, error or cancelled).
+ *   <li>a {@code <name>.errors} counter tagged with the http status of the failures.
+ *   <li>a {@code <name>.active} gauge with the operations in flight.
+ * </ul>
+ *
+ * <p>This recorder is registered as a {@link java.util.ServiceLoader} service, so {@link
+ * SdkMetrics} reports to the {@link Metrics#globalRegistry} when this module is in the classpath.
+ * Use {@link SdkMetrics#setRecorder(MetricsRecorder)} to report to a different registry.
+ */
+public class MicrometerMetricsRecorder implements MetricsRecorder {
+
+  /** The registry the meters are registered in. */
+  private final MeterRegistry registry;
+
+  /** The in flight counts backing the active gauges, by gauge name and tags. */
+  private final ConcurrentMap<String, AtomicLong> inFlight = new ConcurrentHashMap<>();
+
+  /** Constructor used by the service loader, it reports to the global registry. */
+  public MicrometerMetricsRecorder() {
+    this(Metrics.globalRegistry);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param registry the registry the meters are registered in.
+   */
+  public MicrometerMetricsRecorder(MeterRegistry registry) {
+    Validate.notNull(registry, "registry must not be null");
+    this.registry = registry;
+  }
+
+  @Override
+  public Sample start(String name, String... tags) {
+    Tags meterTags = Tags.of(tags);
+    AtomicLong active = getActive(name + ".active", meterTags);
+    active.incrementAndGet();
+    Timer.Sample timerSample = Timer.start(registry);
+    return new Sample() {
+      @Override
+      public void success() {
+        stop("success");
+      }
+
+      @Override
+      public void error(int statusCode) {
+        registry
+            .counter(name + ".errors", meterTags.and("status", Integer.toString(statusCode)))
+            .increment();
+        stop("error");
+      }
+
+      @Override
+      public void cancel() {
+        stop("cancelled");
+      }
+
+      private void stop(String outcome) {
+        active.decrementAndGet();
+        timerSample.stop(
+            Timer.builder(name)
+                .tags(meterTags)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+      }
+    };
+  }
+
+  @Override
+  public void increment(String name, String... tags) {
+    registry.counter(name, Tags.of(tags)).increment();
+  }
+
+  private AtomicLong getActive(String name, Tags tags) {
+    return inFlight.computeIfAbsent(
+        name + tags, key -> registry.gauge(name, tags, new AtomicLong()));
+  }
+
+  /** @return the registry the meters are registered in. */
+  public MeterRegistry getRegistry() {
+    return registry;
+  }
+}
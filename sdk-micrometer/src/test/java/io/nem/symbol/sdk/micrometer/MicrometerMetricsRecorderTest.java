@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nem.symbol.sdk.api.MetricsRecorder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link MicrometerMetricsRecorder}. */
+public class MicrometerMetricsRecorderTest {
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  private final MicrometerMetricsRecorder recorder = new MicrometerMetricsRecorder(registry);
+
+  @Test
+  void success() {
+    MetricsRecorder.Sample sample = recorder.start("call", "repository", "BlockRepository");
+    Assertions.assertEquals(
+        1.0, registry.get("call.active").tag("repository", "BlockRepository").gauge().value());
+    sample.success();
+    Timer timer =
+        registry.get("call").tag("repository", "BlockRepository").tag("outcome", "success").timer();
+    Assertions.assertEquals(1, timer.count());
+    Assertions.assertEquals(
+        0.0, registry.get("call.active").tag("repository", "BlockRepository").gauge().value());
+  }
+
+  @Test
+  void error() {
+    recorder.start("call", "repository", "BlockRepository").error(404);
+    recorder.start("call", "repository", "BlockRepository").error(404);
+    recorder.start("call", "repository", "BlockRepository").error(500);
+    Assertions.assertEquals(
+        2.0, registry.get("call.errors").tag("status", "404").counter().count());
+    Assertions.assertEquals(
+        1.0, registry.get("call.errors").tag("status", "500").counter().count());
+    Assertions.assertEquals(3, registry.get("call").tag("outcome", "error").timer().count());
+  }
+
+  @Test
+  void cancel() {
+    recorder.start("call").cancel();
+    Assertions.assertEquals(1, registry.get("call").tag("outcome", "cancelled").timer().count());
+    Assertions.assertEquals(0.0, registry.get("call.active").gauge().value());
+  }
+
+  @Test
+  void increment() {
+    recorder.increment("pages", "criteria", "TransactionSearchCriteria");
+    recorder.increment("pages", "criteria", "TransactionSearchCriteria");
+    Assertions.assertEquals(
+        2.0, registry.get("pages").tag("criteria", "TransactionSearchCriteria").counter().count());
+  }
+}
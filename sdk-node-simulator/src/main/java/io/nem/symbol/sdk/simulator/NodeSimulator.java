@@ -0,0 +1,602 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.simulator;
+
+import io.nem.symbol.sdk.api.RepositoryFactoryConfiguration;
+import io.nem.symbol.sdk.infrastructure.vertx.JsonHelperJackson2;
+import io.nem.symbol.sdk.model.mosaic.NetworkCurrencies;
+import io.nem.symbol.sdk.model.transaction.JsonHelper;
+import io.nem.symbol.sdk.openapi.vertx.model.AnnounceTransactionInfoDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.BlockInfoDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.BlockPage;
+import io.nem.symbol.sdk.openapi.vertx.model.ChainInfoDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.FinalizedBlockDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.NodeHealthDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.NodeHealthInfoDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.NodeInfoDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.NodeStatusEnum;
+import io.nem.symbol.sdk.openapi.vertx.model.Pagination;
+import io.nem.symbol.sdk.openapi.vertx.model.TransactionInfoDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.TransactionPage;
+import io.nem.symbol.sdk.openapi.vertx.model.TransactionStatementInfoDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.TransactionStatementPage;
+import io.nem.symbol.sdk.simulator.SyntheticChain.AnnounceRecord;
+import io.nem.symbol.sdk.simulator.SyntheticChain.BlockRecord;
+import io.nem.symbol.sdk.simulator.SyntheticChain.TransactionRecord;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+import java.io.Closeable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * An in-process stand-in for a REST and WebSocket node, so the clients can be load tested without a
+ * bootstrap network.
+ *
+ * <p>The simulator serves the following rest routes using the OpenAPI DTOs:
+ *
+ * <ul>
+ *   <li>GET /node/info, /node/health and /chain/info
+ *   <li>GET /blocks and /blocks/{height}
+ *   <li>GET /transactions/{group} and /transactions/{group}/{transactionId}
+ *   <li>PUT /transactions
+ *   <li>GET /transactionStatus/{hash}
+ *   <li>GET /statements/transaction
+ *   <li>POST /namespaces/account/names, no account has names
+ *   <li>GET /account/{accountId}/multisig, no account is multisig
+ * </ul>
+ *
+ * <p>and the /ws listener channels block, finalizedBlock, confirmedAdded, unconfirmedAdded,
+ * unconfirmedRemoved and status. The chain is synthetic, see {@link SyntheticChain}. The latency
+ * and the faults configured in {@link NodeSimulatorConfiguration} are injected in the rest
+ * responses.
+ *
+ * <p>The network properties are not served, {@link #getRepositoryFactoryConfiguration()} provides
+ * them to the repository factories.
+ */
+public class NodeSimulator implements Closeable {
+
+  /** The default and minimum page size of the searches, like the rest server. */
+  private static final int MIN_PAGE_SIZE = 10;
+
+  /** The maximum page size of the searches, like the rest server. */
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private final NodeSimulatorConfiguration configuration;
+
+  private final Vertx vertx;
+
+  private final boolean ownsVertx;
+
+  private final JsonHelper jsonHelper = new JsonHelperJackson2();
+
+  private final SyntheticChain chain;
+
+  private final Random random;
+
+  private final Map<ServerWebSocket, Set<String>> subscriptions = new ConcurrentHashMap<>();
+
+  private final AtomicLong announced = new AtomicLong();
+
+  private HttpServer server;
+
+  private Long blockTimer;
+
+  /**
+   * Creates a simulator with its own {@link Vertx} instance, closed with the simulator.
+   *
+   * @param configuration the configuration.
+   */
+  public NodeSimulator(NodeSimulatorConfiguration configuration) {
+    this(Vertx.vertx(), true, configuration);
+  }
+
+  /**
+   * Creates a simulator running on the given {@link Vertx} instance.
+   *
+   * @param vertx the vertx instance.
+   * @param configuration the configuration.
+   */
+  public NodeSimulator(Vertx vertx, NodeSimulatorConfiguration configuration) {
+    this(vertx, false, configuration);
+  }
+
+  private NodeSimulator(Vertx vertx, boolean ownsVertx, NodeSimulatorConfiguration configuration) {
+    Validate.notNull(vertx, "vertx must not be null");
+    Validate.notNull(configuration, "configuration must not be null");
+    this.vertx = vertx;
+    this.ownsVertx = ownsVertx;
+    this.configuration = configuration;
+    this.chain = new SyntheticChain(configuration, jsonHelper);
+    this.random = new Random(configuration.getSeed());
+  }
+
+  /**
+   * Starts the server and the block timer.
+   *
+   * @return a future completed when the server is listening.
+   */
+  public synchronized CompletableFuture<NodeSimulator> start() {
+    Validate.validState(server == null, "The simulator has already been started");
+    CompletableFuture<NodeSimulator> future = new CompletableFuture<>();
+    server = vertx.createHttpServer(new HttpServerOptions());
+    server
+        .requestHandler(createRouter()::accept)
+        .websocketHandler(this::onWebSocket)
+        .listen(
+            configuration.getPort(),
+            configuration.getHost(),
+            result -> {
+              if (result.failed()) {
+                future.completeExceptionally(result.cause());
+                return;
+              }
+              if (!configuration.getBlockInterval().isZero()) {
+                startBlockTimer();
+              }
+              future.complete(this);
+            });
+    return future;
+  }
+
+  private synchronized void startBlockTimer() {
+    blockTimer =
+        vertx.setPeriodic(
+            Math.max(1, configuration.getBlockInterval().toMillis()), id -> produceBlock());
+  }
+
+  /**
+   * Produces a new block now and pushes its listener messages. Useful with a {@link
+   * NodeSimulatorConfiguration#withBlockInterval} of zero.
+   *
+   * @return the height of the new block.
+   */
+  public BigInteger produceBlock() {
+    Optional<FinalizedBlockDTO> previousFinalized = chain.getFinalizedBlock();
+    BlockRecord block = chain.produceBlock();
+    publish("block", block.getBlockInfo());
+    chain
+        .getFinalizedBlock()
+        .filter(finalized -> !previousFinalized.filter(finalized::equals).isPresent())
+        .ifPresent(finalized -> publish("finalizedBlock", finalized));
+    for (TransactionRecord transaction : block.getAnnounced()) {
+      Map<String, Object> meta = Collections.singletonMap("hash", transaction.getHash());
+      publish("unconfirmedRemoved", transaction, Collections.singletonMap("meta", (Object) meta));
+    }
+    for (TransactionRecord transaction : block.getTransactions()) {
+      publish("confirmedAdded", transaction, transaction.getTransactionInfo());
+    }
+    return block.getHeight();
+  }
+
+  /** @return the port the server is listening to. */
+  public synchronized int getPort() {
+    Validate.validState(server != null, "The simulator has not been started");
+    return server.actualPort();
+  }
+
+  /** @return the base url of the rest and ws server. */
+  public String getBaseUrl() {
+    return "http://" + configuration.getHost() + ":" + getPort();
+  }
+
+  /** @return the number of announced transactions accepted by the simulator. */
+  public long getAnnouncedCount() {
+    return announced.get();
+  }
+
+  /**
+   * @param topic the listener topic, like confirmedAdded/{plainAddress}.
+   * @return if any web socket is subscribed to the topic.
+   */
+  boolean isSubscribed(String topic) {
+    return subscriptions.values().stream().anyMatch(topics -> topics.contains(topic));
+  }
+
+  /**
+   * @return a repository factory configuration pointing to this simulator that provides all the
+   *     network properties, so the factories don't need to load them from rest.
+   */
+  public RepositoryFactoryConfiguration getRepositoryFactoryConfiguration() {
+    return new RepositoryFactoryConfiguration(getBaseUrl())
+        .withNetworkType(configuration.getNetworkType())
+        .withGenerationHash(configuration.getGenerationHash())
+        .withEpochAdjustment(configuration.getEpochAdjustment())
+        .withNetworkCurrencies(NetworkCurrencies.PUBLIC);
+  }
+
+  /** Stops the block timer and the server, and closes the vertx instance if it owns it. */
+  @Override
+  public synchronized void close() {
+    if (blockTimer != null) {
+      vertx.cancelTimer(blockTimer);
+      blockTimer = null;
+    }
+    subscriptions.keySet().forEach(ServerWebSocket::close);
+    subscriptions.clear();
+    CompletableFuture<Void> closed = new CompletableFuture<>();
+    if (server != null) {
+      server.close(result -> closed.complete(null));
+      server = null;
+    } else {
+      closed.complete(null);
+    }
+    closed.join();
+    if (ownsVertx) {
+      CompletableFuture<Void> vertxClosed = new CompletableFuture<>();
+      vertx.close(result -> vertxClosed.complete(null));
+      vertxClosed.join();
+    }
+  }
+
+  private Router createRouter() {
+    Router router = Router.router(vertx);
+    router.route().handler(BodyHandler.create());
+    router.route().handler(this::injectFaults);
+    router.get("/node/info").handler(context -> respond(context, 200, getNodeInfo()));
+    router.get("/node/health").handler(context -> respond(context, 200, getNodeHealth()));
+    router.get("/chain/info").handler(context -> respond(context, 200, getChainInfo()));
+    router.get("/blocks").handler(this::searchBlocks);
+    router.get("/blocks/:height").handler(this::getBlock);
+    router.put("/transactions").handler(this::announce);
+    router.get("/transactions/:group").handler(this::searchTransactions);
+    router.get("/transactions/:group/:transactionId").handler(this::getTransaction);
+    router.get("/transactionStatus/:hash").handler(this::getTransactionStatus);
+    router.get("/statements/transaction").handler(this::searchTransactionStatements);
+    router.post("/namespaces/account/names").handler(this::getAccountsNames);
+    router
+        .get("/account/:accountId/multisig")
+        .handler(context -> notFound(context, "Multisig account"));
+    router.route().last().handler(context -> notFound(context, "Route"));
+    router.route().failureHandler(this::onFailure);
+    return router;
+  }
+
+  private void injectFaults(RoutingContext context) {
+    boolean fault = random.nextDouble() < configuration.getFaultRate();
+    long delay =
+        configuration.getLatency().toMillis()
+            + (long) (random.nextDouble() * configuration.getLatencyJitter().toMillis());
+    Runnable next =
+        () -> {
+          if (fault) {
+            error(
+                context,
+                configuration.getFaultStatusCode(),
+                "ServiceUnavailable",
+                "Fault injected by the node simulator");
+          } else {
+            context.next();
+          }
+        };
+    if (delay > 0) {
+      vertx.setTimer(delay, id -> next.run());
+    } else {
+      next.run();
+    }
+  }
+
+  private NodeInfoDTO getNodeInfo() {
+    NodeInfoDTO dto = new NodeInfoDTO();
+    dto.setPublicKey(chain.getHarvester().getPublicKey().toHex());
+    dto.setNetworkGenerationHashSeed(configuration.getGenerationHash());
+    dto.setNetworkIdentifier(configuration.getNetworkType().getValue());
+    dto.setHost(configuration.getHost());
+    dto.setPort(getPort());
+    dto.setFriendlyName("node-simulator");
+    dto.setRoles(2);
+    dto.setVersion(0);
+    return dto;
+  }
+
+  private NodeHealthInfoDTO getNodeHealth() {
+    return new NodeHealthInfoDTO()
+        .status(new NodeHealthDTO().apiNode(NodeStatusEnum.UP).db(NodeStatusEnum.UP));
+  }
+
+  private ChainInfoDTO getChainInfo() {
+    ChainInfoDTO dto = new ChainInfoDTO();
+    dto.setHeight(chain.getHeight());
+    dto.setScoreHigh(BigInteger.ZERO);
+    dto.setScoreLow(chain.getHeight());
+    dto.latestFinalizedBlock(
+        chain
+            .getFinalizedBlock()
+            .orElseGet(
+                () ->
+                    new FinalizedBlockDTO()
+                        .hash(chain.getBlocks().get(0).getBlockInfo().getMeta().getHash())
+                        .height(BigInteger.ONE)
+                        .finalizationEpoch(1L)
+                        .finalizationPoint(1L)));
+    return dto;
+  }
+
+  private void searchBlocks(RoutingContext context) {
+    List<BlockInfoDTO> blocks =
+        chain.getBlocks().stream().map(BlockRecord::getBlockInfo).collect(Collectors.toList());
+    List<BlockInfoDTO> data = page(context, blocks);
+    respond(context, 200, new BlockPage().data(data).pagination(pagination(context)));
+  }
+
+  private void getBlock(RoutingContext context) {
+    BigInteger height = new BigInteger(context.request().getParam("height"));
+    Optional<BlockRecord> block = chain.getBlock(height);
+    if (block.isPresent()) {
+      respond(context, 200, block.get().getBlockInfo());
+    } else {
+      notFound(context, "Block " + height);
+    }
+  }
+
+  private void announce(RoutingContext context) {
+    String payload = jsonHelper.getString(jsonHelper.parse(context.getBodyAsString()), "payload");
+    if (payload == null) {
+      throw new IllegalArgumentException("payload is required");
+    }
+    AnnounceRecord record = chain.announce(payload);
+    if (!record.isDuplicated()) {
+      TransactionRecord transaction = record.getTransaction().get();
+      Optional<Map<String, Object>> rejection = record.getRejection();
+      if (rejection.isPresent()) {
+        Map<String, Object> status = new LinkedHashMap<>(rejection.get());
+        status.remove("group");
+        publish("status", transaction, status);
+      } else {
+        announced.incrementAndGet();
+        publish("unconfirmedAdded", transaction, transaction.getTransactionInfo());
+      }
+    }
+    AnnounceTransactionInfoDTO dto = new AnnounceTransactionInfoDTO();
+    dto.setMessage("packet 9 was pushed to the network via /transactions");
+    respond(context, 202, dto);
+  }
+
+  private void searchTransactions(RoutingContext context) {
+    String group = context.request().getParam("group");
+    List<TransactionRecord> transactions;
+    if ("confirmed".equals(group)) {
+      transactions =
+          chain.getBlocks().stream()
+              .flatMap(block -> block.getTransactions().stream())
+              .collect(Collectors.toList());
+    } else if ("unconfirmed".equals(group)) {
+      transactions = chain.getUnconfirmed();
+    } else if ("partial".equals(group)) {
+      transactions = Collections.emptyList();
+    } else {
+      notFound(context, "Transaction group " + group);
+      return;
+    }
+    Predicate<TransactionRecord> filter = transaction -> true;
+    String address = context.request().getParam("address");
+    if (address != null) {
+      filter = filter.and(transaction -> transaction.getAddresses().contains(address));
+    }
+    String height = context.request().getParam("height");
+    if (height != null) {
+      BigInteger value = new BigInteger(height);
+      filter =
+          filter.and(
+              transaction -> value.equals(transaction.getTransactionInfo().getMeta().getHeight()));
+    }
+    List<TransactionInfoDTO> filtered =
+        transactions.stream()
+            .filter(filter)
+            .map(TransactionRecord::getTransactionInfo)
+            .collect(Collectors.toList());
+    List<TransactionInfoDTO> data = page(context, filtered);
+    respond(context, 200, new TransactionPage().data(data).pagination(pagination(context)));
+  }
+
+  private void getTransaction(RoutingContext context) {
+    String group = context.request().getParam("group");
+    String transactionId = context.request().getParam("transactionId");
+    Optional<TransactionRecord> transaction;
+    if ("confirmed".equals(group)) {
+      transaction = chain.getConfirmed(transactionId);
+    } else if ("unconfirmed".equals(group)) {
+      transaction = chain.getUnconfirmed(transactionId);
+    } else {
+      transaction = Optional.empty();
+    }
+    if (transaction.isPresent()) {
+      respond(context, 200, transaction.get().getTransactionInfo());
+    } else {
+      notFound(context, "Transaction " + transactionId);
+    }
+  }
+
+  private void getTransactionStatus(RoutingContext context) {
+    String hash = context.request().getParam("hash");
+    Optional<Map<String, Object>> status = chain.getStatus(hash);
+    if (status.isPresent()) {
+      respond(context, 200, status.get());
+    } else {
+      notFound(context, "Transaction status " + hash);
+    }
+  }
+
+  private void searchTransactionStatements(RoutingContext context) {
+    String height = context.request().getParam("height");
+    List<TransactionStatementInfoDTO> statements =
+        chain.getBlocks().stream()
+            .filter(block -> height == null || block.getHeight().equals(new BigInteger(height)))
+            .map(BlockRecord::getStatement)
+            .collect(Collectors.toList());
+    List<TransactionStatementInfoDTO> data = page(context, statements);
+    respond(
+        context, 200, new TransactionStatementPage().data(data).pagination(pagination(context)));
+  }
+
+  private void getAccountsNames(RoutingContext context) {
+    Map<?, ?> body = jsonHelper.parse(context.getBodyAsString(), Map.class);
+    List<?> addresses = (List<?>) body.get("addresses");
+    if (addresses == null) {
+      throw new IllegalArgumentException("addresses are required");
+    }
+    List<Object> accountNames = new ArrayList<>();
+    for (Object address : addresses) {
+      Map<String, Object> accountName = new LinkedHashMap<>();
+      accountName.put("address", address);
+      accountName.put("names", Collections.emptyList());
+      accountNames.add(accountName);
+    }
+    respond(context, 200, Collections.singletonMap("accountNames", accountNames));
+  }
+
+  private <T> List<T> page(RoutingContext context, List<T> items) {
+    int pageSize = getPageSize(context);
+    int pageNumber = getPageNumber(context);
+    List<T> ordered = new ArrayList<>(items);
+    if (!"asc".equals(context.request().getParam("order"))) {
+      Collections.reverse(ordered);
+    }
+    long from = (long) (pageNumber - 1) * pageSize;
+    if (from >= ordered.size()) {
+      return Collections.emptyList();
+    }
+    return ordered.subList((int) from, (int) Math.min(ordered.size(), from + pageSize));
+  }
+
+  private Pagination pagination(RoutingContext context) {
+    return new Pagination().pageNumber(getPageNumber(context)).pageSize(getPageSize(context));
+  }
+
+  private static int getPageSize(RoutingContext context) {
+    String pageSize = context.request().getParam("pageSize");
+    if (pageSize == null) {
+      return MIN_PAGE_SIZE;
+    }
+    return Math.max(MIN_PAGE_SIZE, Math.min(MAX_PAGE_SIZE, Integer.parseInt(pageSize)));
+  }
+
+  private static int getPageNumber(RoutingContext context) {
+    String pageNumber = context.request().getParam("pageNumber");
+    return pageNumber == null ? 1 : Math.max(1, Integer.parseInt(pageNumber));
+  }
+
+  private void onWebSocket(ServerWebSocket socket) {
+    if (!"/ws".equals(socket.path())) {
+      socket.reject();
+      return;
+    }
+    String uid = UUID.randomUUID().toString();
+    Set<String> topics = ConcurrentHashMap.newKeySet();
+    subscriptions.put(socket, topics);
+    socket.closeHandler(v -> subscriptions.remove(socket));
+    socket.handler(
+        buffer -> {
+          Object message = jsonHelper.parse(buffer.toString());
+          String subscribe = jsonHelper.getString(message, "subscribe");
+          if (subscribe != null) {
+            topics.add(subscribe);
+          }
+          String unsubscribe = jsonHelper.getString(message, "unsubscribe");
+          if (unsubscribe != null) {
+            topics.remove(unsubscribe);
+          }
+        });
+    socket.writeTextMessage(jsonHelper.print(Collections.singletonMap("uid", uid)));
+  }
+
+  private void publish(String channel, TransactionRecord transaction, Object data) {
+    for (String address : transaction.getAddresses()) {
+      publish(channel + "/" + address, data);
+    }
+  }
+
+  private void publish(String topic, Object data) {
+    String message = null;
+    for (Map.Entry<ServerWebSocket, Set<String>> entry : subscriptions.entrySet()) {
+      if (entry.getValue().contains(topic)) {
+        if (message == null) {
+          Map<String, Object> payload = new LinkedHashMap<>();
+          payload.put("topic", topic);
+          payload.put("data", data);
+          message = jsonHelper.print(payload);
+        }
+        entry.getKey().writeTextMessage(message);
+      }
+    }
+  }
+
+  private void respond(RoutingContext context, int statusCode, Object body) {
+    context
+        .response()
+        .setStatusCode(statusCode)
+        .putHeader("Content-Type", "application/json")
+        .end(jsonHelper.print(body));
+  }
+
+  private void notFound(RoutingContext context, String resource) {
+    error(context, 404, "ResourceNotFound", resource + " not found");
+  }
+
+  private void error(RoutingContext context, int statusCode, String code, String message) {
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("code", code);
+    body.put("message", message);
+    respond(context, statusCode, body);
+  }
+
+  private void onFailure(RoutingContext context) {
+    Throwable failure = context.failure();
+    if (failure instanceof IllegalArgumentException) {
+      error(context, 409, "InvalidArgument", failure.getMessage());
+    } else if (failure != null) {
+      error(context, 500, "Internal", failure.getMessage());
+    } else {
+      error(
+          context,
+          context.statusCode() > 0 ? context.statusCode() : 500,
+          "Internal",
+          "Request failed");
+    }
+  }
+
+  /**
+   * Starts a simulator with the default configuration.
+   *
+   * @param args the optional port, 3000 by default.
+   */
+  public static void main(String[] args) {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : 3000;
+    NodeSimulator simulator =
+        new NodeSimulator(new NodeSimulatorConfiguration().withPort(port)).start().join();
+    Runtime.getRuntime().addShutdownHook(new Thread(simulator::close));
+    System.out.println("Node simulator listening on " + simulator.getBaseUrl());
+  }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.simulator;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.time.Duration;
+import java.util.Random;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The settings of a {@link NodeSimulator}: the network it pretends to be, how fast it produces
+ * synthetic blocks and how much latency and how many faults it injects into the responses.
+ *
+ * <p>The defaults produce a block every second with 10 synthetic transfers and no latency or
+ * faults.
+ */
+public class NodeSimulatorConfiguration {
+
+  /** The port the server binds to. 0 binds a random free port. */
+  private int port = 0;
+
+  /** The host the server binds to. */
+  private String host = "localhost";
+
+  /** The simulated network type. */
+  private NetworkType networkType = NetworkType.TEST_NET;
+
+  /** The simulated network generation hash. Generated from the seed if not provided. */
+  private String generationHash;
+
+  /** The simulated network epoch adjustment. */
+  private Duration epochAdjustment = Duration.ofSeconds(1615853185);
+
+  /** The time between synthetic blocks. {@link Duration#ZERO} only produces blocks on demand. */
+  private Duration blockInterval = Duration.ofSeconds(1);
+
+  /** The number of synthetic transfers added to every block on top of the announced ones. */
+  private int transactionsPerBlock = 10;
+
+  /** The number of synthetic accounts sending and receiving the synthetic transfers. */
+  private int syntheticAccounts = 16;
+
+  /** The number of blocks (and their transactions and statements) kept in memory. */
+  private int maxRetainedBlocks = 1000;
+
+  /** The fixed latency added to every rest response. */
+  private Duration latency = Duration.ZERO;
+
+  /** The random extra latency, between 0 and this value, added to every rest response. */
+  private Duration latencyJitter = Duration.ZERO;
+
+  /** The probability, from 0 to 1, of a rest call failing with {@link #faultStatusCode}. */
+  private double faultRate = 0;
+
+  /** The http status code of the injected faults. */
+  private int faultStatusCode = 503;
+
+  /** The probability, from 0 to 1, of an announced transaction being rejected with a status. */
+  private double rejectionRate = 0;
+
+  /** The seed of the random generator, the same seed produces the same chain. */
+  private long seed = 42;
+
+  /**
+   * @param port the port the server binds to, 0 for a random free port.
+   * @return this configuration.
+   */
+  public NodeSimulatorConfiguration withPort(int port) {
+    Validate.isTrue(port >= 0 && port <= 65535, "port must be between 0 and 65535");
+    this.port = port;
+    return this;
+  }
+
+  /**
+   * @param host the host the server binds to.
+   * @return this configuration.
+   */
+  public NodeSimulatorConfiguration withHost(String host) {
+    Validate.notBlank(host, "host must not be blank");
+    this.host = host;
+    return this;
+  }
+
+  /**
+   * @param networkType the simulated network type.
+   * @return this configuration.
+   */
+  public NodeSimulatorConfiguration withNetworkType(NetworkType networkType) {
+    Validate.notNull(networkType, "networkType must not be null");
+    this.networkType = networkType;
+    return this;
+  }
+
+  /**
+   * @param generationHash the simulated network generation hash.
+   * @return this configuration.
+   */
+  public NodeSimulatorConfiguration withGenerationHash(String generationHash) {
+    ConvertUtils.validateIsHexString(generationHash, 64);
+    this.generationHash = generationHash.toUpperCase();
+    return this;
+  }
+
+  /**
+   * @param epochAdjustment the simulated network epoch adjustment.
+   * @return this configuration.
+   */
+  public NodeSimulatorConfiguration withEpochAdjustment(Duration epochAdjustment) {
+    Validate.notNull(epochAdjustment, "epochAdjustment must not be null");
+    Validate.isTrue(!epochAdjustment.isNegative(), "epochAdjustment must not be negative");
+    this.epochAdjustment = epochAdjustment;
+    return this;
+  }
+
+  /**
+   * @param blockInterval the time between blocks, {@link Duration#ZERO} to only produce blocks when
+   *     {@link NodeSimulator#produceBlock()} is called.
+   * @return this configuration.
+   */
+  public NodeSimulatorConfiguration withBlockInterval(Duration blockInterval) {
+    Validate.notNull(blockInterval, "blockInterval must not be null");
+    Validate.isTrue(!blockInterval.isNegative(), "blockInterval must not be negative");
+    this.blockInterval = blockInterval;
+    return this;
+  }
+
+  /**
+   * @param transactionsPerBlock the number of synthetic transfers added to every block.
+   * @return this configuration.
+   */
+  public NodeSimulatorConfiguration withTransactionsPerBlock(int transactionsPerBlock) {
+    Validate.isTrue(transactionsPerBlock >= 0, "transactionsPerBlock must not be negative");
+    this.transactionsPerBlock = transactionsPerBlock;
+    return this;
+  }
+
+  /**
+   * @param syntheticAccounts the number of accounts used by the synthetic transfers.
+   * @return this configuration.
+   */
+  public NodeSimulatorConfiguration withSyntheticAccounts(int syntheticAccounts) {
+    Validate.isTrue(syntheticAccounts >= 2, "syntheticAccounts must be at least 2");
+    this.syntheticAccounts = syntheticAccounts;
+    return this;
+  }
+
+  /**
+   * @param maxRetainedBlocks the number of blocks kept in memory, older ones are pruned.
+   * @return this configuration.
+   */
+  public NodeSimulatorConfiguration withMaxRetainedBlocks(int maxRetainedBlocks) {
+    Validate.isTrue(maxRetainedBlocks > 0, "maxRetainedBlocks must be greater than 0");
+    this.maxRetainedBlocks = maxRetainedBlocks;
+    return this;
+  }
+
+  /**
+   * @param latency the fixed latency added to every rest response.
+   * @param latencyJitter the maximum random latency added on top of the fixed one.
+   * @return this configuration.
+   */
+  public NodeSimulatorConfiguration withLatency(Duration latency, Duration latencyJitter) {
+    Validate.notNull(latency, "latency must not be null");
+    Validate.notNull(latencyJitter, "latencyJitter must not be null");
+    Validate.isTrue(!latency.isNegative(), "latency must not be negative");
+    Validate.isTrue(!latencyJitter.isNegative(), "latencyJitter must not be negative");
+    this.latency = latency;
+    this.latencyJitter = latencyJitter;
+    return this;
+  }
+
+  /**
+   * @param faultRate the probability, from 0 to 1, of a rest call failing.
+   * @param faultStatusCode the http status code of the failed calls.
+   * @return this configuration.
+   */
+  public NodeSimulatorConfiguration withFaults(double faultRate, int faultStatusCode) {
+    Validate.inclusiveBetween(0.0, 1.0, faultRate, "faultRate must be between 0 and 1");
+    Validate.inclusiveBetween(400, 599, faultStatusCode, "faultStatusCode must be an http error");
+    this.faultRate = faultRate;
+    this.faultStatusCode = faultStatusCode;
+    return this;
+  }
+
+  /**
+   * @param rejectionRate the probability, from 0 to 1, of an announced transaction being rejected.
+   * @return this configuration.
+   */
+  public NodeSimulatorConfiguration withRejectionRate(double rejectionRate) {
+    Validate.inclusiveBetween(0.0, 1.0, rejectionRate, "rejectionRate must be between 0 and 1");
+    this.rejectionRate = rejectionRate;
+    return this;
+  }
+
+  /**
+   * @param seed the seed of the random generator.
+   * @return this configuration.
+   */
+  public NodeSimulatorConfiguration withSeed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+  public int getPort() {
+    return port;
+  }
+
+  public String getHost() {
+    return host;
+  }
+
+  public NetworkType getNetworkType() {
+    return networkType;
+  }
+
+  public String getGenerationHash() {
+    if (generationHash == null) {
+      byte[] bytes = new byte[32];
+      new Random(seed).nextBytes(bytes);
+      return ConvertUtils.toHex(bytes);
+    }
+    return generationHash;
+  }
+
+  public Duration getEpochAdjustment() {
+    return epochAdjustment;
+  }
+
+  public Duration getBlockInterval() {
+    return blockInterval;
+  }
+
+  public int getTransactionsPerBlock() {
+    return transactionsPerBlock;
+  }
+
+  public int getSyntheticAccounts() {
+    return syntheticAccounts;
+  }
+
+  public int getMaxRetainedBlocks() {
+    return maxRetainedBlocks;
+  }
+
+  public Duration getLatency() {
+    return latency;
+  }
+
+  public Duration getLatencyJitter() {
+    return latencyJitter;
+  }
+
+  public double getFaultRate() {
+    return faultRate;
+  }
+
+  public int getFaultStatusCode() {
+    return faultStatusCode;
+  }
+
+  public double getRejectionRate() {
+    return rejectionRate;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+}
@@ -0,0 +1,524 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.simulator;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.BinarySerializationImpl;
+import io.nem.symbol.sdk.infrastructure.vertx.mappers.GeneralTransactionMapper;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.blockchain.BlockType;
+import io.nem.symbol.sdk.model.mosaic.Currency;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.receipt.ReceiptType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.JsonHelper;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.nem.symbol.sdk.openapi.vertx.model.BlockInfoDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.BlockMetaDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.FinalizedBlockDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.TransactionInfoDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.TransactionMetaDTO;
+import io.nem.symbol.sdk.openapi.vertx.model.TransactionStatementInfoDTO;
+import java.math.BigInteger;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * The in memory chain of a {@link NodeSimulator}.
+ *
+ * <p>Every block confirms the transactions announced since the previous block plus a configured
+ * number of synthetic transfers between a pool of synthetic accounts, and gets a transaction
+ * statement with the harvest fee receipt. Only the last configured blocks are retained. All the
+ * methods are synchronized, the chain is shared by the rest handlers and the block timer.
+ */
+class SyntheticChain {
+
+  /** The resolved currency mosaic id used in the harvest receipts. */
+  static final MosaicId CURRENCY_MOSAIC_ID = new MosaicId("6BED913FA20223F8");
+
+  /** The status code of the announced transactions rejected by the simulator. */
+  static final String REJECTION_CODE = "Failure_Core_Insufficient_Balance";
+
+  /** The number of transaction statuses remembered for /transactionStatus. */
+  private static final int MAX_STATUSES = 100_000;
+
+  /** The number of blocks the finalized block is behind the chain height. */
+  private static final int FINALIZATION_LAG = 2;
+
+  /** The fee multiplier used to calculate the max fee of the synthetic transfers. */
+  private static final long FEE_MULTIPLIER = 100;
+
+  private final NodeSimulatorConfiguration configuration;
+
+  private final GeneralTransactionMapper transactionMapper;
+
+  private final Random random;
+
+  private final byte[] generationHashBytes;
+
+  private final List<Account> accounts;
+
+  private final Account harvester;
+
+  private final Deque<BlockRecord> blocks = new ArrayDeque<>();
+
+  private final Map<String, TransactionRecord> confirmed = new HashMap<>();
+
+  private final Map<String, TransactionRecord> unconfirmed = new LinkedHashMap<>();
+
+  private final Map<String, Map<String, Object>> statuses =
+      new LinkedHashMap<String, Map<String, Object>>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
+          return size() > MAX_STATUSES;
+        }
+      };
+
+  private BigInteger height = BigInteger.ZERO;
+
+  private String previousBlockHash = ConvertUtils.toHex(new byte[32]);
+
+  private FinalizedBlockDTO finalizedBlock;
+
+  SyntheticChain(NodeSimulatorConfiguration configuration, JsonHelper jsonHelper) {
+    this.configuration = configuration;
+    this.transactionMapper = new GeneralTransactionMapper(jsonHelper);
+    this.random = new Random(configuration.getSeed());
+    this.generationHashBytes = ConvertUtils.fromHexToBytes(configuration.getGenerationHash());
+    this.harvester = createAccount();
+    List<Account> syntheticAccounts = new ArrayList<>(configuration.getSyntheticAccounts());
+    for (int i = 0; i < configuration.getSyntheticAccounts(); i++) {
+      syntheticAccounts.add(createAccount());
+    }
+    this.accounts = Collections.unmodifiableList(syntheticAccounts);
+    produceBlock();
+  }
+
+  /**
+   * Adds an announced transaction to the unconfirmed pool, or rejects it depending on the
+   * configured rejection rate.
+   *
+   * @param payload the serialized transaction.
+   * @return the unconfirmed record and, if rejected, the status it was rejected with.
+   * @throws IllegalArgumentException if the payload is not a valid transaction.
+   */
+  synchronized AnnounceRecord announce(String payload) {
+    Transaction transaction =
+        BinarySerializationImpl.INSTANCE.deserialize(ConvertUtils.fromHexToBytes(payload));
+    String hash = transaction.createTransactionHash(payload, generationHashBytes);
+    TransactionRecord existing = unconfirmed.get(hash);
+    if (existing != null || confirmed.containsKey(hash)) {
+      return new AnnounceRecord(existing, null, true);
+    }
+    TransactionRecord record = new TransactionRecord(hash, transaction, true);
+    if (random.nextDouble() < configuration.getRejectionRate()) {
+      Map<String, Object> status =
+          createStatus(hash, "failed", REJECTION_CODE, transaction.getDeadline(), null);
+      statuses.put(hash, status);
+      return new AnnounceRecord(record, status, false);
+    }
+    unconfirmed.put(hash, record);
+    statuses.put(
+        hash, createStatus(hash, "unconfirmed", "Success", transaction.getDeadline(), null));
+    return new AnnounceRecord(record, null, false);
+  }
+
+  /**
+   * Creates a new block with the unconfirmed transactions and the synthetic transfers.
+   *
+   * @return the new block.
+   */
+  synchronized BlockRecord produceBlock() {
+    height = height.add(BigInteger.ONE);
+    long timestamp = System.currentTimeMillis() - configuration.getEpochAdjustment().toMillis();
+    List<TransactionRecord> announced = new ArrayList<>(unconfirmed.values());
+    unconfirmed.clear();
+    List<TransactionRecord> transactions = new ArrayList<>(announced);
+    for (int i = 0; i < configuration.getTransactionsPerBlock(); i++) {
+      transactions.add(createSyntheticTransfer());
+    }
+    BigInteger totalFee = BigInteger.ZERO;
+    for (int index = 0; index < transactions.size(); index++) {
+      TransactionRecord record = transactions.get(index);
+      record.confirm(height, index, randomHex(12));
+      confirmed.put(record.getHash(), record);
+      totalFee = totalFee.add(record.getTransaction().getMaxFee());
+      if (record.isAnnounced()) {
+        statuses.put(
+            record.getHash(),
+            createStatus(
+                record.getHash(),
+                "confirmed",
+                "Success",
+                record.getTransaction().getDeadline(),
+                height));
+      }
+    }
+
+    String hash = randomHex(32);
+    BlockRecord block =
+        new BlockRecord(
+            height,
+            createBlockInfo(hash, timestamp, totalFee, transactions.size()),
+            createStatement(totalFee),
+            transactions,
+            announced);
+    previousBlockHash = hash;
+    blocks.addLast(block);
+    while (blocks.size() > configuration.getMaxRetainedBlocks()) {
+      blocks.removeFirst().getTransactions().forEach(t -> confirmed.remove(t.getHash()));
+    }
+    if (blocks.size() > FINALIZATION_LAG) {
+      BlockRecord finalized = getBlock(height.subtract(BigInteger.valueOf(FINALIZATION_LAG))).get();
+      finalizedBlock =
+          new FinalizedBlockDTO()
+              .hash(finalized.getBlockInfo().getMeta().getHash())
+              .height(finalized.getHeight())
+              .finalizationEpoch(1L)
+              .finalizationPoint(finalized.getHeight().longValue());
+    }
+    return block;
+  }
+
+  synchronized BigInteger getHeight() {
+    return height;
+  }
+
+  synchronized Optional<FinalizedBlockDTO> getFinalizedBlock() {
+    return Optional.ofNullable(finalizedBlock);
+  }
+
+  /** @return the retained blocks, oldest first. */
+  synchronized List<BlockRecord> getBlocks() {
+    return new ArrayList<>(blocks);
+  }
+
+  synchronized Optional<BlockRecord> getBlock(BigInteger height) {
+    if (blocks.isEmpty()) {
+      return Optional.empty();
+    }
+    long offset = height.subtract(blocks.getFirst().getHeight()).longValue();
+    if (offset < 0 || offset >= blocks.size()) {
+      return Optional.empty();
+    }
+    return blocks.stream().skip(offset).findFirst();
+  }
+
+  synchronized Optional<TransactionRecord> getConfirmed(String hash) {
+    return Optional.ofNullable(confirmed.get(hash.toUpperCase()));
+  }
+
+  synchronized Optional<TransactionRecord> getUnconfirmed(String hash) {
+    return Optional.ofNullable(unconfirmed.get(hash.toUpperCase()));
+  }
+
+  /** @return the unconfirmed transactions, oldest first. */
+  synchronized List<TransactionRecord> getUnconfirmed() {
+    return new ArrayList<>(unconfirmed.values());
+  }
+
+  synchronized Optional<Map<String, Object>> getStatus(String hash) {
+    return Optional.ofNullable(statuses.get(hash.toUpperCase()));
+  }
+
+  /** @return the public account of the node and block harvester. */
+  PublicAccount getHarvester() {
+    return harvester.getPublicAccount();
+  }
+
+  /** @return the synthetic accounts. */
+  List<Account> getAccounts() {
+    return accounts;
+  }
+
+  private TransactionRecord createSyntheticTransfer() {
+    Account sender = accounts.get(random.nextInt(accounts.size()));
+    Account recipient = accounts.get(random.nextInt(accounts.size()));
+    Mosaic mosaic =
+        new Mosaic(
+            Currency.SYMBOL_XYM.getUnresolvedMosaicId(),
+            BigInteger.valueOf(1 + random.nextInt(1_000_000)));
+    TransferTransactionFactory factory =
+        TransferTransactionFactory.create(
+            configuration.getNetworkType(),
+            Deadline.create(configuration.getEpochAdjustment(), 2, ChronoUnit.HOURS),
+            recipient.getAddress(),
+            Collections.singletonList(mosaic));
+    TransferTransaction transaction =
+        factory
+            .calculateMaxFeeFromMultiplier(FEE_MULTIPLIER)
+            .signer(sender.getPublicAccount())
+            .signature(randomHex(64))
+            .build();
+    return new TransactionRecord(randomHex(32), transaction, false);
+  }
+
+  private BlockInfoDTO createBlockInfo(
+      String hash, long timestamp, BigInteger totalFee, int transactionsCount) {
+    Map<String, Object> block = new LinkedHashMap<>();
+    block.put("size", 1024L);
+    block.put("signature", randomHex(64));
+    block.put("signerPublicKey", harvester.getPublicKey());
+    block.put("version", 1);
+    block.put("network", configuration.getNetworkType().getValue());
+    block.put("type", BlockType.NORMAL_BLOCK.getValue());
+    block.put("height", height);
+    block.put("timestamp", BigInteger.valueOf(timestamp));
+    block.put("difficulty", BigInteger.valueOf(100_000_000_000_000L));
+    block.put("feeMultiplier", FEE_MULTIPLIER);
+    block.put("previousBlockHash", previousBlockHash);
+    block.put("transactionsHash", randomHex(32));
+    block.put("receiptsHash", randomHex(32));
+    block.put("stateHash", randomHex(32));
+    block.put("beneficiaryAddress", harvester.getAddress().encoded());
+    block.put("proofGamma", randomHex(32));
+    block.put("proofVerificationHash", randomHex(16));
+    block.put("proofScalar", randomHex(32));
+
+    BlockMetaDTO meta = new BlockMetaDTO();
+    meta.setHash(hash);
+    meta.setGenerationHash(randomHex(32));
+    meta.setTotalFee(totalFee);
+    meta.setTransactionsCount(transactionsCount);
+    meta.setTotalTransactionsCount(transactionsCount);
+    meta.setStatementsCount(1);
+    meta.setStateHashSubCacheMerkleRoots(Collections.singletonList(randomHex(32)));
+
+    BlockInfoDTO dto = new BlockInfoDTO();
+    dto.setId(randomHex(12));
+    dto.setMeta(meta);
+    dto.setBlock(block);
+    return dto;
+  }
+
+  private TransactionStatementInfoDTO createStatement(BigInteger totalFee) {
+    Map<String, Object> receipt = new LinkedHashMap<>();
+    receipt.put("version", 1);
+    receipt.put("type", ReceiptType.HARVEST_FEE.getValue());
+    receipt.put("targetAddress", harvester.getAddress().encoded());
+    receipt.put("mosaicId", CURRENCY_MOSAIC_ID.getIdAsHex());
+    receipt.put("amount", totalFee);
+
+    Map<String, Object> source = new LinkedHashMap<>();
+    source.put("primaryId", 0);
+    source.put("secondaryId", 0);
+
+    Map<String, Object> statement = new LinkedHashMap<>();
+    statement.put("height", height);
+    statement.put("source", source);
+    statement.put("receipts", Collections.singletonList(receipt));
+
+    Map<String, Object> statementInfo = new LinkedHashMap<>();
+    statementInfo.put("id", randomHex(12));
+    statementInfo.put("statement", statement);
+    return transactionMapper
+        .getJsonHelper()
+        .convert(statementInfo, TransactionStatementInfoDTO.class);
+  }
+
+  private static Map<String, Object> createStatus(
+      String hash, String group, String code, Deadline deadline, BigInteger height) {
+    Map<String, Object> status = new LinkedHashMap<>();
+    status.put("group", group);
+    status.put("code", code);
+    status.put("hash", hash);
+    status.put("deadline", deadline.toBigInteger());
+    if (height != null) {
+      status.put("height", height);
+    }
+    return status;
+  }
+
+  private Account createAccount() {
+    byte[] privateKey = new byte[32];
+    random.nextBytes(privateKey);
+    return Account.createFromPrivateKey(
+        ConvertUtils.toHex(privateKey), configuration.getNetworkType());
+  }
+
+  private String randomHex(int size) {
+    byte[] bytes = new byte[size];
+    random.nextBytes(bytes);
+    return ConvertUtils.toHex(bytes);
+  }
+
+  /** A synthetic or announced transaction and the addresses it notifies. */
+  class TransactionRecord {
+
+    private final String hash;
+
+    private final Transaction transaction;
+
+    private final boolean announced;
+
+    private final Set<String> addresses = new LinkedHashSet<>();
+
+    private final Object transactionBody;
+
+    private TransactionInfoDTO transactionInfo;
+
+    private TransactionRecord(String hash, Transaction transaction, boolean announced) {
+      this.hash = hash;
+      this.transaction = transaction;
+      this.announced = announced;
+      transaction.getSigner().ifPresent(signer -> addresses.add(signer.getAddress().plain()));
+      if (transaction instanceof TransferTransaction
+          && ((TransferTransaction) transaction).getRecipient() instanceof Address) {
+        addresses.add(((Address) ((TransferTransaction) transaction).getRecipient()).plain());
+      }
+      this.transactionBody =
+          ((TransactionInfoDTO) transactionMapper.mapToDto(transaction, false)).getTransaction();
+      this.transactionInfo = createTransactionInfo(BigInteger.ZERO, null, null);
+    }
+
+    private void confirm(BigInteger height, int index, String id) {
+      this.transactionInfo = createTransactionInfo(height, index, id);
+    }
+
+    private TransactionInfoDTO createTransactionInfo(BigInteger height, Integer index, String id) {
+      TransactionMetaDTO meta = new TransactionMetaDTO();
+      meta.setHeight(height);
+      meta.setHash(hash);
+      meta.setMerkleComponentHash(hash);
+      meta.setIndex(index);
+      TransactionInfoDTO dto = new TransactionInfoDTO();
+      dto.setId(id);
+      dto.setMeta(meta);
+      dto.setTransaction(transactionBody);
+      return dto;
+    }
+
+    String getHash() {
+      return hash;
+    }
+
+    Transaction getTransaction() {
+      return transaction;
+    }
+
+    boolean isAnnounced() {
+      return announced;
+    }
+
+    /** @return the plain addresses of the signer and recipient. */
+    Set<String> getAddresses() {
+      return addresses;
+    }
+
+    TransactionInfoDTO getTransactionInfo() {
+      synchronized (SyntheticChain.this) {
+        return transactionInfo;
+      }
+    }
+  }
+
+  /** A produced block with its statement and transactions. */
+  static class BlockRecord {
+
+    private final BigInteger height;
+
+    private final BlockInfoDTO blockInfo;
+
+    private final TransactionStatementInfoDTO statement;
+
+    private final List<TransactionRecord> transactions;
+
+    private final List<TransactionRecord> announced;
+
+    private BlockRecord(
+        BigInteger height,
+        BlockInfoDTO blockInfo,
+        TransactionStatementInfoDTO statement,
+        List<TransactionRecord> transactions,
+        List<TransactionRecord> announced) {
+      this.height = height;
+      this.blockInfo = blockInfo;
+      this.statement = statement;
+      this.transactions = Collections.unmodifiableList(transactions);
+      this.announced = Collections.unmodifiableList(announced);
+    }
+
+    BigInteger getHeight() {
+      return height;
+    }
+
+    BlockInfoDTO getBlockInfo() {
+      return blockInfo;
+    }
+
+    TransactionStatementInfoDTO getStatement() {
+      return statement;
+    }
+
+    /** @return all the transactions of the block, announced and synthetic. */
+    List<TransactionRecord> getTransactions() {
+      return transactions;
+    }
+
+    /** @return the announced transactions that left the unconfirmed pool with this block. */
+    List<TransactionRecord> getAnnounced() {
+      return announced;
+    }
+  }
+
+  /** The outcome of an announce. */
+  static class AnnounceRecord {
+
+    private final TransactionRecord transaction;
+
+    private final Map<String, Object> rejection;
+
+    private final boolean duplicated;
+
+    private AnnounceRecord(
+        TransactionRecord transaction, Map<String, Object> rejection, boolean duplicated) {
+      this.transaction = transaction;
+      this.rejection = rejection;
+      this.duplicated = duplicated;
+    }
+
+    /** @return the announced transaction, empty if it was already confirmed. */
+    Optional<TransactionRecord> getTransaction() {
+      return Optional.ofNullable(transaction);
+    }
+
+    /** @return the rejection status, empty if the transaction was accepted. */
+    Optional<Map<String, Object>> getRejection() {
+      return Optional.ofNullable(rejection);
+    }
+
+    /** @return if the transaction was already known by the simulator. */
+    boolean isDuplicated() {
+      return duplicated;
+    }
+  }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.simulator;
+
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.ReceiptRepository;
+import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.api.TransactionSearchCriteria;
+import io.nem.symbol.sdk.api.TransactionStatementSearchCriteria;
+import io.nem.symbol.sdk.infrastructure.okhttp.RepositoryFactoryOkHttpImpl;
+import io.nem.symbol.sdk.infrastructure.vertx.JsonHelperJackson2;
+import io.nem.symbol.sdk.infrastructure.vertx.RepositoryFactoryVertxImpl;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.blockchain.ChainInfo;
+import io.nem.symbol.sdk.model.receipt.BalanceChangeReceipt;
+import io.nem.symbol.sdk.model.receipt.ReceiptType;
+import io.nem.symbol.sdk.model.receipt.TransactionStatement;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionStatusError;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class NodeSimulatorTest {
+
+  /** The client implementations the simulator is tested with. */
+  public enum RepositoryType {
+    VERTX,
+    OKHTTP
+  }
+
+  private NodeSimulator simulator;
+
+  @BeforeEach
+  void setUp() {
+    simulator =
+        new NodeSimulator(
+                new NodeSimulatorConfiguration()
+                    .withBlockInterval(Duration.ZERO)
+                    .withTransactionsPerBlock(5))
+            .start()
+            .join();
+  }
+
+  @AfterEach
+  void tearDown() {
+    simulator.close();
+  }
+
+  @ParameterizedTest
+  @EnumSource(RepositoryType.class)
+  void chainFollowsTheProducedBlocks(RepositoryType type) throws Exception {
+    simulator.produceBlock();
+    simulator.produceBlock();
+    try (RepositoryFactory repositoryFactory = createRepositoryFactory(type, simulator)) {
+      ChainInfo chainInfo =
+          repositoryFactory.createChainRepository().getChainInfo().toFuture().get();
+      Assertions.assertEquals(BigInteger.valueOf(3), chainInfo.getHeight());
+      Assertions.assertEquals(BigInteger.ONE, chainInfo.getLatestFinalizedBlock().getHeight());
+
+      BlockRepository blockRepository = repositoryFactory.createBlockRepository();
+      BlockInfo block = blockRepository.getBlockByHeight(BigInteger.valueOf(3)).toFuture().get();
+      Assertions.assertEquals(BigInteger.valueOf(3), block.getHeight());
+      Assertions.assertEquals(5, block.getTransactionsCount().intValue());
+
+      ReceiptRepository receiptRepository = repositoryFactory.createReceiptRepository();
+      Page<TransactionStatement> statements =
+          receiptRepository
+              .searchReceipts(
+                  new TransactionStatementSearchCriteria().height(BigInteger.valueOf(3)))
+              .toFuture()
+              .get();
+      Assertions.assertEquals(1, statements.getData().size());
+      BalanceChangeReceipt receipt =
+          (BalanceChangeReceipt) statements.getData().get(0).getReceipts().get(0);
+      Assertions.assertEquals(ReceiptType.HARVEST_FEE, receipt.getType());
+      Assertions.assertEquals(block.getTotalFee(), receipt.getAmount());
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(RepositoryType.class)
+  void searchTransactionsPagesTheRetainedBlocks(RepositoryType type) throws Exception {
+    simulator.produceBlock();
+    simulator.produceBlock();
+    try (RepositoryFactory repositoryFactory = createRepositoryFactory(type, simulator)) {
+      TransactionRepository transactionRepository = repositoryFactory.createTransactionRepository();
+
+      Page<Transaction> firstPage =
+          transactionRepository
+              .search(new TransactionSearchCriteria(TransactionGroup.CONFIRMED))
+              .toFuture()
+              .get();
+      Assertions.assertEquals(10, firstPage.getData().size());
+      Assertions.assertEquals(
+          BigInteger.valueOf(3), firstPage.getData().get(0).getTransactionInfo().get().getHeight());
+
+      Page<Transaction> secondPage =
+          transactionRepository
+              .search(new TransactionSearchCriteria(TransactionGroup.CONFIRMED).pageNumber(2))
+              .toFuture()
+              .get();
+      Assertions.assertEquals(5, secondPage.getData().size());
+
+      Page<Transaction> byHeight =
+          transactionRepository
+              .search(
+                  new TransactionSearchCriteria(TransactionGroup.CONFIRMED)
+                      .height(BigInteger.valueOf(2)))
+              .toFuture()
+              .get();
+      Assertions.assertEquals(5, byHeight.getData().size());
+
+      String hash = byHeight.getData().get(0).getTransactionInfo().get().getHash().get();
+      Transaction transaction =
+          transactionRepository.getTransaction(TransactionGroup.CONFIRMED, hash).toFuture().get();
+      Assertions.assertTrue(transaction instanceof TransferTransaction);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(RepositoryType.class)
+  void announcedTransactionsAreConfirmedInTheNextBlock(RepositoryType type) throws Exception {
+    try (RepositoryFactory repositoryFactory = createRepositoryFactory(type, simulator);
+        Listener listener = repositoryFactory.createListener()) {
+      listener.open().get(10, TimeUnit.SECONDS);
+      Account account =
+          Account.generateNewAccount(repositoryFactory.getNetworkType().blockingFirst());
+      SignedTransaction signedTransaction = createSignedTransfer(repositoryFactory, account);
+
+      CompletableFuture<Transaction> confirmed =
+          listener
+              .confirmed(account.getAddress(), signedTransaction.getHash())
+              .firstElement()
+              .toSingle()
+              .toFuture();
+      awaitSubscription("confirmedAdded/" + account.getAddress().plain());
+
+      repositoryFactory.createTransactionRepository().announce(signedTransaction).toFuture().get();
+      Assertions.assertEquals(1, simulator.getAnnouncedCount());
+      simulator.produceBlock();
+
+      Transaction transaction = confirmed.get(10, TimeUnit.SECONDS);
+      Assertions.assertEquals(
+          signedTransaction.getHash(), transaction.getTransactionInfo().get().getHash().get());
+      Assertions.assertEquals(
+          BigInteger.valueOf(2), transaction.getTransactionInfo().get().getHeight());
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(RepositoryType.class)
+  void rejectedTransactionsAreReportedInTheStatusChannel(RepositoryType type) throws Exception {
+    try (NodeSimulator rejectingSimulator =
+            new NodeSimulator(
+                    new NodeSimulatorConfiguration()
+                        .withBlockInterval(Duration.ZERO)
+                        .withRejectionRate(1))
+                .start()
+                .join();
+        RepositoryFactory repositoryFactory = createRepositoryFactory(type, rejectingSimulator);
+        Listener listener = repositoryFactory.createListener()) {
+      listener.open().get(10, TimeUnit.SECONDS);
+      Account account =
+          Account.generateNewAccount(repositoryFactory.getNetworkType().blockingFirst());
+      SignedTransaction signedTransaction = createSignedTransfer(repositoryFactory, account);
+
+      CompletableFuture<TransactionStatusError> status =
+          listener
+              .status(account.getAddress(), signedTransaction.getHash())
+              .firstElement()
+              .toSingle()
+              .toFuture();
+      awaitSubscription(rejectingSimulator, "status/" + account.getAddress().plain());
+
+      repositoryFactory.createTransactionRepository().announce(signedTransaction).toFuture().get();
+
+      Assertions.assertEquals(
+          SyntheticChain.REJECTION_CODE, status.get(10, TimeUnit.SECONDS).getStatus());
+      Assertions.assertEquals(0, rejectingSimulator.getAnnouncedCount());
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(RepositoryType.class)
+  void injectedFaultsAreReturnedAsRepositoryCallExceptions(RepositoryType type) throws Exception {
+    try (NodeSimulator faultySimulator =
+            new NodeSimulator(
+                    new NodeSimulatorConfiguration()
+                        .withBlockInterval(Duration.ZERO)
+                        .withLatency(Duration.ofMillis(20), Duration.ofMillis(10))
+                        .withFaults(1, 503))
+                .start()
+                .join();
+        RepositoryFactory repositoryFactory = createRepositoryFactory(type, faultySimulator)) {
+      ExecutionException exception =
+          Assertions.assertThrows(
+              ExecutionException.class,
+              () -> repositoryFactory.createChainRepository().getChainInfo().toFuture().get());
+      Assertions.assertTrue(exception.getCause() instanceof RepositoryCallException);
+      Assertions.assertEquals(
+          503, ((RepositoryCallException) exception.getCause()).getStatusCode());
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(RepositoryType.class)
+  void unknownBlocksAreNotFound(RepositoryType type) throws Exception {
+    try (RepositoryFactory repositoryFactory = createRepositoryFactory(type, simulator)) {
+      ExecutionException exception =
+          Assertions.assertThrows(
+              ExecutionException.class,
+              () ->
+                  repositoryFactory
+                      .createBlockRepository()
+                      .getBlockByHeight(BigInteger.TEN)
+                      .toFuture()
+                      .get());
+      Assertions.assertEquals(
+          404, ((RepositoryCallException) exception.getCause()).getStatusCode());
+    }
+  }
+
+  @Test
+  void oldBlocksArePruned() {
+    SyntheticChain chain =
+        new SyntheticChain(
+            new NodeSimulatorConfiguration().withMaxRetainedBlocks(3).withTransactionsPerBlock(2),
+            new JsonHelperJackson2());
+    String prunedHash = chain.getBlocks().get(0).getTransactions().get(0).getHash();
+    for (int i = 0; i < 4; i++) {
+      chain.produceBlock();
+    }
+    Assertions.assertEquals(BigInteger.valueOf(5), chain.getHeight());
+    Assertions.assertEquals(3, chain.getBlocks().size());
+    Assertions.assertFalse(chain.getBlock(BigInteger.valueOf(2)).isPresent());
+    Assertions.assertTrue(chain.getBlock(BigInteger.valueOf(3)).isPresent());
+    Assertions.assertFalse(chain.getConfirmed(prunedHash).isPresent());
+  }
+
+  @Test
+  void sameSeedProducesSameChain() {
+    NodeSimulatorConfiguration configuration = new NodeSimulatorConfiguration().withSeed(7);
+    Assertions.assertEquals(
+        configuration.getGenerationHash(),
+        new NodeSimulatorConfiguration().withSeed(7).getGenerationHash());
+    Assertions.assertNotEquals(
+        configuration.getGenerationHash(),
+        new NodeSimulatorConfiguration().withSeed(8).getGenerationHash());
+  }
+
+  private static RepositoryFactory createRepositoryFactory(
+      RepositoryType type, NodeSimulator simulator) {
+    switch (type) {
+      case VERTX:
+        return new RepositoryFactoryVertxImpl(simulator.getRepositoryFactoryConfiguration());
+      case OKHTTP:
+        return new RepositoryFactoryOkHttpImpl(simulator.getRepositoryFactoryConfiguration());
+      default:
+        throw new IllegalArgumentException("Unknown repository type " + type);
+    }
+  }
+
+  private static SignedTransaction createSignedTransfer(
+      RepositoryFactory repositoryFactory, Account account) {
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                repositoryFactory.getNetworkType().blockingFirst(),
+                Deadline.create(repositoryFactory.getEpochAdjustment().blockingFirst()),
+                account.getAddress(),
+                Collections.emptyList())
+            .maxFee(BigInteger.valueOf(1_000_000))
+            .build();
+    return account.sign(transaction, repositoryFactory.getGenerationHash().blockingFirst());
+  }
+
+  private void awaitSubscription(String topic) throws InterruptedException {
+    awaitSubscription(simulator, topic);
+  }
+
+  private static void awaitSubscription(NodeSimulator simulator, String topic)
+      throws InterruptedException {
+    long timeout = System.currentTimeMillis() + 10_000;
+    while (!simulator.isSubscribed(topic)) {
+      Assertions.assertTrue(System.currentTimeMillis() < timeout, "No subscription to " + topic);
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.simulator;
+
+import io.nem.symbol.core.utils.ExecutorUtils;
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.infrastructure.okhttp.RepositoryFactoryOkHttpImpl;
+import io.nem.symbol.sdk.model.blockchain.ChainInfo;
+import io.reactivex.Observable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Load test of the OkHttp repositories running the blocking calls on the configured executor.
+ *
+ * <p>It fires all the requests at the same time against a simulator that answers each one after a
+ * fixed latency and it checks the elapsed time and the peak of live platform threads, the measures
+ * are in the assertion messages. Run it with
+ * ./gradlew :symbol-sdk-node-simulator:test --tests '*LoadTest' -PloadTest
+ * -PloadTest.requests=10000
+ */
+@EnabledIfSystemProperty(named = "loadTest", matches = "true")
+public class OkHttpExecutorLoadTest {
+
+  /** The requests fired at the same time. */
+  private static final int REQUESTS = Integer.getInteger("loadTest.requests", 10000);
+
+  /** The latency of each request in the simulator. */
+  private static final Duration LATENCY = Duration.ofMillis(500);
+
+  /** The size of the platform thread pool the virtual threads are compared with. */
+  private static final int PLATFORM_POOL_SIZE = 200;
+
+  /** The longest the virtual threads may take to run all the requests. */
+  private static final Duration VIRTUAL_THREADS_BOUND = LATENCY.multipliedBy(4);
+
+  private static NodeSimulator simulator;
+
+  @BeforeAll
+  static void setUp() {
+    simulator =
+        new NodeSimulator(
+                new NodeSimulatorConfiguration()
+                    .withBlockInterval(Duration.ZERO)
+                    .withLatency(LATENCY, Duration.ZERO))
+            .start()
+            .join();
+  }
+
+  @AfterAll
+  static void tearDown() {
+    simulator.close();
+  }
+
+  @Test
+  void virtualThreadPerTaskExecutor() {
+    Assumptions.assumeTrue(
+        ExecutorUtils.isVirtualThreadSupported(), "Virtual threads require Java 21+");
+    LoadResult result = run("virtual threads", ExecutorUtils.newVirtualThreadPerTaskExecutor());
+    // All the requests are in flight at the same time without a platform thread each one.
+    Assertions.assertTrue(
+        result.peakThreads < REQUESTS / 10, "Too many platform threads. " + result);
+    Assertions.assertTrue(
+        result.elapsed.compareTo(VIRTUAL_THREADS_BOUND) < 0,
+        "Requests were not executed concurrently, expected less than "
+            + VIRTUAL_THREADS_BOUND.toMillis()
+            + " ms. "
+            + result);
+  }
+
+  @Test
+  void platformThreadPool() {
+    LoadResult result =
+        run(
+            PLATFORM_POOL_SIZE + " platform threads",
+            Executors.newFixedThreadPool(PLATFORM_POOL_SIZE));
+    // Each in flight request holds one of the pool's threads.
+    Assertions.assertTrue(
+        result.elapsed.compareTo(LATENCY.multipliedBy(REQUESTS / PLATFORM_POOL_SIZE)) >= 0,
+        "Requests were not limited by the pool. " + result);
+  }
+
+  private LoadResult run(String name, ExecutorService executor) {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    try (RepositoryFactory factory =
+        new RepositoryFactoryOkHttpImpl(
+            simulator.getRepositoryFactoryConfiguration().withExecutor(executor))) {
+      ChainRepository chainRepository = factory.createChainRepository();
+      threads.resetPeakThreadCount();
+      long start = System.nanoTime();
+      List<ChainInfo> chainInfos =
+          Observable.range(0, REQUESTS)
+              .flatMap(i -> chainRepository.getChainInfo())
+              .toList()
+              .blockingGet();
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+      Assertions.assertEquals(REQUESTS, chainInfos.size());
+      return new LoadResult(name, elapsed, threads.getPeakThreadCount());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /** The measures of a load run. */
+  private static class LoadResult {
+
+    private final String name;
+
+    private final Duration elapsed;
+
+    private final int peakThreads;
+
+    private LoadResult(String name, Duration elapsed, int peakThreads) {
+      this.name = name;
+      this.elapsed = elapsed;
+      this.peakThreads = peakThreads;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%s: %d requests in %d ms, %.1f requests/s, %d peak live platform threads",
+          name,
+          REQUESTS,
+          elapsed.toMillis(),
+          REQUESTS * 1000.0 / Math.max(1, elapsed.toMillis()),
+          peakThreads);
+    }
+  }
+}
@@ -15,12 +15,15 @@
  */
 package io.nem.symbol.sdk.infrastructure.okhttp;
 
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.core.utils.MapperUtils;
 import io.nem.symbol.sdk.api.OrderBy;
 import io.nem.symbol.sdk.api.Page;
 import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.nem.symbol.sdk.api.SdkMetrics;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.blockchain.MerkleStateInfo;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
@@ -32,12 +35,19 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.Order;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.Pagination;
 import io.reactivex.Observable;
 import io.reactivex.ObservableSource;
+import io.reactivex.Scheduler;
 import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
+import okhttp3.Call;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
@@ -50,22 +60,47 @@ public abstract class AbstractRepositoryOkHttpImpl {
 
   private final JsonHelper jsonHelper;
 
+  private final ApiClient apiClient;
+
+  /** The name the repository calls are tagged with in the metrics. */
+  private final String repositoryName = getClass().getSimpleName();
+
+  /** The scheduler of the configured executor, null if the calls are not executed in one. */
+  private volatile Scheduler scheduler;
+
   public AbstractRepositoryOkHttpImpl(ApiClient apiClient) {
+    this.apiClient = apiClient;
     jsonHelper = new JsonHelperGson(apiClient.getJSON().getGson());
   }
 
+  /**
+   * It sets the executor the blocking calls are executed on. If not set, the calls are executed on
+   * the subscriber's thread.
+   *
+   * @param executor the executor, null to execute the calls on the subscriber's thread.
+   */
+  public void setExecutor(Executor executor) {
+    this.scheduler = executor == null ? null : Schedulers.from(executor);
+  }
+
   public <T> Observable<T> call(Callable<T> callback) {
     Function<? super Throwable, ? extends ObservableSource<? extends T>> resumeFunction =
         this::onError;
-    return Observable.defer(
+    Observable<T> observable =
+        Observable.defer(
             () -> {
               try {
                 return Observable.just(callback.call());
               } catch (Exception e) {
                 return onError(e);
               }
-            })
-        .onErrorResumeNext(resumeFunction);
+            });
+    if (scheduler != null) {
+      observable = observable.subscribeOn(scheduler);
+    }
+    return observable
+        .onErrorResumeNext(resumeFunction)
+        .compose(SdkMetrics.timed(SdkMetrics.REPOSITORY_CALL, "repository", repositoryName));
   }
 
   public <T, R> Observable<R> call(Callable<T> callback, Function<? super T, ? extends R> mapper) {
@@ -78,6 +113,62 @@ public abstract class AbstractRepositoryOkHttpImpl {
         this.call(callback).map(l -> l.stream().map(mapper).collect(Collectors.toList())));
   }
 
+  /**
+   * It executes a search call reading the page from the response's json token stream. Each element
+   * of the page's data is deserialized and mapped before the next one is read.
+   *
+   * @param callback the callback that creates the call, likely to be a generated xxxCall method.
+   * @param dtoClass the class of the page's elements.
+   * @param mapper the mapper from dto to model.
+   * @param <D> the dto type.
+   * @param <R> the model type.
+   * @return the observable of the page.
+   */
+  public <D, R> Observable<Page<R>> streamPage(
+      Callable<Call> callback, Class<D> dtoClass, java.util.function.Function<D, R> mapper) {
+    return exceptionHandling(this.call(() -> readPage(callback.call(), dtoClass, mapper)));
+  }
+
+  private <D, R> Page<R> readPage(
+      Call call, Class<D> dtoClass, java.util.function.Function<D, R> mapper)
+      throws ApiException, IOException {
+    try (Response response = call.execute()) {
+      ResponseBody body = response.body();
+      if (!response.isSuccessful() || body == null) {
+        throw new ApiException(
+            response.message(),
+            response.code(),
+            response.headers().toMultimap(),
+            body == null ? null : body.string());
+      }
+      Gson gson = apiClient.getJSON().getGson();
+      List<R> data = new ArrayList<>();
+      Pagination pagination = null;
+      try (JsonReader reader = new JsonReader(body.charStream())) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+          String name = reader.nextName();
+          if ("data".equals(name)) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+              data.add(mapper.apply(gson.fromJson(reader, dtoClass)));
+            }
+            reader.endArray();
+          } else if ("pagination".equals(name)) {
+            pagination = gson.fromJson(reader, Pagination.class);
+          } else {
+            reader.skipValue();
+          }
+        }
+        reader.endObject();
+      }
+      if (pagination == null) {
+        throw new IllegalStateException("Pagination is not present in the page response");
+      }
+      return toPage(pagination, data);
+    }
+  }
+
   public RepositoryCallException exceptionHandling(Throwable e) {
     if (e instanceof RepositoryCallException) {
       return (RepositoryCallException) e;
@@ -39,6 +39,7 @@ import io.nem.symbol.sdk.api.TransactionRepository;
 import io.nem.symbol.sdk.api.TransactionStatusRepository;
 import io.nem.symbol.sdk.infrastructure.RepositoryFactoryBase;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiClient;
+import java.util.concurrent.Executor;
 import okhttp3.OkHttpClient;
 import org.apache.commons.io.IOUtils;
 
@@ -53,6 +54,9 @@ public class RepositoryFactoryOkHttpImpl extends RepositoryFactoryBase {
 
   private final Gson gson = JsonHelperGson.creatGson(false);
 
+  /** The executor the blocking rest calls are executed on, null for the subscriber's thread. */
+  private final Executor executor;
+
   public RepositoryFactoryOkHttpImpl(String baseUrl) {
     this(new RepositoryFactoryConfiguration(baseUrl));
   }
@@ -62,91 +66,97 @@ public class RepositoryFactoryOkHttpImpl extends RepositoryFactoryBase {
     this.apiClient = new ApiClient();
     this.apiClient.setBasePath(getBaseUrl());
     this.apiClient.getJSON().setGson(gson);
+    this.executor = configuration.getExecutor();
+  }
+
+  private <T extends AbstractRepositoryOkHttpImpl> T configure(T repository) {
+    repository.setExecutor(executor);
+    return repository;
   }
 
   @Override
   public AccountRepository createAccountRepository() {
-    return new AccountRepositoryOkHttpImpl(apiClient);
+    return configure(new AccountRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public MultisigRepository createMultisigRepository() {
-    return new MultisigRepositoryOkHttpImpl(apiClient);
+    return configure(new MultisigRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public BlockRepository createBlockRepository() {
-    return new BlockRepositoryOkHttpImpl(apiClient);
+    return configure(new BlockRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public ReceiptRepository createReceiptRepository() {
-    return new ReceiptRepositoryOkHttpImpl(apiClient);
+    return configure(new ReceiptRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public ChainRepository createChainRepository() {
-    return new ChainRepositoryOkHttpImpl(apiClient);
+    return configure(new ChainRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public MosaicRepository createMosaicRepository() {
-    return new MosaicRepositoryOkHttpImpl(apiClient);
+    return configure(new MosaicRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public NamespaceRepository createNamespaceRepository() {
-    return new NamespaceRepositoryOkHttpImpl(apiClient);
+    return configure(new NamespaceRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public NetworkRepository createNetworkRepository() {
-    return new NetworkRepositoryOkHttpImpl(apiClient);
+    return configure(new NetworkRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public NodeRepository createNodeRepository() {
-    return new NodeRepositoryOkHttpImpl(apiClient);
+    return configure(new NodeRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public TransactionRepository createTransactionRepository() {
-    return new TransactionRepositoryOkHttpImpl(apiClient);
+    return configure(new TransactionRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public TransactionStatusRepository createTransactionStatusRepository() {
-    return new TransactionStatusRepositoryOkHttpImpl(apiClient);
+    return configure(new TransactionStatusRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public MetadataRepository createMetadataRepository() {
-    return new MetadataRepositoryOkHttpImpl(apiClient);
+    return configure(new MetadataRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public RestrictionAccountRepository createRestrictionAccountRepository() {
-    return new RestrictionAccountRepositoryOkHttpImpl(apiClient);
+    return configure(new RestrictionAccountRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public RestrictionMosaicRepository createRestrictionMosaicRepository() {
-    return new RestrictionMosaicRepositoryOkHttpImpl(apiClient);
+    return configure(new RestrictionMosaicRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public HashLockRepository createHashLockRepository() {
-    return new HashLockRepositoryOkHttpImpl(apiClient);
+    return configure(new HashLockRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public SecretLockRepository createSecretLockRepository() {
-    return new SecretLockRepositoryOkHttpImpl(apiClient);
+    return configure(new SecretLockRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
   public FinalizationRepository createFinalizationRepository() {
-    return new FinalizationRepositoryOkHttpImpl(apiClient);
+    return configure(new FinalizationRepositoryOkHttpImpl(apiClient));
   }
 
   @Override
@@ -32,13 +32,13 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.AnnounceTransactionInfoDTO;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.Cosignature;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionIds;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
-import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionPage;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionPayload;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionTypeEnum;
 import io.reactivex.Observable;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import okhttp3.Call;
 
 /**
  * Transaction http repository.
@@ -123,24 +123,17 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
 
   @Override
   public Observable<Page<Transaction>> search(TransactionSearchCriteria criteria) {
-    Callable<TransactionPage> callback = () -> basicSearch(criteria);
-    return call(
-        callback,
-        p -> {
-          List<Transaction> data =
-              p.getData().stream()
-                  .map(
-                      transactionInfoDTO -> mapTransaction(criteria.getGroup(), transactionInfoDTO))
-                  .collect(Collectors.toList());
-          return toPage(p.getPagination(), data);
-        });
+    return streamPage(
+        () -> searchCall(criteria),
+        TransactionInfoDTO.class,
+        transactionInfoDTO -> mapTransaction(criteria.getGroup(), transactionInfoDTO));
   }
 
-  private TransactionPage basicSearch(TransactionSearchCriteria criteria) throws ApiException {
+  private Call searchCall(TransactionSearchCriteria criteria) throws ApiException {
     switch (criteria.getGroup()) {
       case CONFIRMED:
         return getClient()
-            .searchConfirmedTransactions(
+            .searchConfirmedTransactionsCall(
                 toDto(criteria.getAddress()),
                 toDto(criteria.getRecipientAddress()),
                 toDto(criteria.getSignerPublicKey()),
@@ -155,10 +148,11 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
                 criteria.getPageSize(),
                 criteria.getPageNumber(),
                 criteria.getOffset(),
-                toDto(criteria.getOrder()));
+                toDto(criteria.getOrder()),
+                null);
       case PARTIAL:
         return getClient()
-            .searchPartialTransactions(
+            .searchPartialTransactionsCall(
                 toDto(criteria.getAddress()),
                 toDto(criteria.getRecipientAddress()),
                 toDto(criteria.getSignerPublicKey()),
@@ -173,11 +167,12 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
                 criteria.getPageSize(),
                 criteria.getPageNumber(),
                 criteria.getOffset(),
-                toDto(criteria.getOrder()));
+                toDto(criteria.getOrder()),
+                null);
 
       case UNCONFIRMED:
         return getClient()
-            .searchUnconfirmedTransactions(
+            .searchUnconfirmedTransactionsCall(
                 toDto(criteria.getAddress()),
                 toDto(criteria.getRecipientAddress()),
                 toDto(criteria.getSignerPublicKey()),
@@ -192,7 +187,8 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
                 criteria.getPageSize(),
                 criteria.getPageNumber(),
                 criteria.getOffset(),
-                toDto(criteria.getOrder()));
+                toDto(criteria.getOrder()),
+                null);
     }
     throw new IllegalArgumentException("Invalid group " + criteria.getGroup());
   }
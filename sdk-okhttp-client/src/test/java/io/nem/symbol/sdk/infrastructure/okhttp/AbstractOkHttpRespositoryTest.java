@@ -29,6 +29,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import okhttp3.Call;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.junit.jupiter.api.BeforeEach;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -94,6 +100,55 @@ public abstract class AbstractOkHttpRespositoryTest {
     return captor;
   }
 
+  /**
+   * Mocks the api client telling what would it be the next raw response when a remote call is
+   * executed without the api client's deserialization, like the streamed page searches.
+   *
+   * @param statusCode the status code of the response.
+   * @param body the next mocked remote call response body.
+   * @return a {@link ArgumentCaptor} of the query params of the call.
+   */
+  protected ArgumentCaptor<List> mockRemoteStreamCall(int statusCode, String body)
+      throws Exception {
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    Response response =
+        new Response.Builder()
+            .request(new Request.Builder().url("http://localhost:3000").build())
+            .protocol(Protocol.HTTP_1_1)
+            .code(statusCode)
+            .message(HttpStatus.valueOf(statusCode).getReasonPhrase())
+            .body(ResponseBody.create(MediaType.parse("application/json"), body))
+            .build();
+    Call call = Mockito.mock(Call.class);
+    Mockito.when(call.execute()).thenReturn(response);
+    Mockito.doReturn(call)
+        .when(apiClientMock)
+        .buildCall(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            captor.capture(),
+            Mockito.anyList(),
+            Mockito.any(),
+            Mockito.anyMap(),
+            Mockito.anyMap(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any());
+    return captor;
+  }
+
+  /**
+   * Mocks the api client telling what would it be the next response when a streamed remote call is
+   * executed.
+   *
+   * @param <T> tye type of the remote response.
+   * @param value the next mocked remote call response, serialized to json.
+   * @return a {@link ArgumentCaptor} of the query params of the call.
+   */
+  protected <T> ArgumentCaptor<List> mockRemoteStreamCall(T value) throws Exception {
+    return mockRemoteStreamCall(200, jsonHelper.print(value));
+  }
+
   /**
    * Mocks the api client telling that the next time there is remote call, an error should be
    * returned. The mocked response body is the expected json from the catapult rest error handler.
@@ -19,8 +19,10 @@ import static org.mockito.Mockito.when;
 
 import com.google.gson.JsonObject;
 import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.MetricsRecorder;
 import io.nem.symbol.sdk.api.MultisigRepository;
 import io.nem.symbol.sdk.api.NamespaceRepository;
+import io.nem.symbol.sdk.api.SdkMetrics;
 import io.nem.symbol.sdk.infrastructure.ListenerChannel;
 import io.nem.symbol.sdk.infrastructure.ListenerSubscribeMessage;
 import io.nem.symbol.sdk.model.account.Account;
@@ -511,6 +513,44 @@ public class ListenerOkHttpTest {
                     this.wsId, "status" + "/" + account1.getAddress().plain())));
   }
 
+  @Test
+  public void shouldReportStatusToTheMetricsRecorder()
+      throws InterruptedException, ExecutionException, TimeoutException {
+    Account account1 = Account.generateNewAccount(networkType);
+    MetricsRecorder recorder = Mockito.mock(MetricsRecorder.class);
+    MetricsRecorder.Sample sample = Mockito.mock(MetricsRecorder.Sample.class);
+    Mockito.when(recorder.start(SdkMetrics.LISTENER_MESSAGE, "channel", "status"))
+        .thenReturn(sample);
+
+    AtomicReference<TransactionStatusError> reference = new AtomicReference<>();
+
+    simulateWebSocketStartup();
+    Assertions.assertNotNull(listener.status(account1.getAddress()).subscribe(reference::set));
+
+    Map<String, Object> message = new HashMap<>();
+    message.put("hash", "1234hash");
+    message.put("address", account1.getAddress().encoded());
+    message.put("code", "some error");
+    message.put("deadline", 5555);
+    SdkMetrics.setRecorder(recorder);
+    try {
+      handle(message, "status/" + account1.getAddress().plain());
+    } finally {
+      SdkMetrics.setRecorder(SdkMetrics.NO_OP);
+    }
+
+    Assertions.assertNotNull(reference.get());
+    Mockito.verify(recorder).start(SdkMetrics.LISTENER_MESSAGE, "channel", "status");
+    Mockito.verify(sample).success();
+    Mockito.verifyNoMoreInteractions(recorder, sample);
+
+    Mockito.verify(webSocketMock)
+        .send(
+            jsonHelper.print(
+                new ListenerSubscribeMessage(
+                    this.wsId, "status" + "/" + account1.getAddress().plain())));
+  }
+
   @Test
   public void shouldFilterOutHandleStatus()
       throws InterruptedException, ExecutionException, TimeoutException {
@@ -23,6 +23,11 @@ import io.nem.symbol.sdk.model.mosaic.Currency;
 import io.nem.symbol.sdk.model.mosaic.NetworkCurrencies;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import io.reactivex.Observable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -149,4 +154,34 @@ public class RepositoryFactoryOkHttpImplTest {
     Assertions.assertTrue(
         e.getMessage().contains("ApiException: java.net.ConnectException: Failed to connect"));
   }
+
+  @Test
+  public void callsAreExecutedInTheConfiguredExecutor() {
+    String baseUrl = "https://localhost:1934/path";
+    AtomicInteger tasks = new AtomicInteger();
+    AtomicReference<String> callThread = new AtomicReference<>();
+    ExecutorService delegate =
+        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "sdk-executor"));
+    Executor executor =
+        command -> {
+          tasks.incrementAndGet();
+          delegate.execute(command);
+        };
+    try (RepositoryFactory factory =
+        new RepositoryFactoryOkHttpImpl(
+            new RepositoryFactoryConfiguration(baseUrl).withExecutor(executor))) {
+      Assertions.assertThrows(
+          RepositoryCallException.class,
+          () ->
+              factory
+                  .createChainRepository()
+                  .getChainInfo()
+                  .doOnError(e -> callThread.set(Thread.currentThread().getName()))
+                  .blockingFirst());
+      Assertions.assertEquals(1, tasks.get());
+      Assertions.assertEquals("sdk-executor", callThread.get());
+    } finally {
+      delegate.shutdown();
+    }
+  }
 }
@@ -18,7 +18,9 @@ package io.nem.symbol.sdk.infrastructure.okhttp;
 import static io.nem.symbol.sdk.infrastructure.okhttp.TestHelperOkHttp.loadTransactionInfoDTO;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.nem.symbol.core.utils.ExceptionUtils;
 import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.RepositoryCallException;
 import io.nem.symbol.sdk.api.TransactionSearchCriteria;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.Address;
@@ -45,6 +47,8 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionPage;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -236,7 +240,7 @@ public class TransactionRepositoryOkHttpImplTest extends AbstractOkHttpResposito
 
     PublicAccount publicAccount = Account.generateNewAccount(networkType).getPublicAccount();
 
-    mockRemoteCall(toPage(transferTransactionDTO));
+    mockRemoteStreamCall(toPage(transferTransactionDTO));
 
     Page<Transaction> transactions =
         repository
@@ -261,7 +265,7 @@ public class TransactionRepositoryOkHttpImplTest extends AbstractOkHttpResposito
 
     PublicAccount publicAccount = Account.generateNewAccount(networkType).getPublicAccount();
 
-    mockRemoteCall(toPage(transferTransactionDTO));
+    mockRemoteStreamCall(toPage(transferTransactionDTO));
 
     TransactionSearchCriteria criteria =
         new TransactionSearchCriteria(TransactionGroup.CONFIRMED)
@@ -287,7 +291,7 @@ public class TransactionRepositoryOkHttpImplTest extends AbstractOkHttpResposito
 
     PublicAccount publicAccount = Account.generateNewAccount(networkType).getPublicAccount();
 
-    mockRemoteCall(toPage(transferTransactionDTO));
+    mockRemoteStreamCall(toPage(transferTransactionDTO));
 
     TransactionSearchCriteria criteria =
         new TransactionSearchCriteria(TransactionGroup.PARTIAL)
@@ -305,6 +309,46 @@ public class TransactionRepositoryOkHttpImplTest extends AbstractOkHttpResposito
     Assertions.assertEquals(2, transactions.getPageSize());
   }
 
+  @Test
+  public void searchTransactionsStreamsLargePages() throws Exception {
+    TransactionInfoDTO transferTransactionDTO =
+        loadTransactionInfoDTO("standaloneTransferTransaction.json", TransactionInfoDTO.class);
+    Map<String, Object> page = new LinkedHashMap<>();
+    page.put("unknown", Collections.singletonMap("ignored", Arrays.asList(1, 2)));
+    page.put("data", Collections.nCopies(100, transferTransactionDTO));
+    page.put("pagination", new Pagination().pageNumber(3).pageSize(100));
+    mockRemoteStreamCall(page);
+
+    Page<Transaction> transactions =
+        repository
+            .search(new TransactionSearchCriteria(TransactionGroup.CONFIRMED).pageNumber(3))
+            .toFuture()
+            .get();
+    Assertions.assertEquals(100, transactions.getData().size());
+    transactions
+        .getData()
+        .forEach(
+            transaction -> {
+              Assertions.assertEquals(TransactionType.TRANSFER, transaction.getType());
+              Assertions.assertEquals(TransactionGroup.CONFIRMED, transaction.getGroup().get());
+            });
+    Assertions.assertEquals(3, transactions.getPageNumber());
+    Assertions.assertEquals(100, transactions.getPageSize());
+    Assertions.assertFalse(transactions.isLast());
+  }
+
+  @Test
+  public void searchTransactionsStreamError() throws Exception {
+    mockRemoteStreamCall(404, "{\"code\":\"ResourceNotFound\",\"message\":\"some error message\"}");
+    TransactionSearchCriteria criteria = new TransactionSearchCriteria(TransactionGroup.CONFIRMED);
+    Assertions.assertEquals(
+        "ApiException: Not Found - 404 - ResourceNotFound - some error message",
+        Assertions.assertThrows(
+                RepositoryCallException.class,
+                () -> ExceptionUtils.propagate(() -> repository.search(criteria).toFuture().get()))
+            .getMessage());
+  }
+
   private TransactionPage toPage(TransactionInfoDTO dto) {
     return new TransactionPage()
         .data(
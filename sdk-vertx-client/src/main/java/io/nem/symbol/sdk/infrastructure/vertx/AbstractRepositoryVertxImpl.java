@@ -21,6 +21,7 @@ import io.nem.symbol.core.utils.MapperUtils;
 import io.nem.symbol.sdk.api.OrderBy;
 import io.nem.symbol.sdk.api.Page;
 import io.nem.symbol.sdk.api.RepositoryCallException;
+import io.nem.symbol.sdk.api.SdkMetrics;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.blockchain.MerkleStateInfo;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
@@ -53,6 +54,9 @@ public abstract class AbstractRepositoryVertxImpl {
 
   private final JsonHelper jsonHelper;
 
+  /** The name the repository calls are tagged with in the metrics. */
+  private final String repositoryName = getClass().getSimpleName();
+
   public AbstractRepositoryVertxImpl(ApiClient apiClient) {
     this.jsonHelper = new JsonHelperJackson2(apiClient.getObjectMapper());
   }
@@ -63,7 +67,8 @@ public abstract class AbstractRepositoryVertxImpl {
         this.onError(originalException);
     return new AsyncResultSingle<T>(callback::accept)
         .toObservable()
-        .onErrorResumeNext(resumeFunction);
+        .onErrorResumeNext(resumeFunction)
+        .compose(SdkMetrics.timed(SdkMetrics.REPOSITORY_CALL, "repository", repositoryName));
   }
 
   public <T, R> Observable<R> call(